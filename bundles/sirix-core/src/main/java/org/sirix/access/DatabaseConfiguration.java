@@ -133,6 +133,11 @@ public final class DatabaseConfiguration {
    */
   public static final String BINARY = "0.1.0";
 
+  /**
+   * Default maximum size of the buffer pool in bytes (a quarter of the maximum heap size).
+   */
+  public static final long DEFAULT_MAX_BUFFER_POOL_SIZE_IN_BYTES = Runtime.getRuntime().maxMemory() / 4;
+
   /**
    * Binary version of storage.
    */
@@ -153,6 +158,12 @@ public final class DatabaseConfiguration {
    */
   private DatabaseType databaseType;
 
+  /**
+   * The maximum size of the buffer pool shared by all resources of the database in bytes or {@code 0}, if it hasn't
+   * been set and thus depends on the heap size of the JVM, which opens the database.
+   */
+  private long maxBufferPoolSizeInBytes;
+
   /**
    * Constructor with the path to be set.
    *
@@ -204,6 +215,28 @@ public final class DatabaseConfiguration {
     return maxResourceID;
   }
 
+  /**
+   * Set the maximum size of the buffer pool, which caches pages of all resources of the database.
+   *
+   * @param maxBufferPoolSizeInBytes the maximum size in bytes
+   * @return this {@link DatabaseConfiguration} instance
+   */
+  public DatabaseConfiguration setMaxBufferPoolSizeInBytes(final long maxBufferPoolSizeInBytes) {
+    checkArgument(maxBufferPoolSizeInBytes > 0, "Size must be > 0!");
+    this.maxBufferPoolSizeInBytes = maxBufferPoolSizeInBytes;
+    return this;
+  }
+
+  /**
+   * Get the maximum size of the buffer pool in bytes.
+   *
+   * @return the maximum size of the buffer pool in bytes, which defaults to
+   * {@link #DEFAULT_MAX_BUFFER_POOL_SIZE_IN_BYTES}, if it hasn't been set
+   */
+  public long getMaxBufferPoolSizeInBytes() {
+    return maxBufferPoolSizeInBytes == 0 ? DEFAULT_MAX_BUFFER_POOL_SIZE_IN_BYTES : maxBufferPoolSizeInBytes;
+  }
+
   /**
    * Getting the database file.
    *
@@ -264,6 +297,10 @@ public final class DatabaseConfiguration {
       jsonWriter.name("file").value(filePath);
       jsonWriter.name("ID").value(config.maxResourceID);
       jsonWriter.name("databaseType").value(config.databaseType.toString());
+      // Only an explicitly set size is stored, as the default depends on the heap size of the JVM.
+      if (config.maxBufferPoolSizeInBytes != 0) {
+        jsonWriter.name("maxBufferPoolSizeInBytes").value(config.maxBufferPoolSizeInBytes);
+      }
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -291,10 +328,21 @@ public final class DatabaseConfiguration {
       final String databaseType = jsonReader.nextName();
       assert databaseType.equals("databaseType");
       final String type = jsonReader.nextString();
+      // Optional, if it hasn't been set explicitly or for databases created with older versions.
+      long maxBufferPoolSizeInBytes = 0;
+      if (jsonReader.hasNext()) {
+        final String maxBufferPoolSizeName = jsonReader.nextName();
+        assert maxBufferPoolSizeName.equals("maxBufferPoolSizeInBytes");
+        maxBufferPoolSizeInBytes = jsonReader.nextLong();
+      }
       jsonReader.endObject();
       final DatabaseType dbType = DatabaseType.fromString(type)
                                               .orElseThrow(() -> new IllegalStateException("Type can not be unknown."));
-      return new DatabaseConfiguration(dbFile).setMaximumResourceID(ID).setDatabaseType(dbType);
+      final var config = new DatabaseConfiguration(dbFile).setMaximumResourceID(ID).setDatabaseType(dbType);
+      if (maxBufferPoolSizeInBytes != 0) {
+        config.setMaxBufferPoolSizeInBytes(maxBufferPoolSizeInBytes);
+      }
+      return config;
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -5,6 +5,7 @@ import org.sirix.api.*;
 import org.sirix.api.json.JsonResourceSession;
 import org.sirix.api.xml.XmlResourceSession;
 import org.sirix.cache.BufferManager;
+import org.sirix.cache.BufferPool;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.io.DirectIOUtils;
@@ -51,6 +52,11 @@ public final class Databases {
    */
   private static final ConcurrentMap<Path, ConcurrentMap<Path, BufferManager>> BUFFER_MANAGERS = new ConcurrentHashMap<>();
 
+  /**
+   * Buffer pool for each database, shared by the buffer managers of all its resources.
+   */
+  private static final ConcurrentMap<Path, BufferPool> BUFFER_POOLS = new ConcurrentHashMap<>();
+
   /**
    * DI component that manages the database.
    */
@@ -177,6 +183,10 @@ public final class Databases {
         // TODO: Why is this necessary? BUG!
         bufferManagers.values().forEach(BufferManager::clearAllCaches);
       }
+      final BufferPool bufferPool = BUFFER_POOLS.remove(dbFile);
+      if (bufferPool != null) {
+        bufferPool.clear();
+      }
       SirixFiles.recursiveRemove(dbFile);
     }
   }
@@ -293,4 +303,15 @@ public final class Databases {
   public static ConcurrentMap<Path, BufferManager> getBufferManager(Path databaseFile) {
     return BUFFER_MANAGERS.computeIfAbsent(databaseFile, (unused) -> new ConcurrentHashMap<>());
   }
+
+  /**
+   * Get the buffer pool of a database, which is shared by all its resources.
+   *
+   * @param dbConfig the database configuration
+   * @return the buffer pool
+   */
+  public static BufferPool getBufferPool(DatabaseConfiguration dbConfig) {
+    return BUFFER_POOLS.computeIfAbsent(dbConfig.getDatabaseFile(),
+                                        (unused) -> new BufferPool(dbConfig.getMaxBufferPoolSizeInBytes()));
+  }
 }
@@ -21,6 +21,8 @@ public final class EmptyBufferManager implements org.sirix.cache.BufferManager {
 
   private static final EmptyCache<Integer, PathSummaryData> PATH_SUMMARY_CACHE = new EmptyCache<>();
 
+  private final RecordPageCacheStatistics recordPageCacheStatistics = new RecordPageCacheStatistics();
+
   EmptyBufferManager() {
   }
 
@@ -54,6 +56,11 @@ public final class EmptyBufferManager implements org.sirix.cache.BufferManager {
     return PATH_SUMMARY_CACHE;
   }
 
+  @Override
+  public RecordPageCacheStatistics getRecordPageCacheStatistics() {
+    return recordPageCacheStatistics;
+  }
+
   @Override
   public void close() {
   }
@@ -14,10 +14,10 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.sirix.api.*;
 import org.sirix.cache.BufferManager;
 import org.sirix.cache.BufferManagerImpl;
+import org.sirix.cache.BufferPool;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixUsageException;
-import org.sirix.io.RevisionFileData;
 import org.sirix.io.StorageType;
 import org.sirix.io.bytepipe.Encryptor;
 import org.sirix.utils.SirixFiles;
@@ -95,6 +95,11 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
    */
   private final ConcurrentMap<Path, BufferManager> bufferManagers;
 
+  /**
+   * The buffer pool shared by the buffer managers of all resources.
+   */
+  private final BufferPool bufferPool;
+
   /**
    * Constructor.
    *
@@ -117,14 +122,11 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
     this.resourceIDsToResourceNames = Maps.synchronizedBiMap(HashBiMap.create());
     this.sessions.putObject(dbConfig.getDatabaseFile(), this);
     this.bufferManagers = Databases.getBufferManager(dbConfig.getDatabaseFile());
+    this.bufferPool = Databases.getBufferPool(dbConfig);
   }
 
-  private void addResourceToBufferManagerMapping(Path resourceFile, ResourceConfiguration resourceConfig) {
-    if (resourceConfig.getStorageType() == StorageType.MEMORY_MAPPED) {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(100, 10_000_000, 100_000, 50_000_000, 1_000, 20));
-    } else {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(50_000, 10_000_000, 100_000, 50_000_000, 1_000, 20));
-    }
+  private void addResourceToBufferManagerMapping(Path resourceFile) {
+    bufferManagers.put(resourceFile, new BufferManagerImpl(bufferPool, resourceFile));
   }
 
   @Override
@@ -153,7 +155,7 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
 
     // Add resource to buffer manager mapping.
     if (!bufferManagers.containsKey(resourcePath)) {
-      addResourceToBufferManagerMapping(resourcePath, resourceConfig);
+      addResourceToBufferManagerMapping(resourcePath);
     }
 
     return resourceStore.beginResourceSession(resourceConfig, bufferManagers.get(resourcePath), resourcePath);
@@ -225,7 +227,7 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
     }
 
     if (!bufferManagers.containsKey(path)) {
-      addResourceToBufferManagerMapping(path, resourceConfig);
+      addResourceToBufferManagerMapping(path);
     }
 
     return returnVal;
@@ -294,10 +296,7 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
         }
       }
 
-      final var cache = StorageType.CACHE_REPOSITORY.remove(resourceFile);
-      if (cache != null) {
-        cache.synchronous().invalidateAll();
-      }
+      StorageType.CACHE_REPOSITORY.remove(resourceFile);
     }
 
     return this;
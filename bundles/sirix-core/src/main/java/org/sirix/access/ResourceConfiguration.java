@@ -35,6 +35,7 @@ import net.openhft.hashing.LongHashFunction;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.PageHashFunction;
 import org.sirix.io.StorageType;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.bytepipe.ByteHandlerKind;
@@ -181,6 +182,11 @@ public final class ResourceConfiguration {
    */
   private static final HashType HASH_TYPE = HashType.ROLLING;
 
+  /**
+   * Hash function for the integrity hashes of pages.
+   */
+  private static final PageHashFunction PAGE_HASH_FUNCTION = PageHashFunction.SHA256;
+
   /**
    * Versions to restore.
    */
@@ -259,6 +265,11 @@ public final class ResourceConfiguration {
    */
   public final LongHashFunction nodeHashFunction;
 
+  /**
+   * The hash function used for the integrity hashes of the serialized pages.
+   */
+  public final PageHashFunction pageHashFunction;
+
   /**
    * The name of the resource.
    */
@@ -314,6 +325,7 @@ public final class ResourceConfiguration {
     recordPersister = builder.persistenter;
     resourceName = builder.resource;
     nodeHashFunction = builder.hashFunction;
+    pageHashFunction = builder.pageHashFunction;
     storeChildCount = builder.storeChildCount;
     storeDiffs = builder.storeDiffs;
     customCommitTimestamps = builder.customCommitTimestamps;
@@ -432,7 +444,8 @@ public final class ResourceConfiguration {
   private static final String[] JSONNAMES =
       { "revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses", "storageKind",
           "hashKind", "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored", "persistenter",
-          "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount" };
+          "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount",
+          "pageHashFunction" };
 
   /**
    * Serialize the configuration.
@@ -482,6 +495,8 @@ public final class ResourceConfiguration {
       jsonWriter.name(JSONNAMES[14]).value(config.storeNodeHistory);
       // Child count.
       jsonWriter.name(JSONNAMES[15]).value(config.storeChildCount);
+      // Page hash function.
+      jsonWriter.name(JSONNAMES[16]).value(config.pageHashFunction.name());
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -574,6 +589,13 @@ public final class ResourceConfiguration {
       name = jsonReader.nextName();
       assert name.equals(JSONNAMES[15]);
       final boolean storeChildCount = jsonReader.nextBoolean();
+      // Page hash function (not stored by older versions).
+      PageHashFunction pageHashFunction = PAGE_HASH_FUNCTION;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[16]);
+        pageHashFunction = PageHashFunction.valueOf(jsonReader.nextString());
+      }
 
       jsonReader.endObject();
       jsonReader.close();
@@ -596,7 +618,8 @@ public final class ResourceConfiguration {
              .storeDiffs(storeDiffs)
              .storeChildCount(storeChildCount)
              .customCommitTimestamps(customCommitTimestamps)
-             .storeNodeHistory(storeNodeHistory);
+             .storeNodeHistory(storeNodeHistory)
+             .pageHashFunction(pageHashFunction);
 
       // Deserialized instance.
       final ResourceConfiguration config = new ResourceConfiguration(builder);
@@ -638,6 +661,11 @@ public final class ResourceConfiguration {
      */
     private HashType hashType = HASH_TYPE;
 
+    /**
+     * Hash function for the integrity hashes of pages.
+     */
+    private PageHashFunction pageHashFunction = PAGE_HASH_FUNCTION;
+
     /**
      * Number of revisions to restore a complete set of data.
      */
@@ -756,6 +784,18 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Set the hash function for the integrity hashes of the serialized pages. {@link PageHashFunction#SHA256} is
+     * tamper-evident, whereas {@link PageHashFunction#XXH3} is much cheaper to compute.
+     *
+     * @param pageHashFunction the page hash function to use
+     * @return reference to the builder object
+     */
+    public Builder pageHashFunction(final PageHashFunction pageHashFunction) {
+      this.pageHashFunction = checkNotNull(pageHashFunction);
+      return this;
+    }
+
     /**
      * Set the byte handler pipeline.
      *
@@ -851,6 +891,7 @@ public final class ResourceConfiguration {
                         .add("RevisionKind", revisionKind)
                         .add("HashKind", hashType)
                         .add("HashFunction", hashFunction)
+                        .add("PageHashFunction", pageHashFunction)
                         .add("PathSummary", pathSummary)
                         .add("TextCompression", useTextCompression)
                         .add("Store diffs", storeDiffs)
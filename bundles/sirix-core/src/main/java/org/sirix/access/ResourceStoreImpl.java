@@ -1,6 +1,5 @@
 package org.sirix.access;
 
-import org.sirix.access.trx.node.AbstractResourceSession;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
 import org.sirix.api.ResourceSession;
@@ -40,9 +39,6 @@ public class ResourceStoreImpl<R extends ResourceSession<? extends NodeReadOnlyT
     return this.resourceSessions.computeIfAbsent(resourceFile, k -> {
       final var resourceSession = this.resourceSessionFactory.create(resourceConfig, bufferManager, resourceFile);
       this.allResourceSessions.putObject(resourceFile, resourceSession);
-      if (resourceSession.getMostRecentRevisionNumber() > 0) {
-        ((AbstractResourceSession<?, ?>) resourceSession).createPageTrxPool();
-      }
       return resourceSession;
     });
   }
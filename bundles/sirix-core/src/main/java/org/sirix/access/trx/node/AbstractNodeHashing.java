@@ -1,5 +1,11 @@
 package org.sirix.access.trx.node;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.sirix.access.ResourceConfiguration;
@@ -45,6 +51,17 @@ public abstract class AbstractNodeHashing<N extends ImmutableNode, T extends Nod
 
   private boolean autoCommit;
 
+  /**
+   * {@code true} if the postorder hashes are computed once per modified node and ancestor when committing,
+   * {@code false} if they are computed with every modification
+   */
+  private boolean deferredHashing;
+
+  /**
+   * The keys of the nodes, whose postorder hashes have to be computed, along with the hashes of their ancestors.
+   */
+  private final LongSet dirtyNodeKeys = new LongLinkedOpenHashSet();
+
   private final Bytes<ByteBuffer> bytes = Bytes.elasticHeapByteBuffer();
 
   /**
@@ -69,6 +86,20 @@ public abstract class AbstractNodeHashing<N extends ImmutableNode, T extends Nod
     this.autoCommit = value;
   }
 
+  /**
+   * Determines if the postorder hashes of the modified nodes and their ancestors are computed once per node by
+   * {@link #adaptDeferredHashes()} instead of with every modification. Only applies to {@link HashType#POSTORDER}.
+   *
+   * @param value {@code true} to defer the computation of the hashes
+   */
+  public void setDeferredHashing(final boolean value) {
+    this.deferredHashing = value;
+  }
+
+  public boolean isDeferredHashing() {
+    return deferredHashing;
+  }
+
   /**
    * Adapting the structure with a hash for all ancestors only with insert.
    *
@@ -136,49 +167,118 @@ public abstract class AbstractNodeHashing<N extends ImmutableNode, T extends Nod
   private void postorderAdd() {
     // start with hash to add
     final var startNode = getCurrentNode();
-    // long for adapting the hash of the parent
-    long hashCodeForParent;
     // adapting the parent if the current node is no structural one.
     if (!(startNode instanceof StructNode)) {
       final Node node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
       node.setHash(getCurrentNode().computeHash(bytes));
       nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey());
     }
+
+    if (deferredHashing) {
+      // Only remember the node, its hash and the hashes of its ancestors are computed before committing.
+      dirtyNodeKeys.add(getCurrentNode().getNodeKey());
+      setCurrentNode(startNode);
+      return;
+    }
+
     // Cursor to root
     StructNode cursorToRoot;
     do {
-      cursorToRoot = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
-      hashCodeForParent = getCurrentNode().computeHash(bytes);
-      // Caring about attributes and namespaces if node is an element.
-      if (cursorToRoot.getKind() == NodeKind.ELEMENT) {
-        final ElementNode currentElement = (ElementNode) cursorToRoot;
-        // setting the attributes and namespaces
-        final int attCount = ((ElementNode) cursorToRoot).getAttributeCount();
-        for (int i = 0; i < attCount; i++) {
-          nodeReadOnlyTrx.moveTo(currentElement.getAttributeKey(i));
-          hashCodeForParent = getCurrentNode().computeHash(bytes) + hashCodeForParent * PRIME;
-        }
-        final int nspCount = ((ElementNode) cursorToRoot).getNamespaceCount();
-        for (int i = 0; i < nspCount; i++) {
-          nodeReadOnlyTrx.moveTo(currentElement.getNamespaceKey(i));
-          hashCodeForParent = getCurrentNode().computeHash(bytes) + hashCodeForParent * PRIME;
-        }
-        nodeReadOnlyTrx.moveTo(cursorToRoot.getNodeKey());
+      cursorToRoot = setPostorderHash();
+    } while (nodeReadOnlyTrx.moveTo(cursorToRoot.getParentKey()));
+
+    setCurrentNode(startNode);
+  }
+
+  /**
+   * Compute the postorder hash of the current node from its own hash, the hashes of its attributes and namespaces and
+   * the hashes of its children. The cursor is located at the node afterwards.
+   *
+   * @return the modified node
+   */
+  private StructNode setPostorderHash() {
+    final StructNode cursorToRoot =
+        pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
+    long hashCodeForParent = getCurrentNode().computeHash(bytes);
+    // Caring about attributes and namespaces if node is an element.
+    if (cursorToRoot.getKind() == NodeKind.ELEMENT) {
+      final ElementNode currentElement = (ElementNode) cursorToRoot;
+      // setting the attributes and namespaces
+      final int attCount = ((ElementNode) cursorToRoot).getAttributeCount();
+      for (int i = 0; i < attCount; i++) {
+        nodeReadOnlyTrx.moveTo(currentElement.getAttributeKey(i));
+        hashCodeForParent = getCurrentNode().computeHash(bytes) + hashCodeForParent * PRIME;
       }
+      final int nspCount = ((ElementNode) cursorToRoot).getNamespaceCount();
+      for (int i = 0; i < nspCount; i++) {
+        nodeReadOnlyTrx.moveTo(currentElement.getNamespaceKey(i));
+        hashCodeForParent = getCurrentNode().computeHash(bytes) + hashCodeForParent * PRIME;
+      }
+      nodeReadOnlyTrx.moveTo(cursorToRoot.getNodeKey());
+    }
+
+    // Caring about the children of a node
+    if (nodeReadOnlyTrx.moveTo(getStructuralNode().getFirstChildKey())) {
+      do {
+        hashCodeForParent = getCurrentNode().getHash() + hashCodeForParent * PRIME;
+      } while (nodeReadOnlyTrx.moveTo(getStructuralNode().getRightSiblingKey()));
+      nodeReadOnlyTrx.moveTo(getStructuralNode().getParentKey());
+    }
+
+    // setting hash and resetting hash
+    cursorToRoot.setHash(hashCodeForParent);
+    return cursorToRoot;
+  }
 
-      // Caring about the children of a node
-      if (nodeReadOnlyTrx.moveTo(getStructuralNode().getFirstChildKey())) {
-        do {
-          hashCodeForParent = getCurrentNode().getHash() + hashCodeForParent * PRIME;
-        } while (nodeReadOnlyTrx.moveTo(getStructuralNode().getRightSiblingKey()));
-        nodeReadOnlyTrx.moveTo(getStructuralNode().getParentKey());
+  /**
+   * Compute the postorder hashes, which have been deferred, that is the hashes of the modified nodes and their
+   * ancestors. Each node is computed once and bottom-up, such that the hashes of its children are up to date. The
+   * cursor is located at the node afterwards, which it has been located at before.
+   */
+  public void adaptDeferredHashes() {
+    if (dirtyNodeKeys.isEmpty()) {
+      return;
+    }
+
+    final long nodeKey = getCurrentNode().getNodeKey();
+
+    // Collect the modified nodes and their ancestors along with their depths.
+    final Long2IntMap depths = new Long2IntOpenHashMap();
+    final LongArrayList path = new LongArrayList();
+    for (final long dirtyNodeKey : dirtyNodeKeys) {
+      // The node might have been removed in the meantime, its parent has been remembered in this case.
+      if (!nodeReadOnlyTrx.moveTo(dirtyNodeKey)) {
+        continue;
       }
 
-      // setting hash and resetting hash
-      cursorToRoot.setHash(hashCodeForParent);
-    } while (nodeReadOnlyTrx.moveTo(cursorToRoot.getParentKey()));
+      // Stop at the first ancestor, which has been collected before, along with its ancestors.
+      int depth = -1;
+      path.clear();
+      do {
+        final long currentNodeKey = getCurrentNode().getNodeKey();
+        if (depths.containsKey(currentNodeKey)) {
+          depth = depths.get(currentNodeKey);
+          break;
+        }
+        path.add(currentNodeKey);
+      } while (nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey()));
 
-    setCurrentNode(startNode);
+      for (int i = path.size() - 1; i >= 0; i--) {
+        depths.put(path.getLong(i), ++depth);
+      }
+    }
+
+    // The deepest nodes first.
+    final long[] nodeKeys = depths.keySet().toLongArray();
+    LongArrays.quickSort(nodeKeys, (first, second) -> Integer.compare(depths.get(second), depths.get(first)));
+
+    for (final long nodeKeyToAdapt : nodeKeys) {
+      nodeReadOnlyTrx.moveTo(nodeKeyToAdapt);
+      setPostorderHash();
+    }
+
+    dirtyNodeKeys.clear();
+    nodeReadOnlyTrx.moveTo(nodeKey);
   }
 
   protected abstract StructNode getStructuralNode();
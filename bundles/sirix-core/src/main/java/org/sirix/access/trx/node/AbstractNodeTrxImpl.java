@@ -21,18 +21,18 @@ import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.page.UberPage;
 
-import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.nio.file.Files.deleteIfExists;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
 
 /**
@@ -218,6 +218,16 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
     return self();
   }
 
+  @Override
+  public W setDeferredHashing(final boolean deferredHashing) {
+    nodeReadOnlyTrx.assertNotClosed();
+    if (!deferredHashing) {
+      nodeHashing.adaptDeferredHashes();
+    }
+    nodeHashing.setDeferredHashing(deferredHashing);
+    return self();
+  }
+
   /**
    * Get the current node.
    *
@@ -271,14 +281,40 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
   @Override
   public W commit(@Nullable final String commitMessage, @Nullable final Instant commitTimestamp) {
+    commit(commitMessage, commitTimestamp, false);
+    return self();
+  }
+
+  @Override
+  public CompletableFuture<Integer> commitAsync(@Nullable final String commitMessage,
+      @Nullable final Instant commitTimestamp) {
+    return commit(commitMessage, commitTimestamp, true).thenApply(UberPage::getRevisionNumber);
+  }
+
+  /**
+   * Commit the modifications.
+   *
+   * @param commitMessage   the commit message or {@code null}
+   * @param commitTimestamp the commit timestamp or {@code null}
+   * @param isGroupCommit   {@code true}, if the new revision is forced to the storage device together with the
+   *                        revisions of other commits, {@code false}, if it's forced right away
+   * @return a future of the committed uber page, which is completed once the revision is durable
+   */
+  private CompletableFuture<UberPage> commit(@Nullable final String commitMessage,
+      @Nullable final Instant commitTimestamp, final boolean isGroupCommit) {
     nodeReadOnlyTrx.assertNotClosed();
     if (commitTimestamp != null && !resourceSession.getResourceConfig().customCommitTimestamps()) {
       throw new IllegalStateException("Custom commit timestamps are not enabled for the resource.");
     }
 
+    final var durableUberPage = new AtomicReference<CompletableFuture<UberPage>>();
+
     runLocked(() -> {
       state = State.Committing;
 
+      // Compute the deferred hashes, before the hooks might read them.
+      nodeHashing.adaptDeferredHashes();
+
       // Execute pre-commit hooks.
       for (final PreCommitHook hook : preCommitHooks) {
         hook.preCommit(this);
@@ -289,10 +325,17 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
       final var preCommitRevision = getRevisionNumber();
 
-      final UberPage uberPage = pageTrx.commit(commitMessage, commitTimestamp);
+      if (isGroupCommit) {
+        // The page transaction remembers the committed uber page in the resource manager, before it's durable.
+        durableUberPage.set(pageTrx.commitAsync(commitMessage, commitTimestamp));
+      } else {
+        final UberPage uberPage = pageTrx.commit(commitMessage, commitTimestamp);
+
+        // Remember successfully committed uber page in resource manager.
+        resourceSession.setLastCommittedUberPage(uberPage);
 
-      // Remember successfully committed uber page in resource manager.
-      resourceSession.setLastCommittedUberPage(uberPage);
+        durableUberPage.set(CompletableFuture.completedFuture(uberPage));
+      }
 
       if (resourceSession.getResourceConfig().storeDiffs()) {
         serializeUpdateDiffs(preCommitRevision);
@@ -312,7 +355,7 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
       hook.postCommit(this);
     }
 
-    return self();
+    return durableUberPage.get();
   }
 
   /**
@@ -357,9 +400,7 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
     nodeFactory = reInstantiateNodeFactory(pageTrx);
 
-    final boolean isBulkInsert = nodeHashing.isBulkInsert();
-    nodeHashing = reInstantiateNodeHashing(pageTrx);
-    nodeHashing.setBulkInsert(isBulkInsert);
+    reInstantiateNodeHashing();
 
     updateOperationsUnordered.clear();
     updateOperationsOrdered.clear();
@@ -367,6 +408,18 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
     reInstantiateIndexes();
   }
 
+  /**
+   * Create a new node hashing instance for the current page transaction, which keeps the settings. Deferred hashes
+   * are discarded.
+   */
+  private void reInstantiateNodeHashing() {
+    final boolean isBulkInsert = nodeHashing.isBulkInsert();
+    final boolean isDeferredHashing = nodeHashing.isDeferredHashing();
+    nodeHashing = reInstantiateNodeHashing(pageTrx);
+    nodeHashing.setBulkInsert(isBulkInsert);
+    nodeHashing.setDeferredHashing(isDeferredHashing);
+  }
+
   protected abstract AbstractNodeHashing<N, R> reInstantiateNodeHashing(PageTrx pageTrx);
 
   protected abstract NF reInstantiateNodeFactory(PageTrx pageTrx);
@@ -408,7 +461,6 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
     resourceSession.closeNodePageWriteTransaction(getId());
     nodeReadOnlyTrx.setPageReadTransaction(null);
-    removeCommitFile();
 
     pageTrx = resourceSession.createPageTransaction(trxID, revNumber, revNumber, Abort.YES, true);
     nodeReadOnlyTrx.setPageReadTransaction(pageTrx);
@@ -416,6 +468,8 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
     nodeFactory = reInstantiateNodeFactory(pageTrx);
 
+    reInstantiateNodeHashing();
+
     reInstantiateIndexes();
 
     if (lock != null) {
@@ -425,14 +479,6 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
     return self();
   }
 
-  private void removeCommitFile() {
-    try {
-      deleteIfExists(resourceSession.getCommitFile());
-    } catch (final IOException e) {
-      throw new SirixIOException(e);
-    }
-  }
-
   @Override
   public W revertTo(final int revision) {
     if (lock != null) {
@@ -454,7 +500,7 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
       nodeReadOnlyTrx.setPageReadTransaction(pageTrx);
       resourceSession.setNodePageWriteTransaction(getId(), pageTrx);
 
-      nodeHashing = reInstantiateNodeHashing(pageTrx);
+      reInstantiateNodeHashing();
 
       // Reset node factory.
       nodeFactory = reInstantiateNodeFactory(pageTrx);
@@ -556,7 +602,6 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
         final long trxId = getId();
         nodeReadOnlyTrx.close();
         resourceSession.closeWriteTransaction(trxId);
-        removeCommitFile();
 
         pathSummaryWriter = null;
         nodeFactory = null;
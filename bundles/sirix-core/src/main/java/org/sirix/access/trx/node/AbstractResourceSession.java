@@ -1,6 +1,5 @@
 package org.sirix.access.trx.node;
 
-import cn.danielw.fop.*;
 import org.brackit.xquery.jdm.DocumentException;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -12,14 +11,15 @@ import org.sirix.access.User;
 import org.sirix.access.trx.node.xml.XmlResourceSessionImpl;
 import org.sirix.access.trx.page.NodePageReadOnlyTrx;
 import org.sirix.access.trx.page.PageTrxFactory;
-import org.sirix.access.trx.page.PageTrxReadOnlyFactory;
 import org.sirix.access.trx.page.RevisionRootPageReader;
+import org.sirix.access.trx.page.RevisionRootPagePool;
 import org.sirix.api.*;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.cache.BufferManager;
 import org.sirix.cache.Cache;
 import org.sirix.cache.RBIndexKey;
+import org.sirix.cache.RecordPageCacheStatistics;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixThreadedException;
@@ -28,7 +28,7 @@ import org.sirix.index.IndexType;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.io.IOStorage;
-import org.sirix.io.Reader;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.Writer;
 import org.sirix.node.interfaces.Node;
 import org.sirix.page.UberPage;
@@ -70,6 +70,12 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
    */
   final AtomicReference<UberPage> lastCommittedUberPage;
 
+  /**
+   * The uber page of the last revision, which has been forced to the storage device and which is read by the read-only
+   * transactions. Lags behind the last committed uber page while group commits are pending.
+   */
+  private final AtomicReference<UberPage> lastDurableUberPage;
+
   /**
    * Remember all running node transactions (both read and write).
    */
@@ -110,7 +116,10 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
    */
   final AtomicLong pageTrxIDCounter;
 
-  private final AtomicReference<ObjectPool<PageReadOnlyTrx>> pool;
+  /**
+   * Shares the revision root pages and name pages amongst the read-only page transactions.
+   */
+  private final RevisionRootPagePool revisionRootPagePool;
 
   /**
    * Determines if session was closed.
@@ -171,27 +180,13 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     this.writeLock = checkNotNull(writeLock);
 
     lastCommittedUberPage = new AtomicReference<>(uberPage);
+    lastDurableUberPage = new AtomicReference<>(uberPage);
     this.user = user;
-    pool = new AtomicReference<>();
+    revisionRootPagePool = new RevisionRootPagePool();
 
     isClosed = false;
   }
 
-  public void createPageTrxPool() {
-    if (pool.get() == null) {
-      final PoolConfig config = new PoolConfig();
-      config.setPartitionSize(3);
-      config.setMaxSize(10);
-      config.setMinSize(5);
-      config.setScavengeIntervalMilliseconds(60_000);
-      config.setMaxIdleMilliseconds(5);
-      config.setMaxWaitMilliseconds(5);
-      config.setShutdownWaitMilliseconds(1);
-
-      pool.set(new ObjectPool(config, new PageTrxReadOnlyFactory(this)));
-    }
-  }
-
   private static long timeDiff(final long lhs, final long rhs) {
     return Math.abs(lhs - rhs);
   }
@@ -215,6 +210,11 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     return bufferManager.getIndexCache();
   }
 
+  @Override
+  public RecordPageCacheStatistics getRecordPageCacheStatistics() {
+    return bufferManager.getRecordPageCacheStatistics();
+  }
+
   /**
    * Create a new {@link PageTrx}.
    *
@@ -233,6 +233,13 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
     final Writer writer = storage.createWriter();
 
+    // A failed commit might have written revisions, which aren't durable, thus the transaction starts with the last
+    // durable revision.
+    final boolean hasIncompleteCommit = hasIncompleteCommit();
+    if (hasIncompleteCommit) {
+      this.lastCommittedUberPage.set(lastDurableUberPage.get());
+    }
+
     final UberPage lastCommittedUberPage = this.lastCommittedUberPage.get();
     final int lastCommittedRev = lastCommittedUberPage.getRevisionNumber();
     final var pageTrx = this.pageTrxFactory.createPageTrx(this,
@@ -247,16 +254,17 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
                                                           isBoundToNodeTrx,
                                                           bufferManager);
 
-    truncateToLastSuccessfullyCommittedRevisionIfCommitLockFileExists(writer, lastCommittedRev, pageTrx);
-
-    return pageTrx;
-  }
-
-  private void truncateToLastSuccessfullyCommittedRevisionIfCommitLockFileExists(Writer writer, int lastCommittedRev,
-      PageTrx pageTrx) {
-    if (Files.exists(getCommitFile())) {
+    if (hasIncompleteCommit) {
       writer.truncateTo(pageTrx, lastCommittedRev);
+
+      try {
+        Files.deleteIfExists(getCommitFile());
+      } catch (final IOException e) {
+        throw new SirixIOException("Commit file couldn't be deleted!", e);
+      }
     }
+
+    return pageTrx;
   }
 
   @Override
@@ -339,7 +347,12 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
   public synchronized R beginNodeReadOnlyTrx(@NonNegative final int revision) {
     assertAccess(revision);
 
-    final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
+    return beginNodeReadOnlyTrx(beginPageReadOnlyTrx(revision));
+  }
+
+  @Override
+  public synchronized R beginNodeReadOnlyTrx(final @NonNull PageReadOnlyTrx pageReadTrx) {
+    assertNotClosed();
 
     final Node documentNode = getDocumentNode(pageReadTrx);
 
@@ -378,6 +391,17 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
                                       .resolve(".commit");
   }
 
+  @Override
+  public boolean hasPendingCommits() {
+    return pageTrxFactory.getGroupCommitter().hasPendingCommits(getCommitFile());
+  }
+
+  @Override
+  public boolean hasIncompleteCommit() {
+    // The commit file of group commits, which haven't been forced yet, doesn't denote an incomplete commit.
+    return Files.exists(getCommitFile()) && !hasPendingCommits();
+  }
+
   @Override
   public W beginNodeTrx() {
     return beginNodeTrx(0, 0, TimeUnit.MILLISECONDS, AfterCommitState.KEEP_OPEN);
@@ -439,7 +463,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
     // Create new page write transaction (shares the same ID with the node write trx).
     final long nodeTrxId = nodeTrxIDCounter.incrementAndGet();
-    final int lastRev = getMostRecentRevisionNumber();
+    final int lastRev = getLastCommittedRevisionNumber();
     final PageTrx pageWtx = createPageTransaction(nodeTrxId, lastRev, lastRev, Abort.NO, true);
 
     final Node documentNode = getDocumentNode(pageWtx);
@@ -484,15 +508,12 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
       nodePageTrxMap.clear();
       resourceStore.closeResourceSession(resourceConfig.getResource());
 
+      // Pending group commits must be durable, before the storage is closed.
+      pageTrxFactory.getGroupCommitter().flush();
+
       storage.close();
 
-      if (pool.get() != null) {
-        try {
-          pool.get().shutdown();
-        } catch (InterruptedException e) {
-          throw new RuntimeException(e);
-        }
-      }
+      revisionRootPagePool.clear();
       isClosed = true;
     }
   }
@@ -654,6 +675,26 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     lastCommittedUberPage.set(checkNotNull(page));
   }
 
+  @Override
+  public void setLastDurableUberPage(final UberPage page) {
+    checkNotNull(page);
+
+    // Group commits of a resource are forced in the order they have been committed, but a later synchronous commit
+    // might be durable first.
+    lastDurableUberPage.accumulateAndGet(page, (current, durable) ->
+        durable.getRevisionNumber() >= current.getRevisionNumber() ? durable : current);
+  }
+
+  @Override
+  public void revertToLastDurableUberPage(final UberPage failedUberPage) {
+    checkNotNull(failedUberPage);
+
+    // Revisions committed on top of the failed one aren't durable either, thus the next write transaction builds upon the
+    // last durable revision.
+    lastCommittedUberPage.accumulateAndGet(lastDurableUberPage.get(), (current, durable) ->
+        current.getRevisionNumber() >= failedUberPage.getRevisionNumber() ? durable : current);
+  }
+
   @Override
   public ResourceConfiguration getResourceConfig() {
     assertNotClosed();
@@ -665,43 +706,27 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
   public int getMostRecentRevisionNumber() {
     assertNotClosed();
 
-    return lastCommittedUberPage.get().getRevisionNumber();
+    return lastDurableUberPage.get().getRevisionNumber();
+  }
+
+  /**
+   * Get the revision number a new write transaction builds upon, which might not be durable yet.
+   *
+   * @return the revision number
+   */
+  private int getLastCommittedRevisionNumber() {
+    // The revisions of a failed commit are truncated, once the next page transaction is created.
+    return hasIncompleteCommit()
+        ? lastDurableUberPage.get().getRevisionNumber()
+        : lastCommittedUberPage.get().getRevisionNumber();
   }
 
   @Override
   public synchronized PathSummaryReader openPathSummary(final @NonNegative int revision) {
     assertAccess(revision);
 
-    PageReadOnlyTrx pageReadOnlyTrx;
-
-    var pool = this.pool.get();
-
-    if (pool != null) {
-      Poolable<PageReadOnlyTrx> poolable = null;
-      boolean invalidObject = true;
-      while (invalidObject)
-      try {
-        poolable = pool.borrowObject(false);
-        invalidObject = false;
-      } catch (PoolInvalidObjectException exception) {
-        invalidObject = true;
-      } catch (PoolExhaustedException exception) {
-        invalidObject = false;
-      }
-
-      if (poolable == null) {
-        pageReadOnlyTrx = beginPageReadOnlyTrx(revision);
-      } else {
-        pageReadOnlyTrx = poolable.getObject();
-
-        if (pageReadOnlyTrx.getRevisionNumber() != revision) {
-          pool.returnObject(poolable);
-          pageReadOnlyTrx = beginPageReadOnlyTrx(revision);
-        }
-      }
-    } else {
-      pageReadOnlyTrx = beginPageReadOnlyTrx(revision);
-    }
+    // Starting a transaction is cheap, as the revision root page and the name page are pooled.
+    final PageReadOnlyTrx pageReadOnlyTrx = beginPageReadOnlyTrx(revision);
 
     return PathSummaryReader.getInstance(pageReadOnlyTrx, this);
   }
@@ -711,13 +736,14 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     assertAccess(revision);
 
     final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
+    final var revisionRootPageReader = new RevisionRootPageReader(revisionRootPagePool);
     final NodePageReadOnlyTrx pageReadTrx = new NodePageReadOnlyTrx(currentPageTrxID,
                                                                     this,
-                                                                    lastCommittedUberPage.get(),
+                                                                    lastDurableUberPage.get(),
                                                                     revision,
                                                                     storage.createReader(),
                                                                     bufferManager,
-                                                                    new RevisionRootPageReader(),
+                                                                    revisionRootPageReader,
                                                                     null);
 
     // Remember page transaction for debugging and safe close.
@@ -744,7 +770,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     LOGGER.debug("Lock: lock acquired (beginPageTrx)");
 
     final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
-    final int lastRev = getMostRecentRevisionNumber();
+    final int lastRev = getLastCommittedRevisionNumber();
     final PageTrx pageTrx = createPageTransaction(currentPageTrxID, lastRev, lastRev, Abort.NO, false);
 
     // Remember page transaction for debugging and safe close.
@@ -771,57 +797,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
   @Override
   public R beginNodeReadOnlyTrx(final @NonNull Instant pointInTime) {
-    checkNotNull(pointInTime);
-    assertNotClosed();
-
-    final long timestamp = pointInTime.toEpochMilli();
-
-    int revision = binarySearch(timestamp);
-
-    if (revision < 0) {
-      revision = -revision - 1;
-    }
-
-    if (revision == 0)
-      return beginNodeReadOnlyTrx(0);
-    else if (revision == getMostRecentRevisionNumber() + 1)
-      return beginNodeReadOnlyTrx();
-
-    final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-    final R rtxRevision = beginNodeReadOnlyTrx(revision);
-
-    if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                                                                                                rtxRevision.getRevisionTimestamp()
-                                                                                                           .toEpochMilli())) {
-      rtxRevision.close();
-      return rtxRevisionMinus1;
-    } else {
-      rtxRevisionMinus1.close();
-      return rtxRevision;
-    }
-  }
-
-  private int binarySearch(final long timestamp) {
-    int low = 0;
-    int high = getMostRecentRevisionNumber();
-
-    try (final Reader reader = storage.createReader()) {
-      while (low <= high) {
-        final int mid = (low + high) >>> 1;
-
-        final Instant midVal = reader.readRevisionRootPageCommitTimestamp(mid);
-        final int cmp = midVal.compareTo(Instant.ofEpochMilli(timestamp));
-
-        if (cmp < 0)
-          low = mid + 1;
-        else if (cmp > 0)
-          high = mid - 1;
-        else
-          return mid; // key found
-      }
-    }
-
-    return -(low + 1); // key not found
+    return beginNodeReadOnlyTrx(getRevisionNumber(pointInTime));
   }
 
   @Override
@@ -829,9 +805,12 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     checkNotNull(pointInTime);
     assertNotClosed();
 
+    // The revision index is searched instead of the revision root pages, thus no transaction is needed.
+    final RevisionIndex revisionIndex = storage.getRevisionIndex();
     final long timestamp = pointInTime.toEpochMilli();
+    final int mostRecentRevision = getMostRecentRevisionNumber();
 
-    int revision = binarySearch(timestamp);
+    int revision = revisionIndex.findRevision(timestamp);
 
     if (revision < 0) {
       revision = -revision - 1;
@@ -839,23 +818,15 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
     if (revision == 0)
       return 0;
-    else if (revision == getMostRecentRevisionNumber() + 1)
-      return getMostRecentRevisionNumber();
-
-    try (final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-         final R rtxRevision = beginNodeReadOnlyTrx(revision)) {
-      final int revisionNumber;
-
-      if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                                                                                                  rtxRevision.getRevisionTimestamp()
-                                                                                                             .toEpochMilli())) {
-        revisionNumber = rtxRevisionMinus1.getRevisionNumber();
-      } else {
-        revisionNumber = rtxRevision.getRevisionNumber();
-      }
+    else if (revision > mostRecentRevision)
+      return mostRecentRevision;
 
-      return revisionNumber;
+    if (timeDiff(timestamp, revisionIndex.getTimestamp(revision - 1)) < timeDiff(timestamp,
+                                                                                 revisionIndex.getTimestamp(revision))) {
+      return revision - 1;
     }
+
+    return revision;
   }
 
   @Override
@@ -25,14 +25,48 @@ public interface InternalResourceSession<R extends NodeReadOnlyTrx & NodeCursor,
 
   Path getCommitFile();
 
+  boolean hasPendingCommits();
+
+  /**
+   * Determines if a commit failed, such that the revisions written after the last durable revision must be truncated.
+   *
+   * @return {@code true}, if the commit file exists, but no commits wait for a flush, {@code false} otherwise
+   */
+  boolean hasIncompleteCommit();
+
   void assertAccess(int revision);
 
+  /**
+   * Begin a read-only transaction, which reads from the given page transaction. The page transaction is closed, once
+   * the read-only transaction is closed.
+   *
+   * @param pageReadTrx the page transaction
+   * @return the read-only transaction on the revision of the page transaction
+   */
+  R beginNodeReadOnlyTrx(PageReadOnlyTrx pageReadTrx);
+
   PageTrx createPageTransaction(long trxID, int revision, int i, Abort no, boolean isBoundToNodeTrx);
 
   Lock getCommitLock();
 
   void setLastCommittedUberPage(UberPage lastUberPage);
 
+  /**
+   * Set the uber page of a revision, once it has been forced to the storage device. Only then the revision is read by
+   * the read-only transactions.
+   *
+   * @param durableUberPage the uber page of the durable revision
+   */
+  void setLastDurableUberPage(UberPage durableUberPage);
+
+  /**
+   * Let the next write transaction build upon the last durable revision again, as a committed revision couldn't be
+   * forced to the storage device.
+   *
+   * @param failedUberPage the uber page of the revision, which couldn't be forced
+   */
+  void revertToLastDurableUberPage(UberPage failedUberPage);
+
   void closeWriteTransaction(long transactionID);
 
   void setNodePageWriteTransaction(long transactionID, PageTrx pageTrx);
@@ -0,0 +1,130 @@
+package org.sirix.access.trx.node;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.sirix.access.trx.page.AbstractForwardingPageReadOnlyTrx;
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.ResourceSession;
+import org.sirix.page.DeweyIDPage;
+import org.sirix.page.RevisionRootPage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Shares one page transaction per revision amongst the read-only transactions, which are begun by the pool. Such a
+ * read-only transaction is lightweight, as it neither opens a reader nor reads ahead on its own. The page transaction
+ * of a revision is reference counted and closed, once the last read-only transaction reading from it is closed.
+ *
+ * <p>A page transaction remembers the most recently read record pages, thus the pool and the read-only transactions
+ * begun by it must be confined to one thread.</p>
+ *
+ * @param <R> the read-only transaction type
+ * @param <W> the read-write transaction type
+ * @author Johannes Lichtenberger
+ */
+public final class PageReadOnlyTrxPool<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
+    implements AutoCloseable {
+
+  /**
+   * The resource session to begin the transactions with.
+   */
+  private final InternalResourceSession<R, W> resourceSession;
+
+  /**
+   * The page transactions, which are in use, per revision.
+   */
+  private final Int2ObjectMap<SharedPageReadOnlyTrx> pageTrxs;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceSession the resource session to begin the transactions with
+   */
+  public PageReadOnlyTrxPool(final ResourceSession<R, W> resourceSession) {
+    checkArgument(resourceSession instanceof InternalResourceSession, "The resource session isn't supported.");
+    this.resourceSession = (InternalResourceSession<R, W>) resourceSession;
+    pageTrxs = new Int2ObjectOpenHashMap<>();
+  }
+
+  /**
+   * Begin a read-only transaction on the given revision, which shares the page transaction of the revision with the
+   * other read-only transactions on the revision begun by the pool.
+   *
+   * @param revision the revision
+   * @return the read-only transaction
+   */
+  public R beginNodeReadOnlyTrx(final @NonNegative int revision) {
+    resourceSession.assertAccess(revision);
+
+    SharedPageReadOnlyTrx pageTrx = pageTrxs.get(revision);
+
+    if (pageTrx == null) {
+      pageTrx = new SharedPageReadOnlyTrx(resourceSession.beginPageReadOnlyTrx(revision), revision);
+      pageTrxs.put(revision, pageTrx);
+    }
+
+    pageTrx.references++;
+    return resourceSession.beginNodeReadOnlyTrx(pageTrx);
+  }
+
+  /**
+   * Get the number of revisions, whose page transactions are in use.
+   *
+   * @return the number of revisions
+   */
+  public int getNumberOfOpenRevisions() {
+    return pageTrxs.size();
+  }
+
+  /**
+   * Close the page transactions, which are still in use. Thus, the read-only transactions begun by the pool must not be
+   * used anymore.
+   */
+  @Override
+  public void close() {
+    for (final SharedPageReadOnlyTrx pageTrx : pageTrxs.values()) {
+      pageTrx.references = 0;
+      pageTrx.pageTrx.close();
+    }
+    pageTrxs.clear();
+  }
+
+  /**
+   * A page transaction, which is closed once it's not referenced by a read-only transaction anymore.
+   */
+  private final class SharedPageReadOnlyTrx extends AbstractForwardingPageReadOnlyTrx {
+    private final PageReadOnlyTrx pageTrx;
+
+    private final int revision;
+
+    private int references;
+
+    private SharedPageReadOnlyTrx(final PageReadOnlyTrx pageTrx, final int revision) {
+      this.pageTrx = pageTrx;
+      this.revision = revision;
+    }
+
+    @Override
+    protected @NonNull PageReadOnlyTrx delegate() {
+      return pageTrx;
+    }
+
+    @Override
+    public DeweyIDPage getDeweyIDPage(@NonNull final RevisionRootPage revisionRoot) {
+      return pageTrx.getDeweyIDPage(revisionRoot);
+    }
+
+    @Override
+    public void close() {
+      if (references > 0 && --references == 0) {
+        pageTrxs.remove(revision);
+        pageTrx.close();
+      }
+    }
+  }
+}
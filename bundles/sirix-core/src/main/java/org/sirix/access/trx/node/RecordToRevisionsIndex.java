@@ -1,8 +1,11 @@
 package org.sirix.access.trx.node;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexType;
 import org.sirix.node.RevisionReferencesNode;
+import org.sirix.node.interfaces.DataRecord;
 
 import static java.util.Objects.requireNonNull;
 
@@ -50,4 +53,23 @@ public final class RecordToRevisionsIndex {
         pageTrx.prepareRecordForModification(recordKey, IndexType.RECORD_TO_REVISIONS, 0);
     revisionReferencesNode.addRevision(pageTrx.getRevisionNumber());
   }
+
+  /**
+   * Get the revisions, in which a record has been created, changed or removed, as stored in the index of a revision.
+   *
+   * @param pageTrx   the page trx of the revision
+   * @param recordKey the key of the record
+   * @return the revisions in ascending order or {@code null}, if the index isn't stored or doesn't contain the record
+   */
+  public static int @Nullable [] getRevisions(final PageReadOnlyTrx pageTrx, final long recordKey) {
+    if (!pageTrx.getResourceSession().getResourceConfig().storeNodeHistory()) {
+      return null;
+    }
+    final DataRecord record = pageTrx.getRecord(recordKey, IndexType.RECORD_TO_REVISIONS, 0);
+    if (record instanceof RevisionReferencesNode revisionReferencesNode && record.getNodeKey() == recordKey
+        && revisionReferencesNode.getRevisions().length > 0) {
+      return revisionReferencesNode.getRevisions();
+    }
+    return null;
+  }
 }
@@ -141,6 +141,11 @@ public abstract class AbstractForwardingPageReadOnlyTrx extends ForwardingObject
     return delegate().getRecordPage(indexLogKey);
   }
 
+  @Override
+  public void setRecordPagePrefetchWindow(@NonNegative int prefetchWindow) {
+    delegate().setRecordPagePrefetchWindow(prefetchWindow);
+  }
+
   @Override
   public UberPage getUberPage() {
     return delegate().getUberPage();
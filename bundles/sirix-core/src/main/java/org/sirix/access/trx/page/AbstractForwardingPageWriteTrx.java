@@ -2,6 +2,7 @@ package org.sirix.access.trx.page;
 
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.NotNull;
 import org.sirix.api.PageTrx;
 import org.sirix.exception.SirixIOException;
@@ -11,6 +12,9 @@ import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.PageReference;
 import org.sirix.page.UberPage;
 
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Forwards all methods to the delegate.
  *
@@ -66,6 +70,11 @@ public abstract class AbstractForwardingPageWriteTrx extends AbstractForwardingP
     delegate().commit(reference);
   }
 
+  @Override
+  public CompletableFuture<UberPage> commitAsync(@Nullable String commitMessage, @Nullable Instant commitTimeStamp) {
+    return delegate().commitAsync(commitMessage, commitTimeStamp);
+  }
+
   @Override
   protected abstract @NotNull PageTrx delegate();
 }
@@ -0,0 +1,252 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.dagger.DatabaseScope;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.Writer;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Shares the flushes to the storage device amongst the commits of the resources of a database (group commit).
+ * Instead of forcing the pages of each revision to the device, asynchronous commits issued within the commit window
+ * are collected and the storage of each involved resource is forced once, before the futures of the commits are
+ * completed.
+ *
+ * <p>Furthermore, the commit file of a resource, which denotes that a commit might be incomplete, is only created by
+ * the first commit, which hasn't been flushed, and deleted once all commits of the resource have been flushed.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+@DatabaseScope
+public final class GroupCommitter {
+
+  /**
+   * The default window, during which commits are collected.
+   */
+  public static final Duration DEFAULT_COMMIT_WINDOW = Duration.ofMillis(2);
+
+  /**
+   * A commit, which waits for the next flush.
+   *
+   * @param commitFile the commit file of the resource
+   * @param writer     the writer, which has written the revision
+   * @param durable    the future to complete, once the revision is durable
+   */
+  private record PendingCommit(Path commitFile, Writer writer, CompletableFuture<Void> durable) {
+  }
+
+  /**
+   * The commit window in nanoseconds.
+   */
+  private final long commitWindowNanos;
+
+  /**
+   * Schedules the flushes. Its thread terminates once no commits are issued anymore.
+   */
+  private final ScheduledThreadPoolExecutor flushScheduler;
+
+  /**
+   * Serializes the flushes.
+   */
+  private final Lock flushLock;
+
+  /**
+   * The number of commits per commit file, which haven't been flushed. Guarded by this.
+   */
+  private final Map<Path, Integer> unflushedCommits;
+
+  /**
+   * The commits, which wait for the next flush. Guarded by this.
+   */
+  private List<PendingCommit> pendingCommits;
+
+  /**
+   * Determines if a flush has been scheduled. Guarded by this.
+   */
+  private boolean isFlushScheduled;
+
+  /**
+   * Constructor.
+   */
+  @Inject
+  public GroupCommitter() {
+    this(DEFAULT_COMMIT_WINDOW);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param commitWindow the window, during which commits are collected
+   */
+  public GroupCommitter(final Duration commitWindow) {
+    checkArgument(!commitWindow.isNegative(), "The commit window must not be negative.");
+    commitWindowNanos = commitWindow.toNanos();
+    flushScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final var thread = new Thread(runnable, "sirix-group-commit");
+      thread.setDaemon(true);
+      return thread;
+    });
+    flushScheduler.setKeepAliveTime(1, TimeUnit.SECONDS);
+    flushScheduler.allowCoreThreadTimeOut(true);
+    flushLock = new ReentrantLock();
+    unflushedCommits = new HashMap<>();
+    pendingCommits = new ArrayList<>();
+  }
+
+  /**
+   * Denote that a commit of a resource begins. Creates the commit file, if no other commit of the resource waits for
+   * a flush. Must be called while holding the commit lock of the resource.
+   *
+   * @param commitFile the commit file of the resource
+   * @throws SirixIOException if the commit file couldn't be created
+   */
+  synchronized void beginCommit(final Path commitFile) {
+    if (unflushedCommits.merge(commitFile, 1, Integer::sum) == 1) {
+      commitFile.toFile().deleteOnExit();
+      // Issues with windows that it's not created in the first time?
+      while (!Files.exists(commitFile)) {
+        try {
+          Files.createFile(commitFile);
+        } catch (final IOException e) {
+          throw new SirixIOException(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Denote that a commit of a resource is durable. Deletes the commit file, if no other commit of the resource waits
+   * for a flush.
+   *
+   * @param commitFile the commit file of the resource
+   * @throws SirixIOException if the commit file couldn't be deleted
+   */
+  synchronized void endCommit(final Path commitFile) {
+    if (decrementUnflushedCommits(commitFile) == null) {
+      try {
+        Files.deleteIfExists(commitFile);
+      } catch (final IOException e) {
+        throw new SirixIOException("Commit file couldn't be deleted!", e);
+      }
+    }
+  }
+
+  /**
+   * Denote that a commit of a resource failed. The commit file is kept, such that the resource is truncated to the
+   * last durable revision once the next transaction is started.
+   *
+   * @param commitFile the commit file of the resource
+   */
+  synchronized void abortCommit(final Path commitFile) {
+    decrementUnflushedCommits(commitFile);
+  }
+
+  private Integer decrementUnflushedCommits(final Path commitFile) {
+    return unflushedCommits.computeIfPresent(commitFile, (unused, count) -> count == 1 ? null : count - 1);
+  }
+
+  /**
+   * Determines if commits of a resource haven't been flushed yet.
+   *
+   * @param commitFile the commit file of the resource
+   * @return {@code true}, if commits of the resource wait for a flush, {@code false} otherwise
+   */
+  public synchronized boolean hasPendingCommits(final Path commitFile) {
+    return unflushedCommits.containsKey(commitFile);
+  }
+
+  /**
+   * Flush a written revision with the next group of commits. Dependent actions of the returned future are executed by
+   * the flushing thread, if not executed asynchronously.
+   *
+   * @param commitFile the commit file of the resource, for which {@link #beginCommit(Path)} has been called
+   * @param writer     the writer, which has written the revision
+   * @return a future, which is completed once the revision is durable
+   */
+  CompletableFuture<Void> flushAsync(final Path commitFile, final Writer writer) {
+    final var durable = new CompletableFuture<Void>();
+    synchronized (this) {
+      pendingCommits.add(new PendingCommit(checkNotNull(commitFile), checkNotNull(writer), durable));
+      if (!isFlushScheduled) {
+        isFlushScheduled = true;
+        flushScheduler.schedule(this::scheduledFlush, commitWindowNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+    return durable;
+  }
+
+  /**
+   * Flush the pending commits right away, for instance before the storage of a resource is closed. Returns once all
+   * commits, which have been issued before, are durable.
+   */
+  public void flush() {
+    flushLock.lock();
+    try {
+      final List<PendingCommit> commits;
+      synchronized (this) {
+        commits = pendingCommits;
+        pendingCommits = new ArrayList<>();
+      }
+
+      if (commits.isEmpty()) {
+        return;
+      }
+
+      // The writers of a resource share the files, thus forcing one of them suffices.
+      final Map<Path, Writer> writers = new LinkedHashMap<>();
+      for (final PendingCommit commit : commits) {
+        writers.put(commit.commitFile(), commit.writer());
+      }
+
+      final Map<Path, RuntimeException> failures = new HashMap<>();
+      writers.forEach((commitFile, writer) -> {
+        try {
+          writer.force();
+        } catch (final RuntimeException e) {
+          failures.put(commitFile, e);
+        }
+      });
+
+      for (final PendingCommit commit : commits) {
+        final RuntimeException failure = failures.get(commit.commitFile());
+        if (failure == null) {
+          try {
+            endCommit(commit.commitFile());
+            commit.durable().complete(null);
+          } catch (final RuntimeException e) {
+            commit.durable().completeExceptionally(e);
+          }
+        } else {
+          abortCommit(commit.commitFile());
+          commit.durable().completeExceptionally(failure);
+        }
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void scheduledFlush() {
+    synchronized (this) {
+      isFlushScheduled = false;
+    }
+    flush();
+  }
+}
@@ -56,7 +56,6 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -138,6 +137,22 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
   private RecordPage pathSummaryRecordPage;
 
+  /**
+   * Reads the revision root page and the name page, which are shared amongst read-only transactions.
+   */
+  private final RevisionRootPageReader revisionRootPageReader;
+
+  /**
+   * Reads the page fragments of record pages of the document index ahead during sequential scans.
+   */
+  private final RecordPagePrefetcher<List<KeyValuePage<DataRecord>>> recordPagePrefetcher;
+
+  /**
+   * The transaction, with which the page fragments are read ahead, such that the threads reading ahead neither share
+   * the reader nor any other state of this transaction. Begun, once the first record page is read ahead.
+   */
+  private @Nullable PageReadOnlyTrx prefetchPageReadTrx;
+
   private final Bytes<ByteBuffer> byteBufferForRecords = Bytes.elasticByteBuffer(40);
 
   /**
@@ -168,8 +183,13 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     this.trxIntentLog = trxIntentLog;
 
     revisionNumber = revision;
+    this.revisionRootPageReader = checkNotNull(revisionRootPageReader);
     rootPage = revisionRootPageReader.loadRevisionRootPage(this, revision);
     namePage = revisionRootPageReader.getNamePage(this, rootPage);
+    recordPagePrefetcher = new RecordPagePrefetcher<>(this::prefetchPageFragments,
+                                                    trxIntentLog == null
+                                                        ? RecordPagePrefetcher.DEFAULT_PREFETCH_WINDOW
+                                                        : 0);
   }
 
   private Page loadPage(final PageReference reference) {
@@ -435,6 +455,10 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return secondMostRecentlyReadRecordPage.page();
     }
 
+    if (indexLogKey.getIndexType() == IndexType.DOCUMENT && trxIntentLog == null) {
+      recordPagePrefetcher.recordAccess(indexLogKey);
+    }
+
     // Second: Traverse trie.
     final var pageReferenceToRecordPage = getLeafPageReference(indexLogKey.getRecordPageKey(),
                                                                indexLogKey.getIndexNumber(),
@@ -461,9 +485,26 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
+    // Fifth: Try to get the page fragments of a page, which is currently read ahead.
+    if (indexLogKey.getIndexType() == IndexType.DOCUMENT && trxIntentLog == null) {
+      final List<KeyValuePage<DataRecord>> prefetchedPageFragments =
+          recordPagePrefetcher.getPrefetched(indexLogKey.getRecordPageKey());
+      if (prefetchedPageFragments != null) {
+        resourceBufferManager.getRecordPageCacheStatistics().recordPrefetchHit();
+        return combinePageFragments(indexLogKey, pageReferenceToRecordPage, prefetchedPageFragments);
+      }
+    }
+
+    resourceBufferManager.getRecordPageCacheStatistics().recordMiss();
     return loadDataPageFromDurableStorageAndCombinePageFragments(indexLogKey, pageReferenceToRecordPage);
   }
 
+  @Override
+  public void setRecordPagePrefetchWindow(final @NonNegative int prefetchWindow) {
+    assertNotClosed();
+    recordPagePrefetcher.setPrefetchWindow(prefetchWindow);
+  }
+
   private boolean isMostRecentlyReadPathSummaryPage(IndexLogKey indexLogKey) {
     return pathSummaryRecordPage != null && pathSummaryRecordPage.recordPageKey == indexLogKey.getRecordPageKey()
         && pathSummaryRecordPage.index == indexLogKey.getIndexNumber()
@@ -492,6 +533,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       final Page recordPageFromBuffer = resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage);
 
       if (recordPageFromBuffer != null) {
+        resourceBufferManager.getRecordPageCacheStatistics().recordHit();
         setMostRecentlyReadRecordPage(indexLogKey, recordPageFromBuffer);
         pageReferenceToRecordPage.setPage(recordPageFromBuffer);
         return recordPageFromBuffer;
@@ -527,12 +569,19 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
+    return combinePageFragments(indexLogKey, pageReferenceToRecordPage, pages);
+  }
+
+  private Page combinePageFragments(final IndexLogKey indexLogKey, final PageReference pageReferenceToRecordPage,
+      final List<KeyValuePage<DataRecord>> pages) {
     final int maxRevisionsToRestore = resourceConfig.maxNumberOfRevisionsToRestore;
     final VersioningType versioningApproach = resourceConfig.versioningType;
     final Page completePage = versioningApproach.combineRecordPages(pages, maxRevisionsToRestore, this);
+    resourceBufferManager.getRecordPageCacheStatistics().recordReconstruction(pages.size());
 
     if (trxIntentLog == null) {
-      resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage, completePage);
+      // The more fragments have been combined, the more costly it is to reconstruct the page again.
+      resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage, completePage, pages.size());
     }
 
     pageReferenceToRecordPage.setPage(completePage);
@@ -540,6 +589,37 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return completePage;
   }
 
+  /**
+   * Asynchronously read the page fragments of a record page. They are combined by the thread, which uses this
+   * transaction, once the record page is requested.
+   *
+   * @param indexLogKey the key of the record page
+   * @return the future, which completes with the page fragments, or {@code null}, if the page is in memory already or
+   *     doesn't exist
+   */
+  @Nullable
+  private CompletableFuture<List<KeyValuePage<DataRecord>>> prefetchPageFragments(final IndexLogKey indexLogKey) {
+    if (indexLogKey.getRecordPageKey() > pageKey(rootPage.getMaxNodeKeyInDocumentIndex(), IndexType.DOCUMENT)) {
+      return null;
+    }
+
+    final var pageReferenceToRecordPage = getLeafPageReference(indexLogKey.getRecordPageKey(),
+                                                               indexLogKey.getIndexNumber(),
+                                                               indexLogKey.getIndexType());
+
+    if (pageReferenceToRecordPage == null || pageReferenceToRecordPage.getKey() == Constants.NULL_ID_LONG
+        || pageReferenceToRecordPage.getPage() != null
+        || resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage) != null) {
+      return null;
+    }
+
+    if (prefetchPageReadTrx == null) {
+      prefetchPageReadTrx = resourceSession.beginPageReadOnlyTrx(revisionNumber);
+    }
+
+    return getPageFragmentsAsync(pageReferenceToRecordPage, prefetchPageReadTrx);
+  }
+
   @Nullable
   private Page getInMemoryPageInstance(@NotNull IndexLogKey indexLogKey,
       @NotNull PageReference pageReferenceToRecordPage) {
@@ -581,7 +661,8 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     final List<KeyValuePage<DataRecord>> pages = new ArrayList<>(revisionsToRead.length);
 
     final var pageFragments = pageReference.getPageFragments();
-    final var pageReferenceWithKey = new PageReference().setKey(pageReference.getKey());
+    final var pageReferenceWithKey =
+        new PageReference().setKey(pageReference.getKey()).setLength(pageReference.getLength());
 
     KeyValuePage<DataRecord> page;
 
@@ -610,47 +691,72 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return pages;
   }
 
-  private List<KeyValuePage<DataRecord>> getPreviousPageFragments(final List<PageFragmentKey> pageFragments) {
-    final var pages = pageFragments.stream().map(this::readPage).collect(Collectors.toList());
-    return sequence(pages).join()
-                          .stream()
-                          .sorted(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision)
-                                            .reversed())
-                          .collect(Collectors.toList());
+  /**
+   * Asynchronously read all page fragments of a record page with one batched read.
+   *
+   * @param pageReference the page reference pointing to the record page
+   * @param pageReadTrx   the transaction, whose reader reads and deserializes the page fragments
+   * @return the page fragments, sorted by their revision in descending order
+   */
+  @SuppressWarnings("unchecked")
+  private static CompletableFuture<List<KeyValuePage<DataRecord>>> getPageFragmentsAsync(
+      final PageReference pageReference, final PageReadOnlyTrx pageReadTrx) {
+    final var pageFragments = pageReference.getPageFragments();
+    final List<PageReference> pageReferences = new ArrayList<>(pageFragments.size() + 1);
+    pageReferences.add(new PageReference().setKey(pageReference.getKey()).setLength(pageReference.getLength()));
+    for (final PageFragmentKey pageFragmentKey : pageFragments) {
+      pageReferences.add(new PageReference().setKey(pageFragmentKey.key()).setLength(pageFragmentKey.length()));
+    }
+
+    return pageReadTrx.getReader().readAllAsync(pageReferences, pageReadTrx).thenApply(pages -> {
+      final List<KeyValuePage<DataRecord>> recordPages = new ArrayList<>(pages.size());
+      for (final Page page : pages) {
+        recordPages.add((KeyValuePage<DataRecord>) page);
+      }
+      recordPages.sort(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision).reversed());
+      return recordPages;
+    });
   }
 
+  /**
+   * Get the previous page fragments. Fragments, which aren't cached, are read in one batch. As fragments of older
+   * revisions are deserialized only with the help of the resource configuration, no transaction has to be opened on
+   * the revision of each fragment.
+   *
+   * @param pageFragments the keys of the page fragments
+   * @return the page fragments, sorted by their revision in descending order
+   */
   @SuppressWarnings("unchecked")
-  private CompletableFuture<KeyValuePage<DataRecord>> readPage(final PageFragmentKey pageFragmentKey) {
-    final var pageReference = new PageReference().setKey(pageFragmentKey.key());
-    if (trxIntentLog == null) {
-      final var pageFromBufferManager = resourceBufferManager.getPageCache().get(pageReference);
+  private List<KeyValuePage<DataRecord>> getPreviousPageFragments(final List<PageFragmentKey> pageFragments) {
+    final List<KeyValuePage<DataRecord>> pages = new ArrayList<>(pageFragments.size());
+    final List<PageReference> pageReferencesToRead = new ArrayList<>(pageFragments.size());
+
+    for (final PageFragmentKey pageFragmentKey : pageFragments) {
+      final var pageReference =
+          new PageReference().setKey(pageFragmentKey.key()).setLength(pageFragmentKey.length());
+      final var pageFromBufferManager =
+          trxIntentLog == null ? resourceBufferManager.getPageCache().get(pageReference) : null;
       if (pageFromBufferManager != null) {
         assert pageFragmentKey.revision() == ((KeyValuePage<DataRecord>) pageFromBufferManager).getRevision();
-        return CompletableFuture.completedFuture((KeyValuePage<DataRecord>) pageFromBufferManager);
+        pages.add((KeyValuePage<DataRecord>) pageFromBufferManager);
+      } else {
+        pageReferencesToRead.add(pageReference);
       }
     }
-    final var pageReadOnlyTrx = resourceSession.beginPageReadOnlyTrx(pageFragmentKey.revision());
-    //noinspection unchecked
-    return (CompletableFuture<KeyValuePage<DataRecord>>) pageReadOnlyTrx.getReader()
-                                                                        .readAsync(pageReference, pageReadOnlyTrx)
-                                                                        .whenComplete((page, exception) -> {
-                                                                          pageReadOnlyTrx.close();
-                                                                          if (trxIntentLog == null) {
-                                                                            assert pageFragmentKey.revision()
-                                                                                == ((KeyValuePage<DataRecord>) page).getRevision();
-                                                                            resourceBufferManager.getPageCache()
-                                                                                                 .put(pageReference,
-                                                                                                      page);
-                                                                          }
-                                                                        });
-  }
-
-  static CompletableFuture<List<KeyValuePage<DataRecord>>> sequence(
-      List<CompletableFuture<KeyValuePage<DataRecord>>> listOfCompletableFutures) {
-    return CompletableFuture.allOf(listOfCompletableFutures.toArray(new CompletableFuture[0]))
-                            .thenApply(v -> listOfCompletableFutures.stream()
-                                                                    .map(CompletableFuture::join)
-                                                                    .collect(Collectors.toList()));
+
+    if (!pageReferencesToRead.isEmpty()) {
+      final List<Page> readPages = pageReader.readAllAsync(pageReferencesToRead, this).join();
+      for (int i = 0, size = readPages.size(); i < size; i++) {
+        final var page = (KeyValuePage<DataRecord>) readPages.get(i);
+        if (trxIntentLog == null) {
+          resourceBufferManager.getPageCache().put(pageReferencesToRead.get(i), page);
+        }
+        pages.add(page);
+      }
+    }
+
+    pages.sort(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision).reversed());
+    return pages;
   }
 
   /**
@@ -788,6 +894,12 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   @Override
   public synchronized void close() {
     if (!isClosed) {
+      recordPagePrefetcher.close();
+      if (prefetchPageReadTrx != null) {
+        prefetchPageReadTrx.close();
+      }
+      revisionRootPageReader.release();
+
       if (trxIntentLog == null) {
         pageReader.close();
       }
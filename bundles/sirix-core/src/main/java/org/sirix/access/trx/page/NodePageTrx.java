@@ -37,6 +37,7 @@ import org.sirix.cache.IndexLogKey;
 import org.sirix.cache.PageContainer;
 import org.sirix.cache.TransactionIntentLog;
 import org.sirix.exception.SirixIOException;
+import org.sirix.exception.SirixUsageException;
 import org.sirix.index.IndexType;
 import org.sirix.io.Writer;
 import org.sirix.node.DeletedNode;
@@ -54,18 +55,18 @@ import org.sirix.settings.VersioningType;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.nio.file.Files.deleteIfExists;
 import static java.nio.file.Files.newOutputStream;
 import static java.nio.file.StandardOpenOption.CREATE;
 
@@ -149,6 +150,11 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
   private final LinkedHashMap<IndexLogKey, PageContainer> pageContainerCache;
 
+  /**
+   * Shares the flushes of the commits to the storage device.
+   */
+  private final GroupCommitter groupCommitter;
+
   /**
    * Constructor.
    *
@@ -160,10 +166,12 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
    * @param representRevision the revision to represent
    * @param isBoundToNodeTrx  {@code true} if this page write trx will be bound to a node trx,
    *                          {@code false} otherwise
+   * @param groupCommitter    shares the flushes of the commits to the storage device
    */
   NodePageTrx(final TreeModifier treeModifier, final Writer writer, final TransactionIntentLog log,
       final RevisionRootPage revisionRootPage, final NodePageReadOnlyTrx pageRtx,
-      final IndexController<?, ?> indexController, final int representRevision, final boolean isBoundToNodeTrx) {
+      final IndexController<?, ?> indexController, final int representRevision, final boolean isBoundToNodeTrx,
+      final GroupCommitter groupCommitter) {
     this.treeModifier = checkNotNull(treeModifier);
     storagePageReaderWriter = checkNotNull(writer);
     this.log = checkNotNull(log);
@@ -173,6 +181,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     checkArgument(representRevision >= 0, "The represented revision must be >= 0.");
     this.representRevision = representRevision;
     this.isBoundToNodeTrx = isBoundToNodeTrx;
+    this.groupCommitter = checkNotNull(groupCommitter);
     mostRecentPageContainer = new IndexLogKeyToPageContainer(IndexType.DOCUMENT, -1, -1, -1, null);
     secondMostRecentPageContainer = mostRecentPageContainer;
     mostRecentPathSummaryPageContainer = new IndexLogKeyToPageContainer(IndexType.PATH_SUMMARY, -1, -1, -1, null);
@@ -372,90 +381,137 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
   @Override
   public UberPage commit(@Nullable final String commitMessage, @Nullable final Instant commitTimestamp) {
     pageRtx.assertNotClosed();
+    assertNoIncompleteCommit();
 
     pageRtx.resourceSession.getCommitLock().lock();
 
     try {
       final Path commitFile = pageRtx.resourceSession.getCommitFile();
 
-      commitFile.toFile().deleteOnExit();
-      // Issues with windows that it's not created in the first time?
-      createIfAbsent(commitFile);
-
-      final PageReference uberPageReference = new PageReference();
-      final UberPage uberPage = getUberPage();
-      uberPageReference.setPage(uberPage);
-      final int revision = uberPage.getRevisionNumber();
+      // The commit file denotes that a commit must write the log in the data file.
+      groupCommitter.beginCommit(commitFile);
+      try {
+        writeRevision(commitMessage, commitTimestamp);
+        storagePageReaderWriter.force();
+      } catch (final RuntimeException e) {
+        groupCommitter.abortCommit(commitFile);
+        throw e;
+      }
+      groupCommitter.endCommit(commitFile);
+    } finally {
+      pageRtx.resourceSession.getCommitLock().unlock();
+    }
 
-      setUserIfPresent();
+    final UberPage uberPage = readUberPage();
+    pageRtx.resourceSession.setLastDurableUberPage(uberPage);
+    return uberPage;
+  }
 
-      if (commitMessage != null) {
-        newRevisionRootPage.setCommitMessage(commitMessage);
-      }
+  @Override
+  public CompletableFuture<UberPage> commitAsync(@Nullable final String commitMessage,
+      @Nullable final Instant commitTimestamp) {
+    pageRtx.assertNotClosed();
+    assertNoIncompleteCommit();
 
-      if (commitTimestamp != null) {
-        newRevisionRootPage.setCommitTimestamp(commitTimestamp);
-      }
+    final CompletableFuture<Void> durable;
 
-      log.getMap()
-         .long2ObjectEntrySet()
-         .parallelStream()
-         .map(Map.Entry::getValue)
-         .map(PageContainer::getModified)
-         .filter(page -> page instanceof KeyValueLeafPage)
-         .forEach(page -> {
-           final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer(15_000);
-           page.serialize(this, bytes, SerializationType.DATA);
-         });
-
-      // Recursively write indirectly referenced pages.
-      uberPage.commit(this);
-
-      uberPageReference.setPage(uberPage);
-      storagePageReaderWriter.writeUberPageReference(this, uberPageReference, bufferBytes);
-      uberPageReference.setPage(null);
-
-      if (!indexController.getIndexes().getIndexDefs().isEmpty()) {
-        final Path indexes = pageRtx.getResourceSession()
-                                    .getResourceConfig().resourcePath.resolve(ResourceConfiguration.ResourcePaths.INDEXES.getPath())
-                                                                     .resolve(revision + ".xml");
-
-        try (final OutputStream out = newOutputStream(indexes, CREATE)) {
-          indexController.serialize(out);
-        } catch (final IOException e) {
-          throw new SirixIOException("Index definitions couldn't be serialized!", e);
-        }
-      }
+    pageRtx.resourceSession.getCommitLock().lock();
 
-      log.truncate();
-      pageContainerCache.clear();
-      System.gc();
+    try {
+      final Path commitFile = pageRtx.resourceSession.getCommitFile();
 
-      // Delete commit file which denotes that a commit must write the log in the data file.
+      groupCommitter.beginCommit(commitFile);
       try {
-        deleteIfExists(commitFile);
-      } catch (final IOException e) {
-        throw new SirixIOException("Commit file couldn't be deleted!");
+        writeRevision(commitMessage, commitTimestamp);
+      } catch (final RuntimeException e) {
+        groupCommitter.abortCommit(commitFile);
+        throw e;
       }
+      durable = groupCommitter.flushAsync(commitFile, storagePageReaderWriter);
     } finally {
       pageRtx.resourceSession.getCommitLock().unlock();
     }
 
-    return readUberPage();
+    // The next revision builds upon the committed one right away, but it's only read by read-only transactions, once
+    // it's durable. If it can't be forced, the next write transaction truncates the resource to the last durable one.
+    final UberPage uberPage = readUberPage();
+    final var resourceSession = pageRtx.resourceSession;
+    resourceSession.setLastCommittedUberPage(uberPage);
+    return durable.handle((unused, failure) -> {
+      if (failure != null) {
+        resourceSession.revertToLastDurableUberPage(uberPage);
+        throw new CompletionException(failure);
+      }
+      resourceSession.setLastDurableUberPage(uberPage);
+      return uberPage;
+    });
   }
 
-  private UberPage readUberPage() {
-    return (UberPage) storagePageReaderWriter.read(storagePageReaderWriter.readUberPageReference(), pageRtx);
+  private void assertNoIncompleteCommit() {
+    if (pageRtx.resourceSession.hasIncompleteCommit()) {
+      throw new SirixUsageException(
+          "A previous commit couldn't be forced to the storage device, please roll back the transaction first.");
+    }
   }
 
-  private void createIfAbsent(final Path file) {
-    while (!Files.exists(file)) {
-      try {
-        Files.createFile(file);
+  /**
+   * Write the pages of the new revision, without forcing them to the storage device. Must be called while holding the
+   * commit lock.
+   *
+   * @param commitMessage   the commit message or {@code null}
+   * @param commitTimestamp the commit timestamp or {@code null}
+   */
+  private void writeRevision(@Nullable final String commitMessage, @Nullable final Instant commitTimestamp) {
+    final PageReference uberPageReference = new PageReference();
+    final UberPage uberPage = getUberPage();
+    uberPageReference.setPage(uberPage);
+    final int revision = uberPage.getRevisionNumber();
+
+    setUserIfPresent();
+
+    if (commitMessage != null) {
+      newRevisionRootPage.setCommitMessage(commitMessage);
+    }
+
+    if (commitTimestamp != null) {
+      newRevisionRootPage.setCommitTimestamp(commitTimestamp);
+    }
+
+    // Serialize, hash and compress the record pages in parallel, such that only appending the pages is sequential.
+    log.getMap()
+       .long2ObjectEntrySet()
+       .parallelStream()
+       .map(Map.Entry::getValue)
+       .map(PageContainer::getModified)
+       .filter(page -> page instanceof KeyValueLeafPage)
+       .forEach(page -> storagePageReaderWriter.prepare(this, (KeyValueLeafPage) page));
+
+    // Recursively write indirectly referenced pages.
+    uberPage.commit(this);
+
+    uberPageReference.setPage(uberPage);
+    storagePageReaderWriter.writeUberPageReference(this, uberPageReference, bufferBytes);
+    uberPageReference.setPage(null);
+
+    if (!indexController.getIndexes().getIndexDefs().isEmpty()) {
+      final Path indexes = pageRtx.getResourceSession()
+                                  .getResourceConfig().resourcePath.resolve(ResourceConfiguration.ResourcePaths.INDEXES.getPath())
+                                                                   .resolve(revision + ".xml");
+
+      try (final OutputStream out = newOutputStream(indexes, CREATE)) {
+        indexController.serialize(out);
       } catch (final IOException e) {
-        throw new SirixIOException(e);
+        throw new SirixIOException("Index definitions couldn't be serialized!", e);
       }
     }
+
+    log.truncate();
+    pageContainerCache.clear();
+    System.gc();
+  }
+
+  private UberPage readUberPage() {
+    return (UberPage) storagePageReaderWriter.read(storagePageReaderWriter.readUberPageReference(), pageRtx);
   }
 
   private void setUserIfPresent() {
@@ -475,9 +531,12 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     if (!isClosed) {
       pageRtx.assertNotClosed();
 
-      final UberPage lastUberPage = readUberPage();
+      // The uber page of a failed commit mustn't be published.
+      if (!pageRtx.resourceSession.hasIncompleteCommit()) {
+        final UberPage lastUberPage = readUberPage();
 
-      pageRtx.resourceSession.setLastCommittedUberPage(lastUberPage);
+        pageRtx.resourceSession.setLastCommittedUberPage(lastUberPage);
+      }
 
       if (!isBoundToNodeTrx) {
         pageRtx.resourceSession.closePageWriteTransaction(pageRtx.getTrxId());
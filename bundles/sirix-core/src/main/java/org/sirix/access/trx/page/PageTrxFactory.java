@@ -64,9 +64,21 @@ public final class PageTrxFactory {
 
   private final DatabaseType databaseType;
 
+  private final GroupCommitter groupCommitter;
+
   @Inject
-  public PageTrxFactory(final DatabaseType databaseType) {
+  public PageTrxFactory(final DatabaseType databaseType, final GroupCommitter groupCommitter) {
     this.databaseType = databaseType;
+    this.groupCommitter = groupCommitter;
+  }
+
+  /**
+   * Get the group committer, which is shared by the resources of the database.
+   *
+   * @return the group committer
+   */
+  public GroupCommitter getGroupCommitter() {
+    return groupCommitter;
   }
 
   /**
@@ -205,6 +217,7 @@ public final class PageTrxFactory {
                            pageRtx,
                            indexController,
                            representRevision,
-                           isBoundToNodeTrx);
+                           isBoundToNodeTrx,
+                           groupCommitter);
   }
 }
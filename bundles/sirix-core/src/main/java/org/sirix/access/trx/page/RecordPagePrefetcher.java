@@ -0,0 +1,183 @@
+package org.sirix.access.trx.page;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.cache.IndexLogKey;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads record pages of the document index ahead, once sequential access to the record pages is detected, as for
+ * instance during the serialization of a whole resource or during a scan with a descendant axis. The next record
+ * pages are predictable in this case, thus they are loaded asynchronously, while the current record page is
+ * processed.
+ *
+ * <p>The prefetcher is owned by a single page read-only transaction and must only be used by the thread, which uses
+ * the transaction. Only the loading itself is done asynchronously, whatever is loaded is handed back to the owning
+ * thread, once a record page is requested.</p>
+ *
+ * @param <T> the type of what is loaded for a record page, for instance the page fragments
+ * @author Johannes Lichtenberger
+ */
+final class RecordPagePrefetcher<T> {
+
+  /**
+   * The default number of record pages to read ahead.
+   */
+  static final int DEFAULT_PREFETCH_WINDOW = 8;
+
+  /**
+   * Number of consecutive accesses to neighbouring record pages, from which on access is considered sequential.
+   */
+  private static final int SEQUENTIAL_ACCESS_THRESHOLD = 2;
+
+  /**
+   * Asynchronously loads a record page, returns {@code null} if the page doesn't have to be loaded (because it's
+   * cached already or doesn't exist).
+   */
+  private final Function<IndexLogKey, @Nullable CompletableFuture<T>> recordPageLoader;
+
+  /**
+   * Record pages, which are currently or have been prefetched and haven't been requested yet.
+   */
+  private final Map<Long, CompletableFuture<T>> prefetchedRecordPages;
+
+  /**
+   * The number of record pages to read ahead.
+   */
+  private int prefetchWindow;
+
+  /**
+   * The most recently accessed record page.
+   */
+  private IndexLogKey lastIndexLogKey;
+
+  /**
+   * The number of consecutive accesses to neighbouring record pages.
+   */
+  private int sequentialAccesses;
+
+  /**
+   * The highest record page key, which is prefetched.
+   */
+  private long prefetchedUpTo;
+
+  /**
+   * Constructor.
+   *
+   * @param recordPageLoader asynchronously loads a record page
+   * @param prefetchWindow   the number of record pages to read ahead
+   */
+  RecordPagePrefetcher(final Function<IndexLogKey, @Nullable CompletableFuture<T>> recordPageLoader,
+      final @NonNegative int prefetchWindow) {
+    this.recordPageLoader = requireNonNull(recordPageLoader);
+    this.prefetchedRecordPages = new HashMap<>();
+    this.prefetchedUpTo = -1;
+    setPrefetchWindow(prefetchWindow);
+  }
+
+  /**
+   * Set the number of record pages to read ahead.
+   *
+   * @param prefetchWindow the number of record pages to read ahead, {@code 0} disables the read-ahead
+   */
+  void setPrefetchWindow(final @NonNegative int prefetchWindow) {
+    checkArgument(prefetchWindow >= 0, "The prefetch window must be >= 0.");
+    this.prefetchWindow = prefetchWindow;
+  }
+
+  /**
+   * Get the number of record pages to read ahead.
+   *
+   * @return the number of record pages to read ahead
+   */
+  int getPrefetchWindow() {
+    return prefetchWindow;
+  }
+
+  /**
+   * Notify the prefetcher about an access to a record page. If the record pages are accessed sequentially, the next
+   * record pages within the prefetch window are loaded asynchronously.
+   *
+   * @param indexLogKey the key of the accessed record page
+   */
+  void recordAccess(final IndexLogKey indexLogKey) {
+    final long recordPageKey = indexLogKey.getRecordPageKey();
+
+    if (isNextRecordPage(indexLogKey)) {
+      sequentialAccesses++;
+    } else if (lastIndexLogKey == null || lastIndexLogKey.getRecordPageKey() != recordPageKey) {
+      sequentialAccesses = 0;
+      prefetchedUpTo = recordPageKey;
+    }
+    lastIndexLogKey = indexLogKey;
+
+    // Remove pages, which have been prefetched, but skipped.
+    prefetchedRecordPages.entrySet()
+                         .removeIf(entry -> entry.getKey() < recordPageKey && entry.getValue().isDone());
+
+    if (prefetchWindow == 0 || sequentialAccesses < SEQUENTIAL_ACCESS_THRESHOLD) {
+      return;
+    }
+
+    final long prefetchUpTo = recordPageKey + prefetchWindow;
+    for (long key = Math.max(prefetchedUpTo, recordPageKey) + 1; key <= prefetchUpTo; key++) {
+      if (prefetchedRecordPages.containsKey(key)) {
+        continue;
+      }
+      final var recordPage = recordPageLoader.apply(new IndexLogKey(indexLogKey.getIndexType(),
+                                                                    key,
+                                                                    indexLogKey.getIndexNumber(),
+                                                                    indexLogKey.getRevisionNumber()));
+      if (recordPage != null) {
+        prefetchedRecordPages.put(key, recordPage);
+      }
+    }
+    prefetchedUpTo = Math.max(prefetchedUpTo, prefetchUpTo);
+  }
+
+  private boolean isNextRecordPage(final IndexLogKey indexLogKey) {
+    return lastIndexLogKey != null && lastIndexLogKey.getRecordPageKey() + 1 == indexLogKey.getRecordPageKey()
+        && lastIndexLogKey.getIndexType() == indexLogKey.getIndexType()
+        && lastIndexLogKey.getIndexNumber() == indexLogKey.getIndexNumber()
+        && lastIndexLogKey.getRevisionNumber() == indexLogKey.getRevisionNumber();
+  }
+
+  /**
+   * Get what has been prefetched for a record page, waiting for it, if it's still being loaded.
+   *
+   * @param recordPageKey the record page key
+   * @return what has been loaded for the record page or {@code null}, if it hasn't been prefetched or loading it failed
+   */
+  @Nullable
+  T getPrefetched(final long recordPageKey) {
+    final var recordPage = prefetchedRecordPages.remove(recordPageKey);
+    if (recordPage == null) {
+      return null;
+    }
+    try {
+      return recordPage.join();
+    } catch (final CompletionException e) {
+      // Simply load the page again.
+      return null;
+    }
+  }
+
+  /**
+   * Wait until all record pages, which are currently loaded have been loaded, such that the underlying reader can be
+   * closed.
+   */
+  void close() {
+    CompletableFuture.allOf(prefetchedRecordPages.values().toArray(new CompletableFuture[0]))
+                     .exceptionally(e -> null)
+                     .join();
+    prefetchedRecordPages.clear();
+  }
+}
@@ -0,0 +1,135 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.cache.RevisionRootPageCache;
+import org.sirix.page.NamePage;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Pools the pages, which are immutable once a revision has been committed and which every read-only page transaction
+ * of a revision loads when it's started, that is the revision root page and the name page, per revision of a resource
+ * session. Thus, read-only transactions on the same revision share them.
+ *
+ * <p>The pages are reference counted by the transactions, which have been started on the revision. Once no
+ * transaction uses a revision anymore, it's removed from the pool. The revision root page is still cached by the
+ * {@link RevisionRootPageCache} of the resource, which is bounded and expires its entries, but the pages the
+ * transactions have swizzled into its references are dropped, such that it doesn't pin the page trees of the
+ * revision.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionRootPagePool {
+
+  /**
+   * The pooled pages of a revision.
+   *
+   * @param revisionRootPage the revision root page
+   * @param namePage         the name page
+   */
+  public record RevisionRoot(RevisionRootPage revisionRootPage, NamePage namePage) {
+    public RevisionRoot {
+      checkNotNull(revisionRootPage);
+      checkNotNull(namePage);
+    }
+  }
+
+  /**
+   * A pooled revision and the number of transactions using it.
+   */
+  private static final class Entry {
+    private final RevisionRoot revisionRoot;
+
+    private int references;
+
+    private Entry(final RevisionRoot revisionRoot) {
+      this.revisionRoot = revisionRoot;
+    }
+  }
+
+  /**
+   * The revisions, which are in use. Guarded by this.
+   */
+  private final Map<Integer, Entry> revisions;
+
+  /**
+   * Constructor.
+   */
+  public RevisionRootPagePool() {
+    revisions = new HashMap<>();
+  }
+
+  /**
+   * Acquire the pages of a revision, which have to be released once the transaction is closed.
+   *
+   * @param revision the revision
+   * @param loader   loads the pages of the revision, if they aren't pooled
+   * @return the pages of the revision
+   */
+  public RevisionRoot acquire(final int revision, final IntFunction<RevisionRoot> loader) {
+    synchronized (this) {
+      final Entry entry = revisions.get(revision);
+      if (entry != null) {
+        entry.references++;
+        return entry.revisionRoot;
+      }
+    }
+
+    // Load the pages without blocking transactions on other revisions.
+    final RevisionRoot revisionRoot = checkNotNull(loader.apply(revision));
+
+    synchronized (this) {
+      // Another transaction might have loaded the revision in the meantime.
+      final Entry entry = revisions.computeIfAbsent(revision, unused -> new Entry(revisionRoot));
+      entry.references++;
+      return entry.revisionRoot;
+    }
+  }
+
+  /**
+   * Release the pages of a revision, which have been acquired before.
+   *
+   * @param revision     the revision
+   * @param revisionRoot the acquired pages
+   */
+  public synchronized void release(final int revision, final RevisionRoot revisionRoot) {
+    final Entry entry = revisions.get(revision);
+    // The pool might have been cleared in the meantime.
+    if (entry == null || entry.revisionRoot != revisionRoot) {
+      return;
+    }
+    if (--entry.references == 0) {
+      revisions.remove(revision);
+      unswizzle(entry.revisionRoot);
+    }
+  }
+
+  private static void unswizzle(final RevisionRoot revisionRoot) {
+    for (final PageReference reference : revisionRoot.revisionRootPage().getReferences()) {
+      if (reference != null) {
+        reference.setPage(null);
+      }
+    }
+  }
+
+  /**
+   * Get the number of pooled revisions.
+   *
+   * @return the number of revisions, which are in use
+   */
+  public synchronized int size() {
+    return revisions.size();
+  }
+
+  /**
+   * Remove all revisions from the pool.
+   */
+  public synchronized void clear() {
+    revisions.clear();
+  }
+}
@@ -1,15 +1,69 @@
 package org.sirix.access.trx.page;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.page.NamePage;
 import org.sirix.page.RevisionRootPage;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 public final class RevisionRootPageReader {
+
+  /**
+   * The pool to share the pages of committed revisions with other read-only transactions or {@code null}.
+   */
+  private final @Nullable RevisionRootPagePool pool;
+
+  /**
+   * The pages acquired from the pool.
+   */
+  private RevisionRootPagePool.@Nullable RevisionRoot revisionRoot;
+
+  private int revision;
+
+  /**
+   * Constructor, which reads the pages of each transaction on its own.
+   */
+  public RevisionRootPageReader() {
+    pool = null;
+  }
+
+  /**
+   * Constructor, which shares the pages of the revision with other read-only transactions.
+   *
+   * @param pool the pool of the resource session
+   */
+  public RevisionRootPageReader(final RevisionRootPagePool pool) {
+    this.pool = checkNotNull(pool);
+  }
+
   public RevisionRootPage loadRevisionRootPage(PageReadOnlyTrx rtx, int revisionNumber) {
-    return rtx.loadRevRoot(revisionNumber);
+    if (pool == null) {
+      return rtx.loadRevRoot(revisionNumber);
+    }
+
+    revisionRoot = pool.acquire(revisionNumber, revisionToLoad -> {
+      final RevisionRootPage revisionRootPage = rtx.loadRevRoot(revisionToLoad);
+      return new RevisionRootPagePool.RevisionRoot(revisionRootPage, rtx.getNamePage(revisionRootPage));
+    });
+    revision = revisionNumber;
+    return revisionRoot.revisionRootPage();
   }
 
   public NamePage getNamePage(PageReadOnlyTrx rtx, RevisionRootPage revisionRootPage) {
+    if (revisionRoot != null && revisionRoot.revisionRootPage() == revisionRootPage) {
+      return revisionRoot.namePage();
+    }
     return rtx.getNamePage(revisionRootPage);
   }
+
+  /**
+   * Release the pages acquired from the pool, once the transaction is closed.
+   */
+  public void release() {
+    if (revisionRoot != null) {
+      pool.release(revision, revisionRoot);
+      revisionRoot = null;
+    }
+  }
 }
@@ -10,6 +10,7 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
 
@@ -38,6 +39,30 @@ public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
 
   NodeTrx commit(@Nullable String commitMessage, @Nullable Instant commitTimeStamp);
 
+  /**
+   * Commit all modifications of the exclusive write transaction without waiting for the new revision to be durable.
+   * The new revision is forced to the storage device together with the revisions of other commits issued at about the
+   * same time, which amortizes the costs of forcing the pages (group commit). Read-only transactions read the revision,
+   * once it's durable. If it can't be forced, the transaction must be rolled back.
+   *
+   * @return a future of the number of the committed revision, which is completed once the revision is durable
+   * @throws SirixException if this revision couldn't be committed
+   */
+  default CompletableFuture<Integer> commitAsync() {
+    return commitAsync(null, null);
+  }
+
+  /**
+   * Commit all modifications of the exclusive write transaction without waiting for the new revision to be durable.
+   *
+   * @param commitMessage message of the commit
+   * @param commitTimeStamp the commit timestamp
+   * @return a future of the number of the committed revision, which is completed once the revision is durable
+   * @throws SirixException if this revision couldn't be committed
+   * @see #commitAsync()
+   */
+  CompletableFuture<Integer> commitAsync(@Nullable String commitMessage, @Nullable Instant commitTimeStamp);
+
   /**
    * Rollback all modifications of the exclusive write transaction.
    *
@@ -79,6 +104,17 @@ public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
    */
   NodeTrx truncateTo(int revision);
 
+  /**
+   * Defer the computation of the postorder hashes to the commit. Instead of computing the hashes of all ancestors with
+   * every modification, the hash of each modified node and ancestor is computed once, bottom-up. The hashes aren't
+   * up to date before the commit or before deferring is disabled. Only applies to {@code HashType.POSTORDER}.
+   *
+   * @param deferredHashing {@code true} to defer the computation of the hashes, {@code false} to compute the deferred
+   *                        hashes and to compute them with every modification afterwards
+   * @return NodeTrx return current instance
+   */
+  NodeTrx setDeferredHashing(boolean deferredHashing);
+
   /**
    * Get the {@link PathSummaryReader} associated with the current write transaction -- might be
    * {@code null} if no path summary index is used.
@@ -129,6 +129,14 @@ public interface PageReadOnlyTrx extends AutoCloseable {
    */
   Page getRecordPage(@NonNull IndexLogKey indexLogKey);
 
+  /**
+   * Set the number of record pages, which are read ahead asynchronously, once the record pages of the document index
+   * are accessed sequentially (for instance by a serializer or a descendant axis).
+   *
+   * @param prefetchWindow the number of record pages to read ahead, {@code 0} disables the read-ahead
+   */
+  void setRecordPagePrefetchWindow(@NonNegative int prefetchWindow);
+
   /**
    * Determines if transaction is closed or not.
    *
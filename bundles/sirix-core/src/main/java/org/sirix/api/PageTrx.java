@@ -16,6 +16,7 @@ import org.sirix.page.UberPage;
 
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for writing pages to disk and to create in-memory records.
@@ -128,6 +129,18 @@ public interface PageTrx extends PageReadOnlyTrx {
    */
   UberPage commit(@Nullable String commitMessage, @Nullable Instant commitTimeStamp);
 
+  /**
+   * Commit the transaction without waiting for the new revision to be durable. The new revision is written right
+   * away, but forced to the storage device together with the revisions of other commits issued at about the same
+   * time (group commit).
+   *
+   * @param commitMessage the commit message
+   * @param commitTimeStamp the commit timestamp
+   * @return a future of the revision after commit, which is completed once the revision is durable
+   * @throws SirixException if Sirix fails to commit
+   */
+  CompletableFuture<UberPage> commitAsync(@Nullable String commitMessage, @Nullable Instant commitTimeStamp);
+
   /**
    * Committing a {@link PageTrx}. This method is recursively invoked by all {@link PageReference}s.
    *
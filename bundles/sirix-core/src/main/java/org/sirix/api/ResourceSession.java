@@ -30,6 +30,7 @@ import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.cache.Cache;
 import org.sirix.cache.RBIndexKey;
+import org.sirix.cache.RecordPageCacheStatistics;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
@@ -377,4 +378,11 @@ public interface ResourceSession<R extends NodeReadOnlyTrx & NodeCursor, W exten
    * @return the cache
    */
   Cache<RBIndexKey, RBNode<?, ?>> getIndexCache();
+
+  /**
+   * Get the hit, miss and reconstruction counters of the record page cache of this resource.
+   *
+   * @return the record page cache statistics
+   */
+  RecordPageCacheStatistics getRecordPageCacheStatistics();
 }
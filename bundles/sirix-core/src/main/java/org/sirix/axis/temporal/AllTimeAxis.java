@@ -1,5 +1,6 @@
 package org.sirix.axis.temporal;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
@@ -12,7 +13,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
 /**
  * Retrieve a node by node key in all revisions. In each revision a {@link XmlNodeReadOnlyTrx} is
  * opened which is moved to the node with the given node key if it exists. Otherwise the iterator
- * has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the node by it's node key).
+ * has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the node by it's node key). If the
+ * node history is stored, only the revisions, in which the node has been created or changed, are
+ * opened, that is each version of the node is retrieved once (see {@link ChangedRevisionsAxis}).
  *
  * @author Johannes Lichtenberger
  *
@@ -32,6 +35,9 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Determines if node has been found before and now has been deleted. */
   private boolean hasMoved;
 
+  /** The axis retrieving the versions of the node or {@code null}, if the node history isn't stored. */
+  private final @Nullable ChangedRevisionsAxis<R, W> changedRevisionsAxis;
+
   /**
    * Constructor.
    *
@@ -42,18 +48,26 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
     this.resourceSession = checkNotNull(resourceSession);
     revision = 1;
     nodeKey = rtx.getNodeKey();
+    final int[] changedRevisions = ChangedRevisionsAxis.getRevisionsIfNodeHistoryIsStored(resourceSession, rtx);
+    changedRevisionsAxis =
+        changedRevisions == null ? null : new ChangedRevisionsAxis<>(resourceSession, nodeKey, changedRevisions);
   }
 
   @Override
   protected R computeNext() {
+    if (changedRevisionsAxis != null) {
+      return changedRevisionsAxis.hasNext() ? changedRevisionsAxis.next() : endOfData();
+    }
+
     while (revision <= resourceSession.getMostRecentRevisionNumber()) {
       final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
       revision++;
       if (rtx.moveTo(nodeKey)) {
         hasMoved = true;
         return rtx;
-      } else if (hasMoved) {
-        rtx.close();
+      }
+      rtx.close();
+      if (hasMoved) {
         return endOfData();
       }
     }
@@ -0,0 +1,198 @@
+package org.sirix.axis.temporal;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.access.trx.node.PageReadOnlyTrxPool;
+import org.sirix.access.trx.node.RecordToRevisionsIndex;
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.ResourceSession;
+import org.sirix.axis.AbstractTemporalAxis;
+import org.sirix.index.IndexType;
+import org.sirix.node.interfaces.DataRecord;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Retrieve a node by node key in all revisions, in which it has been created or changed (in ascending order). The
+ * revisions in between, in which the node hasn't been changed, aren't opened. If the node history is stored, the
+ * revisions are read from the record to revisions index. Otherwise, they are collected by following the previous
+ * revision numbers of the node, starting with the most recent revision. If the node history is stored, the other
+ * temporal axes (for instance the {@link AllTimeAxis}) retrieve the versions of a node through this axis, too.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ChangedRevisionsAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
+    extends AbstractTemporalAxis<R, W> {
+
+  /** Sirix {@link ResourceSession}. */
+  private final ResourceSession<R, W> resourceSession;
+
+  /** The pool to begin the transactions with or {@code null}, if each transaction reads on its own. */
+  private final @Nullable PageReadOnlyTrxPool<R, W> pool;
+
+  /** Node key to lookup and retrieve. */
+  private final long nodeKey;
+
+  /** The revisions, in which the node has been changed, determined once the first revision is requested. */
+  private int[] revisions;
+
+  /** The index of the next revision. */
+  private int index;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceSession the resource session
+   * @param rtx             the read only transactional cursor
+   */
+  public ChangedRevisionsAxis(final ResourceSession<R, W> resourceSession, final R rtx) {
+    this.resourceSession = checkNotNull(resourceSession);
+    pool = null;
+    nodeKey = rtx.getNodeKey();
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceSession the resource session
+   * @param rtx             the read only transactional cursor
+   * @param pool            the pool, which shares the page transaction of a revision with other cursors
+   */
+  public ChangedRevisionsAxis(final ResourceSession<R, W> resourceSession, final R rtx,
+      final PageReadOnlyTrxPool<R, W> pool) {
+    this.resourceSession = checkNotNull(resourceSession);
+    this.pool = checkNotNull(pool);
+    nodeKey = rtx.getNodeKey();
+  }
+
+  /**
+   * Constructor, which retrieves the node in the given revisions, in the given order. Used by the other temporal axes
+   * to only visit the revisions, in which the node has been changed.
+   *
+   * @param resourceSession the resource session
+   * @param nodeKey         the node key of the node
+   * @param revisions       the revisions, in which to retrieve the node
+   */
+  ChangedRevisionsAxis(final ResourceSession<R, W> resourceSession, final long nodeKey, final int[] revisions) {
+    this.resourceSession = checkNotNull(resourceSession);
+    this.revisions = checkNotNull(revisions);
+    this.nodeKey = nodeKey;
+    pool = null;
+  }
+
+  @Override
+  protected R computeNext() {
+    if (revisions == null) {
+      revisions = getRevisions(resourceSession, nodeKey);
+    }
+
+    while (index < revisions.length) {
+      final int revision = revisions[index++];
+      final R rtx = pool == null
+          ? resourceSession.beginNodeReadOnlyTrx(revision)
+          : pool.beginNodeReadOnlyTrx(revision);
+
+      if (rtx.moveTo(nodeKey)) {
+        return rtx;
+      }
+      rtx.close();
+    }
+
+    return endOfData();
+  }
+
+  @Override
+  public ResourceSession<R, W> getResourceManager() {
+    return resourceSession;
+  }
+
+  /**
+   * Get the revisions, in which a node has been created or changed and in which it exists, in ascending order. Only
+   * page transactions are opened to do so, without moving to the node in each revision.
+   *
+   * @param resourceSession the resource session
+   * @param nodeKey         the node key of the node
+   * @return the revisions
+   */
+  public static int[] getRevisions(final ResourceSession<?, ?> resourceSession, final long nodeKey) {
+    int[] revisions;
+    final boolean existsInMostRecentRevision;
+
+    try (final PageReadOnlyTrx pageTrx = resourceSession.beginPageReadOnlyTrx()) {
+      revisions = RecordToRevisionsIndex.getRevisions(pageTrx, nodeKey);
+      existsInMostRecentRevision = pageTrx.getRecord(nodeKey, IndexType.DOCUMENT, -1) != null;
+    }
+
+    if (revisions != null) {
+      // A record might be changed multiple times within a revision.
+      revisions = Arrays.stream(revisions).distinct().toArray();
+
+      // The last revision might be the one, in which the node has been removed.
+      final int lastRevision = revisions[revisions.length - 1];
+      if (!existsInMostRecentRevision && !existsInRevision(resourceSession, nodeKey, lastRevision)) {
+        revisions = Arrays.copyOf(revisions, revisions.length - 1);
+      }
+
+      return revisions;
+    }
+
+    final IntArrayList changedRevisions = new IntArrayList();
+    int revision = resourceSession.getMostRecentRevisionNumber();
+    while (revision > 0) {
+      try (final PageReadOnlyTrx pageTrx = resourceSession.beginPageReadOnlyTrx(revision)) {
+        final DataRecord record = pageTrx.getRecord(nodeKey, IndexType.DOCUMENT, -1);
+
+        if (record == null) {
+          revision--;
+        } else {
+          changedRevisions.add(revision);
+          revision = Math.min(record.getPreviousRevisionNumber(), revision - 1);
+        }
+      }
+    }
+
+    return IntArrays.reverse(changedRevisions.toIntArray());
+  }
+
+  /**
+   * Get the revisions, in which the node the cursor is located at has been created or changed and in which it exists,
+   * if the node history is stored.
+   *
+   * @param resourceSession the resource session
+   * @param rtx             the cursor located at the node
+   * @return the revisions in ascending order or {@code null}, if the node history isn't stored
+   */
+  static int @Nullable [] getRevisionsIfNodeHistoryIsStored(final ResourceSession<?, ?> resourceSession,
+      final NodeReadOnlyTrx rtx) {
+    if (!resourceSession.getResourceConfig().storeNodeHistory()) {
+      return null;
+    }
+    return getRevisions(resourceSession, rtx.getNodeKey());
+  }
+
+  /**
+   * Get the index of the revision, in which the version of the node in the given revision has been created or
+   * changed, that is the index of the greatest revision less than or equal to the given revision.
+   *
+   * @param revisions the revisions, in which the node has been created or changed, in ascending order
+   * @param revision  the revision of the node
+   * @return the index or {@code -1}, if the node has been created after the given revision
+   */
+  static int getIndexOfVersion(final int[] revisions, final int revision) {
+    final int index = Arrays.binarySearch(revisions, revision);
+    return index >= 0 ? index : -index - 2;
+  }
+
+  private static boolean existsInRevision(final ResourceSession<?, ?> resourceSession, final long nodeKey,
+      final int revision) {
+    try (final PageReadOnlyTrx pageTrx = resourceSession.beginPageReadOnlyTrx(revision)) {
+      return pageTrx.getRecord(nodeKey, IndexType.DOCUMENT, -1) != null;
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package org.sirix.axis.temporal;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
@@ -14,7 +17,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Retrieve a node by node key in all future revisions. In each revision a
  * {@link XmlNodeReadOnlyTrx} is opened which is moved to the node with the given node key if it
  * exists. Otherwise the iterator has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the
- * node by it's node key).
+ * node by it's node key). If the node history is stored, only the revisions, in which the later
+ * versions of the node have been changed, are opened (see {@link ChangedRevisionsAxis}).
  *
  * @author Johannes Lichtenberger
  *
@@ -31,6 +35,9 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The axis retrieving the versions of the node or {@code null}, if the node history isn't stored. */
+  private final @Nullable ChangedRevisionsAxis<R, W> changedRevisionsAxis;
+
   /**
    * Constructor.
    *
@@ -54,10 +61,31 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
     revision = checkNotNull(includeSelf) == IncludeSelf.YES
         ? rtx.getRevisionNumber()
         : rtx.getRevisionNumber() + 1;
+
+    final int[] changedRevisions = ChangedRevisionsAxis.getRevisionsIfNodeHistoryIsStored(resourceSession, rtx);
+
+    if (changedRevisions == null) {
+      changedRevisionsAxis = null;
+    } else {
+      // The revisions of the later versions in ascending order, preceded by the current revision, if included.
+      final int indexOfVersion = ChangedRevisionsAxis.getIndexOfVersion(changedRevisions, rtx.getRevisionNumber());
+      final IntList revisions = new IntArrayList();
+      if (includeSelf == IncludeSelf.YES) {
+        revisions.add(rtx.getRevisionNumber());
+      }
+      for (int i = indexOfVersion + 1; i < changedRevisions.length; i++) {
+        revisions.add(changedRevisions[i]);
+      }
+      changedRevisionsAxis = new ChangedRevisionsAxis<>(resourceSession, nodeKey, revisions.toIntArray());
+    }
   }
 
   @Override
   protected R computeNext() {
+    if (changedRevisionsAxis != null) {
+      return changedRevisionsAxis.hasNext() ? changedRevisionsAxis.next() : endOfData();
+    }
+
     // != a little bit faster?
     if (revision <= resourceSession.getMostRecentRevisionNumber()) {
       final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
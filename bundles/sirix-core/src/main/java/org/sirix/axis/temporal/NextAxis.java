@@ -1,5 +1,6 @@
 package org.sirix.axis.temporal;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
@@ -9,7 +10,9 @@ import org.sirix.axis.AbstractTemporalAxis;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Open the next revision and try to move to the node with the given node key.
+ * Open the next revision and try to move to the node with the given node key. If the node history
+ * is stored, the revision, in which the next version of the node has been changed, is opened instead
+ * (see {@link ChangedRevisionsAxis}).
  *
  * @author Johannes Lichtenberger
  *
@@ -29,6 +32,9 @@ public final class NextAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The axis retrieving the versions of the node or {@code null}, if the node history isn't stored. */
+  private final @Nullable ChangedRevisionsAxis<R, W> changedRevisionsAxis;
+
   /**
    * Constructor.
    *
@@ -40,10 +46,26 @@ public final class NextAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     nodeKey = rtx.getNodeKey();
     revision = rtx.getRevisionNumber() + 1;
     first = true;
+
+    final int[] changedRevisions = ChangedRevisionsAxis.getRevisionsIfNodeHistoryIsStored(resourceSession, rtx);
+
+    if (changedRevisions == null) {
+      changedRevisionsAxis = null;
+    } else {
+      final int indexOfVersion = ChangedRevisionsAxis.getIndexOfVersion(changedRevisions, rtx.getRevisionNumber());
+      final int[] revisions = indexOfVersion + 1 < changedRevisions.length
+          ? new int[] { changedRevisions[indexOfVersion + 1] }
+          : new int[0];
+      changedRevisionsAxis = new ChangedRevisionsAxis<>(resourceSession, nodeKey, revisions);
+    }
   }
 
   @Override
   protected R computeNext() {
+    if (changedRevisionsAxis != null) {
+      return changedRevisionsAxis.hasNext() ? changedRevisionsAxis.next() : endOfData();
+    }
+
     if (revision <= resourceSession.getMostRecentRevisionNumber() && first) {
       first = false;
 
@@ -1,5 +1,8 @@
 package org.sirix.axis.temporal;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.NodeTrx;
@@ -14,7 +17,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Retrieve a node by node key in all earlier revisions. In each revision a
  * {@link XmlNodeReadOnlyTrx} is opened which is moved to the node with the given node key if it
  * exists. Otherwise the iterator has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the
- * node by it's node key).
+ * node by it's node key). If the node history is stored, only the revisions, in which the earlier
+ * versions of the node have been created or changed, are opened (see {@link ChangedRevisionsAxis}).
  *
  * @author Johannes Lichtenberger
  *
@@ -31,6 +35,9 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The axis retrieving the versions of the node or {@code null}, if the node history isn't stored. */
+  private final @Nullable ChangedRevisionsAxis<R, W> changedRevisionsAxis;
+
   /**
    * Constructor.
    *
@@ -50,15 +57,35 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   public PastAxis(final ResourceSession<R, W> resourceSession, final R rtx, final IncludeSelf includeSelf) {
     this.resourceSession = checkNotNull(resourceSession);
-    revision = 0;
     nodeKey = rtx.getNodeKey();
     revision = checkNotNull(includeSelf) == IncludeSelf.YES
         ? rtx.getRevisionNumber()
         : rtx.getRevisionNumber() - 1;
+
+    final int[] changedRevisions = ChangedRevisionsAxis.getRevisionsIfNodeHistoryIsStored(resourceSession, rtx);
+
+    if (changedRevisions == null) {
+      changedRevisionsAxis = null;
+    } else {
+      // The revisions of the earlier versions in descending order, preceded by the current revision, if included.
+      final int indexOfVersion = ChangedRevisionsAxis.getIndexOfVersion(changedRevisions, rtx.getRevisionNumber());
+      final IntList revisions = new IntArrayList();
+      if (includeSelf == IncludeSelf.YES) {
+        revisions.add(rtx.getRevisionNumber());
+      }
+      for (int i = indexOfVersion - 1; i >= 0; i--) {
+        revisions.add(changedRevisions[i]);
+      }
+      changedRevisionsAxis = new ChangedRevisionsAxis<>(resourceSession, nodeKey, revisions.toIntArray());
+    }
   }
 
   @Override
   protected R computeNext() {
+    if (changedRevisionsAxis != null) {
+      return changedRevisionsAxis.hasNext() ? changedRevisionsAxis.next() : endOfData();
+    }
+
     if (revision > 0) {
       final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
       revision--;
@@ -19,5 +19,12 @@ public interface BufferManager extends AutoCloseable {
 
   Cache<Integer, PathSummaryData> getPathSummaryCache();
 
+  /**
+   * Get the hit, miss and reconstruction counters of the record page cache.
+   *
+   * @return the record page cache statistics
+   */
+  RecordPageCacheStatistics getRecordPageCacheStatistics();
+
   void clearAllCaches();
 }
@@ -1,22 +1,27 @@
 package org.sirix.cache;
 
+import org.sirix.index.name.Names;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
 import org.sirix.page.interfaces.Page;
 
+import java.nio.file.Path;
+
 public final class BufferManagerImpl implements BufferManager {
-  private final PageCache pageCache;
+  private final Cache<PageReference, Page> pageCache;
+
+  private final Cache<PageReference, Page> recordPageCache;
 
-  private final RecordPageCache recordPageCache;
+  private final Cache<Integer, RevisionRootPage> revisionRootPageCache;
 
-  private final RevisionRootPageCache revisionRootPageCache;
+  private final Cache<RBIndexKey, RBNode<?, ?>> redBlackTreeNodeCache;
 
-  private final RedBlackTreeNodeCache redBlackTreeNodeCache;
+  private final Cache<NamesCacheKey, Names> namesCache;
 
-  private final NamesCache namesCache;
+  private final Cache<Integer, PathSummaryData> pathSummaryCache;
 
-  private final PathSummaryCache pathSummaryCache;
+  private final RecordPageCacheStatistics recordPageCacheStatistics = new RecordPageCacheStatistics();
 
   public BufferManagerImpl(int maxPageCacheSize, int maxRecordPageCacheSize,
       int maxRevisionRootPageCache, int maxRBTreeNodeCache, int maxNamesCacheSize, int maxPathSummaryCacheSize) {
@@ -28,6 +33,21 @@ public final class BufferManagerImpl implements BufferManager {
     pathSummaryCache = new PathSummaryCache(maxPathSummaryCacheSize);
   }
 
+  /**
+   * Constructor, which creates the caches as views on a buffer pool shared by all resources of a database.
+   *
+   * @param bufferPool the buffer pool of the database
+   * @param resource   the resource path
+   */
+  public BufferManagerImpl(BufferPool bufferPool, Path resource) {
+    pageCache = bufferPool.newCache(resource, BufferPool.CacheKind.PAGE);
+    recordPageCache = bufferPool.newCache(resource, BufferPool.CacheKind.RECORD_PAGE);
+    revisionRootPageCache = bufferPool.newCache(resource, BufferPool.CacheKind.REVISION_ROOT_PAGE);
+    redBlackTreeNodeCache = bufferPool.newCache(resource, BufferPool.CacheKind.RED_BLACK_TREE_NODE);
+    namesCache = bufferPool.newCache(resource, BufferPool.CacheKind.NAMES);
+    pathSummaryCache = bufferPool.newCache(resource, BufferPool.CacheKind.PATH_SUMMARY);
+  }
+
   @Override
   public Cache<PageReference, Page> getPageCache() {
     return pageCache;
@@ -49,15 +69,20 @@ public final class BufferManagerImpl implements BufferManager {
   }
 
   @Override
-  public NamesCache getNamesCache() {
+  public Cache<NamesCacheKey, Names> getNamesCache() {
     return namesCache;
   }
 
   @Override
-  public PathSummaryCache getPathSummaryCache() {
+  public Cache<Integer, PathSummaryData> getPathSummaryCache() {
     return pathSummaryCache;
   }
 
+  @Override
+  public RecordPageCacheStatistics getRecordPageCacheStatistics() {
+    return recordPageCacheStatistics;
+  }
+
   @Override
   public void close() {
   }
@@ -70,5 +95,6 @@ public final class BufferManagerImpl implements BufferManager {
     redBlackTreeNodeCache.clear();
     namesCache.clear();
     pathSummaryCache.clear();
+    recordPageCacheStatistics.reset();
   }
 }
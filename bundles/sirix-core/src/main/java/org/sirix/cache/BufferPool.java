@@ -0,0 +1,373 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.CacheWriter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.index.name.Names;
+import org.sirix.index.redblacktree.RBNode;
+import org.sirix.page.KeyValueLeafPage;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A buffer pool, which is shared by all resources of a database and which is bounded by an (estimated) number of
+ * bytes instead of a number of entries.
+ *
+ * <p>The pool is split into two regions. The first region holds the "hot" inner pages of the page trees (that is
+ * {@link org.sirix.page.IndirectPage}s, {@link RevisionRootPage}s, name and path summary pages), the names and the path
+ * summary data. The second region holds the leaf pages ({@link KeyValueLeafPage}s, {@link OverflowPage}s) and the
+ * red-black tree nodes of the indexes. Thus, scanning a lot of leaf pages never evicts the inner pages of the trees,
+ * which are needed to find any leaf page.</p>
+ *
+ * <p>Each resource gets its own view on the pool, see {@link BufferManagerImpl}. The keys of the entries are indexed
+ * per resource and kind of cache, such that clearing the caches of a resource doesn't scan the whole pool.</p>
+ *
+ * <p>The pool holds the deserialized pages on the heap, not off-heap images of the serialized pages. A hit thus
+ * doesn't have to deserialize (and decompress) the page again and the records of a page, which have been
+ * deserialized lazily, are kept. The estimated sizes bound the heap used by the pool instead.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class BufferPool {
+
+  /**
+   * The default share of the memory budget reserved for inner pages of the page trees.
+   */
+  public static final double DEFAULT_INNER_PAGES_SHARE = 0.25;
+
+  /**
+   * Estimated overhead of an object (header, some fields, reference to it).
+   */
+  private static final int OBJECT_OVERHEAD = 64;
+
+  /**
+   * Estimated size of a {@link RevisionRootPage} including its direct references.
+   */
+  private static final int REVISION_ROOT_PAGE_SIZE = 2_048;
+
+  /**
+   * Estimated size of a {@link Names} instance, which isn't able to report its size.
+   */
+  private static final int NAMES_SIZE = 65_536;
+
+  /**
+   * Estimated size of a single path node in the path summary.
+   */
+  private static final int PATH_NODE_SIZE = 256;
+
+  /**
+   * The kind of cache, a key belongs to.
+   */
+  enum CacheKind {
+    PAGE,
+
+    RECORD_PAGE,
+
+    REVISION_ROOT_PAGE,
+
+    RED_BLACK_TREE_NODE,
+
+    NAMES,
+
+    PATH_SUMMARY
+  }
+
+  /**
+   * The key of an entry in the pool.
+   *
+   * @param resource the resource the entry belongs to
+   * @param kind     the kind of cache
+   * @param key      the key in the cache
+   */
+  record PoolKey(Path resource, CacheKind kind, Object key) {
+  }
+
+  /**
+   * A cache of a resource.
+   *
+   * @param resource the resource
+   * @param kind     the kind of cache
+   */
+  private record ResourceCache(Path resource, CacheKind kind) {
+  }
+
+  /**
+   * Inner pages of the page trees.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<PoolKey, WeightedValue<?>> innerPages;
+
+  /**
+   * Leaf pages and red-black tree nodes.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<PoolKey, WeightedValue<?>> leafPages;
+
+  /**
+   * The keys of the entries in the pool per cache of a resource.
+   */
+  private final ConcurrentMap<ResourceCache, Set<PoolKey>> poolKeys;
+
+  /**
+   * The maximum size of the pool in bytes.
+   */
+  private final long maxSizeInBytes;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSizeInBytes the maximum (estimated) size of all cached entries in bytes
+   */
+  public BufferPool(final long maxSizeInBytes) {
+    this(maxSizeInBytes, DEFAULT_INNER_PAGES_SHARE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSizeInBytes  the maximum (estimated) size of all cached entries in bytes
+   * @param innerPagesShare the share of the budget reserved for inner pages, between {@code 0} and {@code 1}
+   */
+  public BufferPool(final long maxSizeInBytes, final double innerPagesShare) {
+    checkArgument(maxSizeInBytes > 0, "The maximum size must be > 0.");
+    checkArgument(innerPagesShare > 0 && innerPagesShare < 1, "The share of inner pages must be between 0 and 1.");
+    this.maxSizeInBytes = maxSizeInBytes;
+    poolKeys = new ConcurrentHashMap<>();
+
+    final long maxSizeOfInnerPages = (long) (maxSizeInBytes * innerPagesShare);
+    final var poolKeyIndex = new PoolKeyIndex();
+
+    innerPages = Caffeine.newBuilder()
+                         .maximumWeight(maxSizeOfInnerPages)
+                         .weigher((PoolKey key, WeightedValue<?> value) -> weigh(value))
+                         .writer(poolKeyIndex)
+                         .removalListener(BufferPool::onRemoval)
+                         .build();
+    leafPages = Caffeine.newBuilder()
+                        .maximumWeight(maxSizeInBytes - maxSizeOfInnerPages)
+                        .weigher((PoolKey key, WeightedValue<?> value) -> weigh(value))
+                        .writer(poolKeyIndex)
+                        .removalListener(BufferPool::onRemoval)
+                        .build();
+  }
+
+  /**
+   * Get the maximum size of the pool in bytes.
+   *
+   * @return the maximum size of the pool in bytes
+   */
+  public long getMaxSizeInBytes() {
+    return maxSizeInBytes;
+  }
+
+  /**
+   * Get the (estimated) size of all cached entries in bytes.
+   *
+   * @return the estimated size in bytes
+   */
+  public long getEstimatedSizeInBytes() {
+    return weightedSize(innerPages) + weightedSize(leafPages);
+  }
+
+  private static long weightedSize(final com.github.benmanes.caffeine.cache.Cache<PoolKey, WeightedValue<?>> cache) {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  /**
+   * Create a new view on the pool for a cache of a resource.
+   *
+   * @param resource the resource
+   * @param kind     the kind of cache
+   * @param <K>      the key type
+   * @param <V>      the value type
+   * @return the view
+   */
+  <K, V> Cache<K, V> newCache(final Path resource, final CacheKind kind) {
+    return new BufferPoolCache<>(this, requireNonNull(resource), requireNonNull(kind));
+  }
+
+  @Nullable
+  Object get(final PoolKey key) {
+    final WeightedValue<?> value = switch (key.kind()) {
+      case RECORD_PAGE, RED_BLACK_TREE_NODE -> leafPages.getIfPresent(key);
+      case REVISION_ROOT_PAGE, NAMES, PATH_SUMMARY -> innerPages.getIfPresent(key);
+      case PAGE -> {
+        // Either an inner page or a page fragment of a leaf page.
+        final WeightedValue<?> innerPage = innerPages.getIfPresent(key);
+        yield innerPage == null ? leafPages.getIfPresent(key) : innerPage;
+      }
+    };
+    return value == null ? null : value.value();
+  }
+
+  void put(final PoolKey key, final Object value, final int reconstructionCost) {
+    final WeightedValue<?> weightedValue = new WeightedValue<>(value, reconstructionCost);
+    if (isLeaf(value)) {
+      WeightedValue.put(leafPages, key, weightedValue);
+    } else {
+      WeightedValue.put(innerPages, key, weightedValue);
+    }
+  }
+
+  void remove(final PoolKey key) {
+    innerPages.invalidate(key);
+    leafPages.invalidate(key);
+  }
+
+  /**
+   * Remove all entries of a specific cache of a resource.
+   *
+   * @param resource the resource
+   * @param kind     the kind of cache
+   */
+  void clear(final Path resource, final CacheKind kind) {
+    final Set<PoolKey> keys = poolKeys.get(new ResourceCache(resource, kind));
+    if (keys == null || keys.isEmpty()) {
+      return;
+    }
+    // The keys are removed from the index, while the entries are invalidated.
+    final List<PoolKey> keysToInvalidate = List.copyOf(keys);
+    innerPages.invalidateAll(keysToInvalidate);
+    leafPages.invalidateAll(keysToInvalidate);
+  }
+
+  /**
+   * Remove all entries of a resource.
+   *
+   * @param resource the resource
+   */
+  public void clear(final Path resource) {
+    for (final CacheKind kind : CacheKind.values()) {
+      clear(resource, kind);
+    }
+  }
+
+  /**
+   * Perform any pending maintenance operations, as for instance evictions.
+   */
+  void cleanUp() {
+    innerPages.cleanUp();
+    leafPages.cleanUp();
+  }
+
+  /**
+   * Remove all entries.
+   */
+  public void clear() {
+    innerPages.invalidateAll();
+    leafPages.invalidateAll();
+  }
+
+  private static boolean isLeaf(final Object value) {
+    return value instanceof KeyValueLeafPage || value instanceof OverflowPage || value instanceof RBNode<?, ?>;
+  }
+
+  /**
+   * Weigh a cached entry by its estimated size in bytes, such that the byte budget bounds the memory used by the cached
+   * entries. Pages, which are combined from several page fragments, aren't discounted, but favored by the eviction
+   * policy instead, see {@link WeightedValue#put}.
+   *
+   * @param weightedValue the cached value and its reconstruction cost
+   * @return the weight
+   */
+  static int weigh(final WeightedValue<?> weightedValue) {
+    return Math.max(1, estimateSizeInBytes(weightedValue.value()));
+  }
+
+  /**
+   * Estimate the size of a cached entry in bytes.
+   *
+   * @param value the cached value
+   * @return the estimated size in bytes
+   */
+  static int estimateSizeInBytes(final Object value) {
+    if (value instanceof KeyValueLeafPage page) {
+      long size = OBJECT_OVERHEAD + 3L * Constants.NDP_NODE_COUNT * Long.BYTES;
+      for (final byte[] slot : page.slots()) {
+        if (slot != null) {
+          size += slot.length + OBJECT_OVERHEAD;
+        }
+      }
+      for (final byte[] deweyId : page.deweyIds()) {
+        if (deweyId != null) {
+          size += deweyId.length + OBJECT_OVERHEAD;
+        }
+      }
+      for (final var record : page.records()) {
+        if (record != null) {
+          size += OBJECT_OVERHEAD;
+        }
+      }
+      return (int) Math.min(size, Integer.MAX_VALUE);
+    } else if (value instanceof OverflowPage page) {
+      return OBJECT_OVERHEAD + page.getData().length;
+    } else if (value instanceof RevisionRootPage) {
+      return REVISION_ROOT_PAGE_SIZE;
+    } else if (value instanceof Page page) {
+      return OBJECT_OVERHEAD + page.getReferences().size() * (OBJECT_OVERHEAD + Long.BYTES);
+    } else if (value instanceof Names) {
+      return NAMES_SIZE;
+    } else if (value instanceof PathSummaryData pathSummaryData) {
+      final int numberOfPathNodes = pathSummaryData.qnmMapping().values().stream().mapToInt(Set::size).sum();
+      return OBJECT_OVERHEAD + numberOfPathNodes * PATH_NODE_SIZE;
+    }
+    return OBJECT_OVERHEAD;
+  }
+
+  /**
+   * Indexes the keys of the entries per cache of a resource. Called atomically with the operation, which writes or
+   * removes an entry.
+   */
+  private final class PoolKeyIndex implements CacheWriter<PoolKey, WeightedValue<?>> {
+    @Override
+    public void write(final PoolKey key, final WeightedValue<?> value) {
+      poolKeys.computeIfAbsent(new ResourceCache(key.resource(), key.kind()), unused -> ConcurrentHashMap.newKeySet())
+              .add(key);
+    }
+
+    @Override
+    public void delete(final PoolKey key, final @Nullable WeightedValue<?> value, final RemovalCause cause) {
+      if (cause == RemovalCause.REPLACED) {
+        return;
+      }
+      final Set<PoolKey> keys = poolKeys.get(new ResourceCache(key.resource(), key.kind()));
+      if (keys != null) {
+        keys.remove(key);
+      }
+    }
+  }
+
+  private static void onRemoval(final @Nullable PoolKey key, final @Nullable WeightedValue<?> value,
+      final RemovalCause cause) {
+    assert key != null;
+    switch (key.kind()) {
+      case PAGE, RECORD_PAGE -> ((PageReference) key.key()).setPage(null);
+      case RED_BLACK_TREE_NODE -> {
+        assert value != null;
+        final RBNode<?, ?> node = (RBNode<?, ?>) value.value();
+        final RBNode<?, ?> parent = node.getParent();
+
+        if (parent != null) {
+          if (node.equals(parent.getLeftChild())) {
+            parent.setLeftChild(null);
+          } else if (node.equals(parent.getRightChild())) {
+            parent.setRightChild(null);
+          }
+        }
+      }
+      default -> {
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package org.sirix.cache;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A view on the {@link BufferPool} for one cache of a specific resource.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Johannes Lichtenberger
+ */
+final class BufferPoolCache<K, V> implements Cache<K, V> {
+
+  private final BufferPool bufferPool;
+
+  private final Path resource;
+
+  private final BufferPool.CacheKind kind;
+
+  BufferPoolCache(final BufferPool bufferPool, final Path resource, final BufferPool.CacheKind kind) {
+    this.bufferPool = bufferPool;
+    this.resource = resource;
+    this.kind = kind;
+  }
+
+  private BufferPool.PoolKey poolKey(final K key) {
+    return new BufferPool.PoolKey(resource, kind, key);
+  }
+
+  @Override
+  public void clear() {
+    bufferPool.clear(resource, kind);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public V get(final K key) {
+    return (V) bufferPool.get(poolKey(key));
+  }
+
+  @Override
+  public void put(final K key, final @NonNull V value) {
+    bufferPool.put(poolKey(key), value, 1);
+  }
+
+  @Override
+  public void put(final K key, final @NonNull V value, final @NonNegative int reconstructionCost) {
+    bufferPool.put(poolKey(key), value, reconstructionCost);
+  }
+
+  @Override
+  public void putAll(final Map<? extends K, ? extends V> map) {
+    map.forEach(this::put);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<K, V> getAll(final Iterable<? extends K> keys) {
+    final Map<K, V> values = new HashMap<>();
+    for (final K key : keys) {
+      final V value = get(key);
+      if (value != null) {
+        values.put(key, value);
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public void remove(final K key) {
+    bufferPool.remove(poolKey(key));
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -21,6 +21,7 @@
 
 package org.sirix.cache;
 
+import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Map;
@@ -58,6 +59,17 @@ public interface Cache<K, V> {
    */
   void put(K key, @NonNull V value);
 
+  /**
+   * Putting a key/value into the cache, which is more costly to recreate than others.
+   *
+   * @param key                for putting the value in the cache
+   * @param value              should be putted in the cache as well
+   * @param reconstructionCost the cost to recreate the value, for instance the number of page fragments combined
+   */
+  default void put(K key, @NonNull V value, @NonNegative int reconstructionCost) {
+    put(key, value);
+  }
+
   /**
    * Put all entries from a map into the cache.
    *
@@ -3,29 +3,32 @@ package org.sirix.cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
+import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.sirix.page.PageReference;
 import org.sirix.page.interfaces.Page;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 public final class RecordPageCache implements Cache<PageReference, Page> {
 
-  private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
+  private final com.github.benmanes.caffeine.cache.Cache<PageReference, WeightedValue<Page>> pageCache;
 
+  /**
+   * Constructor. Entries are only evicted if the cache is full. Admission and eviction are frequency-aware (W-TinyLFU)
+   * and pages, which have been combined from more page fragments, are favored.
+   *
+   * @param maxSize the maximum number of pages
+   */
   public RecordPageCache(final int maxSize) {
-    final RemovalListener<PageReference, Page> removalListener = (PageReference key, Page value, RemovalCause cause) -> {
-      assert key != null;
-      key.setPage(null);
-    };
+    final RemovalListener<PageReference, WeightedValue<Page>> removalListener =
+        (PageReference key, WeightedValue<Page> value, RemovalCause cause) -> {
+          assert key != null;
+          key.setPage(null);
+        };
 
-    pageCache = Caffeine.newBuilder()
-                        .maximumSize(maxSize)
-                        .expireAfterWrite(15, TimeUnit.SECONDS)
-                        .expireAfterAccess(15, TimeUnit.SECONDS)
-                        .removalListener(removalListener)
-                        .build();
+    pageCache = Caffeine.newBuilder().maximumSize(maxSize).removalListener(removalListener).build();
   }
 
   @Override
@@ -35,17 +38,23 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
 
   @Override
   public Page get(PageReference key) {
-    return pageCache.getIfPresent(key);
+    final WeightedValue<Page> value = pageCache.getIfPresent(key);
+    return value == null ? null : value.value();
   }
 
   @Override
   public void put(PageReference key, @NonNull Page value) {
-    pageCache.put(key, value);
+    put(key, value, 1);
+  }
+
+  @Override
+  public void put(PageReference key, @NonNull Page value, @NonNegative int reconstructionCost) {
+    WeightedValue.put(pageCache, key, new WeightedValue<>(value, reconstructionCost));
   }
 
   @Override
   public void putAll(Map<? extends PageReference, ? extends Page> map) {
-    pageCache.putAll(map);
+    map.forEach(this::put);
   }
 
   @Override
@@ -55,7 +64,9 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
 
   @Override
   public Map<PageReference, Page> getAll(Iterable<? extends PageReference> keys) {
-    return pageCache.getAllPresent(keys);
+    final Map<PageReference, Page> pages = new HashMap<>();
+    pageCache.getAllPresent(keys).forEach((key, value) -> pages.put(key, value.value()));
+    return pages;
   }
 
   @Override
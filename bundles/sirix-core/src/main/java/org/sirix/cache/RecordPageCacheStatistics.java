@@ -0,0 +1,109 @@
+package org.sirix.cache;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and reconstruction counters of the record page cache of a resource. A miss results in a reconstruction,
+ * that is reading the page fragments and combining them according to the versioning approach. Pages, which aren't
+ * cached, but have been read ahead by the prefetcher, are counted separately as prefetch hits.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RecordPageCacheStatistics {
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder prefetchHits = new LongAdder();
+
+  private final LongAdder reconstructions = new LongAdder();
+
+  private final LongAdder combinedPageFragments = new LongAdder();
+
+  /**
+   * Record a cache hit.
+   */
+  public void recordHit() {
+    hits.increment();
+  }
+
+  /**
+   * Record a cache miss.
+   */
+  public void recordMiss() {
+    misses.increment();
+  }
+
+  /**
+   * Record a page, which hasn't been cached, but has been read ahead by the prefetcher.
+   */
+  public void recordPrefetchHit() {
+    prefetchHits.increment();
+  }
+
+  /**
+   * Record the reconstruction of a record page.
+   *
+   * @param numberOfPageFragments the number of page fragments, which have been combined
+   */
+  public void recordReconstruction(final int numberOfPageFragments) {
+    reconstructions.increment();
+    combinedPageFragments.add(numberOfPageFragments);
+  }
+
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  public long missCount() {
+    return misses.sum();
+  }
+
+  public long prefetchHitCount() {
+    return prefetchHits.sum();
+  }
+
+  public long reconstructionCount() {
+    return reconstructions.sum();
+  }
+
+  public long combinedPageFragmentsCount() {
+    return combinedPageFragments.sum();
+  }
+
+  /**
+   * Get the ratio of hits to all requests or {@code 1.0} if there hasn't been any request.
+   *
+   * @return the hit rate
+   */
+  public double hitRate() {
+    final long hitCount = hitCount();
+    final long requestCount = hitCount + missCount();
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  /**
+   * Reset all counters.
+   */
+  public void reset() {
+    hits.reset();
+    misses.reset();
+    prefetchHits.reset();
+    reconstructions.reset();
+    combinedPageFragments.reset();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("hits", hitCount())
+                      .add("misses", missCount())
+                      .add("prefetchHits", prefetchHitCount())
+                      .add("reconstructions", reconstructionCount())
+                      .add("combinedPageFragments", combinedPageFragmentsCount())
+                      .toString();
+  }
+}
@@ -0,0 +1,39 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * A cached value together with the cost to recreate it.
+ *
+ * @param value              the cached value
+ * @param reconstructionCost the cost to recreate the value (for instance the number of page fragments combined)
+ * @param <V>                the value type
+ * @author Johannes Lichtenberger
+ */
+record WeightedValue<V>(V value, int reconstructionCost) {
+
+  /**
+   * Reconstruction cost from which on values aren't favored any more.
+   */
+  static final int MAX_RECONSTRUCTION_COST = 8;
+
+  /**
+   * Put a value into a cache, which is bounded by the number or the size of its values. The access frequency of the
+   * value is raised by its (capped) reconstruction cost, such that the frequency-aware admission and eviction
+   * (W-TinyLFU) retains values, which are costly to recreate, longer.
+   *
+   * @param cache the cache
+   * @param key   the key
+   * @param value the value
+   * @param <K>   the key type
+   * @param <W>   the type of the weighted value
+   */
+  static <K, W extends WeightedValue<?>> void put(final Cache<K, W> cache, final K key, final W value) {
+    cache.put(key, value);
+
+    final int reconstructionCost = Math.min(value.reconstructionCost(), MAX_RECONSTRUCTION_COST);
+    for (int i = 1; i < reconstructionCost; i++) {
+      cache.getIfPresent(key);
+    }
+  }
+}
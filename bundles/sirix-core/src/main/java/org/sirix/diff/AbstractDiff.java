@@ -21,6 +21,8 @@
 
 package org.sirix.diff;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.sirix.access.trx.node.HashType;
@@ -36,6 +38,13 @@ import org.sirix.diff.DiffFactory.DiffType;
 import org.sirix.exception.SirixException;
 import org.sirix.node.NodeKind;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -153,6 +162,16 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   private final boolean skipSubtrees;
 
+  /**
+   * Executor to diff subtrees in parallel or {@code null} to diff sequentially.
+   */
+  private final Executor executor;
+
+  /**
+   * {@link Builder} reference, to set up the diffs of subtrees.
+   */
+  private final Builder<R, W> builder;
+
   /**
    * Constructor.
    *
@@ -160,8 +179,10 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    * @throws SirixException if setting up transactions failes
    */
   AbstractDiff(final Builder<R, W> builder) throws SirixException {
+    this.builder = checkNotNull(builder);
     skipSubtrees = builder.skipSubtrees;
-    diffKind = checkNotNull(builder).kind;
+    executor = builder.executor;
+    diffKind = builder.kind;
     oldMaxDepth = builder.oldMaxDepth;
     synchronized (builder.resMgr) {
       newRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.newRev);
@@ -228,6 +249,11 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
 
     isFirst = false;
 
+    if (isParallelizable() && diffSubtreesInParallel()) {
+      diffDone();
+      return;
+    }
+
     // Iterate over new revision (order of operators significant -- regarding
     // the OR).
     if (diff != DiffType.SAMEHASH) {
@@ -277,6 +303,137 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     diffDone();
   }
 
+  /**
+   * Determines if the subtrees of the current nodes can be diffed in parallel, that is if the nodes are the same and
+   * subtrees with the same hash are skipped.
+   *
+   * @return {@code true}, if the subtrees can be diffed in parallel, {@code false} otherwise
+   */
+  private boolean isParallelizable() {
+    return executor != null && hashKind != HashType.NONE && diffKind == DiffOptimized.HASHED && oldMaxDepth == 0
+        && (diff == DiffType.SAME || diff == DiffType.UPDATED) && newRtx.getNodeKey() == oldRtx.getNodeKey()
+        && depth.getNewDepth() == depth.getOldDepth();
+  }
+
+  /**
+   * Diff the subtrees of the current nodes in parallel. As long as the nodes have a single child in both revisions,
+   * the child is diffed and descended. Otherwise, if the children are the same in both revisions, the subtrees of
+   * children with different hashes are independent of each other and diffed by tasks of the executor. The diffs are
+   * collected and fired in document order afterwards.
+   *
+   * @return {@code true}, if the subtrees have been diffed, {@code false}, if the children of the current nodes
+   * differ, such that the diff has to be continued sequentially
+   */
+  private boolean diffSubtreesInParallel() {
+    while (true) {
+      final LongList childKeys = getChildKeys(newRtx);
+      if (childKeys.isEmpty() || !childKeys.equals(getChildKeys(oldRtx))) {
+        return false;
+      }
+
+      final boolean isObjectKey = newRtx.getKind() == NodeKind.OBJECT_KEY;
+
+      if (childKeys.size() == 1) {
+        newRtx.moveToFirstChild();
+        oldRtx.moveToFirstChild();
+        if (!isObjectKey) {
+          depth.incrementNewDepth();
+          depth.incrementOldDepth();
+        }
+        diff = optimizedDiff(newRtx, oldRtx, depth);
+        if (diff == DiffType.SAMEHASH) {
+          return true;
+        }
+        continue;
+      }
+
+      final int childDepth = isObjectKey ? depth.getNewDepth() : depth.getNewDepth() + 1;
+      final List<CompletableFuture<List<DiffTuple>>> subtreeDiffs = new ArrayList<>(childKeys.size());
+      for (int i = 0; i < childKeys.size(); i++) {
+        final long childKey = childKeys.getLong(i);
+        newRtx.moveTo(childKey);
+        oldRtx.moveTo(childKey);
+        if (newRtx.getHash() == oldRtx.getHash()) {
+          subtreeDiffs.add(null);
+        } else {
+          subtreeDiffs.add(CompletableFuture.supplyAsync(() -> diffSubtree(childKey, childDepth), executor));
+        }
+      }
+
+      for (int i = 0; i < childKeys.size(); i++) {
+        final CompletableFuture<List<DiffTuple>> subtreeDiff = subtreeDiffs.get(i);
+        if (subtreeDiff == null) {
+          final long childKey = childKeys.getLong(i);
+          newRtx.moveTo(childKey);
+          oldRtx.moveTo(childKey);
+          optimizedDiff(newRtx, oldRtx, new DepthCounter(childDepth, childDepth));
+        } else {
+          for (final DiffTuple diffTuple : join(subtreeDiff)) {
+            fireDiff(diffTuple.getDiff(), diffTuple.getNewNodeKey(), diffTuple.getOldNodeKey(), diffTuple.getDepth());
+          }
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Diff the subtree rooted at a node, which exists in both revisions, with new transactions.
+   *
+   * @param nodeKey      the node key of the root of the subtree
+   * @param subtreeDepth the depth of the root of the subtree
+   * @return the diffs in document order
+   */
+  private List<DiffTuple> diffSubtree(final long nodeKey, final int subtreeDepth) {
+    final List<DiffTuple> diffs = new ArrayList<>();
+    final DiffObserver observer = new DiffObserver() {
+      @Override
+      public void diffListener(final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          final DiffDepth depth) {
+        diffs.add(new DiffTuple(diffType, newNodeKey, oldNodeKey, depth));
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    final Builder<R, W> subtreeBuilder =
+        new Builder<>(builder.resMgr, builder.newRev, builder.oldRev, builder.kind, Set.of(observer));
+    subtreeBuilder.newStartKey(nodeKey)
+                  .oldStartKey(nodeKey)
+                  .newDepth(subtreeDepth)
+                  .oldDepth(subtreeDepth)
+                  .hashKind(hashKind)
+                  .isGUI(isGUI)
+                  .skipSubtrees(skipSubtrees);
+    newSubtreeDiff(subtreeBuilder).diffMovement();
+    return diffs;
+  }
+
+  private static List<DiffTuple> join(final CompletableFuture<List<DiffTuple>> subtreeDiff) {
+    try {
+      return subtreeDiff.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private LongList getChildKeys(final R rtx) {
+    final long nodeKey = rtx.getNodeKey();
+    final LongList childKeys = new LongArrayList();
+    if (rtx.moveToFirstChild()) {
+      do {
+        childKeys.add(rtx.getNodeKey());
+      } while (rtx.moveToRightSibling());
+    }
+    rtx.moveTo(nodeKey);
+    return childKeys;
+  }
+
   private void emitDeleteDiff() {
     diff = DiffType.DELETED;
     final DiffDepth diffDepth = new DiffDepth(this.depth.getNewDepth(), this.depth.getOldDepth());
@@ -747,6 +904,14 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   abstract boolean checkNodeNamesOrValues(R newRtx, R oldRtx);
 
+  /**
+   * Create a diff of the same kind for a subtree.
+   *
+   * @param builder {@link Builder} reference
+   * @return the diff
+   */
+  abstract AbstractDiff<R, W> newSubtreeDiff(Builder<R, W> builder);
+
   /**
    * Get the document node kind.
    *
@@ -24,6 +24,7 @@ package org.sirix.diff;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.api.NodeCursor;
@@ -206,6 +207,9 @@ public final class DiffFactory {
     /** The maximum depth. */
       transient long oldMaxDepth;
 
+    /** Executor to diff subtrees in parallel or {@code null} to diff sequentially. */
+    transient Executor executor;
+
     /**
      * Constructor.
      *
@@ -330,6 +334,19 @@ public final class DiffFactory {
       this.skipSubtrees = skipSubtrees;
       return this;
     }
+
+    /**
+     * Set an executor to diff subtrees in parallel. Subtrees of the start nodes with different hashes are diffed by
+     * tasks of the executor, each with its own read-only transactions, whereas the observers are still notified in
+     * document order on the calling thread. Only applies to the optimized diff with hashes.
+     *
+     * @param executor the executor to use
+     * @return this builder
+     */
+    public Builder<R, W> executor(final Executor executor) {
+      this.executor = checkNotNull(executor);
+      return this;
+    }
   }
 
   /**
@@ -46,6 +46,11 @@ final class JsonDiff extends AbstractDiff<JsonNodeReadOnlyTrx, JsonNodeTrx> {
     super(builder);
   }
 
+  @Override
+  JsonDiff newSubtreeDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+    return new JsonDiff(builder);
+  }
+
   @Override
   NodeKind documentNode() {
     return NodeKind.JSON_DOCUMENT;
@@ -1,8 +1,9 @@
 package org.sirix.diff;
 
 import com.google.api.client.util.Objects;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonResourceSession;
 import org.sirix.node.NodeKind;
@@ -11,6 +12,7 @@ import org.sirix.service.json.serialize.JsonSerializer;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Collection;
 
 public final class JsonDiffSerializer {
@@ -34,19 +36,53 @@ public final class JsonDiffSerializer {
   }
 
   public String serialize(boolean emitFromDiffAlgorithm) {
+    final var writer = new StringWriter();
+    serialize(emitFromDiffAlgorithm, writer);
+    return writer.toString();
+  }
+
+  /**
+   * Serialize the diffs to a writer. In contrast to {@link #serialize(boolean)} only a single diff is held in memory
+   * at a time, such that large diffs can be streamed.
+   *
+   * @param emitFromDiffAlgorithm {@code true}, if the diffs are emitted from the diff algorithm, {@code false}, if
+   *                              they stem from the update operations of a transaction
+   * @param out                   the writer to serialize the diffs to
+   */
+  public void serialize(boolean emitFromDiffAlgorithm, Writer out) {
     final var resourceName = resourceManager.getResourceConfig().getName();
 
-    final var json = createMetaInfo(databaseName, resourceName, oldRevisionNumber, newRevisionNumber);
+    try {
+      final var jsonWriter = new JsonWriter(out);
+      jsonWriter.setLenient(true);
+      jsonWriter.beginObject();
+      jsonWriter.name("database").value(databaseName);
+      jsonWriter.name("resource").value(resourceName);
+      jsonWriter.name("old-revision").value(oldRevisionNumber);
+      jsonWriter.name("new-revision").value(newRevisionNumber);
+      jsonWriter.name("diffs").beginArray();
+
+      if (!isSame()) {
+        serializeDiffs(emitFromDiffAlgorithm, jsonWriter);
+      }
 
+      jsonWriter.endArray();
+      jsonWriter.endObject();
+      jsonWriter.flush();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean isSame() {
     if (diffs.size() == 1) {
       final var tuple = diffs.iterator().next();
-      if (tuple.getDiff() == DiffFactory.DiffType.SAME || tuple.getDiff() == DiffFactory.DiffType.SAMEHASH) {
-        return json.toString();
-      }
+      return tuple.getDiff() == DiffFactory.DiffType.SAME || tuple.getDiff() == DiffFactory.DiffType.SAMEHASH;
     }
+    return false;
+  }
 
-    final var jsonDiffs = json.getAsJsonArray("diffs");
-
+  private void serializeDiffs(boolean emitFromDiffAlgorithm, JsonWriter jsonWriter) throws IOException {
     try (final var oldRtx = resourceManager.beginNodeReadOnlyTrx(oldRevisionNumber);
          final var newRtx = resourceManager.beginNodeReadOnlyTrx(newRevisionNumber)) {
       if (emitFromDiffAlgorithm) {
@@ -55,10 +91,6 @@ public final class JsonDiffSerializer {
             || diffTuple.getDiff() == DiffFactory.DiffType.REPLACEDOLD);
       }
 
-      if (diffs.isEmpty()) {
-        return json.toString();
-      }
-
       for (final var diffTuple : diffs) {
         final var diffType = diffTuple.getDiff();
 
@@ -71,106 +103,110 @@ public final class JsonDiffSerializer {
           oldRtx.moveTo(diffTuple.getOldNodeKey());
         }
 
-        switch (diffType) {
-          case INSERTED:
-            final var insertedJson = new JsonObject();
-            final var jsonInsertDiff = new JsonObject();
-
-            insertBasedOnNewRtx(newRtx, jsonInsertDiff);
-
-            if (resourceManager.getResourceConfig().areDeweyIDsStored) {
-              final var deweyId = newRtx.getDeweyID();
-              jsonInsertDiff.addProperty("deweyID", deweyId.toString());
-              jsonInsertDiff.addProperty("depth", deweyId.getLevel());
-            }
-
-            addTypeAndDataProperties(newRtx, jsonInsertDiff, newRevisionNumber, emitFromDiffAlgorithm);
-
-            insertedJson.add("insert", jsonInsertDiff);
-            jsonDiffs.add(insertedJson);
-
-            break;
-          case DELETED:
-            final var deletedJson = new JsonObject();
-
-            if (resourceManager.getResourceConfig().areDeweyIDsStored) {
-              final var jsonDeletedDiff = new JsonObject();
-
-              jsonDeletedDiff.addProperty("nodeKey", diffTuple.getOldNodeKey());
-
-              final var deweyId = oldRtx.getDeweyID();
-              jsonDeletedDiff.addProperty("deweyID", deweyId.toString());
-              jsonDeletedDiff.addProperty("depth", deweyId.getLevel());
-
-              deletedJson.add("delete", jsonDeletedDiff);
-            } else {
-              deletedJson.addProperty("delete", diffTuple.getOldNodeKey());
-            }
-
-            jsonDiffs.add(deletedJson);
-            break;
-          case REPLACEDNEW:
-            final var replaceJson = new JsonObject();
-            final var jsonReplaceDiff = new JsonObject();
-
-            replaceJson.add("replace", jsonReplaceDiff);
-
-            jsonReplaceDiff.addProperty("oldNodeKey", diffTuple.getOldNodeKey());
-            jsonReplaceDiff.addProperty("newNodeKey", diffTuple.getNewNodeKey());
-
-            if (resourceManager.getResourceConfig().areDeweyIDsStored) {
-              final var deweyId = newRtx.getDeweyID();
-              jsonReplaceDiff.addProperty("deweyID", deweyId.toString());
-              jsonReplaceDiff.addProperty("depth", deweyId.getLevel());
-            }
-
-            addTypeAndDataProperties(newRtx, jsonReplaceDiff, newRevisionNumber, emitFromDiffAlgorithm);
-
-            jsonDiffs.add(replaceJson);
-            break;
-          case UPDATED:
-            final var updateJson = new JsonObject();
-            final var jsonUpdateDiff = new JsonObject();
-
-            jsonUpdateDiff.addProperty("nodeKey", diffTuple.getOldNodeKey());
-
-            if (resourceManager.getResourceConfig().areDeweyIDsStored) {
-              final var deweyId = newRtx.getDeweyID();
-              jsonUpdateDiff.addProperty("deweyID", deweyId.toString());
-              jsonUpdateDiff.addProperty("depth", deweyId.getLevel());
-            }
-
-            if (!Objects.equal(oldRtx.getName(), newRtx.getName())) {
-              jsonUpdateDiff.addProperty("name", newRtx.getName().toString());
-            } else if (!Objects.equal(oldRtx.getValue(), newRtx.getValue())) {
-              if (newRtx.getKind() == NodeKind.BOOLEAN_VALUE || newRtx.getKind() == NodeKind.OBJECT_BOOLEAN_VALUE) {
-                jsonUpdateDiff.addProperty("type", "boolean");
-                jsonUpdateDiff.addProperty("value", newRtx.getBooleanValue());
-              } else if (newRtx.getKind() == NodeKind.STRING_VALUE
-                  || newRtx.getKind() == NodeKind.OBJECT_STRING_VALUE) {
-                jsonUpdateDiff.addProperty("type", "string");
-                jsonUpdateDiff.addProperty("value", newRtx.getValue());
-              } else if (newRtx.getKind() == NodeKind.NULL_VALUE || newRtx.getKind() == NodeKind.OBJECT_NULL_VALUE) {
-                jsonUpdateDiff.addProperty("type", "null");
-                jsonUpdateDiff.add("value", null);
-              } else if (newRtx.getKind() == NodeKind.NUMBER_VALUE
-                  || newRtx.getKind() == NodeKind.OBJECT_NUMBER_VALUE) {
-                jsonUpdateDiff.addProperty("type", "number");
-                jsonUpdateDiff.addProperty("value", newRtx.getNumberValue());
-              }
-            }
-
-            updateJson.add("update", jsonUpdateDiff);
-            jsonDiffs.add(updateJson);
-
-            // $CASES-OMITTED$
-          default:
-            // Do nothing.
+        final var diffJson = toJson(diffTuple, oldRtx, newRtx, emitFromDiffAlgorithm);
+
+        if (diffJson != null) {
+          jsonWriter.jsonValue(diffJson.toString());
         }
       }
     }
+  }
+
+  private @Nullable JsonObject toJson(DiffTuple diffTuple, JsonNodeReadOnlyTrx oldRtx, JsonNodeReadOnlyTrx newRtx,
+      boolean emitFromDiffAlgorithm) {
+    final var diffType = diffTuple.getDiff();
+
+    switch (diffType) {
+      case INSERTED:
+        final var insertedJson = new JsonObject();
+        final var jsonInsertDiff = new JsonObject();
+
+        insertBasedOnNewRtx(newRtx, jsonInsertDiff);
+
+        if (resourceManager.getResourceConfig().areDeweyIDsStored) {
+          final var deweyId = newRtx.getDeweyID();
+          jsonInsertDiff.addProperty("deweyID", deweyId.toString());
+          jsonInsertDiff.addProperty("depth", deweyId.getLevel());
+        }
+
+        addTypeAndDataProperties(newRtx, jsonInsertDiff, newRevisionNumber, emitFromDiffAlgorithm);
 
-    return json.toString();
+        insertedJson.add("insert", jsonInsertDiff);
+        return insertedJson;
+      case DELETED:
+        final var deletedJson = new JsonObject();
+
+        if (resourceManager.getResourceConfig().areDeweyIDsStored) {
+          final var jsonDeletedDiff = new JsonObject();
+
+          jsonDeletedDiff.addProperty("nodeKey", diffTuple.getOldNodeKey());
+
+          final var deweyId = oldRtx.getDeweyID();
+          jsonDeletedDiff.addProperty("deweyID", deweyId.toString());
+          jsonDeletedDiff.addProperty("depth", deweyId.getLevel());
+
+          deletedJson.add("delete", jsonDeletedDiff);
+        } else {
+          deletedJson.addProperty("delete", diffTuple.getOldNodeKey());
+        }
+
+        return deletedJson;
+      case REPLACEDNEW:
+        final var replaceJson = new JsonObject();
+        final var jsonReplaceDiff = new JsonObject();
+
+        replaceJson.add("replace", jsonReplaceDiff);
+
+        jsonReplaceDiff.addProperty("oldNodeKey", diffTuple.getOldNodeKey());
+        jsonReplaceDiff.addProperty("newNodeKey", diffTuple.getNewNodeKey());
+
+        if (resourceManager.getResourceConfig().areDeweyIDsStored) {
+          final var deweyId = newRtx.getDeweyID();
+          jsonReplaceDiff.addProperty("deweyID", deweyId.toString());
+          jsonReplaceDiff.addProperty("depth", deweyId.getLevel());
+        }
+
+        addTypeAndDataProperties(newRtx, jsonReplaceDiff, newRevisionNumber, emitFromDiffAlgorithm);
+
+        return replaceJson;
+      case UPDATED:
+        final var updateJson = new JsonObject();
+        final var jsonUpdateDiff = new JsonObject();
+
+        jsonUpdateDiff.addProperty("nodeKey", diffTuple.getOldNodeKey());
+
+        if (resourceManager.getResourceConfig().areDeweyIDsStored) {
+          final var deweyId = newRtx.getDeweyID();
+          jsonUpdateDiff.addProperty("deweyID", deweyId.toString());
+          jsonUpdateDiff.addProperty("depth", deweyId.getLevel());
+        }
+
+        if (!Objects.equal(oldRtx.getName(), newRtx.getName())) {
+          jsonUpdateDiff.addProperty("name", newRtx.getName().toString());
+        } else if (!Objects.equal(oldRtx.getValue(), newRtx.getValue())) {
+          if (newRtx.getKind() == NodeKind.BOOLEAN_VALUE || newRtx.getKind() == NodeKind.OBJECT_BOOLEAN_VALUE) {
+            jsonUpdateDiff.addProperty("type", "boolean");
+            jsonUpdateDiff.addProperty("value", newRtx.getBooleanValue());
+          } else if (newRtx.getKind() == NodeKind.STRING_VALUE
+              || newRtx.getKind() == NodeKind.OBJECT_STRING_VALUE) {
+            jsonUpdateDiff.addProperty("type", "string");
+            jsonUpdateDiff.addProperty("value", newRtx.getValue());
+          } else if (newRtx.getKind() == NodeKind.NULL_VALUE || newRtx.getKind() == NodeKind.OBJECT_NULL_VALUE) {
+            jsonUpdateDiff.addProperty("type", "null");
+            jsonUpdateDiff.add("value", null);
+          } else if (newRtx.getKind() == NodeKind.NUMBER_VALUE
+              || newRtx.getKind() == NodeKind.OBJECT_NUMBER_VALUE) {
+            jsonUpdateDiff.addProperty("type", "number");
+            jsonUpdateDiff.addProperty("value", newRtx.getNumberValue());
+          }
+        }
+
+        updateJson.add("update", jsonUpdateDiff);
+        return updateJson;
+      // $CASES-OMITTED$
+      default:
+        return null;
+    }
   }
 
   private void insertBasedOnNewRtx(JsonNodeReadOnlyTrx newRtx, JsonObject jsonInsertDiff) {
@@ -182,18 +218,6 @@ public final class JsonDiffSerializer {
     jsonInsertDiff.addProperty("insertPosition", insertPosition);
   }
 
-  private JsonObject createMetaInfo(final String databaseName, final String resourceName, final int oldRevision,
-      final int newRevision) {
-    final var json = new JsonObject();
-    json.addProperty("database", databaseName);
-    json.addProperty("resource", resourceName);
-    json.addProperty("old-revision", oldRevision);
-    json.addProperty("new-revision", newRevision);
-    final var diffsArray = new JsonArray();
-    json.add("diffs", diffsArray);
-    return json;
-  }
-
   private void addTypeAndDataProperties(JsonNodeReadOnlyTrx newRtx, JsonObject json, int newRevisionNumber,
       boolean emitFromDiffAlgorithm) {
     if (newRtx.isArray() || newRtx.isObject() || newRtx.isObjectKey()) {
@@ -49,6 +49,11 @@ final class XmlFullDiff extends AbstractDiff<XmlNodeReadOnlyTrx, XmlNodeTrx> {
     super(builder);
   }
 
+  @Override
+  XmlFullDiff newSubtreeDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+    return new XmlFullDiff(builder);
+  }
+
   @Override NodeKind documentNode() {
     return NodeKind.XML_DOCUMENT;
   }
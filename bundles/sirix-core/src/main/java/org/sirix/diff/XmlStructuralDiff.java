@@ -44,6 +44,11 @@ final class XmlStructuralDiff extends AbstractDiff<XmlNodeReadOnlyTrx, XmlNodeTr
     super(builder);
   }
 
+  @Override
+  XmlStructuralDiff newSubtreeDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+    return new XmlStructuralDiff(builder);
+  }
+
   @Override NodeKind documentNode() {
     return NodeKind.XML_DOCUMENT;
   }
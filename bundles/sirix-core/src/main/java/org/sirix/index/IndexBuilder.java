@@ -7,10 +7,13 @@ import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.axis.DescendantAxis;
 import org.sirix.axis.NonStructuralWrapperAxis;
 
+import java.util.List;
 import java.util.Set;
 
 /**
- * Build an index by traversing the current revision.
+ * Build an index by traversing the current revision. All indexes, which are created at once, share a single scan of
+ * the document. The builders only extract the keys during the scan and fan out the per-index work of collecting and
+ * sorting the entries to worker threads (see {@link IndexEntrySorter}).
  *
  * @author Johannes Lichtenberger
  *
@@ -36,6 +39,7 @@ public final class IndexBuilder {
       }
     }
     rtx.moveTo(nodeKey);
+    load(builders);
   }
 
   /**
@@ -56,6 +60,23 @@ public final class IndexBuilder {
       }
     }
     rtx.moveTo(nodeKey);
+    load(builders);
+  }
+
+  /**
+   * Load the entries collected by the index builders into the indexes. The entries of each index are sorted in
+   * parallel, but loaded one index after the other, as the page transaction must only be used by a single thread.
+   *
+   * @param builders the index builders
+   */
+  private static void load(final Set<?> builders) {
+    final List<SortingIndexBuilder> sortingIndexBuilders = builders.stream()
+                                                                   .filter(SortingIndexBuilder.class::isInstance)
+                                                                   .map(SortingIndexBuilder.class::cast)
+                                                                   .toList();
+
+    sortingIndexBuilders.parallelStream().forEach(SortingIndexBuilder::sort);
+    sortingIndexBuilders.forEach(SortingIndexBuilder::load);
   }
 
 }
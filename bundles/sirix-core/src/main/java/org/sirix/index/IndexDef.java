@@ -36,6 +36,8 @@ public final class IndexDef implements Materializable {
 
   private static final QNm ID_ATTRIBUTE = new QNm("id");
 
+  private static final QNm BACKEND_TYPE_ATTRIBUTE = new QNm("backend");
+
   public static final QNm INDEX_TAG = new QNm("index");
 
   private DbType dbType;
@@ -51,6 +53,9 @@ public final class IndexDef implements Materializable {
   // populated when index is built
   private int id;
 
+  // the data structure, which stores the index
+  private BackendType backendType = BackendType.RED_BLACK_TREE;
+
   public enum DbType {
     XML,
 
@@ -63,6 +68,21 @@ public final class IndexDef implements Materializable {
     }
   }
 
+  /**
+   * The data structures, which are able to store an index.
+   */
+  public enum BackendType {
+    /**
+     * A persistent red-black tree.
+     */
+    RED_BLACK_TREE,
+
+    /**
+     * A persistent adaptive radix tree, which needs less record reads for lookups and prefix scans.
+     */
+    ADAPTIVE_RADIX_TREE
+  }
+
   private final Set<Path<QNm>> paths = new HashSet<>();
 
   private final Set<QNm> excluded = new HashSet<>();
@@ -124,6 +144,10 @@ public final class IndexDef implements Materializable {
       tmp.attribute(UNIQUE_ATTRIBUTE, new Una(Boolean.toString(unique)));
     }
 
+    if (backendType != BackendType.RED_BLACK_TREE) {
+      tmp.attribute(BACKEND_TYPE_ATTRIBUTE, new Una(backendType.toString()));
+    }
+
     if (!paths.isEmpty()) {
       for (final Path<QNm> path : paths) {
         tmp.openElement(PATH_TAG);
@@ -196,6 +220,11 @@ public final class IndexDef implements Materializable {
       unique = Boolean.parseBoolean(attribute.getValue().stringValue());
     }
 
+    attribute = root.getAttribute(BACKEND_TYPE_ATTRIBUTE);
+    if (attribute != null) {
+      backendType = BackendType.valueOf(attribute.getValue().stringValue());
+    }
+
     attribute = root.getAttribute(DB_TYPE_ATTRIBUTE);
     if (attribute != null) {
       dbType = DbType.ofString(attribute.getValue().stringValue()).orElseThrow(() -> new DocumentException("Invalid db type"));
@@ -269,6 +298,15 @@ public final class IndexDef implements Materializable {
     return type;
   }
 
+  public BackendType getBackendType() {
+    return backendType;
+  }
+
+  IndexDef setBackendType(final BackendType backendType) {
+    this.backendType = checkNotNull(backendType);
+    return this;
+  }
+
   public Set<Path<QNm>> getPaths() {
     return Collections.unmodifiableSet(paths);
   }
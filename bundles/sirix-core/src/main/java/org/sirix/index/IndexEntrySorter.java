@@ -0,0 +1,543 @@
+package org.sirix.index;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.brackit.xquery.atomic.Atomic;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.jdm.Type;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.redblacktree.keyvalue.CASValue;
+import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Sorts the entries of an index, that is the keys and the node keys which reference them, while the index is built.
+ * The node keys of equal keys are merged, such that every key is written to the index only once and in ascending
+ * order. Whenever the number of distinct keys held in memory exceeds a threshold, the sorted entries are spilled to
+ * a temporary file (a run), and all runs are merged once the entries are sorted.
+ *
+ * <p>Entries are collected in batches, which are handed over to an {@link Executor}, such that the thread scanning
+ * the document only has to extract the keys. The batches of a sorter are processed one after the other, but the
+ * batches of the sorters of different indexes, which are built during the same scan, are processed in
+ * parallel. If the executor falls behind, the scanning thread blocks once a maximum number of batches is in
+ * flight.</p>
+ *
+ * @param <K> the type of the keys
+ * @author Johannes Lichtenberger
+ */
+public final class IndexEntrySorter<K extends Comparable<? super K>> implements AutoCloseable {
+
+  /**
+   * The default maximum number of distinct keys, which are held in memory.
+   */
+  public static final int DEFAULT_MAX_KEYS_IN_MEMORY = 1 << 18;
+
+  /**
+   * The default number of entries, which are handed over to the executor at once.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1 << 12;
+
+  /**
+   * The default maximum number of batches, which have been handed over, but haven't been processed yet.
+   */
+  public static final int DEFAULT_MAX_BATCHES_IN_FLIGHT = 4;
+
+  /**
+   * Processes the batches of all sorters, which aren't given an executor.
+   */
+  private static final ExecutorService EXECUTOR =
+      Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("sirix-index-sorter-%d")
+                                                              .setDaemon(true)
+                                                              .build());
+
+  /**
+   * Writes and reads the keys of spilled runs.
+   *
+   * @param <K> the type of the keys
+   */
+  public interface KeySerializer<K> {
+    void write(DataOutput out, K key) throws IOException;
+
+    K read(DataInput in) throws IOException;
+  }
+
+  /**
+   * The keys of path indexes.
+   */
+  public static final KeySerializer<Long> LONG_KEY_SERIALIZER = new KeySerializer<>() {
+    @Override
+    public void write(final DataOutput out, final Long key) throws IOException {
+      out.writeLong(key);
+    }
+
+    @Override
+    public Long read(final DataInput in) throws IOException {
+      return in.readLong();
+    }
+  };
+
+  /**
+   * The keys of name indexes.
+   */
+  public static final KeySerializer<QNm> QNM_KEY_SERIALIZER = new KeySerializer<>() {
+    @Override
+    public void write(final DataOutput out, final QNm key) throws IOException {
+      writeString(out, key.getNamespaceURI());
+      writeString(out, key.getPrefix());
+      writeString(out, key.getLocalName());
+    }
+
+    @Override
+    public QNm read(final DataInput in) throws IOException {
+      return new QNm(readString(in), readString(in), readString(in));
+    }
+  };
+
+  /**
+   * The keys of CAS indexes. The atomic values are written together with their type, such that they are read with the
+   * same type.
+   *
+   * @param type the type of the index
+   * @return the key serializer
+   */
+  public static KeySerializer<CASValue> casValueKeySerializer(final Type type) {
+    checkNotNull(type);
+    return new KeySerializer<>() {
+      @Override
+      public void write(final DataOutput out, final CASValue key) throws IOException {
+        final Atomic atomic = key.getAtomicValue();
+        out.writeLong(key.getPathNodeKey());
+        writeString(out, atomic.type().getName().getLocalName());
+        final byte[] value = AtomicUtil.toBytes(atomic);
+        out.writeInt(value.length);
+        out.write(value);
+      }
+
+      @Override
+      public CASValue read(final DataInput in) throws IOException {
+        final long pathNodeKey = in.readLong();
+        final Type atomicType = resolveBuiltInType(readString(in));
+        final byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return new CASValue(AtomicUtil.fromBytes(value, atomicType), type, pathNodeKey);
+      }
+    };
+  }
+
+  private static Type resolveBuiltInType(final String localName) {
+    for (final Type type : Type.builtInTypes) {
+      if (type.getName().getLocalName().equals(localName)) {
+        return type;
+      }
+    }
+    throw new IllegalStateException("Unknown type: " + localName);
+  }
+
+  /**
+   * Serializes the keys of spilled runs.
+   */
+  private final KeySerializer<K> keySerializer;
+
+  /**
+   * The maximum number of distinct keys, which are held in memory.
+   */
+  private final int maxKeysInMemory;
+
+  /**
+   * The maximum number of entries of a batch.
+   */
+  private final int batchSize;
+
+  /**
+   * Processes the batches of entries.
+   */
+  private final Executor executor;
+
+  /**
+   * Bounds the number of batches, which have been handed over, but haven't been processed yet.
+   */
+  private final Semaphore batchesInFlight;
+
+  /**
+   * The keys of the current batch.
+   */
+  private Object[] batchKeys;
+
+  /**
+   * The node keys of the current batch.
+   */
+  private long[] batchNodeKeys;
+
+  /**
+   * The number of entries of the current batch.
+   */
+  private int batchEntries;
+
+  /**
+   * Completes, once all batches handed over so far have been processed.
+   */
+  private CompletableFuture<Void> pendingBatches;
+
+  /**
+   * The spilled runs.
+   */
+  private final List<Path> runs;
+
+  /**
+   * The entries, which are held in memory.
+   */
+  private final TreeMap<K, Roaring64Bitmap> entries;
+
+  /**
+   * The merged run, if entries have been spilled.
+   */
+  private Path mergedRun;
+
+  /**
+   * The number of distinct keys, or {@code -1}, if the entries aren't sorted yet.
+   */
+  private long numberOfKeys;
+
+  /**
+   * Constructor.
+   *
+   * @param keySerializer serializes the keys of spilled runs
+   */
+  public IndexEntrySorter(final KeySerializer<K> keySerializer) {
+    this(keySerializer, DEFAULT_MAX_KEYS_IN_MEMORY);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param keySerializer   serializes the keys of spilled runs
+   * @param maxKeysInMemory the maximum number of distinct keys, which are held in memory
+   */
+  public IndexEntrySorter(final KeySerializer<K> keySerializer, final int maxKeysInMemory) {
+    this(keySerializer, maxKeysInMemory, DEFAULT_BATCH_SIZE, EXECUTOR);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param keySerializer   serializes the keys of spilled runs
+   * @param maxKeysInMemory the maximum number of distinct keys, which are held in memory
+   * @param batchSize       the number of entries, which are handed over to the executor at once
+   * @param executor        processes the batches of entries
+   */
+  public IndexEntrySorter(final KeySerializer<K> keySerializer, final int maxKeysInMemory, final int batchSize,
+      final Executor executor) {
+    this(keySerializer, maxKeysInMemory, batchSize, DEFAULT_MAX_BATCHES_IN_FLIGHT, executor);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param keySerializer       serializes the keys of spilled runs
+   * @param maxKeysInMemory     the maximum number of distinct keys, which are held in memory
+   * @param batchSize           the number of entries, which are handed over to the executor at once
+   * @param maxBatchesInFlight  the maximum number of batches, which have been handed over, but haven't been processed
+   *                            yet
+   * @param executor            processes the batches of entries
+   */
+  public IndexEntrySorter(final KeySerializer<K> keySerializer, final int maxKeysInMemory, final int batchSize,
+      final int maxBatchesInFlight, final Executor executor) {
+    checkArgument(maxKeysInMemory > 0, "maxKeysInMemory must be > 0!");
+    checkArgument(batchSize > 0, "batchSize must be > 0!");
+    checkArgument(maxBatchesInFlight > 0, "maxBatchesInFlight must be > 0!");
+    this.keySerializer = checkNotNull(keySerializer);
+    this.maxKeysInMemory = maxKeysInMemory;
+    this.batchSize = batchSize;
+    this.executor = checkNotNull(executor);
+    batchesInFlight = new Semaphore(maxBatchesInFlight);
+    batchKeys = new Object[batchSize];
+    batchNodeKeys = new long[batchSize];
+    pendingBatches = CompletableFuture.completedFuture(null);
+    runs = new ArrayList<>();
+    entries = new TreeMap<>();
+    numberOfKeys = -1;
+  }
+
+  /**
+   * Add an entry.
+   *
+   * @param key     the key
+   * @param nodeKey the node key, which references the key
+   */
+  public void add(final K key, final @NonNegative long nodeKey) {
+    checkState(numberOfKeys == -1, "The entries are already sorted!");
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    batchKeys[batchEntries] = checkNotNull(key);
+    batchNodeKeys[batchEntries] = nodeKey;
+    batchEntries++;
+    if (batchEntries == batchSize) {
+      handOverBatch();
+    }
+  }
+
+  /**
+   * Sort the entries, that is merge all spilled runs. Further calls don't have any effect.
+   *
+   * @return the number of distinct keys
+   */
+  public long sort() {
+    if (numberOfKeys == -1) {
+      if (batchEntries > 0) {
+        handOverBatch();
+      }
+      awaitBatches();
+      batchKeys = null;
+      batchNodeKeys = null;
+
+      if (runs.isEmpty()) {
+        numberOfKeys = entries.size();
+      } else {
+        if (!entries.isEmpty()) {
+          spill();
+        }
+        numberOfKeys = merge();
+      }
+    }
+    return numberOfKeys;
+  }
+
+  /**
+   * Get the sorted entries. The node references of the entries are owned by the caller.
+   *
+   * @return the entries in ascending order of the keys
+   * @throws IllegalStateException if the entries aren't sorted yet
+   */
+  public Iterator<Map.Entry<K, NodeReferences>> iterator() {
+    checkState(numberOfKeys != -1, "The entries have to be sorted first!");
+    if (mergedRun == null) {
+      return Iterators.transform(entries.entrySet().iterator(),
+                                 entry -> Map.entry(entry.getKey(), new NodeReferences(entry.getValue())));
+    }
+    final RunReader reader = new RunReader(mergedRun);
+    return new AbstractIterator<>() {
+      @Override
+      protected Map.Entry<K, NodeReferences> computeNext() {
+        if (reader.next()) {
+          return Map.entry(reader.key, new NodeReferences(reader.nodeKeys));
+        }
+        reader.close();
+        return endOfData();
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    try {
+      awaitBatches();
+    } finally {
+      deleteEntries();
+    }
+  }
+
+  private void deleteEntries() {
+    entries.clear();
+    try {
+      for (final Path run : runs) {
+        Files.deleteIfExists(run);
+      }
+      if (mergedRun != null) {
+        Files.deleteIfExists(mergedRun);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void handOverBatch() {
+    final Object[] keys = batchKeys;
+    final long[] nodeKeys = batchNodeKeys;
+    final int numberOfEntries = batchEntries;
+
+    // Block the scanning thread, if the executor can't keep up, instead of buffering an unbounded number of batches.
+    batchesInFlight.acquireUninterruptibly();
+    pendingBatches = pendingBatches.thenRunAsync(() -> addBatch(keys, nodeKeys, numberOfEntries), executor)
+                                   .whenComplete((unused, e) -> batchesInFlight.release());
+    batchKeys = new Object[batchSize];
+    batchNodeKeys = new long[batchSize];
+    batchEntries = 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void addBatch(final Object[] keys, final long[] nodeKeys, final int numberOfEntries) {
+    for (int i = 0; i < numberOfEntries; i++) {
+      entries.computeIfAbsent((K) keys[i], unused -> new Roaring64Bitmap()).addLong(nodeKeys[i]);
+      if (entries.size() >= maxKeysInMemory) {
+        spill();
+      }
+    }
+  }
+
+  private void awaitBatches() {
+    try {
+      pendingBatches.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private void spill() {
+    try {
+      final Path run = Files.createTempFile("sirix-index-", ".run");
+      runs.add(run);
+      try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+        for (final Map.Entry<K, Roaring64Bitmap> entry : entries.entrySet()) {
+          writeEntry(out, entry.getKey(), entry.getValue());
+        }
+        out.writeBoolean(false);
+      }
+      entries.clear();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private long merge() {
+    final PriorityQueue<RunReader> readers =
+        new PriorityQueue<>(runs.size(), Comparator.comparing((RunReader reader) -> reader.key));
+    try {
+      for (final Path run : runs) {
+        final RunReader reader = new RunReader(run);
+        if (reader.next()) {
+          readers.add(reader);
+        }
+      }
+
+      mergedRun = Files.createTempFile("sirix-index-", ".run");
+      long mergedKeys = 0;
+      try (final DataOutputStream out =
+               new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(mergedRun)))) {
+        while (!readers.isEmpty()) {
+          final RunReader reader = readers.poll();
+          final K key = reader.key;
+          final Roaring64Bitmap nodeKeys = reader.nodeKeys;
+          advance(readers, reader);
+
+          // Keys are distinct in each run, but may be stored in more than one run.
+          while (!readers.isEmpty() && readers.peek().key.compareTo(key) == 0) {
+            final RunReader readerWithSameKey = readers.poll();
+            nodeKeys.or(readerWithSameKey.nodeKeys);
+            advance(readers, readerWithSameKey);
+          }
+
+          writeEntry(out, key, nodeKeys);
+          mergedKeys++;
+        }
+        out.writeBoolean(false);
+      }
+
+      for (final Path run : runs) {
+        Files.deleteIfExists(run);
+      }
+      runs.clear();
+      return mergedKeys;
+    } catch (final IOException e) {
+      readers.forEach(RunReader::close);
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void advance(final PriorityQueue<RunReader> readers, final RunReader reader) {
+    if (reader.next()) {
+      readers.add(reader);
+    } else {
+      reader.close();
+    }
+  }
+
+  private void writeEntry(final DataOutputStream out, final K key, final Roaring64Bitmap nodeKeys)
+      throws IOException {
+    out.writeBoolean(true);
+    keySerializer.write(out, key);
+    nodeKeys.runOptimize();
+    nodeKeys.serialize(out);
+  }
+
+  private static void writeString(final DataOutput out, final @Nullable String string) throws IOException {
+    if (string == null) {
+      out.writeInt(-1);
+    } else {
+      final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private static @Nullable String readString(final DataInput in) throws IOException {
+    final int length = in.readInt();
+    if (length == -1) {
+      return null;
+    }
+    final byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads the entries of a run one after the other.
+   */
+  private final class RunReader {
+    private final DataInputStream in;
+
+    private K key;
+
+    private Roaring64Bitmap nodeKeys;
+
+    RunReader(final Path run) {
+      try {
+        in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+
+    boolean next() {
+      try {
+        if (!in.readBoolean()) {
+          return false;
+        }
+        key = keySerializer.read(in);
+        nodeKeys = new Roaring64Bitmap();
+        nodeKeys.deserialize(in);
+        return true;
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+
+    void close() {
+      try {
+        in.close();
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package org.sirix.index;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.index.redblacktree.interfaces.References;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Maintains the node references of the keys of an index, independent of the underlying index structure.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the node references
+ * @author Johannes Lichtenberger
+ */
+public interface IndexWriter<K, V extends References> {
+  /**
+   * Adds a node key to the references of the specified key. If the key isn't indexed yet, a new index entry is created.
+   *
+   * @param key      the indexed key
+   * @param nodeKey  the node key to add
+   * @param newValue creates empty references, if the key isn't indexed yet
+   */
+  void addNodeKey(K key, @NonNegative long nodeKey, Supplier<V> newValue);
+
+  /**
+   * Adds the node references of distinct keys, which are sorted in ascending order, for instance to build an index in
+   * bulk. The node references are owned by the index afterwards.
+   *
+   * @param numberOfKeys  the number of keys
+   * @param sortedEntries the keys and their node references in ascending order of the keys
+   */
+  void addAll(@NonNegative long numberOfKeys, Iterator<? extends Map.Entry<K, V>> sortedEntries);
+
+  /**
+   * Removes a node key from the references of the specified key.
+   *
+   * @param key     the indexed key
+   * @param nodeKey the node key to remove
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   */
+  boolean remove(K key, @NonNegative long nodeKey);
+}
@@ -0,0 +1,19 @@
+package org.sirix.index;
+
+/**
+ * An index builder, which collects the entries of an index while the nodes of a revision are traversed, and which
+ * loads them into the index afterwards, sorted by their keys.
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface SortingIndexBuilder {
+  /**
+   * Sorts the collected entries. The entries of different index builders are sorted independently of each other.
+   */
+  void sort();
+
+  /**
+   * Loads the sorted entries into the index.
+   */
+  void load();
+}
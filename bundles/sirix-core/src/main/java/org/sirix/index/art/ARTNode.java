@@ -0,0 +1,224 @@
+package org.sirix.index.art;
+
+import com.google.common.base.MoreObjects;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.RecordSerializer;
+import org.sirix.settings.Fixed;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An inner node of a persistent adaptive radix tree, which is stored as a record in the record pages of an index, just
+ * like the nodes of the red-black trees. The leaves are {@link org.sirix.index.redblacktree.RBNode}s, which store the
+ * indexed key and the node references, such that the filters work on both index structures.
+ *
+ * <p>Instead of the four in-memory layouts of the adaptive radix tree (node 4, 16, 48 and 256), the children are
+ * stored as an array of key bytes sorted in unsigned order and the record keys of the children, which is the most
+ * compact representation on disk. The common prefix of all keys in the subtree is stored in the node (path
+ * compression), and a key, which ends in this node, references its leaf through the leaf key.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ARTNode implements DataRecord {
+
+  /**
+   * The record key.
+   */
+  private final long nodeKey;
+
+  /**
+   * The compressed path, that is the bytes all keys in the subtree share after the key byte of this node.
+   */
+  private byte[] prefix;
+
+  /**
+   * The key of the leaf, whose key ends in this node.
+   */
+  private long leafKey;
+
+  /**
+   * The key bytes of the children, sorted in unsigned order.
+   */
+  private byte[] childBytes;
+
+  /**
+   * The record keys of the children.
+   */
+  private long[] childKeys;
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey the record key
+   * @param prefix  the compressed path
+   */
+  public ARTNode(final @NonNegative long nodeKey, final byte[] prefix) {
+    this(nodeKey, prefix, Fixed.NULL_NODE_KEY.getStandardProperty(), new byte[0], new long[0]);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey    the record key
+   * @param prefix     the compressed path
+   * @param leafKey    the key of the leaf, whose key ends in this node
+   * @param childBytes the key bytes of the children, sorted in unsigned order
+   * @param childKeys  the record keys of the children
+   */
+  public ARTNode(final @NonNegative long nodeKey, final byte[] prefix, final long leafKey, final byte[] childBytes,
+      final long[] childKeys) {
+    assert childBytes.length == childKeys.length;
+    this.nodeKey = nodeKey;
+    this.prefix = requireNonNull(prefix);
+    this.leafKey = leafKey;
+    this.childBytes = requireNonNull(childBytes);
+    this.childKeys = requireNonNull(childKeys);
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  public byte[] getPrefix() {
+    return prefix;
+  }
+
+  public void setPrefix(final byte[] prefix) {
+    this.prefix = requireNonNull(prefix);
+  }
+
+  public boolean hasLeaf() {
+    return leafKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  public long getLeafKey() {
+    return leafKey;
+  }
+
+  public void setLeafKey(final long leafKey) {
+    this.leafKey = leafKey;
+  }
+
+  public int getNumberOfChildren() {
+    return childBytes.length;
+  }
+
+  public byte getChildByte(final int index) {
+    return childBytes[index];
+  }
+
+  public long getChildKeyAt(final int index) {
+    return childKeys[index];
+  }
+
+  /**
+   * Get the record key of the child for a key byte.
+   *
+   * @param keyByte the key byte
+   * @return the record key of the child or {@link Fixed#NULL_NODE_KEY}, if no such child exists
+   */
+  public long getChildKey(final byte keyByte) {
+    final int index = indexOf(keyByte);
+    return index < 0 ? Fixed.NULL_NODE_KEY.getStandardProperty() : childKeys[index];
+  }
+
+  /**
+   * Set the child for a key byte, either replacing the current child or inserting a new one.
+   *
+   * @param keyByte  the key byte
+   * @param childKey the record key of the child
+   */
+  public void setChildKey(final byte keyByte, final long childKey) {
+    final int index = indexOf(keyByte);
+    if (index >= 0) {
+      childKeys[index] = childKey;
+      return;
+    }
+    final int insertionPoint = -(index + 1);
+    final byte[] newChildBytes = new byte[childBytes.length + 1];
+    final long[] newChildKeys = new long[childKeys.length + 1];
+    System.arraycopy(childBytes, 0, newChildBytes, 0, insertionPoint);
+    System.arraycopy(childKeys, 0, newChildKeys, 0, insertionPoint);
+    newChildBytes[insertionPoint] = keyByte;
+    newChildKeys[insertionPoint] = childKey;
+    System.arraycopy(childBytes, insertionPoint, newChildBytes, insertionPoint + 1, childBytes.length - insertionPoint);
+    System.arraycopy(childKeys, insertionPoint, newChildKeys, insertionPoint + 1, childKeys.length - insertionPoint);
+    childBytes = newChildBytes;
+    childKeys = newChildKeys;
+  }
+
+  private int indexOf(final byte keyByte) {
+    final int key = Byte.toUnsignedInt(keyByte);
+    int low = 0;
+    int high = childBytes.length - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int midKey = Byte.toUnsignedInt(childBytes[mid]);
+      if (midKey < key) {
+        low = mid + 1;
+      } else if (midKey > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public byte[] getDeweyIDAsBytes() {
+    return null;
+  }
+
+  @Override
+  public RecordSerializer getKind() {
+    return NodeKind.ART;
+  }
+
+  @Override
+  public int getPreviousRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int getLastModifiedRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(nodeKey);
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof final ARTNode other) {
+      return nodeKey == other.nodeKey && leafKey == other.leafKey && Arrays.equals(prefix, other.prefix)
+          && Arrays.equals(childBytes, other.childBytes) && Arrays.equals(childKeys, other.childKeys);
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("nodeKey", nodeKey)
+                      .add("prefix", Arrays.toString(prefix))
+                      .add("leafKey", leafKey)
+                      .add("childBytes", Arrays.toString(childBytes))
+                      .add("childKeys", Arrays.toString(childKeys))
+                      .toString();
+  }
+}
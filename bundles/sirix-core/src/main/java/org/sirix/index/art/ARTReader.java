@@ -0,0 +1,251 @@
+package org.sirix.index.art;
+
+import com.google.common.collect.AbstractIterator;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.index.IndexType;
+import org.sirix.index.redblacktree.RBNode;
+import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.settings.Fixed;
+
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads a persistent adaptive radix tree, which is stored in the record pages of an index. The root of the tree is
+ * the first child of the document root record of the index. Inner nodes are {@link ARTNode}s, the leaves are
+ * {@link RBNode}s.
+ *
+ * <p>In contrast to the red-black trees, a lookup only reads the records on the path of the key bytes, that is at
+ * most one record per byte, and usually much less due to the compressed paths.</p>
+ *
+ * @param <K> the type of the keys
+ * @author Johannes Lichtenberger
+ */
+public final class ARTReader<K extends Comparable<? super K>> {
+
+  /**
+   * {@link PageReadOnlyTrx} for persistent storage.
+   */
+  private final PageReadOnlyTrx pageReadOnlyTrx;
+
+  /**
+   * The index type.
+   */
+  final IndexType indexType;
+
+  /**
+   * The index number.
+   */
+  final int index;
+
+  /**
+   * Transforms the keys to binary comparable keys.
+   */
+  private final BinaryComparable<K> binaryComparable;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageReadOnlyTrx  {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType        the index type
+   * @param index            the index number
+   * @param binaryComparable transforms the keys to binary comparable keys
+   */
+  private ARTReader(final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType, final @NonNegative int index,
+      final BinaryComparable<K> binaryComparable) {
+    this.pageReadOnlyTrx = checkNotNull(pageReadOnlyTrx);
+    this.indexType = checkNotNull(indexType);
+    this.index = index;
+    this.binaryComparable = checkNotNull(binaryComparable);
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param pageReadOnlyTrx  {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType        the index type
+   * @param index            the index number
+   * @param binaryComparable transforms the keys to binary comparable keys
+   * @return new reader instance
+   */
+  public static <K extends Comparable<? super K>> ARTReader<K> getInstance(final PageReadOnlyTrx pageReadOnlyTrx,
+      final IndexType indexType, final @NonNegative int index, final BinaryComparable<K> binaryComparable) {
+    return new ARTReader<>(pageReadOnlyTrx, indexType, index, binaryComparable);
+  }
+
+  /**
+   * Get the binary comparable key of a key.
+   *
+   * @param key the key
+   * @return the binary comparable key
+   */
+  public byte[] toBinaryComparable(final K key) {
+    return binaryComparable.get(checkNotNull(key));
+  }
+
+  /**
+   * Get the node references of a key.
+   *
+   * @param key the key
+   * @return the node references, if the key is indexed
+   */
+  public Optional<NodeReferences> get(final K key) {
+    return getLeaf(toBinaryComparable(key)).map(RBNode::getValue);
+  }
+
+  /**
+   * Get the leaf of a binary comparable key.
+   *
+   * @param key the binary comparable key
+   * @return the leaf, if the key is indexed
+   */
+  public Optional<RBNode<K, NodeReferences>> getLeaf(final byte[] key) {
+    long recordKey = getRootKey();
+    int depth = 0;
+    while (recordKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final DataRecord record = getRecord(recordKey);
+      if (record instanceof final ARTNode node) {
+        final byte[] prefix = node.getPrefix();
+        if (key.length - depth < prefix.length
+            || !Arrays.equals(prefix, 0, prefix.length, key, depth, depth + prefix.length)) {
+          return Optional.empty();
+        }
+        depth += prefix.length;
+        if (depth == key.length) {
+          return node.hasLeaf() ? Optional.of(getRecord(node.getLeafKey())) : Optional.empty();
+        }
+        recordKey = node.getChildKey(key[depth]);
+        depth++;
+      } else if (record instanceof RBNode) {
+        @SuppressWarnings("unchecked")
+        final RBNode<K, NodeReferences> leaf = (RBNode<K, NodeReferences>) record;
+        return Arrays.equals(toBinaryComparable(leaf.getKey()), key) ? Optional.of(leaf) : Optional.empty();
+      } else {
+        return Optional.empty();
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Get an iterator over all leaves in the order of the binary comparable keys.
+   *
+   * @return the iterator
+   */
+  public Iterator<RBNode<K, NodeReferences>> iterator() {
+    return new LeafIterator(getRootKey(), null);
+  }
+
+  /**
+   * Get an iterator over all leaves, whose binary comparable keys start with the specified prefix, in the order of
+   * the binary comparable keys. Only the subtree of the prefix is read.
+   *
+   * @param prefix the prefix of the binary comparable keys
+   * @return the iterator
+   */
+  public Iterator<RBNode<K, NodeReferences>> prefixIterator(final byte[] prefix) {
+    checkNotNull(prefix);
+    long recordKey = getRootKey();
+    int depth = 0;
+    while (recordKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final DataRecord record = getRecord(recordKey);
+      if (record instanceof final ARTNode node) {
+        final byte[] nodePrefix = node.getPrefix();
+        final int length = Math.min(nodePrefix.length, prefix.length - depth);
+        if (!Arrays.equals(nodePrefix, 0, length, prefix, depth, depth + length)) {
+          return Collections.emptyIterator();
+        }
+        depth += nodePrefix.length;
+        if (depth >= prefix.length) {
+          return new LeafIterator(recordKey, null);
+        }
+        recordKey = node.getChildKey(prefix[depth]);
+        depth++;
+      } else if (record instanceof RBNode) {
+        // The subtree consists of a single leaf, which still has to be checked.
+        return new LeafIterator(recordKey, prefix);
+      } else {
+        return Collections.emptyIterator();
+      }
+    }
+    return Collections.emptyIterator();
+  }
+
+  /**
+   * Get the record key of the root of the tree.
+   *
+   * @return the record key of the root or {@link Fixed#NULL_NODE_KEY}, if the tree is empty
+   */
+  long getRootKey() {
+    final DataRecord document = getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+    if (document == null) {
+      return Fixed.NULL_NODE_KEY.getStandardProperty();
+    }
+    return ((StructNode) document).getFirstChildKey();
+  }
+
+  <R extends DataRecord> R getRecord(final long recordKey) {
+    return pageReadOnlyTrx.getRecord(recordKey, indexType, index);
+  }
+
+  /**
+   * Iterates over the leaves of a subtree in the order of the binary comparable keys, that is the leaf of an inner
+   * node first and afterwards the subtrees of the children in the unsigned order of the key bytes.
+   */
+  private final class LeafIterator extends AbstractIterator<RBNode<K, NodeReferences>> {
+
+    /**
+     * The record keys of the subtrees, which still have to be visited.
+     */
+    private final Deque<Long> recordKeys;
+
+    /**
+     * The prefix a single leaf has to match or {@code null}.
+     */
+    private final byte[] prefix;
+
+    /**
+     * Constructor.
+     *
+     * @param recordKey the record key of the root of the subtree
+     * @param prefix    the prefix a single leaf has to match or {@code null}
+     */
+    LeafIterator(final long recordKey, final byte[] prefix) {
+      this.recordKeys = new ArrayDeque<>();
+      this.prefix = prefix;
+      if (recordKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+        recordKeys.push(recordKey);
+      }
+    }
+
+    @Override
+    protected RBNode<K, NodeReferences> computeNext() {
+      while (!recordKeys.isEmpty()) {
+        final DataRecord record = getRecord(recordKeys.pop());
+        if (record instanceof final ARTNode node) {
+          for (int i = node.getNumberOfChildren() - 1; i >= 0; i--) {
+            recordKeys.push(node.getChildKeyAt(i));
+          }
+          if (node.hasLeaf()) {
+            return getRecord(node.getLeafKey());
+          }
+        } else if (record instanceof RBNode) {
+          @SuppressWarnings("unchecked")
+          final RBNode<K, NodeReferences> leaf = (RBNode<K, NodeReferences>) record;
+          if (prefix == null || startsWith(toBinaryComparable(leaf.getKey()), prefix)) {
+            return leaf;
+          }
+        }
+      }
+      return endOfData();
+    }
+
+    private boolean startsWith(final byte[] key, final byte[] prefix) {
+      return key.length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+    }
+  }
+}
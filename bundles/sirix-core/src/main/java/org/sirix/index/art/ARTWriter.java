@@ -0,0 +1,336 @@
+package org.sirix.index.art;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.access.DatabaseType;
+import org.sirix.api.PageTrx;
+import org.sirix.cache.PageContainer;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexType;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.redblacktree.RBNode;
+import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.*;
+import org.sirix.settings.Fixed;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes a persistent adaptive radix tree, which is stored in the record pages of an index (see {@link ARTReader}).
+ * Just like the records of all other trees, the nodes are copied on write through the {@link PageTrx}, such that
+ * the unchanged nodes are shared between revisions.
+ *
+ * <p>Contrary to the red-black trees, no rebalancing is needed, so an insertion modifies at most two records on the
+ * path of the key bytes and creates at most two new records (the leaf and an inner node, whenever a compressed path
+ * has to be split).</p>
+ *
+ * @param <K> the type of the keys
+ * @author Johannes Lichtenberger
+ */
+public final class ARTWriter<K extends Comparable<? super K>> implements IndexWriter<K, NodeReferences> {
+  /**
+   * Logger.
+   */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(ARTWriter.class));
+
+  /**
+   * {@link ARTReader} instance.
+   */
+  private final ARTReader<K> artReader;
+
+  /**
+   * {@link PageTrx} instance.
+   */
+  private final PageTrx pageTrx;
+
+  /**
+   * Private constructor.
+   *
+   * @param databaseType     the type of database
+   * @param pageTrx          {@link PageTrx} for persistent storage
+   * @param type             type of index
+   * @param index            the index number
+   * @param binaryComparable transforms the keys to binary comparable keys
+   */
+  private ARTWriter(final DatabaseType databaseType, final PageTrx pageTrx, final IndexType type,
+      final @NonNegative int index, final BinaryComparable<K> binaryComparable) {
+    try {
+      final RevisionRootPage revisionRootPage = pageTrx.getActualRevisionRootPage();
+      final PageReference reference;
+      switch (type) {
+        case PATH -> {
+          // Create path index tree if needed.
+          final PathPage pathPage = pageTrx.getPathPage(revisionRootPage);
+          reference = revisionRootPage.getPathPageReference();
+          pageTrx.appendLogRecord(reference, PageContainer.getInstance(pathPage, pathPage));
+          pathPage.createPathIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+        }
+        case CAS -> {
+          // Create CAS index tree if needed.
+          final CASPage casPage = pageTrx.getCASPage(revisionRootPage);
+          reference = revisionRootPage.getCASPageReference();
+          pageTrx.appendLogRecord(reference, PageContainer.getInstance(casPage, casPage));
+          casPage.createCASIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+        }
+        case NAME -> {
+          // Create name index tree if needed.
+          final NamePage namePage = pageTrx.getNamePage(revisionRootPage);
+          reference = revisionRootPage.getNamePageReference();
+          pageTrx.appendLogRecord(reference, PageContainer.getInstance(namePage, namePage));
+          namePage.createNameIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+        }
+        default -> {
+        }
+        // Must not happen.
+      }
+    } catch (final SirixIOException e) {
+      LOGGER.error(e.getMessage(), e);
+    }
+    artReader = ARTReader.getInstance(pageTrx, type, index, binaryComparable);
+    this.pageTrx = pageTrx;
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param databaseType     the type of database
+   * @param pageTrx          {@link PageTrx} for persistent storage
+   * @param type             type of index
+   * @param index            the index number
+   * @param binaryComparable transforms the keys to binary comparable keys
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>> ARTWriter<K> getInstance(final DatabaseType databaseType,
+      final PageTrx pageTrx, final IndexType type, final @NonNegative int index,
+      final BinaryComparable<K> binaryComparable) {
+    return new ARTWriter<>(databaseType, pageTrx, type, index, binaryComparable);
+  }
+
+  @Override
+  public void addNodeKey(final K key, final @NonNegative long nodeKey, final Supplier<NodeReferences> newValue) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    insert(key, () -> newValue.get().addNodeKey(nodeKey), leaf -> addNodeKey(leaf, nodeKey));
+  }
+
+  /**
+   * Adds the node references of distinct keys in ascending order. Each key is inserted only once with all its node
+   * keys, and as the keys are sorted, consecutive insertions modify the same records on the path of the common key
+   * bytes.
+   *
+   * @param numberOfKeys  the number of keys
+   * @param sortedEntries the keys and their node references in ascending order of the keys
+   */
+  @Override
+  public void addAll(final @NonNegative long numberOfKeys,
+      final Iterator<? extends Map.Entry<K, NodeReferences>> sortedEntries) {
+    checkArgument(numberOfKeys >= 0, "numberOfKeys must be >= 0!");
+    while (sortedEntries.hasNext()) {
+      final Map.Entry<K, NodeReferences> entry = sortedEntries.next();
+      insert(entry.getKey(), entry::getValue, leaf -> addNodeKeys(leaf, entry.getValue()));
+    }
+  }
+
+  /**
+   * Inserts a key.
+   *
+   * @param key          the key
+   * @param newLeafValue creates the node references of a new leaf
+   * @param updateLeaf   updates the leaf, if the key is already indexed
+   */
+  private void insert(final K key, final Supplier<NodeReferences> newLeafValue,
+      final Consumer<RBNode<K, NodeReferences>> updateLeaf) {
+    final byte[] keyBytes = artReader.toBinaryComparable(checkNotNull(key));
+
+    long recordKey = artReader.getRootKey();
+    if (recordKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      // Index is empty.. create root node.
+      final ARTNode root = pageTrx.createRecord(new ARTNode(getNewNodeKey(), new byte[0]),
+                                                artReader.indexType,
+                                                artReader.index);
+      setRootKey(root.getNodeKey());
+      recordKey = root.getNodeKey();
+    }
+
+    long parentKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    byte parentKeyByte = 0;
+    int depth = 0;
+    while (true) {
+      final DataRecord record = artReader.getRecord(recordKey);
+      if (record instanceof final ARTNode node) {
+        final byte[] prefix = node.getPrefix();
+        final int matched = matchingBytes(prefix, 0, keyBytes, depth);
+        if (matched < prefix.length) {
+          // Split the compressed path.
+          final long leafKey = createLeaf(key, newLeafValue.get());
+          final ARTNode modifiedNode =
+              pageTrx.prepareRecordForModification(node.getNodeKey(), artReader.indexType, artReader.index);
+          modifiedNode.setPrefix(Arrays.copyOfRange(prefix, matched + 1, prefix.length));
+          final ARTNode innerNode = new ARTNode(getNewNodeKey(), Arrays.copyOf(prefix, matched));
+          innerNode.setChildKey(prefix[matched], node.getNodeKey());
+          if (depth + matched == keyBytes.length) {
+            innerNode.setLeafKey(leafKey);
+          } else {
+            innerNode.setChildKey(keyBytes[depth + matched], leafKey);
+          }
+          pageTrx.createRecord(innerNode, artReader.indexType, artReader.index);
+          setChildKey(parentKey, parentKeyByte, innerNode.getNodeKey());
+          return;
+        }
+
+        depth += prefix.length;
+        if (depth == keyBytes.length) {
+          // The key ends in this node.
+          if (node.hasLeaf()) {
+            updateLeaf.accept(artReader.getRecord(node.getLeafKey()));
+          } else {
+            final long leafKey = createLeaf(key, newLeafValue.get());
+            final ARTNode modifiedNode =
+                pageTrx.prepareRecordForModification(node.getNodeKey(), artReader.indexType, artReader.index);
+            modifiedNode.setLeafKey(leafKey);
+          }
+          return;
+        }
+
+        final long childKey = node.getChildKey(keyBytes[depth]);
+        if (childKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+          final long leafKey = createLeaf(key, newLeafValue.get());
+          setChildKey(node.getNodeKey(), keyBytes[depth], leafKey);
+          return;
+        }
+
+        parentKey = node.getNodeKey();
+        parentKeyByte = keyBytes[depth];
+        recordKey = childKey;
+        depth++;
+      } else {
+        @SuppressWarnings("unchecked")
+        final RBNode<K, NodeReferences> leaf = (RBNode<K, NodeReferences>) record;
+        final byte[] leafKeyBytes = artReader.toBinaryComparable(leaf.getKey());
+        if (Arrays.equals(leafKeyBytes, keyBytes)) {
+          updateLeaf.accept(leaf);
+          return;
+        }
+
+        // Expand the leaf to an inner node, which stores the common prefix of both keys.
+        final int matched = matchingBytes(leafKeyBytes, depth, keyBytes, depth);
+        final long leafKey = createLeaf(key, newLeafValue.get());
+        final ARTNode innerNode = new ARTNode(getNewNodeKey(), Arrays.copyOfRange(keyBytes, depth, depth + matched));
+        setChild(innerNode, leafKeyBytes, depth + matched, leaf.getNodeKey());
+        setChild(innerNode, keyBytes, depth + matched, leafKey);
+        pageTrx.createRecord(innerNode, artReader.indexType, artReader.index);
+        setChildKey(parentKey, parentKeyByte, innerNode.getNodeKey());
+        return;
+      }
+    }
+  }
+
+  @Override
+  public boolean remove(final K key, final @NonNegative long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    final Optional<RBNode<K, NodeReferences>> leaf = artReader.getLeaf(artReader.toBinaryComparable(checkNotNull(key)));
+    if (leaf.isPresent() && leaf.get().getValue().contains(nodeKey)) {
+      final RBNode<K, NodeReferences> modifiedLeaf =
+          pageTrx.prepareRecordForModification(leaf.get().getNodeKey(), artReader.indexType, artReader.index);
+      return modifiedLeaf.getValue().removeNodeKey(nodeKey);
+    }
+    return false;
+  }
+
+  private void addNodeKey(final RBNode<K, NodeReferences> leaf, final long nodeKey) {
+    if (!leaf.getValue().contains(nodeKey)) {
+      final RBNode<K, NodeReferences> modifiedLeaf =
+          pageTrx.prepareRecordForModification(leaf.getNodeKey(), artReader.indexType, artReader.index);
+      modifiedLeaf.getValue().addNodeKey(nodeKey);
+    }
+  }
+
+  private void addNodeKeys(final RBNode<K, NodeReferences> leaf, final NodeReferences value) {
+    final RBNode<K, NodeReferences> modifiedLeaf =
+        pageTrx.prepareRecordForModification(leaf.getNodeKey(), artReader.indexType, artReader.index);
+    modifiedLeaf.getValue().addNodeKeys(value);
+  }
+
+  private long createLeaf(final K key, final NodeReferences value) {
+    final NodeDelegate nodeDelegate =
+        new NodeDelegate(getNewNodeKey(), Fixed.NULL_NODE_KEY.getStandardProperty(), null, 0, 0, (SirixDeweyID) null);
+    final RBNode<K, NodeReferences> leaf =
+        pageTrx.createRecord(new RBNode<>(key, value, nodeDelegate), artReader.indexType, artReader.index);
+    return leaf.getNodeKey();
+  }
+
+  /**
+   * Set the child of a new inner node, that is either the leaf of the node, if the key ends in the node, or a child.
+   */
+  private static void setChild(final ARTNode innerNode, final byte[] key, final int depth, final long childKey) {
+    if (depth == key.length) {
+      innerNode.setLeafKey(childKey);
+    } else {
+      innerNode.setChildKey(key[depth], childKey);
+    }
+  }
+
+  /**
+   * Replace or insert the child of an inner node or the root of the tree, if no parent is given.
+   */
+  private void setChildKey(final long parentKey, final byte keyByte, final long childKey) {
+    if (parentKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      setRootKey(childKey);
+    } else {
+      final ARTNode parent = pageTrx.prepareRecordForModification(parentKey, artReader.indexType, artReader.index);
+      parent.setChildKey(keyByte, childKey);
+    }
+  }
+
+  private void setRootKey(final long rootKey) {
+    final StructNode document = pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                                                                     artReader.indexType,
+                                                                     artReader.index);
+    if (!document.hasFirstChild()) {
+      document.incrementChildCount();
+    }
+    document.setFirstChildKey(rootKey);
+  }
+
+  /**
+   * Get the number of matching bytes of two byte arrays, starting at the given offsets.
+   */
+  private static int matchingBytes(final byte[] first, final int firstOffset, final byte[] second,
+      final int secondOffset) {
+    final int length = Math.min(first.length - firstOffset, second.length - secondOffset);
+    int matched = 0;
+    while (matched < length && first[firstOffset + matched] == second[secondOffset + matched]) {
+      matched++;
+    }
+    return matched;
+  }
+
+  /**
+   * Get the new maximum node key.
+   *
+   * @return maximum node key
+   * @throws SirixIOException If any I/O operation fails
+   */
+  private long getNewNodeKey() {
+    final RevisionRootPage root = pageTrx.getActualRevisionRootPage();
+    // $CASES-OMITTED$
+    return switch (artReader.indexType) {
+      case PATH -> pageTrx.getPathPage(root).getMaxNodeKey(artReader.index) + 1;
+      case CAS -> pageTrx.getCASPage(root).getMaxNodeKey(artReader.index) + 1;
+      case NAME -> pageTrx.getNamePage(root).getMaxNodeKey(artReader.index) + 1;
+      default -> throw new IllegalStateException();
+    };
+  }
+}
@@ -1,12 +1,16 @@
 package org.sirix.index.art;
 
+import org.brackit.xquery.atomic.QNm;
+import org.sirix.index.redblacktree.keyvalue.CASValue;
+
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 // noninstantiable companion class
 
 /**
- * Provides implementation of {@link BinaryComparable} for primitives and {@link String}
+ * Provides implementation of {@link BinaryComparable} for primitives, {@link String} and the keys of the indexes
  */
 public class BinaryComparables {
 
@@ -45,6 +49,44 @@ public class BinaryComparables {
     return (key) -> key.getBytes(charset);
   }
 
+  /**
+   * The keys of CAS indexes, that is the path class record followed by the bytes of the value. Keys of the same
+   * path class record thus share a common prefix, but values are only ordered by their bytes.
+   */
+  public static BinaryComparable<CASValue> forCASValue() {
+    return CAS_VALUE;
+  }
+
+  /**
+   * The keys of name indexes, that is the namespace URI and the local name separated by byte 0.
+   */
+  public static BinaryComparable<QNm> forQNm() {
+    return QNM;
+  }
+
+  private static final BinaryComparable<CASValue> CAS_VALUE = (key) -> {
+    final byte[] pathNodeKey = forLong().get(key.getPathNodeKey());
+    final byte[] value = key.getValue();
+    if (value == null) {
+      return pathNodeKey;
+    }
+    final byte[] bytes = new byte[pathNodeKey.length + value.length];
+    System.arraycopy(pathNodeKey, 0, bytes, 0, pathNodeKey.length);
+    System.arraycopy(value, 0, bytes, pathNodeKey.length, value.length);
+    return bytes;
+  };
+
+  private static final BinaryComparable<QNm> QNM = (key) -> {
+    final String namespaceURI = key.getNamespaceURI();
+    final byte[] namespaceURIBytes =
+        namespaceURI == null ? new byte[0] : namespaceURI.getBytes(StandardCharsets.UTF_8);
+    final byte[] localName = key.getLocalName().getBytes(StandardCharsets.UTF_8);
+    final byte[] bytes = new byte[namespaceURIBytes.length + 1 + localName.length];
+    System.arraycopy(namespaceURIBytes, 0, bytes, 0, namespaceURIBytes.length);
+    System.arraycopy(localName, 0, bytes, namespaceURIBytes.length + 1, localName.length);
+    return bytes;
+  };
+
   private static final BinaryComparable<Integer> INTEGER =
       (key) -> BinaryComparableUtils.unsigned(ByteBuffer.allocate(Integer.BYTES).putInt(key).array());
   private static final BinaryComparable<Long> LONG =
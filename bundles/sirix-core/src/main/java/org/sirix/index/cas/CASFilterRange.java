@@ -61,6 +61,10 @@ public final class CASFilterRange implements Filter {
     mIncMax = incMax;
   }
 
+  public Set<Long> getPCRs() {
+    return mPathFilter.getPCRs();
+  }
+
   @Override
   public <K extends Comparable<? super K>> boolean filter(final RBNode<K, NodeReferences> node) {
     final K key = node.getKey();
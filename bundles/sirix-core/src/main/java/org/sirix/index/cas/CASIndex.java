@@ -10,6 +10,8 @@ import org.sirix.index.ChangeListener;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
 import org.sirix.index.SearchMode;
+import org.sirix.index.art.ARTReader;
+import org.sirix.index.art.BinaryComparables;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.redblacktree.RBTreeReader;
@@ -26,6 +28,13 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   L createListener(PageTrx pageWriteTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilterRange filter) {
+    if (indexDef.getBackendType() == IndexDef.BackendType.ADAPTIVE_RADIX_TREE) {
+      final ARTReader<CASValue> reader =
+          ARTReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), BinaryComparables.forCASValue());
+
+      return new IndexFilterAxis<>(pcrIterator(reader, filter.getPCRs()), Set.of(filter));
+    }
+
     final RBTreeReader<CASValue, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -39,6 +48,26 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   }
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
+    if (indexDef.getBackendType() == IndexDef.BackendType.ADAPTIVE_RADIX_TREE) {
+      final ARTReader<CASValue> reader =
+          ARTReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), BinaryComparables.forCASValue());
+
+      // PCRs requested.
+      final Set<Long> pcrsRequested = filter == null ? Collections.emptySet() : filter.getPCRs();
+
+      if (pcrsRequested.size() == 1 && filter.getMode() == SearchMode.EQUAL && filter.getKey() != null) {
+        // Compare for equality by PCR and atomic value, which are both part of the binary comparable key.
+        final long pcr = pcrsRequested.iterator().next();
+        final CASValue value = new CASValue(filter.getKey(), indexDef.getContentType(), pcr);
+
+        return reader.get(value)
+                     .<Iterator<NodeReferences>>map(Iterators::singletonIterator)
+                     .orElse(Collections.emptyIterator());
+      }
+
+      return new IndexFilterAxis<>(pcrIterator(reader, pcrsRequested), Set.of(filter));
+    }
+
     final RBTreeReader<CASValue, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -101,6 +130,18 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
     }
   }
 
+  private Iterator<RBNode<CASValue, NodeReferences>> pcrIterator(ARTReader<CASValue> reader, Set<Long> pcrs) {
+    if (pcrs.isEmpty()) {
+      return reader.iterator();
+    }
+
+    // The keys are prefixed by their PCR, so only the subtrees of the requested PCRs have to be scanned.
+    return Iterators.concat(pcrs.stream()
+                                .sorted()
+                                .map(pcr -> reader.prefixIterator(BinaryComparables.forLong().get(pcr)))
+                                .iterator());
+  }
+
   private Function<RBNode<CASValue, NodeReferences>, Iterator<NodeReferences>> findFirstNodeWithMatchingPCRAndAtomicValue(
       CASFilter filter, RBTreeReader<CASValue, NodeReferences> reader, SearchMode mode, CASValue value) {
     return node -> {
@@ -10,10 +10,10 @@ import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
-import org.sirix.index.SearchMode;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.SortingIndexBuilder;
 import org.sirix.index.path.summary.PathSummaryReader;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.node.immutable.json.ImmutableBooleanNode;
@@ -25,13 +25,12 @@ import org.sirix.node.interfaces.immutable.ImmutableValueNode;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
 import java.util.Set;
 
-public final class CASIndexBuilder {
+public final class CASIndexBuilder implements SortingIndexBuilder {
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(CASIndexBuilder.class));
 
-  private final RBTreeWriter<CASValue, NodeReferences> rbTreeWriter;
+  private final IndexWriter<CASValue, NodeReferences> rbTreeWriter;
 
   private final PathSummaryReader pathSummaryReader;
 
@@ -39,12 +38,15 @@ public final class CASIndexBuilder {
 
   private final Type type;
 
-  public CASIndexBuilder(final RBTreeWriter<CASValue, NodeReferences> rbTreeWriter,
+  private final IndexEntrySorter<CASValue> sorter;
+
+  public CASIndexBuilder(final IndexWriter<CASValue, NodeReferences> rbTreeWriter,
       final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type) {
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
     this.rbTreeWriter = rbTreeWriter;
     this.type = type;
+    sorter = new IndexEntrySorter<>(IndexEntrySorter.casValueKeySerializer(type));
   }
 
   public VisitResult process(final ImmutableNode node, final long pathNodeKey) {
@@ -71,12 +73,7 @@ public final class CASIndexBuilder {
 
         if (isOfType) {
           final CASValue value = new CASValue(strValue, type, pathNodeKey);
-          final Optional<NodeReferences> textReferences = rbTreeWriter.get(value, SearchMode.EQUAL);
-          if (textReferences.isPresent()) {
-            setNodeReferences(node, textReferences.get(), value);
-          } else {
-            setNodeReferences(node, new NodeReferences(), value);
-          }
+          sorter.add(value, node.getNodeKey());
         }
       }
     } catch (final PathException | SirixIOException e) {
@@ -85,8 +82,15 @@ public final class CASIndexBuilder {
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue value)
-      throws SirixIOException {
-    rbTreeWriter.index(value, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+  @Override
+  public void sort() {
+    sorter.sort();
+  }
+
+  @Override
+  public void load() {
+    try (sorter) {
+      rbTreeWriter.addAll(sorter.sort(), sorter.iterator());
+    }
   }
 }
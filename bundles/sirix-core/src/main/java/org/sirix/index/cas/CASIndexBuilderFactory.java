@@ -3,6 +3,9 @@ package org.sirix.index.cas;
 import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.art.ARTWriter;
+import org.sirix.index.art.BinaryComparables;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
@@ -20,12 +23,18 @@ public final class CASIndexBuilderFactory {
 
   public CASIndexBuilder create(final PageTrx pageTrx,
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
-    final var rbTreeWriter =
-        RBTreeWriter.<CASValue, NodeReferences>getInstance(this.databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+    final IndexWriter<CASValue, NodeReferences> indexWriter = switch (indexDef.getBackendType()) {
+      case RED_BLACK_TREE -> RBTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+      case ADAPTIVE_RADIX_TREE -> ARTWriter.getInstance(databaseType,
+                                                        pageTrx,
+                                                        indexDef.getType(),
+                                                        indexDef.getID(),
+                                                        BinaryComparables.forCASValue());
+    };
     final var pathSummary = checkNotNull(pathSummaryReader);
     final var paths = checkNotNull(indexDef.getPaths());
     final var type = checkNotNull(indexDef.getContentType());
 
-    return new CASIndexBuilder(rbTreeWriter, pathSummary, paths, type);
+    return new CASIndexBuilder(indexWriter, pathSummary, paths, type);
   }
 }
@@ -8,26 +8,23 @@ import org.sirix.access.trx.node.IndexController.ChangeType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
-import org.sirix.index.SearchMode;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.path.summary.PathSummaryReader;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
-import java.util.Optional;
 import java.util.Set;
 
 public final class CASIndexListener {
 
-  private final RBTreeWriter<CASValue, NodeReferences> redBlackTreeWriter;
+  private final IndexWriter<CASValue, NodeReferences> redBlackTreeWriter;
   private final PathSummaryReader pathSummaryReader;
   private final Set<Path<QNm>> paths;
   private final Type type;
 
   public CASIndexListener(final PathSummaryReader pathSummaryReader,
-      final RBTreeWriter<CASValue, NodeReferences> redBlackTreeWriter, final Set<Path<QNm>> paths, final Type type) {
+      final IndexWriter<CASValue, NodeReferences> redBlackTreeWriter, final Set<Path<QNm>> paths, final Type type) {
     this.pathSummaryReader = pathSummaryReader;
     this.redBlackTreeWriter = redBlackTreeWriter;
     this.paths = paths;
@@ -61,16 +58,7 @@ public final class CASIndexListener {
 
     if (isOfType) {
       final CASValue indexValue = new CASValue(value, type, pathNodeKey);
-      final Optional<NodeReferences> textReferences = redBlackTreeWriter.get(indexValue, SearchMode.EQUAL);
-      if (textReferences.isPresent()) {
-        setNodeReferences(node, new NodeReferences(textReferences.get().getNodeKeys()), indexValue);
-      } else {
-        setNodeReferences(node, new NodeReferences(), indexValue);
-      }
+      redBlackTreeWriter.addNodeKey(indexValue, node.getNodeKey(), NodeReferences::new);
     }
   }
-
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue indexValue) {
-    redBlackTreeWriter.index(indexValue, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
-  }
 }
@@ -3,6 +3,9 @@ package org.sirix.index.cas;
 import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.art.ARTWriter;
+import org.sirix.index.art.BinaryComparables;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
@@ -21,16 +24,17 @@ public final class CASIndexListenerFactory {
   public CASIndexListener create(final PageTrx pageTrx,
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
     final var pathSummary = checkNotNull(pathSummaryReader);
-    final var avlTreeWriter =
-        RBTreeWriter.<CASValue, NodeReferences>getInstance(
-                this.databaseType,
-                pageTrx,
-                indexDef.getType(),
-                indexDef.getID()
-        );
+    final IndexWriter<CASValue, NodeReferences> indexWriter = switch (indexDef.getBackendType()) {
+      case RED_BLACK_TREE -> RBTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+      case ADAPTIVE_RADIX_TREE -> ARTWriter.getInstance(databaseType,
+                                                        pageTrx,
+                                                        indexDef.getType(),
+                                                        indexDef.getID(),
+                                                        BinaryComparables.forCASValue());
+    };
     final var type = checkNotNull(indexDef.getContentType());
     final var paths = checkNotNull(indexDef.getPaths());
 
-    return new CASIndexListener(pathSummary, avlTreeWriter, paths, type);
+    return new CASIndexListener(pathSummary, indexWriter, paths, type);
   }
 }
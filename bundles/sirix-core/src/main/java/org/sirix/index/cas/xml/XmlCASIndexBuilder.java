@@ -3,6 +3,7 @@ package org.sirix.index.cas.xml;
 import org.sirix.access.trx.node.xml.AbstractXmlNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.index.SortingIndexBuilder;
 import org.sirix.index.cas.CASIndexBuilder;
 import org.sirix.node.immutable.xml.ImmutableAttributeNode;
 import org.sirix.node.immutable.xml.ImmutableText;
@@ -13,7 +14,7 @@ import org.sirix.node.immutable.xml.ImmutableText;
  * @author Johannes Lichtenberger
  *
  */
-final class XmlCASIndexBuilder extends AbstractXmlNodeVisitor {
+final class XmlCASIndexBuilder extends AbstractXmlNodeVisitor implements SortingIndexBuilder {
 
   private final CASIndexBuilder mIndexBuilderDelegate;
 
@@ -43,4 +44,13 @@ final class XmlCASIndexBuilder extends AbstractXmlNodeVisitor {
     return mIndexBuilderDelegate.process(node, PCR);
   }
 
+  @Override
+  public void sort() {
+    mIndexBuilderDelegate.sort();
+  }
+
+  @Override
+  public void load() {
+    mIndexBuilderDelegate.load();
+  }
 }
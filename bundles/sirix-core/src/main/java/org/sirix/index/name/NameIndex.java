@@ -6,6 +6,8 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.*;
+import org.sirix.index.art.ARTReader;
+import org.sirix.index.art.BinaryComparables;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.redblacktree.RBTreeReader;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
@@ -21,6 +23,18 @@ public interface NameIndex<B, L extends ChangeListener> {
   L createListener(PageTrx pageTrx, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, NameFilter filter) {
+    if (indexDef.getBackendType() == IndexDef.BackendType.ADAPTIVE_RADIX_TREE) {
+      final ARTReader<QNm> reader =
+          ARTReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), BinaryComparables.forQNm());
+
+      if (filter.getIncludes().size() == 1 && filter.getExcludes().isEmpty()) {
+        final Optional<NodeReferences> optionalNodeReferences = reader.get(filter.getIncludes().iterator().next());
+        return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+      } else {
+        return new IndexFilterAxis<>(reader.iterator(), ImmutableSet.of(filter));
+      }
+    }
+
     final RBTreeReader<QNm, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
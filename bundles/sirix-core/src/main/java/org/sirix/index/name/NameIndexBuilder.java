@@ -3,29 +3,30 @@ package org.sirix.index.name;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.SortingIndexBuilder;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
 import java.util.Set;
 
-public final class NameIndexBuilder {
+public final class NameIndexBuilder implements SortingIndexBuilder {
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(NameIndexBuilder.class));
 
   public Set<QNm> mIncludes;
   public Set<QNm> mExcludes;
-  public RBTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
+  public IndexWriter<QNm, NodeReferences> mAVLTreeWriter;
+  private final IndexEntrySorter<QNm> sorter;
 
   public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
-      final RBTreeWriter<QNm, NodeReferences> avlTreeWriter) {
+      final IndexWriter<QNm, NodeReferences> avlTreeWriter) {
     mIncludes = includes;
     mExcludes = excludes;
     mAVLTreeWriter = avlTreeWriter;
+    sorter = new IndexEntrySorter<>(IndexEntrySorter.QNM_KEY_SERIALIZER);
   }
 
   public VisitResultType build(QNm name, ImmutableNode node) {
@@ -36,11 +37,8 @@ public final class NameIndexBuilder {
       return VisitResultType.CONTINUE;
     }
 
-    final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(name, SearchMode.EQUAL);
-
     try {
-      textReferences.ifPresentOrElse(nodeReferences -> setNodeReferences(node, nodeReferences, name),
-          () -> setNodeReferences(node, new NodeReferences(), name));
+      sorter.add(name, node.getNodeKey());
     } catch (final SirixIOException e) {
       LOGGER.error(e.getMessage(), e);
     }
@@ -48,7 +46,15 @@ public final class NameIndexBuilder {
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final QNm name) {
-    mAVLTreeWriter.index(name, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+  @Override
+  public void sort() {
+    sorter.sort();
+  }
+
+  @Override
+  public void load() {
+    try (sorter) {
+      mAVLTreeWriter.addAll(sorter.sort(), sorter.iterator());
+    }
   }
 }
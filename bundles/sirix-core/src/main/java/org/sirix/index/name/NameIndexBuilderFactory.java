@@ -5,6 +5,9 @@ import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexType;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.art.ARTWriter;
+import org.sirix.index.art.BinaryComparables;
 import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 
@@ -23,13 +26,18 @@ public final class NameIndexBuilderFactory {
     final var includes = checkNotNull(indexDefinition.getIncluded());
     final var excludes = checkNotNull(indexDefinition.getExcluded());
     assert indexDefinition.getType() == IndexType.NAME;
-    final var rbTreeWriter = RBTreeWriter.<QNm, NodeReferences>getInstance(
-            this.databaseType,
-            pageTrx,
-            indexDefinition.getType(),
-            indexDefinition.getID()
-    );
-
-    return new NameIndexBuilder(includes, excludes, rbTreeWriter);
+    final IndexWriter<QNm, NodeReferences> indexWriter = switch (indexDefinition.getBackendType()) {
+      case RED_BLACK_TREE -> RBTreeWriter.getInstance(databaseType,
+                                                      pageTrx,
+                                                      indexDefinition.getType(),
+                                                      indexDefinition.getID());
+      case ADAPTIVE_RADIX_TREE -> ARTWriter.getInstance(databaseType,
+                                                        pageTrx,
+                                                        indexDefinition.getType(),
+                                                        indexDefinition.getID(),
+                                                        BinaryComparables.forQNm());
+    };
+
+    return new NameIndexBuilder(includes, excludes, indexWriter);
   }
 }
@@ -3,23 +3,20 @@ package org.sirix.index.name;
 import org.brackit.xquery.atomic.QNm;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.sirix.access.trx.node.IndexController.ChangeType;
-import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
-import java.util.Optional;
 import java.util.Set;
 
 public final class NameIndexListener {
 
   private final Set<QNm> mIncludes;
   private final Set<QNm> mExcludes;
-  private final RBTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
+  private final IndexWriter<QNm, NodeReferences> mAVLTreeWriter;
 
   public NameIndexListener(final Set<QNm> includes, final Set<QNm> excludes,
-      final RBTreeWriter<QNm, NodeReferences> avlTreeWriter) {
+      final IndexWriter<QNm, NodeReferences> avlTreeWriter) {
     mIncludes = includes;
     mExcludes = excludes;
     mAVLTreeWriter = avlTreeWriter;
@@ -35,12 +32,7 @@ public final class NameIndexListener {
 
     switch (type) {
       case INSERT:
-        final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(name, SearchMode.EQUAL);
-        if (textReferences.isPresent()) {
-          setNodeReferences(node, textReferences.get(), name);
-        } else {
-          setNodeReferences(node, new NodeReferences(), name);
-        }
+        mAVLTreeWriter.addNodeKey(name, node.getNodeKey(), NodeReferences::new);
         break;
       case DELETE:
         mAVLTreeWriter.remove(name, node.getNodeKey());
@@ -49,8 +41,4 @@ public final class NameIndexListener {
     }
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final QNm name) {
-    mAVLTreeWriter.index(name, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
-  }
-
 }
@@ -5,6 +5,9 @@ import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexType;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.art.ARTWriter;
+import org.sirix.index.art.BinaryComparables;
 import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 
@@ -23,13 +26,18 @@ public final class NameIndexListenerFactory {
     final var includes = checkNotNull(indexDefinition.getIncluded());
     final var excludes = checkNotNull(indexDefinition.getExcluded());
     assert indexDefinition.getType() == IndexType.NAME;
-    final var avlTreeWriter = RBTreeWriter.<QNm, NodeReferences>getInstance(
-            this.databaseType,
-            pageWriteTrx,
-            indexDefinition.getType(),
-            indexDefinition.getID()
-    );
+    final IndexWriter<QNm, NodeReferences> indexWriter = switch (indexDefinition.getBackendType()) {
+      case RED_BLACK_TREE -> RBTreeWriter.getInstance(databaseType,
+                                                      pageWriteTrx,
+                                                      indexDefinition.getType(),
+                                                      indexDefinition.getID());
+      case ADAPTIVE_RADIX_TREE -> ARTWriter.getInstance(databaseType,
+                                                        pageWriteTrx,
+                                                        indexDefinition.getType(),
+                                                        indexDefinition.getID(),
+                                                        BinaryComparables.forQNm());
+    };
 
-    return new NameIndexListener(includes, excludes, avlTreeWriter);
+    return new NameIndexListener(includes, excludes, indexWriter);
   }
 }
@@ -3,10 +3,11 @@ package org.sirix.index.name.xml;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.trx.node.xml.AbstractXmlNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.index.SortingIndexBuilder;
 import org.sirix.index.name.NameIndexBuilder;
 import org.sirix.node.immutable.xml.ImmutableElement;
 
-final class XmlNameIndexBuilder extends AbstractXmlNodeVisitor {
+final class XmlNameIndexBuilder extends AbstractXmlNodeVisitor implements SortingIndexBuilder {
   private final NameIndexBuilder builder;
 
   XmlNameIndexBuilder(final NameIndexBuilder builder) {
@@ -19,4 +20,14 @@ final class XmlNameIndexBuilder extends AbstractXmlNodeVisitor {
 
     return builder.build(name, node);
   }
+
+  @Override
+  public void sort() {
+    builder.sort();
+  }
+
+  @Override
+  public void load() {
+    builder.load();
+  }
 }
@@ -5,6 +5,8 @@ import com.google.common.collect.Iterators;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.*;
+import org.sirix.index.art.ARTReader;
+import org.sirix.index.art.BinaryComparables;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.redblacktree.RBTreeReader;
@@ -22,6 +24,20 @@ public interface PathIndex<B, L extends ChangeListener> {
 
   default Iterator<NodeReferences> openIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
       final PathFilter filter) {
+    if (indexDef.getBackendType() == IndexDef.BackendType.ADAPTIVE_RADIX_TREE) {
+      final ARTReader<Long> reader =
+          ARTReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), BinaryComparables.forLong());
+
+      if (filter != null && filter.getPCRs().size() == 1) {
+        final Optional<NodeReferences> optionalNodeReferences = reader.get(filter.getPCRs().iterator().next());
+        return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+      } else {
+        final Set<Filter> setFilter = filter == null ? ImmutableSet.of() : ImmutableSet.of(filter);
+
+        return new IndexFilterAxis<>(reader.iterator(), setFilter);
+      }
+    }
+
     final RBTreeReader<Long, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -4,6 +4,9 @@ import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexType;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.art.ARTWriter;
+import org.sirix.index.art.BinaryComparables;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
@@ -23,9 +26,15 @@ public final class PathIndexBuilderFactory {
     final var pathSummary = checkNotNull(pathSummaryReader);
     final var paths = checkNotNull(indexDef.getPaths());
     assert indexDef.getType() == IndexType.PATH;
-    final var rbTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(
-            this.databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+    final IndexWriter<Long, NodeReferences> indexWriter = switch (indexDef.getBackendType()) {
+      case RED_BLACK_TREE -> RBTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+      case ADAPTIVE_RADIX_TREE -> ARTWriter.getInstance(databaseType,
+                                                        pageTrx,
+                                                        indexDef.getType(),
+                                                        indexDef.getID(),
+                                                        BinaryComparables.forLong());
+    };
 
-    return new PathIndexBuilder(rbTreeWriter, pathSummary, paths);
+    return new PathIndexBuilder(indexWriter, pathSummary, paths);
   }
 }
@@ -5,24 +5,21 @@ import org.brackit.xquery.util.path.Path;
 import org.brackit.xquery.util.path.PathException;
 import org.sirix.access.trx.node.IndexController.ChangeType;
 import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.path.summary.PathSummaryReader;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
-import java.util.Optional;
 import java.util.Set;
 
 public final class PathIndexListener {
 
-  private final RBTreeWriter<Long, NodeReferences> indexWriter;
+  private final IndexWriter<Long, NodeReferences> indexWriter;
   private final PathSummaryReader pathSummaryReader;
   private final Set<Path<QNm>> paths;
 
   public PathIndexListener(final Set<Path<QNm>> paths, final PathSummaryReader pathSummaryReader,
-      final RBTreeWriter<Long, NodeReferences> indexWriter) {
+      final IndexWriter<Long, NodeReferences> indexWriter) {
     this.indexWriter = indexWriter;
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
@@ -34,12 +31,7 @@ public final class PathIndexListener {
       switch (type) {
         case INSERT:
           if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-            final Optional<NodeReferences> textReferences = indexWriter.get(pathNodeKey, SearchMode.EQUAL);
-            if (textReferences.isPresent()) {
-              setNodeReferences(node, textReferences.get(), pathNodeKey);
-            } else {
-              setNodeReferences(node, new NodeReferences(), pathNodeKey);
-            }
+            indexWriter.addNodeKey(pathNodeKey, node.getNodeKey(), NodeReferences::new);
           }
           break;
         case DELETE:
@@ -53,9 +45,4 @@ public final class PathIndexListener {
       throw new SirixIOException(e);
     }
   }
-
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final long pathNodeKey)
-      throws SirixIOException {
-    indexWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
-  }
 }
@@ -3,6 +3,9 @@ package org.sirix.index.path;
 import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.art.ARTWriter;
+import org.sirix.index.art.BinaryComparables;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
@@ -22,13 +25,15 @@ public final class PathIndexListenerFactory {
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
     final var pathSummary = checkNotNull(pathSummaryReader);
     final var paths = checkNotNull(indexDef.getPaths());
-    final var avlTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(
-            this.databaseType,
-            pageTrx,
-            indexDef.getType(),
-            indexDef.getID()
-    );
-
-    return new PathIndexListener(paths, pathSummary, avlTreeWriter);
+    final IndexWriter<Long, NodeReferences> indexWriter = switch (indexDef.getBackendType()) {
+      case RED_BLACK_TREE -> RBTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+      case ADAPTIVE_RADIX_TREE -> ARTWriter.getInstance(databaseType,
+                                                        pageTrx,
+                                                        indexDef.getType(),
+                                                        indexDef.getID(),
+                                                        BinaryComparables.forLong());
+    };
+
+    return new PathIndexListener(paths, pathSummary, indexWriter);
   }
 }
@@ -2,11 +2,12 @@ package org.sirix.index.path.json;
 
 import org.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.index.SortingIndexBuilder;
 import org.sirix.index.path.PathIndexBuilder;
 import org.sirix.node.immutable.json.ImmutableArrayNode;
 import org.sirix.node.immutable.json.ImmutableObjectKeyNode;
 
-public final class JsonPathIndexBuilder extends AbstractJsonNodeVisitor {
+public final class JsonPathIndexBuilder extends AbstractJsonNodeVisitor implements SortingIndexBuilder {
 
   private final PathIndexBuilder pathIndexBuilder;
 
@@ -23,4 +24,14 @@ public final class JsonPathIndexBuilder extends AbstractJsonNodeVisitor {
   public VisitResult visit(ImmutableArrayNode node) {
     return pathIndexBuilder.process(node, node.getPathNodeKey());
   }
+
+  @Override
+  public void sort() {
+    pathIndexBuilder.sort();
+  }
+
+  @Override
+  public void load() {
+    pathIndexBuilder.load();
+  }
 }
@@ -37,6 +37,7 @@ import org.sirix.api.PageTrx;
 import org.sirix.cache.PageContainer;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.SearchMode;
 import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
 import org.sirix.index.redblacktree.interfaces.References;
@@ -48,7 +49,10 @@ import org.sirix.settings.Fixed;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -61,7 +65,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @author Johannes Lichtenberger, University of Konstanz
  */
 public final class RBTreeWriter<K extends Comparable<? super K>, V extends References>
-    extends AbstractForwardingNodeCursor {
+    extends AbstractForwardingNodeCursor implements IndexWriter<K, V> {
   /**
    * Logger.
    */
@@ -222,6 +226,124 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
     }
   }
 
+  /**
+   * Adds a node key to the references of the specified key. If the key is already indexed, the stored references are
+   * modified in place, such that the costs don't depend on the number of already referenced node keys. Otherwise, a
+   * new index entry is created.
+   *
+   * @param key      the indexed key
+   * @param nodeKey  the node key to add
+   * @param newValue creates empty references, if the key isn't indexed yet
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  public void addNodeKey(final K key, final @NonNegative long nodeKey, final Supplier<V> newValue) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    final Optional<V> searchedValue = rbTreeReader.get(checkNotNull(key), SearchMode.EQUAL);
+    if (searchedValue.isPresent()) {
+      if (!searchedValue.get().contains(nodeKey)) {
+        final RBNode<K, V> node =
+            pageTrx.prepareRecordForModification(rbTreeReader.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
+        node.getValue().addNodeKey(nodeKey);
+      }
+    } else {
+      final V value = newValue.get();
+      value.addNodeKey(nodeKey);
+      index(key, value, MoveCursor.NO_MOVE);
+    }
+  }
+
+  /**
+   * Adds the node references of distinct keys in ascending order. If the index is empty, the tree is built bottom-up:
+   * the records are created in the order of their keys, which are computed upfront from the number of keys, such that
+   * neither searches nor rebalancing is needed. The resulting tree is perfectly balanced, and only the nodes on the
+   * deepest level are red. Otherwise, the entries are inserted one after the other.
+   *
+   * @param numberOfKeys  the number of keys
+   * @param sortedEntries the keys and their node references in ascending order of the keys
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  public void addAll(final @NonNegative long numberOfKeys, final Iterator<? extends Map.Entry<K, V>> sortedEntries) {
+    checkArgument(numberOfKeys >= 0, "numberOfKeys must be >= 0!");
+    if (numberOfKeys == 0) {
+      return;
+    }
+
+    moveToDocumentRoot();
+    if (((StructNode) getNode()).hasFirstChild()) {
+      while (sortedEntries.hasNext()) {
+        final Map.Entry<K, V> entry = sortedEntries.next();
+        final Optional<V> searchedValue = rbTreeReader.get(entry.getKey(), SearchMode.EQUAL);
+        if (searchedValue.isPresent()) {
+          final RBNode<K, V> node = pageTrx.prepareRecordForModification(rbTreeReader.getNodeKey(),
+                                                                         rbTreeReader.indexType,
+                                                                         rbTreeReader.index);
+          node.getValue().addNodeKeys(entry.getValue());
+        } else {
+          index(entry.getKey(), entry.getValue(), MoveCursor.NO_MOVE);
+        }
+      }
+      return;
+    }
+
+    final long firstNodeKey = getNewNodeKey(pageTrx.getActualRevisionRootPage());
+    final int deepestLevel = 63 - Long.numberOfLeadingZeros(numberOfKeys);
+    createSubtree(sortedEntries,
+                  firstNodeKey,
+                  0,
+                  numberOfKeys - 1,
+                  Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                  0,
+                  deepestLevel);
+
+    final StructNode document = pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                                                                     rbTreeReader.indexType,
+                                                                     rbTreeReader.index);
+    document.setFirstChildKey(firstNodeKey + ((numberOfKeys - 1) >>> 1));
+    document.incrementChildCount();
+    document.setDescendantCount(document.getDescendantCount() + numberOfKeys);
+  }
+
+  /**
+   * Creates the records of a balanced subtree in the order of their keys.
+   *
+   * @param sortedEntries the keys and their node references in ascending order of the keys
+   * @param firstNodeKey  the record key of the first entry
+   * @param low           the position of the first entry of the subtree
+   * @param high          the position of the last entry of the subtree
+   * @param parentKey     the record key of the parent
+   * @param level         the level of the root of the subtree
+   * @param deepestLevel  the deepest level of the tree, whose nodes are red
+   */
+  private void createSubtree(final Iterator<? extends Map.Entry<K, V>> sortedEntries, final long firstNodeKey,
+      final long low, final long high, final long parentKey, final int level, final int deepestLevel) {
+    final long middle = (low + high) >>> 1;
+    final long nodeKey = firstNodeKey + middle;
+
+    if (low < middle) {
+      createSubtree(sortedEntries, firstNodeKey, low, middle - 1, nodeKey, level + 1, deepestLevel);
+    }
+
+    final Map.Entry<K, V> entry = sortedEntries.next();
+    final RBNode<K, V> node = new RBNode<>(entry.getKey(),
+                                           entry.getValue(),
+                                           new NodeDelegate(nodeKey, parentKey, null, 0, 0, (SirixDeweyID) null));
+    if (low < middle) {
+      node.setLeftChildKey(firstNodeKey + ((low + middle - 1) >>> 1));
+    }
+    if (middle < high) {
+      node.setRightChildKey(firstNodeKey + ((middle + 1 + high) >>> 1));
+    }
+    node.setChanged(level == deepestLevel && level > 0);
+    final RBNode<K, V> createdNode = pageTrx.createRecord(node, rbTreeReader.indexType, rbTreeReader.index);
+    assert createdNode.getNodeKey() == getNewNodeKey(pageTrx.getActualRevisionRootPage()) - 1;
+
+    if (middle < high) {
+      createSubtree(sortedEntries, firstNodeKey, middle + 1, high, nodeKey, level + 1, deepestLevel);
+    }
+  }
+
   /**
    * Get the new maximum node key.
    *
@@ -247,6 +369,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
    * @param nodeKey the nodeKey to remove from the value
    * @throws SirixIOException if an I/O error occured
    */
+  @Override
   public boolean remove(final K key, final @NonNegative long nodeKey) {
     checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
     final Optional<V> searchedValue = rbTreeReader.get(checkNotNull(key), SearchMode.EQUAL);
@@ -29,6 +29,13 @@ public interface References {
    */
   References addNodeKey(@NonNegative long nodeKey);
 
+  /**
+   * Add the node keys of the given references.
+   * 
+   * @param references the references, whose node keys to add
+   */
+  References addNodeKeys(References references);
+
   /**
    * Determines if the node key is indexed or not.
    * 
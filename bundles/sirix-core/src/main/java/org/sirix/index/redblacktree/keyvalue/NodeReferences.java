@@ -20,6 +20,9 @@ public final class NodeReferences implements References {
   /** A {@link Set} of node-keys. */
   private final Roaring64Bitmap nodeKeys;
 
+  /** Determines if the node keys are run optimized since they have been modified the last time. */
+  private boolean isOptimized;
+
   /**
    * Default constructor.
    */
@@ -28,13 +31,13 @@ public final class NodeReferences implements References {
   }
 
   /**
-   * Constructor.
+   * Constructor. The node keys are not copied, thus they must not be modified by the caller afterwards.
    *
    * @param nodeKeys node keys
    */
   public NodeReferences(final Roaring64Bitmap nodeKeys) {
     assert nodeKeys != null;
-    this.nodeKeys = nodeKeys.clone();
+    this.nodeKeys = nodeKeys;
   }
 
   @Override
@@ -47,16 +50,41 @@ public final class NodeReferences implements References {
     return nodeKeys;
   }
 
+  /**
+   * Get the node keys, which are run optimized once after they have been modified. Node keys are mostly assigned in
+   * ascending order, thus runs of node keys are stored as run containers.
+   *
+   * @return the run optimized node keys
+   */
+  public Roaring64Bitmap getOptimizedNodeKeys() {
+    if (!isOptimized) {
+      nodeKeys.runOptimize();
+      isOptimized = true;
+    }
+    return nodeKeys;
+  }
+
   @Override
   public NodeReferences addNodeKey(final @NonNegative long nodeKey) {
     nodeKeys.add(nodeKey);
+    isOptimized = false;
+    return this;
+  }
+
+  @Override
+  public NodeReferences addNodeKeys(final References references) {
+    nodeKeys.or(references.getNodeKeys());
+    isOptimized = false;
     return this;
   }
 
   @Override
   public boolean removeNodeKey(@NonNegative long nodeKey) {
     boolean containsNodeKey = nodeKeys.contains(nodeKey);
-    nodeKeys.removeLong(nodeKey);
+    if (containsNodeKey) {
+      nodeKeys.removeLong(nodeKey);
+      isOptimized = false;
+    }
     return containsNodeKey;
   }
 
@@ -8,6 +8,7 @@ import org.sirix.page.RevisionRootPage;
 import org.sirix.page.interfaces.Page;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -31,6 +32,12 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().readAsync(reference, pageReadTrx);
   }
 
+  @Override
+  public CompletableFuture<List<Page>> readAllAsync(List<PageReference> references,
+      @Nullable PageReadOnlyTrx pageReadTrx) {
+    return delegate().readAllAsync(references, pageReadTrx);
+  }
+
   @Override
   public PageReference readUberPageReference() {
     return delegate().readUberPageReference();
@@ -51,6 +58,11 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().getRevisionFileData(revision);
   }
 
+  @Override
+  public void loadRevisionIndex(RevisionIndex revisionIndex, int numberOfRevisions) {
+    delegate().loadRevisionIndex(revisionIndex, numberOfRevisions);
+  }
+
   @Override
   protected abstract Reader delegate();
 }
@@ -3,6 +3,7 @@ package org.sirix.io;
 import net.openhft.chronicle.bytes.Bytes;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.page.KeyValueLeafPage;
 import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
 import org.sirix.page.SerializationType;
@@ -10,7 +11,10 @@ import org.sirix.page.UberPage;
 import org.sirix.page.interfaces.Page;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 public abstract class AbstractReader implements Reader {
   protected final ByteHandler byteHandler;
@@ -42,6 +46,74 @@ public abstract class AbstractReader implements Reader {
     return deserializedPage;
   }
 
+  /**
+   * Deserialize a page directly from the given buffer, which might be a slice of a memory-mapped file. If no byte
+   * handler transforms the bytes, the page is deserialized from the buffer without any intermediate copy, otherwise
+   * the byte handlers read directly from the buffer and the page is deserialized from their output.
+   *
+   * @param pageReadTrx the page read-only trx
+   * @param page        the serialized page (from the buffer's position up to its limit)
+   * @return the deserialized page
+   * @throws IOException if the page couldn't be deserialized
+   */
+  public Page deserialize(PageReadOnlyTrx pageReadTrx, ByteBuffer page) throws IOException {
+    final var input = Bytes.wrapForRead(byteHandler.deserialize(page));
+    return pagePersister.deserializePage(pageReadTrx, input, type);
+  }
+
+  /**
+   * Serialize a page and apply the byte handler pipeline (for instance compress the page).
+   *
+   * @param pageReadOnlyTrx the page read-only trx
+   * @param sink            the bytes to serialize the page to (cleared afterwards)
+   * @param page            the page to serialize
+   * @param type            the serialization type
+   * @return the serialized and transformed page
+   * @throws IOException if the page couldn't be serialized
+   * @see #serializePage(PagePersister, ByteHandler, PageReadOnlyTrx, Bytes, Page, SerializationType)
+   */
+  public byte[] serializePage(PageReadOnlyTrx pageReadOnlyTrx, Bytes<ByteBuffer> sink, Page page,
+      SerializationType type) throws IOException {
+    return serializePage(pagePersister, byteHandler, pageReadOnlyTrx, sink, page, type);
+  }
+
+  /**
+   * Serialize a page and apply the byte handler pipeline (for instance compress the page). If the transformed bytes
+   * of a {@link KeyValueLeafPage} have been prepared ahead for the data file, these are used and dropped from the page
+   * afterwards, as the page is written.
+   *
+   * @param pagePersister   the page persister
+   * @param byteHandler     the byte handler pipeline
+   * @param pageReadOnlyTrx the page read-only trx
+   * @param sink            the bytes to serialize the page to (cleared afterwards)
+   * @param page            the page to serialize
+   * @param type            the serialization type
+   * @return the serialized and transformed page
+   * @throws IOException if the page couldn't be serialized
+   */
+  public static byte[] serializePage(PagePersister pagePersister, ByteHandler byteHandler,
+      PageReadOnlyTrx pageReadOnlyTrx, Bytes<ByteBuffer> sink, Page page, SerializationType type) throws IOException {
+    // The bytes are only prepared for the data file, not for the transaction intent log.
+    if (type == SerializationType.DATA && page instanceof KeyValueLeafPage keyValueLeafPage) {
+      final byte[] compressedBytes = keyValueLeafPage.getCompressedBytes();
+      if (compressedBytes != null) {
+        keyValueLeafPage.clearCompressedBytes();
+        return compressedBytes;
+      }
+    }
+
+    pagePersister.serializePage(pageReadOnlyTrx, sink, page, type);
+    final var byteArray = sink.toByteArray();
+    sink.clear();
+
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length);
+         final DataOutputStream dataOutput = new DataOutputStream(byteHandler.serialize(output))) {
+      dataOutput.write(byteArray);
+      dataOutput.flush();
+      return output.toByteArray();
+    }
+  }
+
   @Override
   public PageReference readUberPageReference() {
     final PageReference uberPageReference = new PageReference();
@@ -20,16 +20,10 @@
  */
 package org.sirix.io;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.bytepipe.ByteHandler;
-import org.sirix.page.PageReference;
 import org.sirix.page.UberPage;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Interface to generate access to the storage. The storage is flexible as long as {@link Reader}
  * and {@link Writer}-implementations are provided. Utility methods for common interaction with the
@@ -91,37 +85,30 @@ public interface IOStorage {
   boolean exists();
 
   /**
-   * Load the revision file data into an in-memory cache.
+   * Load the offsets and commit timestamps of the revisions into the revision index, unless they have been loaded
+   * already by another instance of the storage.
    *
-   * @param cache the cache to
+   * @param revisionIndex the revision index to load
+   * @throws SirixIOException if an I/O error occurs
    */
-  default void loadRevisionFileDataIntoMemory(AsyncCache<Integer, RevisionFileData> cache) {
-    if (!cache.asMap().isEmpty()) {
+  default void loadRevisionIndex(RevisionIndex revisionIndex) {
+    if (revisionIndex.getSize() > 0 || !exists()) {
       return;
     }
 
-    final UberPage uberPage;
-    if (exists()) {
-      final Reader reader = createReader();
-      final PageReference firstRef = reader.readUberPageReference();
-      uberPage = (UberPage) firstRef.getPage();
-
-      final var revisionNumber = uberPage.getRevisionNumber();
-      final var revisionNumbers = new ArrayList<Integer>(revisionNumber);
-
-      for (int i = 1; i <= revisionNumber; i++) {
-        revisionNumbers.add(i);
-      }
-
-      cache.getAll(revisionNumbers, keys -> {
-        final Map<Integer, RevisionFileData> result = new HashMap<>();
-        keys.forEach(key -> result.put(key, reader.getRevisionFileData(key)));
-        reader.close();
-        return result;
-      });
+    try (final Reader reader = createReader()) {
+      final UberPage uberPage = (UberPage) reader.readUberPageReference().getPage();
+      reader.loadRevisionIndex(revisionIndex, uberPage.getRevisionCount());
     }
   }
 
+  /**
+   * Get the offsets and commit timestamps of the revisions.
+   *
+   * @return the revision index
+   */
+  RevisionIndex getRevisionIndex();
+
   /**
    * Get the byte handler pipeline.
    *
@@ -0,0 +1,98 @@
+package org.sirix.io;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Longs;
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.hashing.LongHashFunction;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.api.PageReadOnlyTrx;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The hash functions, which are available to compute the integrity hashes of the serialized pages, which are stored
+ * in the page references.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum PageHashFunction {
+  /**
+   * SHA-256, a cryptographic hash function, which makes the page hashes tamper-evident.
+   */
+  SHA256 {
+    private final HashFunction hashFunction = Hashing.sha256();
+
+    @Override
+    public byte[] hash(final byte[] bytes) {
+      return hashFunction.hashBytes(bytes).asBytes();
+    }
+
+    @Override
+    public byte[] hash(final ByteBuffer buffer, final int offset, final int length) {
+      return hashFunction.hashBytes(buffer.duplicate().limit(offset + length).position(offset)).asBytes();
+    }
+  },
+
+  /**
+   * XXH3, a non-cryptographic 64-bit hash function, which is a lot cheaper to compute, but only detects accidental
+   * corruption.
+   */
+  XXH3 {
+    private final LongHashFunction hashFunction = LongHashFunction.xx3();
+
+    @Override
+    public byte[] hash(final byte[] bytes) {
+      return Longs.toByteArray(hashFunction.hashBytes(bytes));
+    }
+
+    @Override
+    public byte[] hash(final ByteBuffer buffer, final int offset, final int length) {
+      return Longs.toByteArray(hashFunction.hashBytes(buffer, offset, length));
+    }
+  };
+
+  /**
+   * Compute the hash of a serialized page.
+   *
+   * @param bytes the serialized page
+   * @return the hash
+   */
+  public abstract byte[] hash(byte[] bytes);
+
+  /**
+   * Compute the hash of a region of a buffer, without changing the position or limit of the buffer.
+   *
+   * @param buffer the buffer
+   * @param offset the absolute offset of the region
+   * @param length the length of the region
+   * @return the hash
+   */
+  public abstract byte[] hash(ByteBuffer buffer, int offset, int length);
+
+  /**
+   * Compute the hash of the readable bytes, without copying them, if they are backed by a {@link ByteBuffer}.
+   *
+   * @param bytes the bytes to hash
+   * @return the hash
+   */
+  public byte[] hash(final Bytes<?> bytes) {
+    if (bytes.underlyingObject() instanceof ByteBuffer buffer) {
+      return hash(buffer, (int) (bytes.readPosition() - bytes.start()), (int) bytes.readRemaining());
+    }
+    return hash(bytes.toByteArray());
+  }
+
+  /**
+   * Get the page hash function configured for the resource of a transaction.
+   *
+   * @param pageReadOnlyTrx the page transaction, might be {@code null}, if no resource is involved
+   * @return the configured hash function or {@link #SHA256}, if no transaction is given
+   */
+  public static PageHashFunction of(final @Nullable PageReadOnlyTrx pageReadOnlyTrx) {
+    if (pageReadOnlyTrx == null) {
+      return SHA256;
+    }
+    return pageReadOnlyTrx.getResourceSession().getResourceConfig().pageHashFunction;
+  }
+}
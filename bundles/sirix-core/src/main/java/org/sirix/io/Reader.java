@@ -28,8 +28,6 @@
 
 package org.sirix.io;
 
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
@@ -38,7 +36,10 @@ import org.sirix.page.RevisionRootPage;
 import org.sirix.page.delegates.BitmapReferencesPage;
 import org.sirix.page.interfaces.Page;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -51,9 +52,6 @@ import java.util.concurrent.Executors;
  */
 public interface Reader extends AutoCloseable {
 
-  /** Hash function to use for hashing pages. */
-  HashFunction hashFunction = Hashing.sha256();
-
   /** Executor Service used for the async read. */
   ExecutorService POOL = Executors.newVirtualThreadPerTaskExecutor();
 
@@ -77,6 +75,25 @@ public interface Reader extends AutoCloseable {
     return CompletableFuture.supplyAsync(() -> read(key, pageReadTrx), POOL);
   }
 
+  /**
+   * Read a batch of pages, for instance all page fragments of a record page. Backends, which support vectored or
+   * batched I/O should submit all reads at once.
+   *
+   * @param references the references of the pages to read
+   * @param pageReadTrx {@link PageReadOnlyTrx} reference
+   * @return the pages in the order of the given references
+   * @throws SirixIOException if something bad happens during read
+   */
+  default CompletableFuture<List<Page>> readAllAsync(List<PageReference> references,
+      @Nullable PageReadOnlyTrx pageReadTrx) {
+    final List<CompletableFuture<? extends Page>> pages = new ArrayList<>(references.size());
+    for (final PageReference reference : references) {
+      pages.add(readAsync(reference, pageReadTrx));
+    }
+    return CompletableFuture.allOf(pages.toArray(new CompletableFuture[0]))
+                            .thenApply(unused -> pages.stream().<Page>map(CompletableFuture::join).toList());
+  }
+
   /**
    * Getting a reference for the given pointer.
    *
@@ -107,4 +124,21 @@ public interface Reader extends AutoCloseable {
   Instant readRevisionRootPageCommitTimestamp(int revision);
 
   RevisionFileData getRevisionFileData(int revision);
+
+  /**
+   * Load the offsets and commit timestamps of the revisions into the revision index.
+   *
+   * @param revisionIndex     the revision index to load
+   * @param numberOfRevisions the number of revisions
+   * @throws SirixIOException if something bad happens while access
+   */
+  default void loadRevisionIndex(RevisionIndex revisionIndex, int numberOfRevisions) {
+    final ByteBuffer buffer = ByteBuffer.allocate(numberOfRevisions * RevisionIndex.ENTRY_SIZE);
+    for (int revision = 0; revision < numberOfRevisions; revision++) {
+      final RevisionFileData revisionFileData = getRevisionFileData(revision);
+      buffer.putLong(revisionFileData.offset());
+      buffer.putLong(revisionFileData.timestamp().toEpochMilli());
+    }
+    revisionIndex.load(buffer.flip(), numberOfRevisions);
+  }
 }
@@ -0,0 +1,139 @@
+package org.sirix.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+/**
+ * The in-memory directory of the offsets of the revision root pages in the data file and of the commit timestamps of
+ * a resource, which mirrors the revisions file. It's loaded with one bulk read, when a resource is opened, and
+ * appended to on every commit.
+ *
+ * <p>Lookups are lock-free and don't allocate. The entries, which are visible to readers, are never modified; a
+ * revision, which is committed again after the resource has been truncated, replaces the arrays.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionIndex {
+
+  /**
+   * The number of bytes of an entry in the revisions file (the offset and the timestamp).
+   */
+  public static final int ENTRY_SIZE = Long.BYTES << 1;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * The entries, the first {@code size} of which are visible.
+   *
+   * @param offsets    the offsets of the revision root pages in the data file
+   * @param timestamps the commit timestamps in milliseconds since the epoch
+   * @param size       the number of revisions
+   */
+  private record Entries(long[] offsets, long[] timestamps, int size) {
+  }
+
+  private volatile Entries entries = new Entries(new long[0], new long[0], 0);
+
+  /**
+   * Get the number of revisions.
+   *
+   * @return the number of revisions
+   */
+  public int getSize() {
+    return entries.size();
+  }
+
+  /**
+   * Get the offset of the revision root page of a revision in the data file.
+   *
+   * @param revision the revision
+   * @return the offset
+   * @throws IndexOutOfBoundsException if the revision doesn't exist
+   */
+  public long getOffset(final int revision) {
+    final Entries currentEntries = entries;
+    checkElementIndex(revision, currentEntries.size());
+    return currentEntries.offsets()[revision];
+  }
+
+  /**
+   * Get the commit timestamp of a revision.
+   *
+   * @param revision the revision
+   * @return the commit timestamp in milliseconds since the epoch
+   * @throws IndexOutOfBoundsException if the revision doesn't exist
+   */
+  public long getTimestamp(final int revision) {
+    final Entries currentEntries = entries;
+    checkElementIndex(revision, currentEntries.size());
+    return currentEntries.timestamps()[revision];
+  }
+
+  /**
+   * Search the revision, which has been committed at a specific time.
+   *
+   * @param timestamp the commit timestamp in milliseconds since the epoch
+   * @return the revision, if a revision has been committed at the time, otherwise {@code (-(insertion point) - 1)},
+   * that is the insertion point is the first revision, which has been committed afterwards
+   */
+  public int findRevision(final long timestamp) {
+    final Entries currentEntries = entries;
+    return Arrays.binarySearch(currentEntries.timestamps(), 0, currentEntries.size(), timestamp);
+  }
+
+  /**
+   * Set the entry of a revision, which is either the next revision or a revision, which is committed again after the
+   * resource has been truncated. Later revisions are removed.
+   *
+   * @param revision  the revision
+   * @param offset    the offset of the revision root page in the data file
+   * @param timestamp the commit timestamp in milliseconds since the epoch
+   */
+  public synchronized void setRevision(final int revision, final long offset, final long timestamp) {
+    final Entries currentEntries = entries;
+    checkArgument(revision >= 0 && revision <= currentEntries.size(),
+                  "Revision %s isn't adjacent to the stored revisions.",
+                  revision);
+
+    long[] offsets = currentEntries.offsets();
+    long[] timestamps = currentEntries.timestamps();
+
+    if (revision < currentEntries.size() || revision == offsets.length) {
+      // Visible entries must not be modified, as readers might still use the arrays.
+      final int capacity =
+          Math.max(INITIAL_CAPACITY, revision == offsets.length ? offsets.length << 1 : offsets.length);
+      offsets = Arrays.copyOf(offsets, capacity);
+      timestamps = Arrays.copyOf(timestamps, capacity);
+    }
+
+    offsets[revision] = offset;
+    timestamps[revision] = timestamp;
+    entries = new Entries(offsets, timestamps, revision + 1);
+  }
+
+  /**
+   * Load the entries of the revisions file.
+   *
+   * @param buffer            the entries of the revisions file, starting with revision {@code 0}, in the byte order
+   *                          of the buffer
+   * @param numberOfRevisions the number of revisions
+   */
+  public synchronized void load(final ByteBuffer buffer, final int numberOfRevisions) {
+    checkArgument(buffer.remaining() >= (long) numberOfRevisions * ENTRY_SIZE,
+                  "The buffer doesn't contain all revisions.");
+
+    final int capacity = Math.max(INITIAL_CAPACITY, numberOfRevisions);
+    final long[] offsets = new long[capacity];
+    final long[] timestamps = new long[capacity];
+
+    for (int revision = 0; revision < numberOfRevisions; revision++) {
+      offsets[revision] = buffer.getLong();
+      timestamps[revision] = buffer.getLong();
+    }
+
+    entries = new Entries(offsets, timestamps, numberOfRevisions);
+  }
+}
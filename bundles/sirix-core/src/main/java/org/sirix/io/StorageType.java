@@ -20,8 +20,6 @@
  */
 package org.sirix.io;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.file.FileStorage;
@@ -57,10 +55,9 @@ public enum StorageType {
   FILE {
     @Override
     public IOStorage getInstance(final ResourceConfiguration resourceConf) {
-      final AsyncCache<Integer, RevisionFileData> cache =
-          getIntegerRevisionFileDataAsyncCache(resourceConf);
-      final var storage = new FileStorage(resourceConf, cache);
-      storage.loadRevisionFileDataIntoMemory(cache);
+      final RevisionIndex revisionIndex = getRevisionIndex(resourceConf);
+      final var storage = new FileStorage(resourceConf, revisionIndex);
+      storage.loadRevisionIndex(revisionIndex);
       return storage;
     }
   },
@@ -71,10 +68,9 @@ public enum StorageType {
   FILE_CHANNEL {
     @Override
     public IOStorage getInstance(final ResourceConfiguration resourceConf) {
-      final AsyncCache<Integer, RevisionFileData> cache =
-          getIntegerRevisionFileDataAsyncCache(resourceConf);
-      final var storage = new FileChannelStorage(resourceConf, cache);
-      storage.loadRevisionFileDataIntoMemory(cache);
+      final RevisionIndex revisionIndex = getRevisionIndex(resourceConf);
+      final var storage = new FileChannelStorage(resourceConf, revisionIndex);
+      storage.loadRevisionIndex(revisionIndex);
       return storage;
     }
   },
@@ -82,10 +78,9 @@ public enum StorageType {
   DIRECT_IO {
     @Override
     public IOStorage getInstance(final ResourceConfiguration resourceConf) {
-      final AsyncCache<Integer, RevisionFileData> cache =
-          getIntegerRevisionFileDataAsyncCache(resourceConf);
-      final var storage = new org.sirix.io.directio.FileChannelStorage(resourceConf, cache);
-      storage.loadRevisionFileDataIntoMemory(cache);
+      final RevisionIndex revisionIndex = getRevisionIndex(resourceConf);
+      final var storage = new org.sirix.io.directio.FileChannelStorage(resourceConf, revisionIndex);
+      storage.loadRevisionIndex(revisionIndex);
       return storage;
     }
   },
@@ -96,10 +91,9 @@ public enum StorageType {
   MEMORY_MAPPED {
     @Override
     public IOStorage getInstance(final ResourceConfiguration resourceConf) {
-      final AsyncCache<Integer, RevisionFileData> cache =
-          getIntegerRevisionFileDataAsyncCache(resourceConf);
-      final var storage = new MMStorage(resourceConf, cache);
-      storage.loadRevisionFileDataIntoMemory(cache);
+      final RevisionIndex revisionIndex = getRevisionIndex(resourceConf);
+      final var storage = new MMStorage(resourceConf, revisionIndex);
+      storage.loadRevisionIndex(revisionIndex);
       return storage;
     }
   },
@@ -107,16 +101,17 @@ public enum StorageType {
   IO_URING {
     @Override
     public IOStorage getInstance(final ResourceConfiguration resourceConf) {
-      final AsyncCache<Integer, RevisionFileData> cache =
-          getIntegerRevisionFileDataAsyncCache(resourceConf);
-      final var storage = new IOUringStorage(resourceConf, cache);
-      storage.loadRevisionFileDataIntoMemory(cache);
+      final RevisionIndex revisionIndex = getRevisionIndex(resourceConf);
+      final var storage = new IOUringStorage(resourceConf, revisionIndex);
+      storage.loadRevisionIndex(revisionIndex);
       return storage;
     }
   };
 
-  public static final ConcurrentMap<Path, AsyncCache<Integer, RevisionFileData>> CACHE_REPOSITORY =
-      new ConcurrentHashMap<>();
+  /**
+   * The revision indexes of the resources, which are shared by the storage instances of a resource.
+   */
+  public static final ConcurrentMap<Path, RevisionIndex> CACHE_REPOSITORY = new ConcurrentHashMap<>();
 
   /**
    * Get an instance of the storage backend.
@@ -140,10 +135,9 @@ public enum StorageType {
     return resourceConf.storageType.getInstance(resourceConf);
   }
 
-  private static AsyncCache<Integer, RevisionFileData> getIntegerRevisionFileDataAsyncCache(
-      ResourceConfiguration resourceConf) {
+  private static RevisionIndex getRevisionIndex(ResourceConfiguration resourceConf) {
     final var resourcePath = resourceConf.resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
                                                       .resolve(IOStorage.FILENAME);
-    return StorageType.CACHE_REPOSITORY.computeIfAbsent(resourcePath, path -> Caffeine.newBuilder().buildAsync());
+    return StorageType.CACHE_REPOSITORY.computeIfAbsent(resourcePath, path -> new RevisionIndex());
   }
 }
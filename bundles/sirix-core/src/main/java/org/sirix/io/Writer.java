@@ -24,7 +24,9 @@ package org.sirix.io;
 import net.openhft.chronicle.bytes.Bytes;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.page.KeyValueLeafPage;
 import org.sirix.page.PageReference;
+import org.sirix.page.SerializationType;
 
 import java.nio.ByteBuffer;
 
@@ -54,6 +56,19 @@ public interface Writer extends Reader {
    */
   Writer write(PageReadOnlyTrx pageReadOnlyTrx, PageReference pageReference, Bytes<ByteBuffer> bufferedBytes);
 
+  /**
+   * Prepare a record page for writing, that is serialize and hash it and (if supported by the writer) apply the byte
+   * handler pipeline, such that the CPU intensive work can be done for all record pages in parallel, before the pages
+   * are written sequentially. Must be thread-safe.
+   *
+   * @param pageReadOnlyTrx the page trx
+   * @param page            the record page to prepare
+   * @throws SirixIOException if an I/O error occured
+   */
+  default void prepare(PageReadOnlyTrx pageReadOnlyTrx, KeyValueLeafPage page) {
+    page.serialize(pageReadOnlyTrx, Bytes.elasticByteBuffer(15_000), SerializationType.DATA);
+  }
+
   /**
    * Write beacon for the first reference.
    *
@@ -64,6 +79,17 @@ public interface Writer extends Reader {
    */
   Writer writeUberPageReference(PageReadOnlyTrx pageReadOnlyTrx, PageReference pageReference, Bytes<ByteBuffer> bufferedBytes);
 
+  /**
+   * Force the written pages to the storage device, such that they are durable. Must be thread-safe with respect to
+   * other writers of the same storage.
+   *
+   * @return this writer instance
+   * @throws SirixIOException if an I/O error occured
+   */
+  default Writer force() {
+    return this;
+  }
+
   /**
    * Truncate to a specific revision.
    *
@@ -0,0 +1,60 @@
+package org.sirix.io.bytepipe;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link InputStream}, which reads directly from a (possibly off-heap or memory-mapped) {@link ByteBuffer} without
+ * copying its content onto the heap first.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class ByteBufferInputStream extends InputStream {
+
+  /** The buffer to read from (a duplicate, so that the position of the caller's buffer isn't changed). */
+  private final ByteBuffer buffer;
+
+  /**
+   * Constructor.
+   *
+   * @param buffer the buffer to read from (from its current position up to its limit)
+   */
+  ByteBufferInputStream(final ByteBuffer buffer) {
+    this.buffer = requireNonNull(buffer).duplicate();
+  }
+
+  @Override
+  public int read() {
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length) {
+    if (length == 0) {
+      return 0;
+    }
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    final int bytesToRead = Math.min(length, buffer.remaining());
+    buffer.get(bytes, offset, bytesToRead);
+    return bytesToRead;
+  }
+
+  @Override
+  public long skip(final long n) {
+    final int bytesToSkip = (int) Math.max(0, Math.min(n, buffer.remaining()));
+    buffer.position(buffer.position() + bytesToSkip);
+    return bytesToSkip;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+}
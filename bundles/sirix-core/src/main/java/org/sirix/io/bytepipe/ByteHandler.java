@@ -3,6 +3,8 @@ package org.sirix.io.bytepipe;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 /**
  * Interface for the decorator, representing any byte representation to be serialized or to
@@ -29,6 +31,21 @@ public interface ByteHandler {
    */
   InputStream deserialize(InputStream toDeserialize);
 
+  /**
+   * Method to deserialize a byte-chunk, which is read directly from a (possibly memory-mapped) buffer, without copying
+   * it onto the heap first.
+   *
+   * @param toDeserialize the buffer to deserialize (from its current position up to its limit), which isn't modified
+   * @return result of the deserialization, which might be the given buffer itself if no transformation is needed
+   */
+  default ByteBuffer deserialize(ByteBuffer toDeserialize) {
+    try (final InputStream inputStream = deserialize(new ByteBufferInputStream(toDeserialize))) {
+      return ByteBuffer.wrap(inputStream.readAllBytes());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Method to retrieve a new instance.
    *
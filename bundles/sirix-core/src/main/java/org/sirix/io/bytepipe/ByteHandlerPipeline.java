@@ -2,6 +2,7 @@ package org.sirix.io.bytepipe;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -61,6 +62,16 @@ public final class ByteHandlerPipeline implements ByteHandler {
     return pipeData;
   }
 
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    // Without any byte handler the buffer is returned as is, thus the page is deserialized straight from the buffer.
+    ByteBuffer pipeData = toDeserialize;
+    for (final ByteHandler part : byteHandlers) {
+      pipeData = part.deserialize(pipeData);
+    }
+    return pipeData;
+  }
+
   /**
    * Get byte handler components.
    *
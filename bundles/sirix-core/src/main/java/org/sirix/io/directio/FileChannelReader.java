@@ -21,19 +21,18 @@
 
 package org.sirix.io.directio;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.google.common.hash.HashFunction;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractReader;
 import org.sirix.io.IOStorage;
-import org.sirix.io.Reader;
 import org.sirix.io.RevisionFileData;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -50,11 +49,6 @@ import java.time.Instant;
  */
 public final class FileChannelReader extends AbstractReader {
 
-  /**
-   * The hash function used to hash pages/page fragments.
-   */
-  final HashFunction hashFunction = Reader.hashFunction;
-
   /**
    * Data file channel.
    */
@@ -65,7 +59,10 @@ public final class FileChannelReader extends AbstractReader {
    */
   private final FileChannel revisionsOffsetFileChannel;
 
-  private final Cache<Integer, RevisionFileData> cache;
+  /**
+   * The offsets and commit timestamps of the revisions.
+   */
+  private final RevisionIndex revisionIndex;
 
   /**
    * Constructor.
@@ -76,26 +73,32 @@ public final class FileChannelReader extends AbstractReader {
    */
   public FileChannelReader(final FileChannel dataFileChannel, final FileChannel revisionsOffsetFileChannel,
       final ByteHandler handler, final SerializationType type, final PagePersister pagePersistenter,
-      final Cache<Integer, RevisionFileData> cache) {
+      final RevisionIndex revisionIndex) {
     super (handler, pagePersistenter, type);
     this.dataFileChannel = dataFileChannel;
     this.revisionsOffsetFileChannel = revisionsOffsetFileChannel;
-    this.cache = cache;
+    this.revisionIndex = revisionIndex;
   }
 
   public Page read(final @NonNull PageReference reference,
       final @Nullable PageReadOnlyTrx pageReadTrx) {
     try {
       // Read page from file.
-      ByteBuffer buffer = ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
-
       final long position = reference.getKey();
-      dataFileChannel.read(buffer, position);
+      final int dataLength;
 
-      buffer.flip();
-      final int dataLength = buffer.getInt();
+      if (reference.getLength() == Constants.NULL_ID_INT) {
+        final ByteBuffer lengthBuffer =
+            ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
+        dataFileChannel.read(lengthBuffer, position);
+        lengthBuffer.flip();
+        dataLength = lengthBuffer.getInt();
+      } else {
+        // The length is stored in the reference, thus the page is read with a single read.
+        dataLength = reference.getLength();
+      }
 
-      buffer = ByteBuffer.allocate(dataLength).order(ByteOrder.nativeOrder());
+      final ByteBuffer buffer = ByteBuffer.allocate(dataLength).order(ByteOrder.nativeOrder());
 
       dataFileChannel.read(buffer, position + 4);
       buffer.flip();
@@ -120,14 +123,14 @@ public final class FileChannelReader extends AbstractReader {
   @Override
   public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
     try {
-      final var dataFileOffset = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
+      final var dataFileOffset = revisionIndex.getOffset(revision);
 
       ByteBuffer buffer = ByteBuffer.allocateDirect(4).order(ByteOrder.nativeOrder());
       dataFileChannel.read(buffer, dataFileOffset);
       buffer.flip();
       final int dataLength = buffer.getInt();
 
-      buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
       dataFileChannel.read(buffer, dataFileOffset + 4);
       buffer.flip();
       final byte[] page = new byte[dataLength];
@@ -142,7 +145,7 @@ public final class FileChannelReader extends AbstractReader {
 
   @Override
   public Instant readRevisionRootPageCommitTimestamp(int revision) {
-    return cache.get(revision, (unused) -> getRevisionFileData(revision)).timestamp();
+    return Instant.ofEpochMilli(revisionIndex.getTimestamp(revision));
   }
 
   @Override
@@ -163,6 +166,23 @@ public final class FileChannelReader extends AbstractReader {
     }
   }
 
+  @Override
+  public void loadRevisionIndex(final RevisionIndex revisionIndex, final int numberOfRevisions) {
+    try {
+      // Read all entries at once instead of one read per revision.
+      final ByteBuffer buffer =
+          ByteBuffer.allocateDirect(numberOfRevisions * RevisionIndex.ENTRY_SIZE).order(ByteOrder.nativeOrder());
+      while (buffer.hasRemaining()) {
+        if (revisionsOffsetFileChannel.read(buffer, IOStorage.FIRST_BEACON + buffer.position()) == -1) {
+          throw new SirixIOException("The revisions file doesn't contain all revisions.");
+        }
+      }
+      revisionIndex.load(buffer.flip(), numberOfRevisions);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
   @Override
   public void close() {
   }
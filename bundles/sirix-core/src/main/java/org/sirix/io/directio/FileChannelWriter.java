@@ -21,7 +21,6 @@
 
 package org.sirix.io.directio;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
 import net.openhft.chronicle.bytes.Bytes;
 import org.jetbrains.annotations.NotNull;
 import org.sirix.api.PageReadOnlyTrx;
@@ -30,17 +29,10 @@ import org.sirix.io.*;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
-import java.time.Instant;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -73,9 +65,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
   private final FileChannel revisionsFileChannel;
 
-  private final PagePersister pagePersister;
-
-  private final AsyncCache<Integer, RevisionFileData> cache;
+  private final RevisionIndex revisionIndex;
 
   private boolean isFirstUberPage;
 
@@ -87,26 +77,23 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
    * @param dataFileChannel            the data file channel
    * @param revisionsOffsetFileChannel the channel to the file, which holds pointers to the revision root pages
    * @param serializationType          the serialization type (for the transaction log or the data file)
-   * @param pagePersister              transforms in-memory pages into byte-arrays and back
-   * @param cache                      the revision file data cache
+   * @param revisionIndex              the offsets and commit timestamps of the revisions
    * @param reader                     the reader delegate
    */
   public FileChannelWriter(final FileChannel dataFileChannel, final FileChannel revisionsOffsetFileChannel,
-      final SerializationType serializationType, final PagePersister pagePersister,
-      final AsyncCache<Integer, RevisionFileData> cache, final FileChannelReader reader) {
+      final SerializationType serializationType,
+      final RevisionIndex revisionIndex, final FileChannelReader reader) {
     this.dataFileChannel = dataFileChannel;
     this.serializationType = checkNotNull(serializationType);
     this.revisionsFileChannel = revisionsOffsetFileChannel;
-    this.pagePersister = checkNotNull(pagePersister);
-    this.cache = checkNotNull(cache);
+    this.revisionIndex = checkNotNull(revisionIndex);
     this.reader = checkNotNull(reader);
   }
 
   @Override
   public Writer truncateTo(final PageReadOnlyTrx pageReadOnlyTrx,final int revision) {
     try {
-      final var dataFileRevisionRootPageOffset =
-          cache.get(revision, (unused) -> getRevisionFileData(revision)).get(5, TimeUnit.SECONDS).offset();
+      final var dataFileRevisionRootPageOffset = revisionIndex.getOffset(revision);
 
       // Read page from file.
       final var buffer = ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
@@ -117,7 +104,8 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       final int dataLength = buffer.getInt();
 
       dataFileChannel.truncate(dataFileRevisionRootPageOffset + IOStorage.OTHER_BEACON + dataLength);
-    } catch (InterruptedException | ExecutionException | TimeoutException | IOException e) {
+      dataFileChannel.force(true);
+    } catch (final IOException e) {
       throw new IllegalStateException(e);
     }
 
@@ -159,19 +147,8 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       final Page page = pageReference.getPage();
       assert page != null;
 
-      pagePersister.serializePage(pageReadOnlyTrx, byteBufferBytes, page, serializationType);
-      final var byteArray = byteBufferBytes.toByteArray();
-
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length);
-           final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
-        dataOutput.write(byteArray);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
-      byteBufferBytes.clear();
+      final byte[] serializedPage =
+          reader.serializePage(pageReadOnlyTrx, byteBufferBytes, page, serializationType);
 
       int offsetToAdd = 0;
 
@@ -208,11 +185,12 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
       // Remember page coordinates.
       pageReference.setKey(offset);
+      pageReference.setLength(serializedPage.length);
 
       if (page instanceof KeyValueLeafPage keyValueLeafPage) {
         pageReference.setHash(keyValueLeafPage.getHashCode());
       } else {
-        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+        pageReference.setHash(PageHashFunction.of(pageReadOnlyTrx).hash(serializedPage));
       }
 
       if (serializationType == SerializationType.DATA) {
@@ -230,10 +208,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
           }
           revisionsFileChannel.write(buffer, revisionsFileOffset);
           buffer = null;
-          final long currOffset = offset;
-          cache.put(revisionRootPage.getRevision(),
-                    CompletableFuture.supplyAsync(() -> new RevisionFileData(currOffset,
-                                                                             Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()))));
+          revisionIndex.setRevision(revisionRootPage.getRevision(), offset, revisionRootPage.getRevisionTimestamp());
         } else if (page instanceof UberPage && isFirstUberPage) {
           ByteBuffer buffer = ByteBuffer.allocateDirect(Writer.UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
           buffer.put(serializedPage);
@@ -252,20 +227,42 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
   }
 
   @Override
-  public void close() {
+  public Writer force() {
     try {
       if (dataFileChannel != null) {
-        dataFileChannel.force(true);
+        dataFileChannel.force(false);
       }
       if (revisionsFileChannel != null) {
-        revisionsFileChannel.force(true);
-      }
-      if (reader != null) {
-        reader.close();
+        revisionsFileChannel.force(false);
       }
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
+
+    return this;
+  }
+
+  @Override
+  public void close() {
+    if (reader != null) {
+      reader.close();
+    }
+  }
+
+  @Override
+  public void prepare(final PageReadOnlyTrx pageReadOnlyTrx, final KeyValueLeafPage page) {
+    Writer.super.prepare(pageReadOnlyTrx, page);
+
+    if (serializationType != SerializationType.DATA) {
+      return;
+    }
+
+    try {
+      final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer(15_000);
+      page.setCompressedBytes(reader.serializePage(pageReadOnlyTrx, bytes, page, serializationType));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
   }
 
   @Override
@@ -284,7 +281,6 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
       buffer.limit((int) bufferedBytes.readLimit());
       dataFileChannel.write(buffer, 0L);
-      dataFileChannel.force(false);
       bufferedBytes.clear();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -323,6 +319,8 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       if (revisionsFileChannel != null) {
         revisionsFileChannel.truncate(0);
       }
+
+      force();
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
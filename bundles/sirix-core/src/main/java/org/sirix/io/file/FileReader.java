@@ -21,22 +21,22 @@
 
 package org.sirix.io.file;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.NotNull;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.AbstractReader;
 import org.sirix.io.BytesUtils;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
 import org.sirix.io.RevisionFileData;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -60,11 +60,6 @@ public final class FileReader implements Reader {
    */
   final ByteHandler byteHandler;
 
-  /**
-   * The hash function used to hash pages/page fragments.
-   */
-  final HashFunction hashFunction;
-
   /**
    * Data file.
    */
@@ -85,7 +80,10 @@ public final class FileReader implements Reader {
    */
   private final PagePersister pagePersiter;
 
-  private final Cache<Integer, RevisionFileData> cache;
+  /**
+   * The offsets and commit timestamps of the revisions.
+   */
+  private final RevisionIndex revisionIndex;
 
   /**
    * Constructor.
@@ -97,26 +95,33 @@ public final class FileReader implements Reader {
    */
   public FileReader(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
       final ByteHandler byteHandler, final SerializationType serializationType, final PagePersister pagePersister,
-      final Cache<Integer, RevisionFileData> cache) {
-    hashFunction = Hashing.sha256();
+      final RevisionIndex revisionIndex) {
     this.dataFile = checkNotNull(dataFile);
 
     this.revisionsOffsetFile = serializationType == SerializationType.DATA ? checkNotNull(revisionsOffsetFile) : null;
     this.byteHandler = checkNotNull(byteHandler);
     this.serializationType = checkNotNull(serializationType);
     this.pagePersiter = checkNotNull(pagePersister);
-    this.cache = cache;
+    this.revisionIndex = revisionIndex;
   }
 
   @Override
   public Page read(final @NonNull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
     try {
-      // Read page from file.
-      dataFile.seek(reference.getKey());
-      final int dataLength = dataFile.readInt();
-      //      reference.setLength(dataLength + FileReader.OTHER_BEACON);
-      final byte[] page = new byte[dataLength];
-      dataFile.read(page);
+      // Read page from file (pages might be read ahead asynchronously, thus seeking and reading must be atomic).
+      final byte[] page;
+      synchronized (dataFile) {
+        final int dataLength;
+        if (reference.getLength() == Constants.NULL_ID_INT) {
+          dataFile.seek(reference.getKey());
+          dataLength = dataFile.readInt();
+        } else {
+          dataFile.seek(reference.getKey() + IOStorage.OTHER_BEACON);
+          dataLength = reference.getLength();
+        }
+        page = new byte[dataLength];
+        dataFile.read(page);
+      }
 
       return getPage(pageReadTrx, page);
     } catch (final IOException e) {
@@ -124,6 +129,22 @@ public final class FileReader implements Reader {
     }
   }
 
+  /**
+   * Serialize a page and apply the byte handler pipeline.
+   *
+   * @param pageReadOnlyTrx the page read-only trx
+   * @param sink            the bytes to serialize the page to (cleared afterwards)
+   * @param page            the page to serialize
+   * @param type            the serialization type
+   * @return the serialized and transformed page
+   * @throws IOException if the page couldn't be serialized
+   * @see AbstractReader#serializePage(PagePersister, ByteHandler, PageReadOnlyTrx, Bytes, Page, SerializationType)
+   */
+  byte[] serializePage(final PageReadOnlyTrx pageReadOnlyTrx, final Bytes<ByteBuffer> sink, final Page page,
+      final SerializationType type) throws IOException {
+    return AbstractReader.serializePage(pagePersiter, byteHandler, pageReadOnlyTrx, sink, page, type);
+  }
+
   @NotNull
   private Page getPage(PageReadOnlyTrx pageReadTrx, byte[] page) throws IOException {
     final var inputStream = byteHandler.deserialize(new ByteArrayInputStream(page));
@@ -153,8 +174,8 @@ public final class FileReader implements Reader {
     try {
       final long offsetIntoDataFile;
 
-      if (cache != null) {
-        offsetIntoDataFile = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
+      if (revisionIndex != null) {
+        offsetIntoDataFile = revisionIndex.getOffset(revision);
       } else {
         offsetIntoDataFile = getRevisionFileData(revision).offset();
       }
@@ -178,7 +199,7 @@ public final class FileReader implements Reader {
 
   @Override
   public Instant readRevisionRootPageCommitTimestamp(int revision) {
-    return cache.get(revision, (unused) -> getRevisionFileData(revision)).timestamp();
+    return Instant.ofEpochMilli(revisionIndex.getTimestamp(revision));
   }
 
   @Override
@@ -195,6 +216,19 @@ public final class FileReader implements Reader {
     }
   }
 
+  @Override
+  public void loadRevisionIndex(final RevisionIndex revisionIndex, final int numberOfRevisions) {
+    try {
+      // Read all entries at once instead of one read per revision (in big-endian byte order like readLong()).
+      final byte[] entries = new byte[numberOfRevisions * RevisionIndex.ENTRY_SIZE];
+      revisionsOffsetFile.seek(IOStorage.FIRST_BEACON);
+      revisionsOffsetFile.readFully(entries);
+      revisionIndex.load(ByteBuffer.wrap(entries), numberOfRevisions);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
   @Override
   public void close() {
     try {
@@ -21,11 +21,10 @@
 
 package org.sirix.io.file;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
-import org.sirix.io.RevisionFileData;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.bytepipe.ByteHandlerPipeline;
@@ -66,20 +65,20 @@ public final class FileStorage implements IOStorage {
   private final ByteHandlerPipeline byteHandlerPipeline;
 
   /**
-   * The revision file cache.
+   * The offsets and commit timestamps of the revisions.
    */
-  private final AsyncCache<Integer, RevisionFileData> cache;
+  private final RevisionIndex revisionIndex;
 
   /**
    * Constructor.
    *
    * @param resourceConfig the resource configuration
    */
-  public FileStorage(final ResourceConfiguration resourceConfig, final AsyncCache<Integer, RevisionFileData> cache) {
+  public FileStorage(final ResourceConfiguration resourceConfig, final RevisionIndex revisionIndex) {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
-    this.cache = cache;
+    this.revisionIndex = revisionIndex;
   }
 
   @Override
@@ -97,7 +96,7 @@ public final class FileStorage implements IOStorage {
                             new ByteHandlerPipeline(byteHandlerPipeline),
                             SerializationType.DATA,
                             new PagePersister(),
-                            cache.synchronous());
+                            revisionIndex);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -134,13 +133,12 @@ public final class FileStorage implements IOStorage {
                                         byteHandlerPipe,
                                         serializationType,
                                         pagePersister,
-                                        cache.synchronous());
+                                        revisionIndex);
 
       return new FileWriter(randomAccessDataFile,
                             randomAccessRevisionDataFile,
                             serializationType,
-                            pagePersister,
-                            cache,
+                            revisionIndex,
                             reader);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
@@ -180,6 +178,11 @@ public final class FileStorage implements IOStorage {
     }
   }
 
+  @Override
+  public RevisionIndex getRevisionIndex() {
+    return revisionIndex;
+  }
+
   @Override
   public ByteHandler getByteHandler() {
     return byteHandlerPipeline;
@@ -21,7 +21,6 @@
 
 package org.sirix.io.file;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
 import net.openhft.chronicle.bytes.Bytes;
 import org.jetbrains.annotations.NotNull;
 import org.sirix.api.PageReadOnlyTrx;
@@ -30,16 +29,9 @@ import org.sirix.io.*;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
-import java.time.Instant;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -65,9 +57,7 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
 
   private final RandomAccessFile revisionsFile;
 
-  private final PagePersister pagePersister;
-
-  private final AsyncCache<Integer, RevisionFileData> cache;
+  private final RevisionIndex revisionIndex;
 
   private boolean isFirstUberPage;
 
@@ -79,33 +69,30 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
    * @param dataFile            the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
    * @param serializationType   the serialization type (for the transaction log or the data file)
-   * @param pagePersister       transforms in-memory pages into byte-arrays and back
-   * @param cache               the revision file data cache
+   * @param revisionIndex       the offsets and commit timestamps of the revisions
    * @param reader              the reader delegate
    */
   public FileWriter(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
-      final SerializationType serializationType, final PagePersister pagePersister,
-      final AsyncCache<Integer, RevisionFileData> cache, final FileReader reader) {
+      final SerializationType serializationType,
+      final RevisionIndex revisionIndex, final FileReader reader) {
     this.dataFile = checkNotNull(dataFile);
     type = checkNotNull(serializationType);
     this.revisionsFile = type == SerializationType.DATA ? checkNotNull(revisionsOffsetFile) : null;
-    this.pagePersister = checkNotNull(pagePersister);
-    this.cache = cache;
+    this.revisionIndex = revisionIndex;
     this.reader = checkNotNull(reader);
   }
 
   @Override
   public Writer truncateTo(final PageReadOnlyTrx pageReadOnlyTrx, final int revision) {
     try {
-      final var dataFileRevisionRootPageOffset =
-          cache.get(revision, (unused) -> getRevisionFileData(revision)).get(5, TimeUnit.SECONDS).offset();
+      final var dataFileRevisionRootPageOffset = revisionIndex.getOffset(revision);
 
       // Read page from file.
       dataFile.seek(dataFileRevisionRootPageOffset);
       final int dataLength = dataFile.readInt();
 
       dataFile.getChannel().truncate(dataFileRevisionRootPageOffset + IOStorage.OTHER_BEACON + dataLength);
-    } catch (InterruptedException | ExecutionException | TimeoutException | IOException e) {
+    } catch (final IOException e) {
       throw new IllegalStateException(e);
     }
 
@@ -138,18 +125,7 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
       // Serialize page.
       final Page page = pageReference.getPage();
 
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(1_000);
-           final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
-        pagePersister.serializePage(pageReadOnlyTrx, byteBufferBytes, page, type);
-        final var byteArray = byteBufferBytes.toByteArray();
-        dataOutput.write(byteArray);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
-      byteBufferBytes.clear();
+      final byte[] serializedPage = reader.serializePage(pageReadOnlyTrx, byteBufferBytes, page, type);
 
       final byte[] writtenPage = new byte[serializedPage.length + IOStorage.OTHER_BEACON];
       final ByteBuffer buffer = ByteBuffer.allocate(writtenPage.length);
@@ -173,11 +149,12 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
 
       // Remember page coordinates.
       pageReference.setKey(offset);
+      pageReference.setLength(serializedPage.length);
 
       if (page instanceof KeyValueLeafPage keyValueLeafPage) {
         pageReference.setHash(keyValueLeafPage.getHashCode());
       } else {
-        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+        pageReference.setHash(PageHashFunction.of(pageReadOnlyTrx).hash(serializedPage));
       }
 
       if (type == SerializationType.DATA) {
@@ -189,11 +166,8 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
           }
           revisionsFile.writeLong(offset);
           revisionsFile.writeLong(revisionRootPage.getRevisionTimestamp());
-          if (cache != null) {
-            final long currOffset = offset;
-            cache.put(revisionRootPage.getRevision(),
-                      CompletableFuture.supplyAsync(() -> new RevisionFileData(currOffset,
-                                                                               Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()))));
+          if (revisionIndex != null) {
+            revisionIndex.setRevision(revisionRootPage.getRevision(), offset, revisionRootPage.getRevisionTimestamp());
           }
         } else if (page instanceof UberPage && isFirstUberPage) {
           revisionsFile.seek(0);
@@ -209,9 +183,27 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
     }
   }
 
+  @Override
+  public Writer force() {
+    try {
+      // The files are owned by this writer, thus they might have been forced and closed already.
+      if (dataFile != null && dataFile.getChannel().isOpen()) {
+        dataFile.getChannel().force(false);
+      }
+      if (revisionsFile != null && revisionsFile.getChannel().isOpen()) {
+        revisionsFile.getChannel().force(false);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
   @Override
   public void close() {
     try {
+      force();
       if (dataFile != null) {
         dataFile.close();
       }
@@ -226,6 +218,21 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
     }
   }
 
+  @Override
+  public void prepare(final PageReadOnlyTrx pageReadOnlyTrx, final KeyValueLeafPage page) {
+    Writer.super.prepare(pageReadOnlyTrx, page);
+
+    if (type != SerializationType.DATA) {
+      return;
+    }
+
+    try {
+      page.setCompressedBytes(reader.serializePage(pageReadOnlyTrx, Bytes.elasticByteBuffer(15_000), page, type));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
   @Override
   public Writer writeUberPageReference(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
       final Bytes<ByteBuffer> bufferedBytes) {
@@ -1,12 +1,11 @@
 package org.sirix.io.filechannel;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.sun.nio.file.ExtendedOpenOption;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
-import org.sirix.io.RevisionFileData;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.bytepipe.ByteHandlerPipeline;
@@ -56,9 +55,9 @@ public final class FileChannelStorage implements IOStorage {
   final Semaphore semaphore = new Semaphore(1);
 
   /**
-   * Revision file data cache.
+   * The offsets and commit timestamps of the revisions.
    */
-  private final AsyncCache<Integer, RevisionFileData> cache;
+  private final RevisionIndex revisionIndex;
 
   /**
    * Constructor.
@@ -66,11 +65,11 @@ public final class FileChannelStorage implements IOStorage {
    * @param resourceConfig the resource configuration
    */
   public FileChannelStorage(final ResourceConfiguration resourceConfig,
-      final AsyncCache<Integer, RevisionFileData> cache) {
+      final RevisionIndex revisionIndex) {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
-    this.cache = cache;
+    this.revisionIndex = revisionIndex;
   }
 
   @Override
@@ -94,7 +93,7 @@ public final class FileChannelStorage implements IOStorage {
                                    new ByteHandlerPipeline(byteHandlerPipeline),
                                    SerializationType.DATA,
                                    new PagePersister(),
-                                   cache.synchronous());
+                                   revisionIndex);
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -151,13 +150,12 @@ public final class FileChannelStorage implements IOStorage {
                                                byteHandlePipeline,
                                                serializationType,
                                                pagePersister,
-                                               cache.synchronous());
+                                               revisionIndex);
 
       return new FileChannelWriter(dataFileChannel,
                                    revisionsOffsetFileChannel,
                                    serializationType,
-                                   pagePersister,
-                                   cache,
+                                   revisionIndex,
                                    reader);
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
@@ -212,6 +210,11 @@ public final class FileChannelStorage implements IOStorage {
     }
   }
 
+  @Override
+  public RevisionIndex getRevisionIndex() {
+    return revisionIndex;
+  }
+
   @Override
   public ByteHandler getByteHandler() {
     return byteHandlerPipeline;
@@ -21,31 +21,30 @@
 
 package org.sirix.io.iouring;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.google.common.hash.HashFunction;
 import one.jasyncfio.AsyncFile;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.jetbrains.annotations.NotNull;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractReader;
 import org.sirix.io.IOStorage;
-import org.sirix.io.Reader;
 import org.sirix.io.RevisionFileData;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
 import org.sirix.page.SerializationType;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 
 /**
  * File Reader. Used for {@link PageReadOnlyTrx} to provide read only access on a RandomAccessFile.
@@ -57,9 +56,9 @@ import java.util.concurrent.ExecutionException;
 public final class IOUringReader extends AbstractReader {
 
   /**
-   * The hash function used to hash pages/page fragments.
+   * The number of bytes, which are read at once with the length of a page.
    */
-  final HashFunction hashFunction = Reader.hashFunction;
+  static final int SPECULATIVE_READ_SIZE = 8_192;
 
   /**
    * Data file.
@@ -71,7 +70,10 @@ public final class IOUringReader extends AbstractReader {
    */
   private final AsyncFile revisionsOffsetFile;
 
-  private final Cache<Integer, RevisionFileData> cache;
+  /**
+   * The offsets and commit timestamps of the revisions.
+   */
+  private final RevisionIndex revisionIndex;
 
   /**
    * Constructor.
@@ -82,47 +84,79 @@ public final class IOUringReader extends AbstractReader {
    */
   public IOUringReader(final AsyncFile dataFile, final AsyncFile revisionsOffsetFile, final ByteHandler handler,
       final SerializationType type, final PagePersister pagePersistenter,
-      final Cache<Integer, RevisionFileData> cache) {
+      final RevisionIndex revisionIndex) {
     super(handler, pagePersistenter, type);
     this.dataFile = dataFile;
     this.revisionsOffsetFile = revisionsOffsetFile;
-    this.cache = cache;
+    this.revisionIndex = revisionIndex;
   }
 
   public Page read(final @NonNull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
-    try {
-      return POOL.submit(() -> readPageFragment(reference, pageReadTrx)).get();
-    } catch (InterruptedException | ExecutionException e) {
-      throw new SirixIOException(e);
-    }
+    return readAsync(reference, pageReadTrx).join();
   }
 
   @Override
   public CompletableFuture<? extends Page> readAsync(final @NonNull PageReference reference,
       final @Nullable PageReadOnlyTrx pageReadTrx) {
-      return CompletableFuture.supplyAsync(() -> readPageFragment(reference, pageReadTrx), POOL);
+    return readPageFragment(reference.getKey(), reference.getLength())
+        .thenApplyAsync(buffer -> deserializePage(pageReadTrx, buffer), POOL);
   }
 
-  @NotNull
-  private Page readPageFragment(@NotNull PageReference reference, @Nullable PageReadOnlyTrx pageReadTrx) {
-    try {
-      // Read page from file.
-      ByteBuffer buffer = ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
+  /**
+   * Read a batch of pages. All reads are submitted before waiting for any of them, such that the ring is entered
+   * once for the whole batch. As the length of a page is read together with (the start of) its body, a page, which
+   * fits into {@link #SPECULATIVE_READ_SIZE} bytes doesn't need a second read.
+   *
+   * @param references  the references of the pages to read
+   * @param pageReadTrx {@link PageReadOnlyTrx} reference
+   * @return the pages in the order of the given references
+   */
+  @Override
+  public CompletableFuture<List<Page>> readAllAsync(final @NonNull List<PageReference> references,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    final List<CompletableFuture<ByteBuffer>> pageFragments = new ArrayList<>(references.size());
+    for (final PageReference reference : references) {
+      pageFragments.add(readPageFragment(reference.getKey(), reference.getLength()));
+    }
+    return CompletableFuture.allOf(pageFragments.toArray(new CompletableFuture[0]))
+                            .thenApplyAsync(unused -> pageFragments.stream()
+                                                                   .map(CompletableFuture::join)
+                                                                   .map(buffer -> deserializePage(pageReadTrx, buffer))
+                                                                   .toList(), POOL);
+  }
+
+  /**
+   * Read the serialized page. If the length of the page isn't known, first {@link #SPECULATIVE_READ_SIZE} bytes are
+   * read together with the length and only if the page is bigger, the remaining bytes are read afterwards.
+   *
+   * @param position the position of the page in the data file
+   * @param length   the length of the serialized page or {@link Constants#NULL_ID_INT}, if it isn't known
+   * @return the serialized page
+   */
+  private CompletableFuture<ByteBuffer> readPageFragment(final long position, final int length) {
+    if (length != Constants.NULL_ID_INT) {
+      final ByteBuffer page = ByteBuffer.allocateDirect(length).order(ByteOrder.nativeOrder());
+      return dataFile.read(page, position + IOStorage.OTHER_BEACON).thenApply(unused -> page.flip());
+    }
 
-      final long position = reference.getKey();
-      dataFile.read(buffer, position).join();
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(SPECULATIVE_READ_SIZE).order(ByteOrder.nativeOrder());
 
+    return dataFile.read(buffer, position).thenComposeAsync(bytesRead -> {
       buffer.flip();
       final int dataLength = buffer.getInt();
 
-      buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
+      if (dataLength <= buffer.remaining()) {
+        return CompletableFuture.completedFuture(buffer.slice(IOStorage.OTHER_BEACON, dataLength));
+      }
 
-      dataFile.read(buffer, position + Integer.BYTES).join();
-      buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
+      final ByteBuffer page = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
+      page.put(buffer);
+      return dataFile.read(page, position + IOStorage.OTHER_BEACON + page.position()).thenApply(unused -> page.flip());
+    }, POOL);
+  }
 
-      // Perform byte operations.
+  private Page deserializePage(final @Nullable PageReadOnlyTrx pageReadTrx, final ByteBuffer page) {
+    try {
       return deserialize(pageReadTrx, page);
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -131,30 +165,14 @@ public final class IOUringReader extends AbstractReader {
 
   @Override
   public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
-    try {
-      final var dataFileOffset = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
-
-      ByteBuffer buffer = ByteBuffer.allocateDirect(Integer.BYTES).order(ByteOrder.nativeOrder());
-      dataFile.read(buffer, dataFileOffset).join();
-      buffer.flip();
-      final int dataLength = buffer.getInt();
-
-      buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
-      dataFile.read(buffer, dataFileOffset + Integer.BYTES).join();
-      buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
-
-      // Perform byte operations.
-      return (RevisionRootPage) deserialize(pageReadTrx, page);
-    } catch (IOException e) {
-      throw new SirixIOException(e);
-    }
+    final var dataFileOffset = revisionIndex.getOffset(revision);
+    final ByteBuffer page = readPageFragment(dataFileOffset, Constants.NULL_ID_INT).join();
+    return (RevisionRootPage) deserializePage(pageReadTrx, page);
   }
 
   @Override
   public Instant readRevisionRootPageCommitTimestamp(int revision) {
-    return cache.get(revision, (unused) -> getRevisionFileData(revision)).timestamp();
+    return Instant.ofEpochMilli(revisionIndex.getTimestamp(revision));
   }
 
   @Override
@@ -169,6 +187,19 @@ public final class IOUringReader extends AbstractReader {
     return new RevisionFileData(offset, Instant.ofEpochMilli(timestamp));
   }
 
+  @Override
+  public void loadRevisionIndex(final RevisionIndex revisionIndex, final int numberOfRevisions) {
+    // Read all entries at once instead of one read per revision.
+    final ByteBuffer buffer =
+        ByteBuffer.allocateDirect(numberOfRevisions * RevisionIndex.ENTRY_SIZE).order(ByteOrder.nativeOrder());
+    while (buffer.hasRemaining()) {
+      if (revisionsOffsetFile.read(buffer, IOStorage.FIRST_BEACON + buffer.position()).join() <= 0) {
+        throw new SirixIOException("The revisions file doesn't contain all revisions.");
+      }
+    }
+    revisionIndex.load(buffer.flip(), numberOfRevisions);
+  }
+
   @Override
   public void close() {
   }
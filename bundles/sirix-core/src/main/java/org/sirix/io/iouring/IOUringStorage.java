@@ -1,6 +1,5 @@
 package org.sirix.io.iouring;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
 import one.jasyncfio.AsyncFile;
 import one.jasyncfio.EventExecutor;
 import one.jasyncfio.OpenOption;
@@ -8,7 +7,7 @@ import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
-import org.sirix.io.RevisionFileData;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.bytepipe.ByteHandlerPipeline;
@@ -43,9 +42,9 @@ public final class IOUringStorage implements IOStorage {
   final Semaphore semaphore = new Semaphore(1);
 
   /**
-   * Revision file data cache.
+   * The offsets and commit timestamps of the revisions.
    */
-  private final AsyncCache<Integer, RevisionFileData> cache;
+  private final RevisionIndex revisionIndex;
 
   private static final EventExecutor eventExecutor = EventExecutor.builder().entries(1024).sleepTimeout(10).build();
 
@@ -58,11 +57,11 @@ public final class IOUringStorage implements IOStorage {
    *
    * @param resourceConfig the resource configuration
    */
-  public IOUringStorage(final ResourceConfiguration resourceConfig, final AsyncCache<Integer, RevisionFileData> cache) {
+  public IOUringStorage(final ResourceConfiguration resourceConfig, final RevisionIndex revisionIndex) {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
-    this.cache = cache;
+    this.revisionIndex = revisionIndex;
   }
 
   @Override
@@ -86,7 +85,7 @@ public final class IOUringStorage implements IOStorage {
                                new ByteHandlerPipeline(byteHandlerPipeline),
                                SerializationType.DATA,
                                new PagePersister(),
-                               cache.synchronous());
+                               revisionIndex);
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -141,15 +140,14 @@ public final class IOUringStorage implements IOStorage {
                                            byteHandlePipeline,
                                            serializationType,
                                            pagePersister,
-                                           cache.synchronous());
+                                           revisionIndex);
 
       return new IOUringWriter(dataFile,
                                revisionsOffsetFile,
                                dataFilePath,
                                revisionsOffsetFilePath,
                                serializationType,
-                               pagePersister,
-                               cache,
+                               revisionIndex,
                                reader);
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
@@ -204,6 +202,11 @@ public final class IOUringStorage implements IOStorage {
     }
   }
 
+  @Override
+  public RevisionIndex getRevisionIndex() {
+    return revisionIndex;
+  }
+
   @Override
   public ByteHandler getByteHandler() {
     return byteHandlerPipeline;
@@ -21,7 +21,6 @@
 
 package org.sirix.io.iouring;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
 import net.openhft.chronicle.bytes.Bytes;
 import one.jasyncfio.AsyncFile;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -32,18 +31,12 @@ import org.sirix.io.*;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.file.Path;
-import java.time.Instant;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -68,9 +61,7 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 
   private final AsyncFile revisionsFile;
 
-  private final PagePersister pagePersister;
-
-  private final AsyncCache<Integer, RevisionFileData> cache;
+  private final RevisionIndex revisionIndex;
 
   private final Path dataFilePath;
 
@@ -86,28 +77,25 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
    * @param dataFile            the data file channel
    * @param revisionsOffsetFile the channel to the file, which holds pointers to the revision root pages
    * @param serializationType   the serialization type (for the transaction log or the data file)
-   * @param pagePersister       transforms in-memory pages into byte-arrays and back
-   * @param cache               the revision file data cache
+   * @param revisionIndex       the offsets and commit timestamps of the revisions
    * @param reader              the reader delegate
    */
   public IOUringWriter(final AsyncFile dataFile, final AsyncFile revisionsOffsetFile, final Path dataFilePath,
-      final Path revisionsOffsetFilePath, final SerializationType serializationType, final PagePersister pagePersister,
-      final AsyncCache<Integer, RevisionFileData> cache, final IOUringReader reader) {
+      final Path revisionsOffsetFilePath, final SerializationType serializationType,
+      final RevisionIndex revisionIndex, final IOUringReader reader) {
     this.dataFile = dataFile;
     this.revisionsFile = revisionsOffsetFile;
     this.dataFilePath = dataFilePath;
     this.revisionsOffsetFilePath = revisionsOffsetFilePath;
     this.serializationType = checkNotNull(serializationType);
-    this.pagePersister = checkNotNull(pagePersister);
-    this.cache = checkNotNull(cache);
+    this.revisionIndex = checkNotNull(revisionIndex);
     this.reader = checkNotNull(reader);
   }
 
   @Override
   public Writer truncateTo(final PageReadOnlyTrx pageReadOnlyTrx, final int revision) {
     try {
-      final var dataFileRevisionRootPageOffset =
-          cache.get(revision, (unused) -> getRevisionFileData(revision)).get(5, TimeUnit.SECONDS).offset();
+      final var dataFileRevisionRootPageOffset = revisionIndex.getOffset(revision);
 
       // Read page from file.
       final var buffer = ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
@@ -120,7 +108,8 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
       new RandomAccessFile(dataFilePath.toFile(), "rw").getChannel()
                                                        .truncate(dataFileRevisionRootPageOffset + IOStorage.OTHER_BEACON
                                                                      + dataLength);
-    } catch (InterruptedException | ExecutionException | TimeoutException | IOException e) {
+      force();
+    } catch (final IOException e) {
       throw new IllegalStateException(e);
     }
 
@@ -173,19 +162,8 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
       final Page page = pageReference.getPage();
       assert page != null;
 
-      pagePersister.serializePage(pageReadOnlyTrx, byteBufferBytes, page, serializationType);
-      final var byteArray = byteBufferBytes.toByteArray();
-
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length);
-           final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
-        dataOutput.write(byteArray);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
-      byteBufferBytes.clear();
+      final byte[] serializedPage =
+          reader.serializePage(pageReadOnlyTrx, byteBufferBytes, page, serializationType);
 
       int offsetToAdd = 0;
 
@@ -226,11 +204,12 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 
       // Remember page coordinates.
       pageReference.setKey(offset);
+      pageReference.setLength(serializedPage.length);
 
       if (page instanceof KeyValueLeafPage keyValueLeafPage) {
         pageReference.setHash(keyValueLeafPage.getHashCode());
       } else {
-        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+        pageReference.setHash(PageHashFunction.of(pageReadOnlyTrx).hash(serializedPage));
       }
 
       if (serializationType == SerializationType.DATA) {
@@ -248,10 +227,7 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
           }
           revisionsFile.write(buffer, revisionsFileOffset).join();
           buffer = null;
-          final long currOffset = offset;
-          cache.put(revisionRootPage.getRevision(),
-                    CompletableFuture.supplyAsync(() -> new RevisionFileData(currOffset,
-                                                                             Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()))));
+          revisionIndex.setRevision(revisionRootPage.getRevision(), offset, revisionRootPage.getRevisionTimestamp());
         } else if (page instanceof UberPage && isFirstUberPage) {
           final ByteBuffer firstUberPageBuffer =
               ByteBuffer.allocateDirect(Writer.UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
@@ -263,7 +239,6 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
           secondUberPageBuffer.put(serializedPage);
           secondUberPageBuffer.position(0);
           revisionsFile.write(secondUberPageBuffer, (long) Writer.UBER_PAGE_BYTE_ALIGN).join();
-          revisionsFile.dataSync().join();
         }
       }
 
@@ -274,18 +249,40 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
   }
 
   @Override
-  public void close() {
+  public Writer force() {
     if (dataFile != null) {
       dataFile.dataSync().join();
     }
     if (revisionsFile != null) {
       revisionsFile.dataSync().join();
     }
+
+    return this;
+  }
+
+  @Override
+  public void close() {
     if (reader != null) {
       reader.close();
     }
   }
 
+  @Override
+  public void prepare(final PageReadOnlyTrx pageReadOnlyTrx, final KeyValueLeafPage page) {
+    Writer.super.prepare(pageReadOnlyTrx, page);
+
+    if (serializationType != SerializationType.DATA) {
+      return;
+    }
+
+    try {
+      final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer(15_000);
+      page.setCompressedBytes(reader.serializePage(pageReadOnlyTrx, bytes, page, serializationType));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
   @Override
   public Writer writeUberPageReference(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
       Bytes<ByteBuffer> bufferedBytes) {
@@ -294,8 +291,6 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
     isFirstUberPage = false;
     writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, IOStorage.FIRST_BEACON >> 1);
 
-    dataFile.dataSync().join();
-
     return this;
   }
 
@@ -326,6 +321,8 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
       if (revisionsFile != null) {
         new RandomAccessFile(revisionsOffsetFilePath.toFile(), "rw").getChannel().truncate(0);
       }
+
+      force();
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -21,7 +21,6 @@
 
 package org.sirix.io.memorymapped;
 
-import com.github.benmanes.caffeine.cache.Cache;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.PageReadOnlyTrx;
@@ -29,16 +28,19 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractReader;
 import org.sirix.io.IOStorage;
 import org.sirix.io.RevisionFileData;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
 import org.sirix.page.SerializationType;
 import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
 
 import java.io.IOException;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
 import java.time.Instant;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -58,7 +60,10 @@ public final class MMFileReader extends AbstractReader {
 
   private final MemorySegment revisionsOffsetFileSegment;
 
-  private final Cache<Integer, RevisionFileData> cache;
+  /**
+   * The offsets and commit timestamps of the revisions.
+   */
+  private final RevisionIndex revisionIndex;
 
   /**
    * Constructor.
@@ -67,24 +72,23 @@ public final class MMFileReader extends AbstractReader {
    */
   public MMFileReader(final MemorySegment dataFileSegment, final MemorySegment revisionFileSegment,
       final ByteHandler byteHandler, final SerializationType type, final PagePersister pagePersistenter,
-      final Cache<Integer, RevisionFileData> cache) {
+      final RevisionIndex revisionIndex) {
     super(byteHandler, pagePersistenter, type);
     this.dataFileSegment = checkNotNull(dataFileSegment);
     this.revisionsOffsetFileSegment = checkNotNull(revisionFileSegment);
-    this.cache = checkNotNull(cache);
+    this.revisionIndex = checkNotNull(revisionIndex);
   }
 
   @Override
   public Page read(final @NonNull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
     try {
       final long offset = reference.getKey() + LAYOUT_INT.byteSize();
-      final int dataLength = dataFileSegment.get(LAYOUT_INT, reference.getKey());
-
-      final byte[] page = new byte[dataLength];
+      final int dataLength = reference.getLength() == Constants.NULL_ID_INT
+          ? dataFileSegment.get(LAYOUT_INT, reference.getKey())
+          : reference.getLength();
 
-      MemorySegment.copy(dataFileSegment, LAYOUT_BYTE, offset, page, 0, dataLength);
-
-      return deserialize(pageReadTrx, page);
+      // Deserialize straight from the mapping.
+      return deserialize(pageReadTrx, dataFileSegment.asSlice(offset, dataLength).asByteBuffer());
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -93,16 +97,13 @@ public final class MMFileReader extends AbstractReader {
   @Override
   public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
     try {
-      //noinspection DataFlowIssue
-      final var dataFileOffset = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
+      final var dataFileOffset = revisionIndex.getOffset(revision);
 
       final int dataLength = dataFileSegment.get(LAYOUT_INT, dataFileOffset);
 
-      final byte[] page = new byte[dataLength];
-
-      MemorySegment.copy(dataFileSegment, LAYOUT_BYTE, dataFileOffset + LAYOUT_INT.byteSize(), page, 0, dataLength);
-
-      return (RevisionRootPage) deserialize(pageReadTrx, page);
+      return (RevisionRootPage) deserialize(pageReadTrx,
+                                            dataFileSegment.asSlice(dataFileOffset + LAYOUT_INT.byteSize(), dataLength)
+                                                           .asByteBuffer());
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -110,8 +111,7 @@ public final class MMFileReader extends AbstractReader {
 
   @Override
   public Instant readRevisionRootPageCommitTimestamp(int revision) {
-    //noinspection DataFlowIssue
-    return cache.get(revision, (unused) -> getRevisionFileData(revision)).timestamp();
+    return Instant.ofEpochMilli(revisionIndex.getTimestamp(revision));
   }
 
   @Override
@@ -123,6 +123,13 @@ public final class MMFileReader extends AbstractReader {
     return new RevisionFileData(revisionOffset, timestamp);
   }
 
+  @Override
+  public void loadRevisionIndex(final RevisionIndex revisionIndex, final int numberOfRevisions) {
+    final var entries =
+        revisionsOffsetFileSegment.asSlice(IOStorage.FIRST_BEACON, (long) numberOfRevisions * RevisionIndex.ENTRY_SIZE);
+    revisionIndex.load(entries.asByteBuffer().order(ByteOrder.nativeOrder()), numberOfRevisions);
+  }
+
   @Override
   public void close() {
     dataFileSegment.session().close();
@@ -21,12 +21,11 @@
 
 package org.sirix.io.memorymapped;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
-import org.sirix.io.RevisionFileData;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.bytepipe.ByteHandlerPipeline;
@@ -75,9 +74,9 @@ public final class MMStorage implements IOStorage {
   final Semaphore semaphore = new Semaphore(1);
 
   /**
-   * Revision file data cache.
+   * The offsets and commit timestamps of the revisions.
    */
-  private final AsyncCache<Integer, RevisionFileData> cache;
+  private final RevisionIndex revisionIndex;
 
   private final Path revisionsFilePath;
 
@@ -91,15 +90,15 @@ public final class MMStorage implements IOStorage {
    * Constructor.
    *
    * @param resourceConfig the resource configuration
-   * @param cache          the revision file data cache
+   * @param revisionIndex  the offsets and commit timestamps of the revisions
    */
-  public MMStorage(final ResourceConfiguration resourceConfig, final AsyncCache<Integer, RevisionFileData> cache) {
+  public MMStorage(final ResourceConfiguration resourceConfig, final RevisionIndex revisionIndex) {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     revisionsFilePath = file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(REVISIONS_FILENAME);
     dataFilePath = file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(FILENAME);
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
-    this.cache = cache;
+    this.revisionIndex = revisionIndex;
   }
 
   @Override
@@ -134,7 +133,7 @@ public final class MMStorage implements IOStorage {
                                 new ByteHandlerPipeline(byteHandlerPipeline),
                                 SerializationType.DATA,
                                 new PagePersister(),
-                                cache.synchronous());
+                                revisionIndex);
       }
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
@@ -184,13 +183,12 @@ public final class MMStorage implements IOStorage {
                                                byteHandlePipeline,
                                                serializationType,
                                                pagePersister,
-                                               cache.synchronous());
+                                               revisionIndex);
 
       return new FileChannelWriter(dataFileChannel,
                                    revisionsOffsetFileChannel,
                                    serializationType,
-                                   pagePersister,
-                                   cache,
+                                   revisionIndex,
                                    reader);
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
@@ -257,6 +255,11 @@ public final class MMStorage implements IOStorage {
     }
   }
 
+  @Override
+  public RevisionIndex getRevisionIndex() {
+    return revisionIndex;
+  }
+
   @Override
   public ByteHandler getByteHandler() {
     return byteHandlerPipeline;
@@ -8,6 +8,7 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
 import org.sirix.io.RevisionFileData;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandlerPipeline;
 import org.sirix.page.PageReference;
@@ -118,6 +119,28 @@ public final class RAMStorage implements IOStorage {
   public void close() {
   }
 
+  /**
+   * Get the revision index, which is built from the stored revision root pages. As the revision root pages are looked
+   * up by their revision number, the revision number is used as the offset of a revision.
+   *
+   * @return the revision index
+   */
+  @Override
+  public RevisionIndex getRevisionIndex() {
+    if (mResourceRevisionRootsStorage == null) {
+      instantiate();
+    }
+
+    final RevisionIndex revisionIndex = new RevisionIndex();
+    for (int revision = 0; ; revision++) {
+      final RevisionRootPage revisionRootPage = mResourceRevisionRootsStorage.get(revision);
+      if (revisionRootPage == null) {
+        return revisionIndex;
+      }
+      revisionIndex.setRevision(revision, revision, revisionRootPage.getRevisionTimestamp());
+    }
+  }
+
   @Override
   public ByteHandlerPipeline getByteHandler() {
     return mHandler;
@@ -137,6 +160,7 @@ public final class RAMStorage implements IOStorage {
     public Writer truncate() {
       mUberPageKey.clear();
       mResourceFileStorage.clear();
+      mResourceRevisionRootsStorage.clear();
       mExists = false;
       return this;
     }
@@ -160,6 +184,9 @@ public final class RAMStorage implements IOStorage {
       final Page page = pageReference.getPage();
       pageReference.setKey(mPageKey);
       mResourceFileStorage.put(mPageKey++, page);
+      if (page instanceof RevisionRootPage revisionRootPage) {
+        mResourceRevisionRootsStorage.put(revisionRootPage.getRevision(), revisionRootPage);
+      }
       mExists = true;
       return this;
     }
@@ -45,6 +45,7 @@ import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.index.AtomicUtil;
+import org.sirix.index.art.ARTNode;
 import org.sirix.index.path.summary.PathNode;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
@@ -602,8 +603,7 @@ public enum NodeKind implements DeweyIdSerializer {
       sink.writeInt(type.length);
       sink.write(type);
       final NodeReferences value = node.getValue();
-      final Roaring64Bitmap nodeKeys = value.getNodeKeys();
-      serializeNodeReferences(sink, nodeKeys);
+      serializeNodeReferences(sink, value.getOptimizedNodeKeys());
 
       serializeDelegate(node.getNodeDelegate(), sink);
       putVarLong(sink, node.getLeftChildKey());
@@ -661,8 +661,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final RBNode<Long, NodeReferences> node = (RBNode<Long, NodeReferences>) record;
       putVarLong(sink, node.getKey());
       final NodeReferences value = node.getValue();
-      final Roaring64Bitmap nodeKeys = value.getNodeKeys();
-      serializeNodeReferences(sink, nodeKeys);
+      serializeNodeReferences(sink, value.getOptimizedNodeKeys());
       serializeDelegate(node.getNodeDelegate(), sink);
       putVarLong(sink, node.getLeftChildKey());
       putVarLong(sink, node.getRightChildKey());
@@ -723,8 +722,7 @@ public enum NodeKind implements DeweyIdSerializer {
       sink.writeInt(localNameBytes.length);
       sink.write(localNameBytes);
       final NodeReferences value = node.getValue();
-      final Roaring64Bitmap nodeKeys = value.getNodeKeys();
-      serializeNodeReferences(sink, nodeKeys);
+      serializeNodeReferences(sink, value.getOptimizedNodeKeys());
       serializeDelegate(node.getNodeDelegate(), sink);
       putVarLong(sink, node.getLeftChildKey());
       putVarLong(sink, node.getRightChildKey());
@@ -1517,6 +1515,54 @@ public enum NodeKind implements DeweyIdSerializer {
     }
   },
 
+  /**
+   * Node kind is an inner node of an adaptive radix tree index.
+   */
+  ART((byte) 36, ARTNode.class) {
+    @Override
+    public @NotNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
+        final byte[] deweyID, final PageReadOnlyTrx pageReadTrx) {
+      final byte[] prefix = new byte[source.readInt()];
+      source.read(prefix);
+      final long leafKey = getVarLong(source);
+      final int numberOfChildren = source.readShort();
+      final byte[] childBytes = new byte[numberOfChildren];
+      source.read(childBytes);
+      final long[] childKeys = new long[numberOfChildren];
+      for (int i = 0; i < numberOfChildren; i++) {
+        childKeys[i] = getVarLong(source);
+      }
+      return new ARTNode(recordID, prefix, leafKey, childBytes, childKeys);
+    }
+
+    @Override
+    public void serialize(final BytesOut<ByteBuffer> sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+      final ARTNode node = (ARTNode) record;
+      final byte[] prefix = node.getPrefix();
+      sink.writeInt(prefix.length);
+      sink.write(prefix);
+      putVarLong(sink, node.getLeafKey());
+      final int numberOfChildren = node.getNumberOfChildren();
+      sink.writeShort((short) numberOfChildren);
+      for (int i = 0; i < numberOfChildren; i++) {
+        sink.writeByte(node.getChildByte(i));
+      }
+      for (int i = 0; i < numberOfChildren; i++) {
+        putVarLong(sink, node.getChildKeyAt(i));
+      }
+    }
+
+    @Override
+    public byte[] deserializeDeweyID(BytesIn<?> source, byte[] previousDeweyID, ResourceConfiguration resourceConfig) {
+      return null;
+    }
+
+    @Override
+    public void serializeDeweyID(BytesOut<ByteBuffer> sink, byte[] deweyID, byte[] nextDeweyID,
+        ResourceConfiguration resourceConfig) {
+    }
+  },
+
   /**
    * Node type not known.
    */
@@ -115,6 +115,12 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   private volatile byte[] hashCode;
 
+  /**
+   * The serialized page after the byte handler pipeline has been applied (for instance compressed), which is
+   * prepared ahead of writing the page.
+   */
+  private volatile byte[] compressedBytes;
+
   private int hash;
 
   /**
@@ -270,6 +276,43 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     return hashCode;
   }
 
+  /**
+   * Get the serialized page after the byte handler pipeline has been applied.
+   *
+   * @return the transformed bytes or {@code null}, if they haven't been prepared
+   */
+  public byte[] getCompressedBytes() {
+    return compressedBytes;
+  }
+
+  /**
+   * Set the serialized page after the byte handler pipeline has been applied. Only stored, if the serialized page
+   * is final, that is if all overflow pages of the page have already been written.
+   *
+   * @param compressedBytes the transformed bytes
+   */
+  public void setCompressedBytes(final byte[] compressedBytes) {
+    if (bytes != null) {
+      this.compressedBytes = compressedBytes;
+    }
+  }
+
+  /**
+   * Drop the transformed bytes, once the page has been written.
+   */
+  public void clearCompressedBytes() {
+    compressedBytes = null;
+  }
+
+  private boolean hasUnwrittenOverflowPages() {
+    for (final PageReference reference : references.values()) {
+      if (reference.getKey() == Constants.NULL_ID_LONG) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   public void serialize(final PageReadOnlyTrx pageReadOnlyTrx, final Bytes<ByteBuffer> out,
       final SerializationType type) {
@@ -345,8 +388,12 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
       out.writeLong(entry.getValue().getKey());
     }
 
-    hashCode = pageReadOnlyTrx.getReader().hashFunction.hashBytes(out.toByteArray()).asBytes();
-    bytes = out;
+    hashCode = resourceConfig.pageHashFunction.hash(out);
+
+    // The keys of overflow pages are only known once they have been written.
+    if (!hasUnwrittenOverflowPages()) {
+      bytes = out;
+    }
   }
 
   @SuppressWarnings("rawtypes")
@@ -527,6 +574,7 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
       bytes = null;
     }
     hashCode = null;
+    compressedBytes = null;
     Arrays.fill(records, null);
     Arrays.fill(slots, null);
     Arrays.fill(deweyIds, null);
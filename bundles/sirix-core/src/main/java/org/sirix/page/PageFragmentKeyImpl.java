@@ -1,10 +1,22 @@
 package org.sirix.page;
 
 import org.sirix.page.interfaces.PageFragmentKey;
+import org.sirix.settings.Constants;
 
 /**
  * The page fragment key implementation (simple immutable record/data class).
  *
  * @author Johannes Lichtenberger
  */
-public record PageFragmentKeyImpl(int revision, long key) implements PageFragmentKey {}
\ No newline at end of file
+public record PageFragmentKeyImpl(int revision, long key, int length) implements PageFragmentKey {
+
+  /**
+   * Constructor for a page fragment key, whose length on durable storage isn't known.
+   *
+   * @param revision the revision number
+   * @param key      the offset key into the storage file
+   */
+  public PageFragmentKeyImpl(int revision, long key) {
+    this(revision, key, Constants.NULL_ID_INT);
+  }
+}
@@ -46,6 +46,9 @@ public final class PageReference {
   /** Key in persistent storage. */
   private long key = Constants.NULL_ID_LONG;
 
+  /** Length of the serialized page in persistent storage (without the length prefix). */
+  private int length = Constants.NULL_ID_INT;
+
   /** Log key. */
   private int logKey = Constants.NULL_ID_INT;
 
@@ -72,6 +75,7 @@ public final class PageReference {
     logKey = reference.logKey;
     page = reference.page;
     key = reference.key;
+    length = reference.length;
     hashInBytes = reference.hashInBytes;
     pageFragments = reference.pageFragments;
   }
@@ -114,6 +118,28 @@ public final class PageReference {
     return this;
   }
 
+  /**
+   * Get the length of the serialized page in persistent storage, such that it can be read without reading the length
+   * prefix first.
+   *
+   * @return the length or {@link Constants#NULL_ID_INT}, if it isn't known (for instance in case the page has been
+   *     written by an older version)
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Set the length of the serialized page in persistent storage.
+   *
+   * @param length the length of the serialized page (without the length prefix)
+   * @return this instance
+   */
+  public PageReference setLength(final int length) {
+    this.length = length;
+    return this;
+  }
+
   /**
    * Add a page fragment key.
    * @param key the page fragment key to add.
@@ -168,6 +194,7 @@ public final class PageReference {
     return MoreObjects.toStringHelper(this)
                       .add("logKey", logKey)
                       .add("key", key)
+                      .add("length", length)
                       .add("page", page)
                       .add("pageFragments", pageFragments)
                       .toString();
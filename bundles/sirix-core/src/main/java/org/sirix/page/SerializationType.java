@@ -198,27 +198,42 @@ public enum SerializationType {
     }
   }
 
+  /**
+   * Flag in the byte, which stores the number of page fragments, denoting that the lengths of the serialized pages
+   * are stored, too. Pages written by older versions don't store the lengths.
+   */
+  private static final int PAGE_LENGTHS_FLAG = 0x80;
+
   private static void readPageFragments(Bytes<?> in, PageReference reference) throws IOException {
-    final int keysSize = in.readByte() & 0xff;
+    final int header = in.readByte() & 0xff;
+    final boolean hasPageLengths = (header & PAGE_LENGTHS_FLAG) != 0;
+    final int keysSize = header & ~PAGE_LENGTHS_FLAG;
     if (keysSize > 0) {
       for (int i = 0; i < keysSize; i++) {
         final var revision = in.readInt();
         final var key = in.readLong();
-        reference.addPageFragment(new PageFragmentKeyImpl(revision, key));
+        final var length = hasPageLengths ? in.readInt() : Constants.NULL_ID_INT;
+        reference.addPageFragment(new PageFragmentKeyImpl(revision, key, length));
       }
     }
     final long key = in.readLong();
     reference.setKey(key);
+    if (hasPageLengths) {
+      reference.setLength(in.readInt());
+    }
   }
 
   private static void writePageFragments(Bytes<ByteBuffer> out, PageReference pageReference) throws IOException {
     final var keys = pageReference.getPageFragments();
-    out.writeByte((byte) keys.size());
+    assert keys.size() < PAGE_LENGTHS_FLAG : "Too many page fragments.";
+    out.writeByte((byte) (keys.size() | PAGE_LENGTHS_FLAG));
     for (final PageFragmentKey key : keys) {
       out.writeInt(key.revision());
       out.writeLong(key.key());
+      out.writeInt(key.length());
     }
     out.writeLong(pageReference.getKey());
+    out.writeInt(pageReference.getLength());
   }
 
   public static void serializeBitSet(Bytes<ByteBuffer> out, @NonNull final BitSet bitmap) {
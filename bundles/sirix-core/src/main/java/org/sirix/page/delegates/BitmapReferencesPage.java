@@ -137,6 +137,7 @@ public final class BitmapReferencesPage implements Page {
       final PageReference pageReference = new PageReference();
       final var pageReferenceToClone = pageToClone.getReferences().get(offset);
       pageReference.setKey(pageReferenceToClone.getKey());
+      pageReference.setLength(pageReferenceToClone.getLength());
       pageReference.setLogKey(pageReferenceToClone.getLogKey());
       pageReference.setPageFragments(new ArrayList<>(pageReferenceToClone.getPageFragments()));
       references.add(offset, pageReference);
@@ -88,6 +88,7 @@ public final class FullReferencesPage implements Page {
 
       if (pageReferenceToClone != null) {
         pageReference.setKey(pageReferenceToClone.getKey());
+        pageReference.setLength(pageReferenceToClone.getLength());
         pageReference.setLogKey(pageReferenceToClone.getLogKey());
         pageReference.setPageFragments(new ArrayList<>(pageReferenceToClone.getPageFragments()));
       }
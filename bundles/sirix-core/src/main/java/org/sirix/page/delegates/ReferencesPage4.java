@@ -87,6 +87,7 @@ public final class ReferencesPage4 implements Page {
       final var pageReference = new PageReference();
       final var pageReferenceToClone = pageToClone.getReferences().get(offset);
       pageReference.setKey(pageReferenceToClone.getKey());
+      pageReference.setLength(pageReferenceToClone.getLength());
       pageReference.setLogKey(pageReferenceToClone.getLogKey());
       pageReference.setPageFragments(pageReferenceToClone.getPageFragments());
       references.add(pageReference);
@@ -17,4 +17,10 @@ public interface PageFragmentKey {
    * @return The revision number.
    */
   int revision();
+
+  /**
+   * Get the length of the serialized page fragment on durable storage (without the length prefix).
+   * @return The length or {@code Constants.NULL_ID_INT} if it isn't known.
+   */
+  int length();
 }
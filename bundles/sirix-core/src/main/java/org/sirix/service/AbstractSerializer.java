@@ -8,7 +8,13 @@ import org.sirix.axis.visitor.VisitorDescendantAxis;
 import org.sirix.exception.SirixException;
 import org.sirix.settings.Constants;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -20,6 +26,16 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
     implements Callable<Void> {
 
+  /**
+   * The minimum number of children of the start node to serialize them in parallel.
+   */
+  private static final int MIN_CHILDREN_TO_SERIALIZE_IN_PARALLEL = 2;
+
+  /**
+   * The number of ranges of children per thread (more ranges balance the load better, but need more transactions).
+   */
+  private static final int RANGES_PER_THREAD = 4;
+
   /**
    * Sirix {@link ResourceSession}.
    */
@@ -114,71 +130,184 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
 
         rtx.moveTo(startNodeKey);
 
-        final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
-
-        if (visitor != null) {
-          builder.visitor(visitor);
-          setTrxForVisitor(rtx);
+        if (!serializeChildrenInParallel(rtx)) {
+          rtx.moveTo(startNodeKey);
+          emitSubtree(rtx);
         }
 
-        final Axis descAxis = builder.build();
+        emitRevisionEndNode(rtx);
+      }
+    }
 
-        // Setup primitives.
-        boolean closeElements = false;
-        long key;
+    emitEndDocument();
 
-        // Iterate over all nodes of the subtree including self.
-        while (descAxis.hasNext()) {
-          key = descAxis.nextLong();
+    return null;
+  }
 
-          // Emit all pending end elements.
-          if (closeElements) {
-            while (!stack.isEmpty() && stack.peekLong(0) != rtx.getLeftSiblingKey()) {
-              rtx.moveTo(stack.popLong());
-              emitEndNode(rtx, false);
-              rtx.moveTo(key);
-            }
-            if (!stack.isEmpty()) {
-              rtx.moveTo(stack.popLong());
-              emitEndNode(rtx, true);
-            }
-            rtx.moveTo(key);
-            closeElements = false;
-          }
+  /**
+   * Emit the subtree rooted at the node the transaction is located at.
+   *
+   * @param rtx the read-only transaction
+   */
+  private void emitSubtree(final R rtx) {
+    final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
 
-          // Emit node.
-          final long nodeKey = rtx.getNodeKey();
-          emitNode(rtx);
-          rtx.moveTo(nodeKey);
+    if (visitor != null) {
+      builder.visitor(visitor);
+      setTrxForVisitor(rtx);
+    }
 
-          // Push end element to stack if we are a start element with children.
-          boolean withChildren = false;
-          if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
-            stack.push(rtx.getNodeKey());
-            withChildren = true;
-          }
+    final Axis descAxis = builder.build();
 
-          hasToSkipSiblings = areSiblingNodesGoingToBeSkipped(rtx);
+    // Setup primitives.
+    boolean closeElements = false;
+    long key;
 
-          // Remember to emit all pending end elements from stack if required.
-          if (!withChildren && !rtx.isDocumentRoot() && (!rtx.hasRightSibling() || hasToSkipSiblings)) {
-            closeElements = true;
-          }
-        }
+    // Iterate over all nodes of the subtree including self.
+    while (descAxis.hasNext()) {
+      key = descAxis.nextLong();
 
-        // Finally emit all pending end elements.
-        while (!stack.isEmpty() && stack.peekLong(0) != Constants.NULL_ID_LONG) {
+      // Emit all pending end elements.
+      if (closeElements) {
+        while (!stack.isEmpty() && stack.peekLong(0) != rtx.getLeftSiblingKey()) {
           rtx.moveTo(stack.popLong());
           emitEndNode(rtx, false);
+          rtx.moveTo(key);
+        }
+        if (!stack.isEmpty()) {
+          rtx.moveTo(stack.popLong());
+          emitEndNode(rtx, true);
         }
+        rtx.moveTo(key);
+        closeElements = false;
+      }
 
-        emitRevisionEndNode(rtx);
+      // Emit node.
+      final long nodeKey = rtx.getNodeKey();
+      emitNode(rtx);
+      rtx.moveTo(nodeKey);
+
+      // Push end element to stack if we are a start element with children.
+      boolean withChildren = false;
+      if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
+        stack.push(rtx.getNodeKey());
+        withChildren = true;
+      }
+
+      hasToSkipSiblings = areSiblingNodesGoingToBeSkipped(rtx);
+
+      // Remember to emit all pending end elements from stack if required.
+      if (!withChildren && !rtx.isDocumentRoot() && (!rtx.hasRightSibling() || hasToSkipSiblings)) {
+        closeElements = true;
       }
     }
 
-    emitEndDocument();
+    // Finally emit all pending end elements.
+    while (!stack.isEmpty() && stack.peekLong(0) != Constants.NULL_ID_LONG) {
+      rtx.moveTo(stack.popLong());
+      emitEndNode(rtx, false);
+    }
+  }
 
-    return null;
+  /**
+   * Serialize the children of the start node (or of the single child of the document root) in parallel, if this
+   * serializer is a {@link ParallelSerializer}, which is configured to do so. The children are split into ranges of
+   * consecutive siblings, and each range is serialized by its own serializer on its own read-only transaction of the
+   * same revision. The output of the ranges is written in document order. At most
+   * {@link ParallelSerializer#getParallelism()} ranges are serialized at the same time, which also bounds the memory
+   * needed to buffer their output.
+   *
+   * @param rtx the read-only transaction located at the start node
+   * @return {@code true}, if the children have been serialized in parallel, {@code false} if the subtree has to be
+   *     serialized sequentially
+   */
+  @SuppressWarnings("unchecked")
+  private boolean serializeChildrenInParallel(final R rtx) {
+    if (!(this instanceof ParallelSerializer<?, ?, ?>)) {
+      return false;
+    }
+
+    return serializeChildrenInParallel(rtx, (ParallelSerializer<R, W, ?>) this);
+  }
+
+  private <S extends AbstractSerializer<R, W>> boolean serializeChildrenInParallel(final R rtx,
+      final ParallelSerializer<R, W, S> parallelSerializer) {
+    final int parallelism = parallelSerializer.getParallelism();
+
+    if (parallelism <= 1 || visitor != null) {
+      return false;
+    }
+
+    if (rtx.isDocumentRoot()) {
+      if (!rtx.moveToFirstChild() || rtx.hasRightSibling()) {
+        return false;
+      }
+    }
+
+    final long parentNodeKey = rtx.getNodeKey();
+
+    if (!rtx.moveToFirstChild()) {
+      return false;
+    }
+
+    final LongArrayList childNodeKeys = new LongArrayList();
+    do {
+      childNodeKeys.add(rtx.getNodeKey());
+    } while (rtx.moveToRightSibling());
+
+    if (childNodeKeys.size() < MIN_CHILDREN_TO_SERIALIZE_IN_PARALLEL) {
+      return false;
+    }
+
+    rtx.moveTo(parentNodeKey);
+    emitNode(rtx);
+    rtx.moveTo(parentNodeKey);
+    stack.push(parentNodeKey);
+
+    final int numberOfRanges = Math.min(childNodeKeys.size(), parallelism * RANGES_PER_THREAD);
+    final int rangeSize = (childNodeKeys.size() + numberOfRanges - 1) / numberOfRanges;
+    final int revision = rtx.getRevisionNumber();
+
+    try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final Deque<Future<S>> serializedRanges = new ArrayDeque<>(parallelism);
+
+      for (int from = 0; from < childNodeKeys.size(); from += rangeSize) {
+        final long[] nodeKeys = new long[Math.min(rangeSize, childNodeKeys.size() - from)];
+        childNodeKeys.getElements(from, nodeKeys, 0, nodeKeys.length);
+        final S rangeSerializer = parallelSerializer.newChildrenSerializer(parentNodeKey);
+
+        serializedRanges.add(executor.submit(() -> {
+          // Private methods aren't accessible through the type variable.
+          final AbstractSerializer<R, W> serializer = rangeSerializer;
+          try (final R rangeRtx = resMgr.beginNodeReadOnlyTrx(revision)) {
+            for (final long nodeKey : nodeKeys) {
+              rangeRtx.moveTo(nodeKey);
+              serializer.emitSubtree(rangeRtx);
+            }
+          }
+          return rangeSerializer;
+        }));
+
+        if (serializedRanges.size() == parallelism) {
+          parallelSerializer.emitChildren(serializedRanges.poll().get());
+        }
+      }
+
+      while (!serializedRanges.isEmpty()) {
+        parallelSerializer.emitChildren(serializedRanges.poll().get());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SirixException(e);
+    } catch (final ExecutionException e) {
+      throw new SirixException(e.getCause());
+    }
+
+    stack.popLong();
+    rtx.moveTo(parentNodeKey);
+    emitEndNode(rtx, false);
+
+    return true;
   }
 
   protected abstract void setTrxForVisitor(R rtx);
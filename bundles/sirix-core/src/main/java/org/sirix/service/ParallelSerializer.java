@@ -0,0 +1,42 @@
+package org.sirix.service;
+
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+
+/**
+ * A serializer, which is able to serialize the children of the start node in parallel. The children are split into
+ * ranges of consecutive siblings, which are serialized by serializers created with
+ * {@link #newChildrenSerializer(long)}, and the buffered output of these is written in document order by
+ * {@link #emitChildren(AbstractSerializer)}.
+ *
+ * @param <R> the read-only transaction type
+ * @param <W> the read-write transaction type
+ * @param <S> the type of the serializers, which buffer the output of a range of children
+ * @author Johannes Lichtenberger
+ */
+public interface ParallelSerializer<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor,
+    S extends AbstractSerializer<R, W>> {
+
+  /**
+   * Get the number of threads used to serialize the children of the start node in parallel.
+   *
+   * @return the number of threads, {@code 1} if the subtree is serialized sequentially
+   */
+  int getParallelism();
+
+  /**
+   * Create a serializer for a range of children of a node, which buffers its output.
+   *
+   * @param parentNodeKey the node key of the parent node of the children
+   * @return the serializer
+   */
+  S newChildrenSerializer(long parentNodeKey);
+
+  /**
+   * Emit the buffered output of a serializer, which has been created by {@link #newChildrenSerializer(long)}.
+   *
+   * @param childrenSerializer the serializer
+   */
+  void emitChildren(S childrenSerializer);
+}
@@ -7,6 +7,9 @@ import org.sirix.api.json.JsonResourceSession;
 import org.sirix.diff.*;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -56,6 +59,23 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
   @Override
   public String generateDiff(JsonResourceSession resourceManager, int oldRevisionNumber, int newRevisionNumber,
       long startNodeKey, long maxDepth) {
+    final var writer = new StringWriter();
+    generateDiff(resourceManager, oldRevisionNumber, newRevisionNumber, startNodeKey, maxDepth, writer);
+    return writer.toString();
+  }
+
+  /**
+   * Diff two revisions and stream the JSON describing the differences to a writer.
+   *
+   * @param resourceManager   the resource manager to use
+   * @param oldRevisionNumber the revision number of the older revision
+   * @param newRevisionNumber the revision number of the newer revision
+   * @param startNodeKey      the start node key
+   * @param maxDepth          the maximum depth
+   * @param out               the writer to serialize the differences to
+   */
+  public void generateDiff(JsonResourceSession resourceManager, int oldRevisionNumber, int newRevisionNumber,
+      long startNodeKey, long maxDepth, Writer out) {
     diffs.clear();
 
     DiffFactory.invokeJsonDiff(new DiffFactory.Builder<>(resourceManager, newRevisionNumber, oldRevisionNumber,
@@ -66,7 +86,9 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
                                                                       .oldStartKey(startNodeKey)
                                                                       .oldMaxDepth(maxDepth));
 
-    return new JsonDiffSerializer(this.databaseName, resourceManager, oldRevisionNumber, newRevisionNumber, diffs).serialize(true);
+    final var serializer =
+        new JsonDiffSerializer(this.databaseName, resourceManager, oldRevisionNumber, newRevisionNumber, diffs);
+    serializer.serialize(true, out);
   }
 
   @Override
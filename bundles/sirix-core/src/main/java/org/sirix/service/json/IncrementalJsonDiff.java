@@ -0,0 +1,264 @@
+package org.sirix.service.json;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.JsonDiff;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceSession;
+import org.sirix.diff.DiffDepth;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.diff.DiffTuple;
+import org.sirix.diff.JsonDiffSerializer;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.settings.Fixed;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Computes the differences between two arbitrary revisions from the update operations, which are stored for each
+ * revision during the commit. Thus, the costs are proportional to the number of changed nodes instead of the size of
+ * the two revisions, which are traversed by {@link BasicJsonDiff}.
+ *
+ * <p>The node keys touched by the update operations of all revisions in between are merged. A node, which exists in
+ * both revisions, is updated, if its name or value changed. Otherwise, only the root of a newly inserted or a deleted
+ * subtree is emitted, that is the topmost ancestor, which doesn't exist in the other revision. As node keys are never
+ * reused, this yields the same changes as a full diff, besides that a replaced node is emitted as a deletion and an
+ * insertion.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class IncrementalJsonDiff implements JsonDiff {
+
+  private final String databaseName;
+
+  /**
+   * Constructor.
+   *
+   * @param databaseName The database name.
+   */
+  public IncrementalJsonDiff(final String databaseName) {
+    this.databaseName = databaseName;
+  }
+
+  /**
+   * Determines if the update operations of all revisions between the old and the new revision are stored, which is
+   * not the case for instance for revisions committed during a bulk insertion.
+   *
+   * @param resourceManager   the resource manager to use
+   * @param oldRevisionNumber the revision number of the older revision
+   * @param newRevisionNumber the revision number of the newer revision
+   * @return {@code true}, if the diff can be computed from the update operations, {@code false} otherwise
+   */
+  public static boolean isApplicable(final JsonResourceSession resourceManager, final int oldRevisionNumber,
+      final int newRevisionNumber) {
+    if (oldRevisionNumber < 1 || oldRevisionNumber >= newRevisionNumber
+        || newRevisionNumber > resourceManager.getMostRecentRevisionNumber()) {
+      return false;
+    }
+    for (int revision = oldRevisionNumber + 1; revision <= newRevisionNumber; revision++) {
+      if (!Files.exists(getUpdateOperationsFile(resourceManager, revision))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String generateDiff(final JsonResourceSession resourceManager, final int oldRevisionNumber,
+      final int newRevisionNumber) {
+    return generateDiff(resourceManager, oldRevisionNumber, newRevisionNumber, 0, 0);
+  }
+
+  @Override
+  public String generateDiff(final JsonResourceSession resourceManager, final int oldRevisionNumber,
+      final int newRevisionNumber, final long startNodeKey, final long maxDepth) {
+    final var writer = new StringWriter();
+    generateDiff(resourceManager, oldRevisionNumber, newRevisionNumber, startNodeKey, maxDepth, writer);
+    return writer.toString();
+  }
+
+  /**
+   * Diff two revisions and stream the JSON describing the differences to a writer.
+   *
+   * @param resourceManager   the resource manager to use
+   * @param oldRevisionNumber the revision number of the older revision
+   * @param newRevisionNumber the revision number of the newer revision
+   * @param startNodeKey      the node key of the root of the subtree to diff
+   * @param maxDepth          the maximum depth relative to the start node or {@code 0} for no limit
+   * @param out               the writer to serialize the differences to
+   * @throws IllegalArgumentException if the diff can't be computed from the update operations
+   */
+  public void generateDiff(final JsonResourceSession resourceManager, final int oldRevisionNumber,
+      final int newRevisionNumber, final long startNodeKey, final long maxDepth, final Writer out) {
+    checkNotNull(resourceManager);
+    checkNotNull(out);
+    checkArgument(isApplicable(resourceManager, oldRevisionNumber, newRevisionNumber),
+                  "The update operations between revision %s and %s aren't stored.",
+                  oldRevisionNumber,
+                  newRevisionNumber);
+
+    final LongSet changedNodeKeys = new LongLinkedOpenHashSet();
+    for (int revision = oldRevisionNumber + 1; revision <= newRevisionNumber; revision++) {
+      addChangedNodeKeys(getUpdateOperationsFile(resourceManager, revision), changedNodeKeys);
+    }
+
+    final List<DiffTuple> diffs;
+    try (final var oldRtx = resourceManager.beginNodeReadOnlyTrx(oldRevisionNumber);
+         final var newRtx = resourceManager.beginNodeReadOnlyTrx(newRevisionNumber)) {
+      diffs = computeDiffs(changedNodeKeys, oldRtx, newRtx, startNodeKey, maxDepth <= 0 ? Long.MAX_VALUE : maxDepth);
+    }
+
+    new JsonDiffSerializer(databaseName, resourceManager, oldRevisionNumber, newRevisionNumber, diffs).serialize(true,
+                                                                                                                out);
+  }
+
+  private static List<DiffTuple> computeDiffs(final LongSet changedNodeKeys, final JsonNodeReadOnlyTrx oldRtx,
+      final JsonNodeReadOnlyTrx newRtx, final long startNodeKey, final long maxDepth) {
+    final LongSet insertedRoots = new LongOpenHashSet();
+    final LongSet deletedRoots = new LongOpenHashSet();
+    final List<Change> changes = new ArrayList<>();
+
+    for (final long nodeKey : changedNodeKeys) {
+      final boolean isInOldRevision = oldRtx.moveTo(nodeKey);
+      final boolean isInNewRevision = newRtx.moveTo(nodeKey);
+
+      if (isInOldRevision && isInNewRevision) {
+        if ((!Objects.equals(oldRtx.getName(), newRtx.getName()) || !Objects.equals(oldRtx.getValue(),
+                                                                                    newRtx.getValue()))
+            && isInSubtree(newRtx, nodeKey, startNodeKey, maxDepth)) {
+          changes.add(new Change(DiffType.UPDATED, nodeKey, nodeKey, newRtx.getDeweyID()));
+        }
+      } else if (isInNewRevision) {
+        final long rootKey = getRootOfSubtreeNotIn(newRtx, oldRtx, nodeKey);
+        if (insertedRoots.add(rootKey) && isInSubtree(newRtx, rootKey, startNodeKey, maxDepth)) {
+          changes.add(new Change(DiffType.INSERTED, rootKey, Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                                 newRtx.getDeweyID()));
+        }
+      } else if (isInOldRevision) {
+        final long rootKey = getRootOfSubtreeNotIn(oldRtx, newRtx, nodeKey);
+        if (deletedRoots.add(rootKey) && isInSubtree(oldRtx, rootKey, startNodeKey, maxDepth)) {
+          changes.add(new Change(DiffType.DELETED, Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), rootKey,
+                                 oldRtx.getDeweyID()));
+        }
+      }
+    }
+
+    // Emit the changes in document order if DeweyIDs are stored, deletions of a position before insertions.
+    changes.sort(Comparator.comparing(Change::deweyID, Comparator.nullsLast(Comparator.naturalOrder()))
+                           .thenComparing(change -> change.diffType() != DiffType.DELETED)
+                           .thenComparingLong(change -> Math.max(change.newNodeKey(), change.oldNodeKey())));
+
+    final List<DiffTuple> diffs = new ArrayList<>(changes.size());
+    for (final Change change : changes) {
+      diffs.add(new DiffTuple(change.diffType(), change.newNodeKey(), change.oldNodeKey(), new DiffDepth(0, 0)));
+    }
+    return diffs;
+  }
+
+  /**
+   * Get the topmost ancestor-or-self of a node, which doesn't exist in the other revision.
+   *
+   * @param rtx      the transaction of the revision the node exists in, moved to the root afterwards
+   * @param otherRtx the transaction of the other revision
+   * @param nodeKey  the node key
+   * @return the node key of the root
+   */
+  private static long getRootOfSubtreeNotIn(final JsonNodeReadOnlyTrx rtx, final JsonNodeReadOnlyTrx otherRtx,
+      final long nodeKey) {
+    long rootKey = nodeKey;
+    rtx.moveTo(rootKey);
+    while (rtx.hasParent() && !otherRtx.moveTo(rtx.getParentKey())) {
+      rtx.moveToParent();
+      rootKey = rtx.getNodeKey();
+    }
+    return rootKey;
+  }
+
+  /**
+   * Determines if a node is in the subtree of the start node within the maximum depth.
+   *
+   * @param rtx          the transaction of the revision the node exists in, moved to the node afterwards
+   * @param nodeKey      the node key
+   * @param startNodeKey the node key of the root of the subtree
+   * @param maxDepth     the maximum depth relative to the start node
+   * @return {@code true}, if the node is in the subtree, {@code false} otherwise
+   */
+  private static boolean isInSubtree(final JsonNodeReadOnlyTrx rtx, final long nodeKey, final long startNodeKey,
+      final long maxDepth) {
+    boolean isInSubtree = false;
+    if (startNodeKey == Fixed.DOCUMENT_NODE_KEY.getStandardProperty() && maxDepth == Long.MAX_VALUE) {
+      isInSubtree = true;
+    } else {
+      rtx.moveTo(nodeKey);
+      long depth = 0;
+      while (rtx.getNodeKey() != startNodeKey && rtx.hasParent()) {
+        rtx.moveToParent();
+        depth++;
+      }
+      isInSubtree = rtx.getNodeKey() == startNodeKey && depth <= maxDepth;
+    }
+    rtx.moveTo(nodeKey);
+    return isInSubtree;
+  }
+
+  private static void addChangedNodeKeys(final Path updateOperationsFile, final LongSet changedNodeKeys) {
+    try (final Reader reader = Files.newBufferedReader(updateOperationsFile)) {
+      final var updateOperations = JsonParser.parseReader(reader).getAsJsonObject().getAsJsonArray("diffs");
+      for (final JsonElement updateOperation : updateOperations) {
+        final JsonObject operation = updateOperation.getAsJsonObject();
+        if (operation.has("insert")) {
+          changedNodeKeys.add(operation.getAsJsonObject("insert").get("nodeKey").getAsLong());
+        } else if (operation.has("delete")) {
+          final JsonElement delete = operation.get("delete");
+          changedNodeKeys.add(delete.isJsonObject()
+                                  ? delete.getAsJsonObject().get("nodeKey").getAsLong()
+                                  : delete.getAsLong());
+        } else if (operation.has("replace")) {
+          final JsonObject replace = operation.getAsJsonObject("replace");
+          changedNodeKeys.add(replace.get("oldNodeKey").getAsLong());
+          changedNodeKeys.add(replace.get("newNodeKey").getAsLong());
+        } else if (operation.has("update")) {
+          changedNodeKeys.add(operation.getAsJsonObject("update").get("nodeKey").getAsLong());
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Path getUpdateOperationsFile(final JsonResourceSession resourceManager, final int revision) {
+    return resourceManager.getResourceConfig()
+                          .getResource()
+                          .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
+                          .resolve("diffFromRev" + (revision - 1) + "toRev" + revision + ".json");
+  }
+
+  /**
+   * A change of a node.
+   *
+   * @param diffType   the kind of change
+   * @param newNodeKey the node key in the new revision
+   * @param oldNodeKey the node key in the old revision
+   * @param deweyID    the DeweyID of the node or {@code null}, if DeweyIDs aren't stored
+   */
+  private record Change(DiffType diffType, long newNodeKey, long oldNodeKey, SirixDeweyID deweyID) {
+  }
+}
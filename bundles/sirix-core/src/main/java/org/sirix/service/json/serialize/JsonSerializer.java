@@ -35,6 +35,7 @@ import org.sirix.api.visitor.VisitResultType;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.node.NodeKind;
 import org.sirix.service.AbstractSerializer;
+import org.sirix.service.ParallelSerializer;
 import org.sirix.service.xml.serialize.XmlSerializerProperties;
 import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
@@ -51,6 +52,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -63,7 +65,8 @@ import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_INDENT_S
  * Serializes a subtree into the JSON-format.
  * </p>
  */
-public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx, JsonNodeTrx> {
+public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx, JsonNodeTrx>
+    implements ParallelSerializer<JsonNodeReadOnlyTrx, JsonNodeTrx, JsonSerializer> {
 
   /**
    * {@link LogWrapper} reference.
@@ -102,6 +105,13 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
 
   private final boolean serializeStartNodeWithBrackets;
 
+  private final int parallelism;
+
+  /**
+   * Buffered output of a serializer, which serializes a range of children of a node.
+   */
+  private final StringBuilder childrenOut;
+
   private boolean hadToAddBracket;
 
   private int currentIndent;
@@ -128,6 +138,52 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
     withNodeKeyMetaData = builder.withNodeKey;
     withNodeKeyAndChildNodeKeyMetaData = builder.withNodeKeyAndChildCount;
     serializeStartNodeWithBrackets = builder.serializeStartNodeWithBrackets;
+    parallelism = builder.parallelism;
+    childrenOut = null;
+  }
+
+  /**
+   * Private constructor for serializing a range of children of a node into a buffer.
+   *
+   * @param serializer    the serializer, which serializes the parent node
+   * @param parentNodeKey the node key of the parent node
+   */
+  private JsonSerializer(final JsonSerializer serializer, final long parentNodeKey) {
+    super(serializer.resMgr, null, parentNodeKey, serializer.revisions[0],
+        Arrays.copyOfRange(serializer.revisions, 1, serializer.revisions.length));
+    childrenOut = new StringBuilder();
+    out = childrenOut;
+    indent = serializer.indent;
+    indentSpaces = serializer.indentSpaces;
+    withInitialIndent = serializer.withInitialIndent;
+    emitXQueryResultSequence = serializer.emitXQueryResultSequence;
+    serializeTimestamp = serializer.serializeTimestamp;
+    withMetaData = serializer.withMetaData;
+    withNodeKeyMetaData = serializer.withNodeKeyMetaData;
+    withNodeKeyAndChildNodeKeyMetaData = serializer.withNodeKeyAndChildNodeKeyMetaData;
+    serializeStartNodeWithBrackets = serializer.serializeStartNodeWithBrackets;
+    parallelism = 1;
+    currentIndent = serializer.currentIndent;
+  }
+
+  @Override
+  public int getParallelism() {
+    // The metadata of object key nodes is emitted depending on the start node.
+    return withMetaDataField() ? 1 : parallelism;
+  }
+
+  @Override
+  public JsonSerializer newChildrenSerializer(final long parentNodeKey) {
+    return new JsonSerializer(this, parentNodeKey);
+  }
+
+  @Override
+  public void emitChildren(final JsonSerializer childrenSerializer) {
+    try {
+      out.append(childrenSerializer.childrenOut);
+    } catch (final IOException e) {
+      LOGWRAPPER.error(e.getMessage(), e);
+    }
   }
 
   /**
@@ -745,6 +801,11 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
 
     private long maxChildNodes;
 
+    /**
+     * The number of threads to serialize the children of the start node.
+     */
+    private int parallelism = 1;
+
     /**
      * Constructor, setting the necessary stuff.
      *
@@ -842,6 +903,21 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
       return this;
     }
 
+    /**
+     * Serialize the children of the start node (or of the top-level object or array, if the start node is the
+     * document root) in parallel, each range of children on its own read-only transaction. Not supported in
+     * combination with a maximum level, a maximum number of nodes or child nodes or metadata, in which case the
+     * subtree is serialized sequentially.
+     *
+     * @param parallelism the number of threads to use, {@code 1} to serialize sequentially
+     * @return this reference
+     */
+    public Builder parallelism(final int parallelism) {
+      checkArgument(parallelism > 0, "parallelism must be > 0!");
+      this.parallelism = parallelism;
+      return this;
+    }
+
     /**
      * Sets an initial indentation.
      *
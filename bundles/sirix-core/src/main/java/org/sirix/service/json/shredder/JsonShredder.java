@@ -81,6 +81,11 @@ public final class JsonShredder implements Callable<Long> {
 
     private boolean skipRootJsonToken;
 
+    /**
+     * Determines if the input is parsed on a separate thread.
+     */
+    private boolean pipelined;
+
     /**
      * Constructor.
      *
@@ -105,6 +110,21 @@ public final class JsonShredder implements Callable<Long> {
       return this;
     }
 
+    /**
+     * Parse the input on a separate thread, while the nodes are created on the calling thread.
+     *
+     * <p>Only parsing is pipelined. The record pages aren't serialized and compressed ahead of the commit, as pages
+     * stay mutable until then: creating a node updates its ancestors (for instance their hashes and descendant
+     * counts) and the indexes, which are stored in earlier pages. Instead, the dirty record pages are serialized and
+     * compressed in parallel once the transaction commits.</p>
+     *
+     * @return this builder instance
+     */
+    public Builder pipelined() {
+      pipelined = true;
+      return this;
+    }
+
     @SuppressWarnings("UnusedReturnValue")
     public Builder skipRootJsonToken() {
       skipRootJsonToken = true;
@@ -128,7 +148,7 @@ public final class JsonShredder implements Callable<Long> {
    */
   private JsonShredder(final Builder builder) {
     wtx = builder.wtx;
-    reader = builder.reader;
+    reader = builder.pipelined ? new PipelinedJsonReader(builder.reader) : builder.reader;
     insert = builder.insert;
     commit = builder.commit;
     skipRootJson = builder.skipRootJsonToken;
@@ -146,7 +166,13 @@ public final class JsonShredder implements Callable<Long> {
   @Override
   public Long call() {
     final long revision = wtx.getRevisionNumber();
-    insertNewContent();
+    try {
+      insertNewContent();
+    } finally {
+      if (reader instanceof PipelinedJsonReader pipelinedReader) {
+        pipelinedReader.stop();
+      }
+    }
     commit.commit(wtx);
     return revision;
   }
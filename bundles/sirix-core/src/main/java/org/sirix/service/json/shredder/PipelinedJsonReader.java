@@ -0,0 +1,330 @@
+package org.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link JsonReader}, which parses the JSON input of another {@link JsonReader} on a separate thread. The parsed
+ * tokens are handed over in batches through a bounded queue, such that parsing the input and creating the nodes in a
+ * {@link org.sirix.api.json.JsonNodeTrx} run in a pipeline on two cores. The pipeline ends with node creation, the
+ * record pages are serialized and compressed when the transaction commits.
+ *
+ * <p>Only the subset of the {@link JsonReader} API used by the shredders is supported: {@link #peek()},
+ * {@link #hasNext()}, begin/end of arrays and objects, {@link #nextName()}, {@link #nextString()},
+ * {@link #nextBoolean()}, {@link #nextNull()}, the number accessors and {@link #skipValue()}.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PipelinedJsonReader extends JsonReader {
+
+  /**
+   * The default number of tokens handed over at once.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 4_096;
+
+  /**
+   * The default number of batches, which are parsed ahead.
+   */
+  public static final int DEFAULT_NUMBER_OF_BATCHES = 16;
+
+  /**
+   * A parsed token.
+   *
+   * @param type  the type of the token
+   * @param value the value of names, strings, numbers and booleans, {@code null} otherwise
+   */
+  private record Token(JsonToken type, @Nullable String value) {
+    private static final Token BEGIN_ARRAY = new Token(JsonToken.BEGIN_ARRAY, null);
+
+    private static final Token END_ARRAY = new Token(JsonToken.END_ARRAY, null);
+
+    private static final Token BEGIN_OBJECT = new Token(JsonToken.BEGIN_OBJECT, null);
+
+    private static final Token END_OBJECT = new Token(JsonToken.END_OBJECT, null);
+
+    private static final Token NULL = new Token(JsonToken.NULL, null);
+
+    private static final Token END_DOCUMENT = new Token(JsonToken.END_DOCUMENT, null);
+  }
+
+  /**
+   * A batch of parsed tokens.
+   *
+   * @param tokens  the tokens
+   * @param failure the failure, which occurred while parsing after the last token, or {@code null}
+   */
+  private record Batch(List<Token> tokens, @Nullable IOException failure) {
+  }
+
+  /**
+   * The reader, which parses the input.
+   */
+  private final JsonReader delegate;
+
+  /**
+   * Batches of parsed tokens.
+   */
+  private final BlockingQueue<Batch> batches;
+
+  /**
+   * The number of tokens handed over at once.
+   */
+  private final int batchSize;
+
+  /**
+   * The thread, which parses the input.
+   */
+  private final Thread parser;
+
+  /**
+   * The current batch.
+   */
+  private List<Token> tokens;
+
+  /**
+   * The index of the current token in the current batch.
+   */
+  private int index;
+
+  /**
+   * The failure of the parser, which is thrown once all tokens before the failure have been consumed.
+   */
+  private IOException failure;
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the reader, which parses the input
+   */
+  public PipelinedJsonReader(final JsonReader delegate) {
+    this(delegate, DEFAULT_BATCH_SIZE, DEFAULT_NUMBER_OF_BATCHES);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param delegate        the reader, which parses the input
+   * @param batchSize       the number of tokens handed over at once
+   * @param numberOfBatches the number of batches, which are parsed ahead
+   */
+  public PipelinedJsonReader(final JsonReader delegate, final int batchSize, final int numberOfBatches) {
+    super(Reader.nullReader());
+    checkArgument(batchSize > 0, "The batch size must be > 0.");
+    checkArgument(numberOfBatches > 0, "The number of batches must be > 0.");
+    this.delegate = requireNonNull(delegate);
+    this.batchSize = batchSize;
+    this.batches = new ArrayBlockingQueue<>(numberOfBatches);
+    this.tokens = List.of();
+    this.parser = new Thread(this::parse, "json-parser");
+    this.parser.setDaemon(true);
+    this.parser.start();
+  }
+
+  private void parse() {
+    List<Token> batch = new ArrayList<>(batchSize);
+    try {
+      while (true) {
+        final Token token = nextToken();
+        batch.add(token);
+
+        if (token.type() == JsonToken.END_DOCUMENT) {
+          batches.put(new Batch(batch, null));
+          return;
+        }
+
+        if (batch.size() == batchSize) {
+          batches.put(new Batch(batch, null));
+          batch = new ArrayList<>(batchSize);
+        }
+      }
+    } catch (final IOException | RuntimeException e) {
+      try {
+        batches.put(new Batch(batch, e instanceof IOException ioException ? ioException : new IOException(e)));
+      } catch (final InterruptedException ignored) {
+        // The reader has been closed.
+      }
+    } catch (final InterruptedException ignored) {
+      // The reader has been closed.
+    }
+  }
+
+  private Token nextToken() throws IOException {
+    return switch (delegate.peek()) {
+      case BEGIN_ARRAY -> {
+        delegate.beginArray();
+        yield Token.BEGIN_ARRAY;
+      }
+      case END_ARRAY -> {
+        delegate.endArray();
+        yield Token.END_ARRAY;
+      }
+      case BEGIN_OBJECT -> {
+        delegate.beginObject();
+        yield Token.BEGIN_OBJECT;
+      }
+      case END_OBJECT -> {
+        delegate.endObject();
+        yield Token.END_OBJECT;
+      }
+      case NAME -> new Token(JsonToken.NAME, delegate.nextName());
+      case STRING -> new Token(JsonToken.STRING, delegate.nextString());
+      case NUMBER -> new Token(JsonToken.NUMBER, delegate.nextString());
+      case BOOLEAN -> new Token(JsonToken.BOOLEAN, String.valueOf(delegate.nextBoolean()));
+      case NULL -> {
+        delegate.nextNull();
+        yield Token.NULL;
+      }
+      case END_DOCUMENT -> Token.END_DOCUMENT;
+    };
+  }
+
+  private Token current() throws IOException {
+    while (index == tokens.size()) {
+      if (failure != null) {
+        throw failure;
+      }
+
+      final Batch batch;
+      try {
+        batch = batches.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the JSON parser.");
+      }
+      tokens = batch.tokens();
+      index = 0;
+      failure = batch.failure();
+    }
+    return tokens.get(index);
+  }
+
+  private Token consume(final JsonToken expected) throws IOException {
+    final Token token = current();
+    if (token.type() != expected) {
+      throw new IllegalStateException("Expected " + expected + " but was " + token.type() + ".");
+    }
+    if (token.type() != JsonToken.END_DOCUMENT) {
+      index++;
+    }
+    return token;
+  }
+
+  @Override
+  public JsonToken peek() throws IOException {
+    return current().type();
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    final JsonToken type = peek();
+    return type != JsonToken.END_ARRAY && type != JsonToken.END_OBJECT && type != JsonToken.END_DOCUMENT;
+  }
+
+  @Override
+  public void beginArray() throws IOException {
+    consume(JsonToken.BEGIN_ARRAY);
+  }
+
+  @Override
+  public void endArray() throws IOException {
+    consume(JsonToken.END_ARRAY);
+  }
+
+  @Override
+  public void beginObject() throws IOException {
+    consume(JsonToken.BEGIN_OBJECT);
+  }
+
+  @Override
+  public void endObject() throws IOException {
+    consume(JsonToken.END_OBJECT);
+  }
+
+  @Override
+  public String nextName() throws IOException {
+    return consume(JsonToken.NAME).value();
+  }
+
+  @Override
+  public String nextString() throws IOException {
+    final Token token = current();
+    if (token.type() != JsonToken.STRING && token.type() != JsonToken.NUMBER) {
+      throw new IllegalStateException("Expected a string but was " + token.type() + ".");
+    }
+    index++;
+    return token.value();
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException {
+    return Boolean.parseBoolean(consume(JsonToken.BOOLEAN).value());
+  }
+
+  @Override
+  public void nextNull() throws IOException {
+    consume(JsonToken.NULL);
+  }
+
+  @Override
+  public double nextDouble() throws IOException {
+    return Double.parseDouble(nextString());
+  }
+
+  @Override
+  public long nextLong() throws IOException {
+    return Long.parseLong(nextString());
+  }
+
+  @Override
+  public int nextInt() throws IOException {
+    return Integer.parseInt(nextString());
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    int depth = 0;
+    do {
+      final Token token = current();
+      switch (token.type()) {
+        case BEGIN_ARRAY, BEGIN_OBJECT -> depth++;
+        case END_ARRAY, END_OBJECT -> depth--;
+        case END_DOCUMENT -> {
+          return;
+        }
+        default -> {
+        }
+      }
+      index++;
+    } while (depth > 0);
+  }
+
+  /**
+   * Stop parsing the input, without closing the underlying reader.
+   */
+  void stop() {
+    parser.interrupt();
+  }
+
+  @Override
+  public void close() throws IOException {
+    stop();
+    delegate.close();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " of " + delegate;
+  }
+}
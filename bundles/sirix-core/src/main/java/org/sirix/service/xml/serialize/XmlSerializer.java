@@ -29,6 +29,7 @@ import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_INDENT_S
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_REST;
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_XMLDECL;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -38,6 +39,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentMap;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -50,6 +52,7 @@ import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.api.xml.XmlResourceSession;
 import org.sirix.node.NodeKind;
+import org.sirix.service.ParallelSerializer;
 import org.sirix.settings.CharsForSerializing;
 import org.sirix.settings.Constants;
 import org.sirix.utils.LogWrapper;
@@ -65,7 +68,8 @@ import org.slf4j.LoggerFactory;
  * buffer it again outside of this class.
  * </p>
  */
-public final class XmlSerializer extends org.sirix.service.AbstractSerializer<XmlNodeReadOnlyTrx, XmlNodeTrx> {
+public final class XmlSerializer extends org.sirix.service.AbstractSerializer<XmlNodeReadOnlyTrx, XmlNodeTrx>
+    implements ParallelSerializer<XmlNodeReadOnlyTrx, XmlNodeTrx, XmlSerializer> {
 
   /** {@link LogWrapper} reference. */
   private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(XmlSerializer.class));
@@ -108,6 +112,12 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
 
   private final boolean metaData;
 
+  /** The number of threads to serialize the children of the start node. */
+  private final int parallelism;
+
+  /** Buffered output of a serializer, which serializes a range of children of a node. */
+  private final ByteArrayOutputStream childrenOut;
+
   /**
    * Initialize XMLStreamReader implementation with transaction. The cursor points to the node the
    * XMLStreamReader starts to read.
@@ -135,6 +145,57 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
     emitXQueryResultSequence = builder.emitXQueryResultSequence;
     serializeTimestamp = builder.serializeTimestamp;
     metaData = builder.metaData;
+    parallelism = builder.parallelism;
+    childrenOut = null;
+  }
+
+  /**
+   * Private constructor for serializing a range of children of a node into a buffer.
+   *
+   * @param serializer the serializer, which serializes the parent node
+   * @param parentNodeKey the node key of the parent node
+   */
+  private XmlSerializer(final XmlSerializer serializer, final long parentNodeKey) {
+    super(serializer.resMgr, null, parentNodeKey, serializer.revisions[0],
+        Arrays.copyOfRange(serializer.revisions, 1, serializer.revisions.length));
+    childrenOut = new ByteArrayOutputStream();
+    out = new BufferedOutputStream(childrenOut, 4096);
+    indent = serializer.indent;
+    serializeXMLDeclaration = serializer.serializeXMLDeclaration;
+    serializeRest = serializer.serializeRest;
+    serializeRestSequence = serializer.serializeRestSequence;
+    serializeId = serializer.serializeId;
+    indentSpaces = serializer.indentSpaces;
+    withInitialIndent = serializer.withInitialIndent;
+    emitXQueryResultSequence = serializer.emitXQueryResultSequence;
+    serializeTimestamp = serializer.serializeTimestamp;
+    metaData = serializer.metaData;
+    parallelism = 1;
+
+    // The indentation depends on the depth of the stack.
+    for (int i = 0, depth = serializer.stack.size(); i < depth; i++) {
+      stack.push(Constants.NULL_ID_LONG);
+    }
+  }
+
+  @Override
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  @Override
+  public XmlSerializer newChildrenSerializer(final long parentNodeKey) {
+    return new XmlSerializer(this, parentNodeKey);
+  }
+
+  @Override
+  public void emitChildren(final XmlSerializer childrenSerializer) {
+    try {
+      childrenSerializer.out.flush();
+      childrenSerializer.childrenOut.writeTo(out);
+    } catch (final IOException e) {
+      LOGWRAPPER.error(e.getMessage(), e);
+    }
   }
 
   /**
@@ -602,6 +663,8 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
 
     private long maxLevel;
 
+    private int parallelism = 1;
+
     /**
      * Constructor, setting the necessary stuff.
      *
@@ -666,6 +729,20 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
       return this;
     }
 
+    /**
+     * Serialize the children of the start node (or of the root element, if the start node is the document root) in
+     * parallel, each range of children on its own read-only transaction. Not supported in combination with a
+     * maximum level, in which case the subtree is serialized sequentially.
+     *
+     * @param parallelism the number of threads to use, {@code 1} to serialize sequentially
+     * @return this {@link XmlSerializerBuilder} instance
+     */
+    public XmlSerializerBuilder parallelism(final int parallelism) {
+      checkArgument(parallelism > 0, "parallelism must be > 0!");
+      this.parallelism = parallelism;
+      return this;
+    }
+
     /**
      * Sets an initial indentation.
      *
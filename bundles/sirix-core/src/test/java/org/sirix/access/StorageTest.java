@@ -21,12 +21,12 @@
 
 package org.sirix.access;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
 import net.openhft.chronicle.bytes.Bytes;
 import org.sirix.XmlTestHelper;
 import org.sirix.exception.SirixException;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
+import org.sirix.io.RevisionIndex;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.file.FileStorage;
@@ -140,10 +140,10 @@ public final class StorageTest {
     return new Object[][]{
         { IOStorage.class,
             new IOStorage[]{
-                new FileChannelStorage(resourceConfig.setDatabaseConfiguration(dbConfig), Caffeine.newBuilder().buildAsync()),
-                new FileStorage(resourceConfig.setDatabaseConfiguration(dbConfig), Caffeine.newBuilder().buildAsync()),
-                new MMStorage(resourceConfig.setDatabaseConfiguration(dbConfig), Caffeine.newBuilder().buildAsync()),
-           //     new IOUringStorage(resourceConfig.setDatabaseConfiguration(dbConfig), Caffeine.newBuilder().buildAsync()),
+                new FileChannelStorage(resourceConfig.setDatabaseConfiguration(dbConfig), new RevisionIndex()),
+                new FileStorage(resourceConfig.setDatabaseConfiguration(dbConfig), new RevisionIndex()),
+                new MMStorage(resourceConfig.setDatabaseConfiguration(dbConfig), new RevisionIndex()),
+           //     new IOUringStorage(resourceConfig.setDatabaseConfiguration(dbConfig), new RevisionIndex()),
                 new RAMStorage(resourceConfig.setDatabaseConfiguration(dbConfig)),
             }
         }
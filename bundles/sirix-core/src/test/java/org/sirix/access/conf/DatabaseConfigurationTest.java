@@ -1,7 +1,11 @@
 package org.sirix.access.conf;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
 import org.sirix.XmlTestHelper;
 import org.sirix.access.DatabaseConfiguration;
 import org.sirix.access.Databases;
@@ -44,4 +48,23 @@ public class DatabaseConfigurationTest {
         DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile());
     assertEquals(conf.toString(), serializedConf.toString());
   }
+
+  /**
+   * Test that only an explicitly set buffer pool size is stored, as the default depends on the heap size.
+   *
+   * @throws IOException if an I/O exception occurs
+   */
+  @Test
+  public void testDeSerializeMaxBufferPoolSize() throws IOException {
+    DatabaseConfiguration conf = new DatabaseConfiguration(XmlTestHelper.PATHS.PATH1.getFile());
+    assertTrue(Databases.createXmlDatabase(conf));
+    assertFalse(Files.readString(conf.getConfigFile()).contains("maxBufferPoolSizeInBytes"));
+    assertEquals(DatabaseConfiguration.DEFAULT_MAX_BUFFER_POOL_SIZE_IN_BYTES,
+        DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile()).getMaxBufferPoolSizeInBytes());
+
+    conf.setMaxBufferPoolSizeInBytes(1 << 20);
+    DatabaseConfiguration.serialize(conf);
+    assertEquals(1 << 20,
+        DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile()).getMaxBufferPoolSizeInBytes());
+  }
 }
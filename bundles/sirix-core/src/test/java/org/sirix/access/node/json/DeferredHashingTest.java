@@ -0,0 +1,105 @@
+package org.sirix.access.node.json;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.api.Database;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceSession;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test the deferred computation of postorder hashes.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class DeferredHashingTest {
+  @BeforeEach
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @DisplayName("compute the same postorder hashes, if the computation is deferred to the commit")
+  @Test
+  public void test_whenHashingIsDeferred_hashesAreEqual() {
+    final Database<JsonResourceSession> database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+
+    assertEquals(getHashes(database, "eager", false, DeferredHashingTest::insertAndUpdateNodes),
+                 getHashes(database, "deferred", true, DeferredHashingTest::insertAndUpdateNodes));
+  }
+
+  @DisplayName("compute the same postorder hashes, if nodes are removed and the computation is deferred to the commit")
+  @Test
+  public void test_whenNodesAreRemovedAndHashingIsDeferred_hashesAreEqual() {
+    final Database<JsonResourceSession> database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+
+    assertEquals(getHashes(database, "eager", false, DeferredHashingTest::removeNodes),
+                 getHashes(database, "deferred", true, DeferredHashingTest::removeNodes));
+  }
+
+  private static void insertAndUpdateNodes(final JsonNodeTrx wtx) {
+    wtx.moveTo(3);
+    for (int i = 0; i < 10; i++) {
+      wtx.insertNumberValueAsFirstChild(i);
+      wtx.moveToParent();
+    }
+    wtx.moveTo(4);
+    wtx.setNumberValue(42);
+  }
+
+  private static void removeNodes(final JsonNodeTrx wtx) {
+    // Remove nodes, whose hashes have been committed before.
+    wtx.commit();
+    wtx.moveTo(4);
+    wtx.remove();
+    wtx.moveTo(7);
+    wtx.remove();
+    wtx.moveTo(9);
+    wtx.remove();
+
+    // Remove a node, which has been inserted by the transaction.
+    wtx.moveTo(3);
+    wtx.insertNumberValueAsFirstChild(42);
+    wtx.remove();
+  }
+
+  private static List<Long> getHashes(final Database<JsonResourceSession> database, final String resource,
+      final boolean deferredHashing, final Consumer<JsonNodeTrx> modification) {
+    database.createResource(ResourceConfiguration.newBuilder(resource).hashKind(HashType.POSTORDER).build());
+
+    try (final var manager = database.beginResourceSession(resource); final var wtx = manager.beginNodeTrx()) {
+      wtx.setDeferredHashing(deferredHashing);
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"foo\":[1,2,{\"bar\":true}],\"baz\":\"qux\"}"),
+                                    JsonNodeTrx.Commit.NO);
+      modification.accept(wtx);
+      wtx.commit();
+
+      final List<Long> hashes = new ArrayList<>();
+      wtx.moveToDocumentRoot();
+      final var axis = new DescendantAxis(wtx, IncludeSelf.YES);
+      while (axis.hasNext()) {
+        axis.nextLong();
+        hashes.add(wtx.getHash());
+      }
+      return hashes;
+    }
+  }
+}
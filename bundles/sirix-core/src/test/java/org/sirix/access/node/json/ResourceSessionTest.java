@@ -7,16 +7,35 @@ import org.junit.jupiter.api.Test;
 import org.sirix.JsonTestHelper;
 import org.sirix.JsonTestHelper.PATHS;
 import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.AbstractResourceSession;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.InternalResourceSession;
 import org.sirix.api.ResourceSession;
+import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceSession;
+import org.sirix.exception.SirixIOException;
+import org.sirix.exception.SirixUsageException;
+import org.sirix.io.IOStorage;
 import org.sirix.io.StorageType;
+import org.sirix.io.Writer;
+import org.sirix.service.json.shredder.JsonShredder;
 import org.sirix.settings.VersioningType;
 
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 
 /**
  * Test the {@link ResourceSession}.
@@ -45,6 +64,88 @@ public final class ResourceSessionTest {
     assertion(exception);
   }
 
+  @DisplayName("commit asynchronously and make the revisions durable")
+  @Test
+  public void test_whenCommittedAsynchronously_revisionsAreDurable() {
+    final var resource = "resource";
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder(resource).build());
+      try (final var manager = database.beginResourceSession(resource);
+           final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,2]"), JsonNodeTrx.Commit.NO);
+        final CompletableFuture<Integer> firstRevision = wtx.commitAsync();
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.insertNumberValueAsFirstChild(0);
+        final CompletableFuture<Integer> secondRevision = wtx.commitAsync();
+
+        assertEquals(1, firstRevision.join());
+        assertEquals(2, secondRevision.join());
+        assertEquals(2, manager.getMostRecentRevisionNumber());
+        assertFalse(Files.exists(((InternalResourceSession<?, ?>) manager).getCommitFile()));
+      }
+    }
+  }
+
+  @DisplayName("only read and build upon the last durable revision, if a group commit can't be forced")
+  @Test
+  public void test_whenGroupCommitCannotBeForced_lastDurableRevisionIsRestored() throws ReflectiveOperationException {
+    final var resource = "resource";
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder(resource).build());
+      try (final var manager = database.beginResourceSession(resource)) {
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,2]"));
+        }
+
+        // The first writer, which is created for the next page transaction, fails to force the revision.
+        final Field storageField = AbstractResourceSession.class.getDeclaredField("storage");
+        storageField.setAccessible(true);
+        final IOStorage storage = (IOStorage) storageField.get(manager);
+        final Writer failingWriter = mock(Writer.class, delegatesTo(storage.createWriter()));
+        doThrow(new SirixIOException("Simulated flush failure.")).when(failingWriter).force();
+        final IOStorage failingStorage = mock(IOStorage.class, delegatesTo(storage));
+        doReturn(failingWriter).doAnswer(delegatesTo(storage)).when(failingStorage).createWriter();
+        storageField.set(manager, failingStorage);
+
+        final Path commitFile = ((InternalResourceSession<?, ?>) manager).getCommitFile();
+
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.moveTo(1);
+          wtx.insertNumberValueAsFirstChild(0);
+          final CompletableFuture<Integer> revision = wtx.commitAsync();
+
+          assertThrows(CompletionException.class, revision::join);
+          assertEquals(1, manager.getMostRecentRevisionNumber());
+          assertThrows(SirixUsageException.class, wtx::commit);
+        }
+
+        assertEquals(1, manager.getMostRecentRevisionNumber());
+        assertTrue(Files.exists(commitFile));
+
+        storageField.set(manager, storage);
+
+        try (final var wtx = manager.beginNodeTrx()) {
+          assertFalse(Files.exists(commitFile));
+          wtx.moveTo(1);
+          assertEquals(2, wtx.getChildCount());
+          wtx.insertNumberValueAsFirstChild(0);
+          wtx.commit();
+        }
+
+        assertEquals(2, manager.getMostRecentRevisionNumber());
+        assertFalse(Files.exists(commitFile));
+
+        try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+          rtx.moveTo(1);
+          assertEquals(3, rtx.getChildCount());
+        }
+      }
+    }
+  }
+
   private void createTransactions(Consumer<JsonResourceSession> startTransactions) {
     final var resource = "resource";
 
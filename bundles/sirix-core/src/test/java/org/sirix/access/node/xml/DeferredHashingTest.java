@@ -0,0 +1,142 @@
+package org.sirix.access.node.xml;
+
+import org.brackit.xquery.atomic.QNm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.XmlTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.api.Database;
+import org.sirix.api.Movement;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.api.xml.XmlResourceSession;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.service.xml.shredder.XmlShredder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test the deferred computation of postorder hashes of elements with attributes and namespaces.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class DeferredHashingTest {
+  private static final String XML = "<p:a xmlns:p=\"ns\" p:x=\"1\"><b y=\"2\">text</b><c z=\"3\"/></p:a>";
+
+  @BeforeEach
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    XmlTestHelper.closeEverything();
+  }
+
+  @DisplayName("compute the same postorder hashes, if attributes and namespaces are modified and the computation is "
+      + "deferred to the commit")
+  @Test
+  public void test_whenHashingIsDeferred_hashesAreEqual() {
+    final Database<XmlResourceSession> database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+
+    assertEquals(getHashes(database, "eager", false, DeferredHashingTest::insertAndUpdateNodes),
+                 getHashes(database, "deferred", true, DeferredHashingTest::insertAndUpdateNodes));
+  }
+
+  @DisplayName("compute the same postorder hashes, if nodes, attributes and namespaces are removed and the "
+      + "computation is deferred to the commit")
+  @Test
+  public void test_whenNodesAreRemovedAndHashingIsDeferred_hashesAreEqual() {
+    final Database<XmlResourceSession> database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+
+    assertEquals(getHashes(database, "eager", false, DeferredHashingTest::removeNodes),
+                 getHashes(database, "deferred", true, DeferredHashingTest::removeNodes));
+  }
+
+  private static void insertAndUpdateNodes(final XmlNodeTrx wtx) {
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    wtx.insertAttribute(new QNm("ns", "p", "w"), "4", Movement.TOPARENT);
+    wtx.insertNamespace(new QNm("urn:q", "q", ""), Movement.TOPARENT);
+
+    wtx.moveToFirstChild();
+    wtx.moveToAttribute(0);
+    wtx.setValue("5");
+    wtx.moveToParent();
+    wtx.insertElementAsFirstChild(new QNm("d"));
+    wtx.insertAttribute(new QNm("v"), "6", Movement.TOPARENT);
+    wtx.moveToRightSibling();
+    wtx.setValue("changed");
+  }
+
+  private static void removeNodes(final XmlNodeTrx wtx) {
+    // Remove nodes, whose hashes have been committed before.
+    wtx.commit();
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    wtx.moveToNamespace(0);
+    wtx.remove();
+
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    wtx.moveToFirstChild();
+    wtx.moveToAttribute(0);
+    wtx.remove();
+
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    wtx.moveToFirstChild();
+    wtx.moveToRightSibling();
+    wtx.remove();
+
+    // Remove an attribute, which has been inserted by the transaction.
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    wtx.insertAttribute(new QNm("u"), "7", Movement.TOPARENT);
+    wtx.moveToAttributeByName(new QNm("u"));
+    wtx.remove();
+  }
+
+  private static List<Long> getHashes(final Database<XmlResourceSession> database, final String resource,
+      final boolean deferredHashing, final Consumer<XmlNodeTrx> modification) {
+    database.createResource(ResourceConfiguration.newBuilder(resource).hashKind(HashType.POSTORDER).build());
+
+    try (final var manager = database.beginResourceSession(resource); final var wtx = manager.beginNodeTrx()) {
+      wtx.setDeferredHashing(deferredHashing);
+      wtx.insertSubtreeAsFirstChild(XmlShredder.createStringReader(XML), XmlNodeTrx.Commit.NO);
+      modification.accept(wtx);
+      wtx.commit();
+
+      final List<Long> hashes = new ArrayList<>();
+      wtx.moveToDocumentRoot();
+      final var axis = new DescendantAxis(wtx, IncludeSelf.YES);
+      while (axis.hasNext()) {
+        axis.nextLong();
+        hashes.add(wtx.getHash());
+
+        if (wtx.isElement()) {
+          final long nodeKey = wtx.getNodeKey();
+          for (int i = 0, attributes = wtx.getAttributeCount(); i < attributes; i++) {
+            wtx.moveToAttribute(i);
+            hashes.add(wtx.getHash());
+            wtx.moveTo(nodeKey);
+          }
+          for (int i = 0, namespaces = wtx.getNamespaceCount(); i < namespaces; i++) {
+            wtx.moveToNamespace(i);
+            hashes.add(wtx.getHash());
+            wtx.moveTo(nodeKey);
+          }
+        }
+      }
+      return hashes;
+    }
+  }
+}
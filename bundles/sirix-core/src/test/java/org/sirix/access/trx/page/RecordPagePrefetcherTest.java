@@ -0,0 +1,78 @@
+package org.sirix.access.trx.page;
+
+import org.junit.Test;
+import org.sirix.cache.IndexLogKey;
+import org.sirix.index.IndexType;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.interfaces.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class RecordPagePrefetcherTest {
+
+  @Test
+  public void testRandomAccessDoesNotPrefetch() {
+    final List<Long> loadedRecordPageKeys = new ArrayList<>();
+    final var prefetcher = new RecordPagePrefetcher<>(loader(loadedRecordPageKeys), 4);
+
+    prefetcher.recordAccess(indexLogKey(5));
+    prefetcher.recordAccess(indexLogKey(1));
+    prefetcher.recordAccess(indexLogKey(9));
+
+    assertTrue(loadedRecordPageKeys.isEmpty());
+  }
+
+  @Test
+  public void testSequentialAccessPrefetchesWindow() {
+    final List<Long> loadedRecordPageKeys = new ArrayList<>();
+    final var prefetcher = new RecordPagePrefetcher<>(loader(loadedRecordPageKeys), 4);
+
+    prefetcher.recordAccess(indexLogKey(0));
+    prefetcher.recordAccess(indexLogKey(1));
+    prefetcher.recordAccess(indexLogKey(2));
+
+    assertEquals(List.of(3L, 4L, 5L, 6L), loadedRecordPageKeys);
+
+    assertNotNull(prefetcher.getPrefetched(3));
+    assertNull(prefetcher.getPrefetched(3));
+
+    prefetcher.recordAccess(indexLogKey(3));
+
+    assertEquals(List.of(3L, 4L, 5L, 6L, 7L), loadedRecordPageKeys);
+
+    prefetcher.close();
+  }
+
+  @Test
+  public void testDisabledPrefetching() {
+    final List<Long> loadedRecordPageKeys = new ArrayList<>();
+    final var prefetcher = new RecordPagePrefetcher<>(loader(loadedRecordPageKeys), 4);
+    prefetcher.setPrefetchWindow(0);
+
+    for (int i = 0; i < 10; i++) {
+      prefetcher.recordAccess(indexLogKey(i));
+    }
+
+    assertTrue(loadedRecordPageKeys.isEmpty());
+  }
+
+  private static Function<IndexLogKey, CompletableFuture<Page>> loader(
+      final List<Long> loadedRecordPageKeys) {
+    return indexLogKey -> {
+      loadedRecordPageKeys.add(indexLogKey.getRecordPageKey());
+      return CompletableFuture.completedFuture(new OverflowPage(new byte[0]));
+    };
+  }
+
+  private static IndexLogKey indexLogKey(final long recordPageKey) {
+    return new IndexLogKey(IndexType.DOCUMENT, recordPageKey, 0, 1);
+  }
+}
@@ -0,0 +1,72 @@
+package org.sirix.access.trx.page;
+
+import org.junit.Test;
+import org.sirix.page.NamePage;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public final class RevisionRootPagePoolTest {
+
+  @Test
+  public void testTransactionsOnTheSameRevisionShareThePages() {
+    final List<Integer> loadedRevisions = new ArrayList<>();
+    final var pool = new RevisionRootPagePool();
+
+    final var first = pool.acquire(1, loader(loadedRevisions));
+    final var second = pool.acquire(1, loader(loadedRevisions));
+
+    assertSame(first, second);
+    assertEquals(List.of(1), loadedRevisions);
+  }
+
+  @Test
+  public void testReleasedRevisionIsRemovedOnceNotInUse() {
+    final List<Integer> loadedRevisions = new ArrayList<>();
+    final var pool = new RevisionRootPagePool();
+
+    final var first = pool.acquire(1, loader(loadedRevisions));
+    pool.acquire(1, loader(loadedRevisions));
+    pool.release(1, first);
+
+    assertEquals(1, pool.size());
+
+    pool.release(1, first);
+
+    assertEquals(0, pool.size());
+
+    pool.acquire(1, loader(loadedRevisions));
+
+    assertEquals(List.of(1, 1), loadedRevisions);
+  }
+
+  @Test
+  public void testReleasedRevisionDoesNotHoldSwizzledPages() {
+    final var pool = new RevisionRootPagePool();
+
+    final var revisionRoot = pool.acquire(1, loader(new ArrayList<>()));
+
+    assertNotNull(revisionRoot.revisionRootPage().getNamePageReference().getPage());
+
+    pool.release(1, revisionRoot);
+
+    for (final PageReference reference : revisionRoot.revisionRootPage().getReferences()) {
+      assertNull(reference == null ? null : reference.getPage());
+    }
+  }
+
+  private static IntFunction<RevisionRootPagePool.RevisionRoot> loader(final List<Integer> loadedRevisions) {
+    return revision -> {
+      loadedRevisions.add(revision);
+      return new RevisionRootPagePool.RevisionRoot(new RevisionRootPage(), new NamePage());
+    };
+  }
+}
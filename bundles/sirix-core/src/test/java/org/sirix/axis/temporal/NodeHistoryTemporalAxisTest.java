@@ -0,0 +1,207 @@
+package org.sirix.axis.temporal;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.PageReadOnlyTrxPool;
+import org.sirix.api.Database;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceSession;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the temporal axes, if the node history is stored in the record to revisions index.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class NodeHistoryTemporalAxisTest {
+
+  private static final String RESOURCE = "history";
+
+  /**
+   * The node key of the number value inserted in the second revision.
+   */
+  private static final long NODE_KEY = 4;
+
+  private JsonResourceSession resourceSession;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    final Database<JsonResourceSession> database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE).storeNodeHistory(true).build());
+    resourceSession = database.beginResourceSession(RESOURCE);
+
+    try (final var wtx = resourceSession.beginNodeTrx()) {
+      // Revision 1.
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,2]"));
+
+      // Revision 2.
+      wtx.moveTo(1);
+      wtx.insertNumberValueAsFirstChild(0);
+      wtx.commit();
+
+      // Revision 3.
+      wtx.moveTo(1);
+      wtx.insertNumberValueAsLastChild(3);
+      wtx.commit();
+    }
+  }
+
+  @After
+  public void tearDown() {
+    resourceSession.close();
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testAllTimeAxisOnlyRetrievesTheVersionsOfTheNode() {
+    changeNodeInRevision4();
+
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(3)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(2, 4), getRevisions(new AllTimeAxis<>(resourceSession, rtx)));
+    }
+  }
+
+  @Test
+  public void testPastAxisOnlyRetrievesTheEarlierVersionsOfTheNode() {
+    changeNodeInRevision4();
+
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(4)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(4, 2), getRevisions(new PastAxis<>(resourceSession, rtx, IncludeSelf.YES)));
+      assertEquals(List.of(2), getRevisions(new PastAxis<>(resourceSession, rtx, IncludeSelf.NO)));
+    }
+
+    // The node hasn't been changed since it has been created in revision 2.
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(3)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(3), getRevisions(new PastAxis<>(resourceSession, rtx, IncludeSelf.YES)));
+      assertEquals(List.of(), getRevisions(new PastAxis<>(resourceSession, rtx, IncludeSelf.NO)));
+    }
+  }
+
+  @Test
+  public void testFutureAxisOnlyRetrievesTheLaterVersionsOfTheNode() {
+    changeNodeInRevision4();
+
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(2)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(2, 4), getRevisions(new FutureAxis<>(resourceSession, rtx, IncludeSelf.YES)));
+      assertEquals(List.of(4), getRevisions(new FutureAxis<>(resourceSession, rtx, IncludeSelf.NO)));
+    }
+  }
+
+  @Test
+  public void testPreviousAxisRetrievesThePreviousVersionOfTheNode() {
+    changeNodeInRevision4();
+
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(4)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(2), getRevisions(new PreviousAxis<>(resourceSession, rtx)));
+    }
+
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(3)) {
+      rtx.moveTo(NODE_KEY);
+      assertFalse(new PreviousAxis<>(resourceSession, rtx).hasNext());
+    }
+  }
+
+  @Test
+  public void testPreviousAxisIsEmptyInTheRevisionTheNodeHasBeenCreatedIn() {
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(2)) {
+      rtx.moveTo(NODE_KEY);
+      assertFalse(new PreviousAxis<>(resourceSession, rtx).hasNext());
+    }
+  }
+
+  @Test
+  public void testNextAxisRetrievesTheNextVersionOfTheNode() {
+    changeNodeInRevision4();
+
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(2)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(4), getRevisions(new NextAxis<>(resourceSession, rtx)));
+    }
+
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(4)) {
+      rtx.moveTo(NODE_KEY);
+      assertFalse(new NextAxis<>(resourceSession, rtx).hasNext());
+    }
+  }
+
+  @Test
+  public void testChangedRevisionsAxisSkipsTheRevisionsTheNodeHasNotBeenChangedIn() {
+    try (final var wtx = resourceSession.beginNodeTrx()) {
+      // Revision 4.
+      wtx.moveTo(NODE_KEY);
+      wtx.setNumberValue(4);
+      wtx.commit();
+
+      // Revision 5, in which the node is removed.
+      wtx.moveTo(NODE_KEY);
+      wtx.remove();
+      wtx.commit();
+    }
+
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(4)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(2, 4), getRevisions(new ChangedRevisionsAxis<>(resourceSession, rtx)));
+    }
+  }
+
+  @Test
+  public void testChangedRevisionsAxisSharesThePageTrxOfARevision() {
+    try (final var rtx = resourceSession.beginNodeReadOnlyTrx(3);
+         final var pool = new PageReadOnlyTrxPool<>(resourceSession)) {
+      rtx.moveTo(NODE_KEY);
+
+      final JsonNodeReadOnlyTrx first = new ChangedRevisionsAxis<>(resourceSession, rtx, pool).next();
+      final JsonNodeReadOnlyTrx second = new ChangedRevisionsAxis<>(resourceSession, rtx, pool).next();
+      final PageReadOnlyTrx pageTrx = first.getPageTrx();
+
+      assertSame(pageTrx, second.getPageTrx());
+      assertEquals(1, pool.getNumberOfOpenRevisions());
+
+      first.close();
+      assertFalse(pageTrx.isClosed());
+
+      second.close();
+      assertTrue(pageTrx.isClosed());
+      assertEquals(0, pool.getNumberOfOpenRevisions());
+    }
+  }
+
+  private void changeNodeInRevision4() {
+    try (final var wtx = resourceSession.beginNodeTrx()) {
+      wtx.moveTo(NODE_KEY);
+      wtx.setNumberValue(4);
+      wtx.commit();
+    }
+  }
+
+  private static List<Integer> getRevisions(final Iterator<JsonNodeReadOnlyTrx> axis) {
+    final List<Integer> revisions = new ArrayList<>();
+    axis.forEachRemaining(rtx -> {
+      assertEquals(NODE_KEY, rtx.getNodeKey());
+      revisions.add(rtx.getRevisionNumber());
+      rtx.close();
+    });
+    return revisions;
+  }
+}
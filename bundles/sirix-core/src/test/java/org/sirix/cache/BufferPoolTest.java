@@ -0,0 +1,108 @@
+package org.sirix.cache;
+
+import org.junit.Test;
+import org.sirix.page.IndirectPage;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.PageReference;
+
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link BufferPool}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class BufferPoolTest {
+
+  @Test
+  public void testCachesOfDifferentResourcesAreSeparated() {
+    final var bufferPool = new BufferPool(1 << 20);
+    final var firstBufferManager = new BufferManagerImpl(bufferPool, Path.of("resource1"));
+    final var secondBufferManager = new BufferManagerImpl(bufferPool, Path.of("resource2"));
+
+    final var firstPage = new IndirectPage();
+    final var secondPage = new IndirectPage();
+    firstBufferManager.getPageCache().put(new PageReference().setKey(1), firstPage);
+    secondBufferManager.getPageCache().put(new PageReference().setKey(1), secondPage);
+
+    assertSame(firstPage, firstBufferManager.getPageCache().get(new PageReference().setKey(1)));
+    assertSame(secondPage, secondBufferManager.getPageCache().get(new PageReference().setKey(1)));
+    assertNull(firstBufferManager.getRecordPageCache().get(new PageReference().setKey(1)));
+
+    firstBufferManager.clearAllCaches();
+
+    assertNull(firstBufferManager.getPageCache().get(new PageReference().setKey(1)));
+    assertSame(secondPage, secondBufferManager.getPageCache().get(new PageReference().setKey(1)));
+  }
+
+  @Test
+  public void testClearingACacheKeepsTheOtherCachesOfTheResource() {
+    final var bufferPool = new BufferPool(1 << 20);
+    final var bufferManager = new BufferManagerImpl(bufferPool, Path.of("resource"));
+
+    final var page = new IndirectPage();
+    final var recordPage = new OverflowPage(new byte[10]);
+    bufferManager.getPageCache().put(new PageReference().setKey(1), page);
+    bufferManager.getRecordPageCache().put(new PageReference().setKey(1), recordPage);
+
+    bufferManager.getRecordPageCache().clear();
+
+    assertNull(bufferManager.getRecordPageCache().get(new PageReference().setKey(1)));
+    assertSame(page, bufferManager.getPageCache().get(new PageReference().setKey(1)));
+
+    bufferManager.getRecordPageCache().put(new PageReference().setKey(1), recordPage);
+    bufferPool.clear(Path.of("resource"));
+
+    assertNull(bufferManager.getRecordPageCache().get(new PageReference().setKey(1)));
+    assertNull(bufferManager.getPageCache().get(new PageReference().setKey(1)));
+  }
+
+  @Test
+  public void testLeafPagesDoNotEvictInnerPages() {
+    final long maxSizeInBytes = 1 << 20;
+    final var bufferPool = new BufferPool(maxSizeInBytes);
+    final var bufferManager = new BufferManagerImpl(bufferPool, Path.of("resource"));
+
+    final var indirectPage = new IndirectPage();
+    bufferManager.getPageCache().put(new PageReference().setKey(0), indirectPage);
+
+    for (int i = 1; i <= 1_000; i++) {
+      bufferManager.getRecordPageCache().put(new PageReference().setKey(i), new OverflowPage(new byte[10_000]));
+    }
+
+    bufferPool.cleanUp();
+
+    assertSame(indirectPage, bufferManager.getPageCache().get(new PageReference().setKey(0)));
+    assertTrue(bufferPool.getEstimatedSizeInBytes() <= maxSizeInBytes);
+  }
+
+  @Test
+  public void testReconstructionCostDoesNotDiscountWeight() {
+    final var page = new OverflowPage(new byte[10_000]);
+    final int sizeInBytes = BufferPool.estimateSizeInBytes(page);
+
+    assertEquals(sizeInBytes, BufferPool.weigh(new WeightedValue<>(page, 1)));
+    assertEquals(sizeInBytes, BufferPool.weigh(new WeightedValue<>(page, WeightedValue.MAX_RECONSTRUCTION_COST)));
+  }
+
+  @Test
+  public void testCostlyPagesDoNotExceedTheBudget() {
+    final long maxSizeInBytes = 1 << 20;
+    final var bufferPool = new BufferPool(maxSizeInBytes);
+    final var bufferManager = new BufferManagerImpl(bufferPool, Path.of("resource"));
+
+    for (int i = 1; i <= 1_000; i++) {
+      bufferManager.getRecordPageCache()
+                   .put(new PageReference().setKey(i), new OverflowPage(new byte[10_000]), 1_000);
+    }
+
+    bufferPool.cleanUp();
+
+    assertTrue(bufferPool.getEstimatedSizeInBytes() <= maxSizeInBytes);
+  }
+}
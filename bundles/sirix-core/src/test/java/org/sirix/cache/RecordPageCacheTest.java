@@ -0,0 +1,57 @@
+package org.sirix.cache;
+
+import org.junit.Test;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.PageReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the {@link RecordPageCache} and its statistics.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RecordPageCacheTest {
+
+  @Test
+  public void testPutAndGet() {
+    final var cache = new RecordPageCache(100);
+    final var page = new OverflowPage(new byte[10]);
+    final var reference = new PageReference().setKey(1);
+    reference.setPage(page);
+
+    cache.put(reference, page, 3);
+
+    assertSame(page, cache.get(new PageReference().setKey(1)));
+
+    cache.remove(new PageReference().setKey(1));
+
+    assertNull(cache.get(new PageReference().setKey(1)));
+  }
+
+  @Test
+  public void testStatistics() {
+    final var statistics = new RecordPageCacheStatistics();
+    statistics.recordHit();
+    statistics.recordHit();
+    statistics.recordHit();
+    statistics.recordMiss();
+    statistics.recordPrefetchHit();
+    statistics.recordReconstruction(3);
+
+    assertEquals(3, statistics.hitCount());
+    assertEquals(1, statistics.missCount());
+    assertEquals(1, statistics.prefetchHitCount());
+    assertEquals(1, statistics.reconstructionCount());
+    assertEquals(3, statistics.combinedPageFragmentsCount());
+    assertEquals(0.75, statistics.hitRate(), 0.0);
+
+    statistics.reset();
+
+    assertEquals(0, statistics.hitCount());
+    assertEquals(0, statistics.prefetchHitCount());
+    assertEquals(1.0, statistics.hitRate(), 0.0);
+  }
+}
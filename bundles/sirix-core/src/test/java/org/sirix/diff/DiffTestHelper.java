@@ -29,6 +29,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.Executor;
 import javax.xml.stream.XMLStreamException;
 import org.mockito.InOrder;
 import org.sirix.Holder;
@@ -336,6 +337,13 @@ public final class DiffTestHelper {
             ImmutableSet.of(observer)));
   }
 
+  static void checkFullDiff(final Holder holder, final DiffObserver observer,
+      final DiffOptimized optimized, final Executor executor) {
+    DiffFactory.invokeFullXmlDiff(
+        new DiffFactory.Builder<>(holder.getResourceManager(), 2, 1, optimized,
+            ImmutableSet.of(observer)).executor(executor));
+  }
+
   static void checkStructuralDiff(final Holder holder, final DiffObserver observer,
       final DiffOptimized optimized) {
     DiffFactory.invokeStructuralXmlDiff(
@@ -22,6 +22,8 @@
 package org.sirix.diff;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.xml.stream.XMLStreamException;
 import org.junit.After;
 import org.junit.Before;
@@ -72,6 +74,18 @@ public class FullDiffTest {
     DiffTestHelper.verifyOptimizedFullDiffFirst(observer);
   }
 
+  @Test
+  public void testOptimizedFirstInParallel() {
+    DiffTestHelper.setUpFirst(holder);
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      DiffTestHelper.checkFullDiff(holder, observer, DiffOptimized.HASHED, executor);
+    } finally {
+      executor.shutdown();
+    }
+    DiffTestHelper.verifyOptimizedFullDiffFirst(observer);
+  }
+
   @Test
   public void testFullDiffSecond()
       throws IOException, XMLStreamException {
@@ -0,0 +1,98 @@
+package org.sirix.diff;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.json.JsonResourceSession;
+import org.sirix.diff.DiffFactory.DiffOptimized;
+import org.sirix.diff.DiffFactory.DiffType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the optimized JSON diff, which diffs the differing subtrees in parallel, if an executor is given.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonDiffTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    JsonTestHelper.createTestDocument();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testOptimizedDiffInParallelEqualsSequentialDiff() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = session.beginNodeTrx()) {
+        // Change the "bar" and the "tada" subtree of the root object, which has four object keys.
+        wtx.moveTo(9);
+        wtx.replaceObjectRecordValue(new StringValue("universe"));
+        wtx.moveTo(23);
+        wtx.setStringValue("foo");
+        wtx.commit();
+        wtx.moveTo(4);
+        wtx.remove();
+        wtx.moveTo(17);
+        wtx.insertObjectAsRightSibling();
+        wtx.commit();
+      }
+
+      for (final int oldRevision : new int[] { 1, 2 }) {
+        final List<String> sequentialDiffs = diff(session, 3, oldRevision, null);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final List<String> parallelDiffs;
+        try {
+          parallelDiffs = diff(session, 3, oldRevision, executor);
+        } finally {
+          executor.shutdown();
+        }
+
+        assertTrue(sequentialDiffs.stream().anyMatch(diff -> !diff.startsWith(DiffType.SAME.name())));
+        assertEquals(sequentialDiffs, parallelDiffs);
+      }
+    }
+  }
+
+  private static List<String> diff(final JsonResourceSession session, final int newRevision, final int oldRevision,
+      final ExecutorService executor) {
+    final List<String> diffs = new ArrayList<>();
+    final var observer = new DiffObserver() {
+      @Override
+      public void diffListener(final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          final DiffDepth depth) {
+        diffs.add(diffType + " " + newNodeKey + " " + oldNodeKey + " " + depth.getNewDepth() + " "
+            + depth.getOldDepth());
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    final var builder =
+        new DiffFactory.Builder<>(session, newRevision, oldRevision, DiffOptimized.HASHED, ImmutableSet.of(observer));
+    if (executor != null) {
+      builder.executor(executor);
+    }
+    DiffFactory.invokeJsonDiff(builder);
+    return diffs;
+  }
+}
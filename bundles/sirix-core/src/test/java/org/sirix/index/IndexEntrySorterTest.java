@@ -0,0 +1,159 @@
+package org.sirix.index;
+
+import org.brackit.xquery.atomic.Atomic;
+import org.brackit.xquery.atomic.Dbl;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.jdm.Type;
+import org.junit.Test;
+import org.sirix.index.redblacktree.keyvalue.CASValue;
+import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public final class IndexEntrySorterTest {
+
+  @Test
+  public void testEntriesInMemoryAreSortedAndMerged() {
+    try (final var sorter = new IndexEntrySorter<>(IndexEntrySorter.LONG_KEY_SERIALIZER)) {
+      sorter.add(3L, 1);
+      sorter.add(1L, 2);
+      sorter.add(3L, 3);
+
+      assertEquals(2, sorter.sort());
+
+      final Iterator<Map.Entry<Long, NodeReferences>> entries = sorter.iterator();
+      assertEntry(entries.next(), 1L, 2);
+      assertEntry(entries.next(), 3L, 1, 3);
+      assertFalse(entries.hasNext());
+    }
+  }
+
+  @Test
+  public void testSpilledRunsAreMerged() {
+    try (final var sorter = new IndexEntrySorter<>(IndexEntrySorter.LONG_KEY_SERIALIZER, 2)) {
+      for (long nodeKey = 0; nodeKey < 100; nodeKey++) {
+        sorter.add(nodeKey % 10, nodeKey);
+      }
+
+      assertEquals(10, sorter.sort());
+
+      final List<Long> keys = new ArrayList<>();
+      for (final Iterator<Map.Entry<Long, NodeReferences>> entries = sorter.iterator(); entries.hasNext(); ) {
+        final Map.Entry<Long, NodeReferences> entry = entries.next();
+        keys.add(entry.getKey());
+        assertEquals(10, entry.getValue().getNodeKeys().getLongCardinality());
+        assertTrue(entry.getValue().contains(entry.getKey() + 90));
+      }
+      assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), keys);
+    }
+  }
+
+  @Test
+  public void testBatchesAreProcessedByExecutor() {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (final var sorter = new IndexEntrySorter<>(IndexEntrySorter.LONG_KEY_SERIALIZER, 16, 3, executor)) {
+      for (long nodeKey = 0; nodeKey < 1_000; nodeKey++) {
+        sorter.add(nodeKey % 100, nodeKey);
+      }
+
+      assertEquals(100, sorter.sort());
+
+      long expectedKey = 0;
+      for (final Iterator<Map.Entry<Long, NodeReferences>> entries = sorter.iterator(); entries.hasNext(); ) {
+        final Map.Entry<Long, NodeReferences> entry = entries.next();
+        assertEquals(expectedKey++, (long) entry.getKey());
+        assertEquals(10, entry.getValue().getNodeKeys().getLongCardinality());
+      }
+      assertEquals(100, expectedKey);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testScanningBlocksOnceTheMaximumNumberOfBatchesIsInFlight() throws InterruptedException {
+    final CountDownLatch executorStarted = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final Executor blockedExecutor = task -> executor.execute(() -> {
+      try {
+        executorStarted.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      task.run();
+    });
+
+    try (final var sorter = new IndexEntrySorter<>(IndexEntrySorter.LONG_KEY_SERIALIZER, 16, 1, 2, blockedExecutor)) {
+      sorter.add(0L, 0);
+      sorter.add(1L, 1);
+
+      final CompletableFuture<Void> thirdBatch = CompletableFuture.runAsync(() -> sorter.add(2L, 2));
+      Thread.sleep(100);
+
+      assertFalse(thirdBatch.isDone());
+
+      executorStarted.countDown();
+      thirdBatch.join();
+
+      assertEquals(3, sorter.sort());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testSpilledNamesAreRestored() {
+    try (final var sorter = new IndexEntrySorter<>(IndexEntrySorter.QNM_KEY_SERIALIZER, 1)) {
+      sorter.add(new QNm("b"), 1);
+      sorter.add(new QNm("http://sirix.io", "s", "a"), 2);
+      sorter.add(new QNm("b"), 3);
+
+      assertEquals(2, sorter.sort());
+
+      final Map<QNm, NodeReferences> entries = new HashMap<>();
+      sorter.iterator().forEachRemaining(entry -> entries.put(entry.getKey(), entry.getValue()));
+
+      assertEquals(2, entries.get(new QNm("b")).getNodeKeys().getLongCardinality());
+      assertTrue(entries.get(new QNm("http://sirix.io", "s", "a")).contains(2));
+    }
+  }
+
+  @Test
+  public void testSpilledCASValuesKeepTheirType() {
+    try (final var sorter = new IndexEntrySorter<>(IndexEntrySorter.casValueKeySerializer(Type.DBL), 1)) {
+      sorter.add(new CASValue(new Dbl(2.5), Type.DBL, 1), 1);
+      sorter.add(new CASValue(new Dbl(10.0), Type.DBL, 1), 2);
+      sorter.add(new CASValue(new Dbl(2.5), Type.DBL, 1), 3);
+
+      assertEquals(2, sorter.sort());
+
+      final List<Atomic> values = new ArrayList<>();
+      sorter.iterator().forEachRemaining(entry -> values.add(entry.getKey().getAtomicValue()));
+
+      assertEquals(List.of(new Dbl(2.5), new Dbl(10.0)), values);
+      for (final Atomic value : values) {
+        assertEquals(Type.DBL, value.type());
+      }
+    }
+  }
+
+  private static void assertEntry(final Map.Entry<Long, NodeReferences> entry, final long key,
+      final long... nodeKeys) {
+    assertEquals(key, (long) entry.getKey());
+    assertEquals(nodeKeys.length, entry.getValue().getNodeKeys().getLongCardinality());
+    for (final long nodeKey : nodeKeys) {
+      assertTrue(entry.getValue().contains(nodeKey));
+    }
+  }
+}
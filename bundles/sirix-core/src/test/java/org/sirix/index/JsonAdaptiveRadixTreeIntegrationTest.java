@@ -0,0 +1,119 @@
+package org.sirix.index;
+
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.jdm.Type;
+import org.brackit.xquery.util.path.PathParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.index.path.json.JsonPCRCollector;
+import org.sirix.service.InsertPosition;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.brackit.xquery.util.path.Path.parse;
+import static org.junit.Assert.*;
+
+public final class JsonAdaptiveRadixTreeIntegrationTest {
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCreateCASIndexWhileListening() {
+    final var jsonPath = JSON.resolve("business-service-providers.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToGetSummary =
+          parse("/paths/\\/business_service_providers\\/search/get/summary", PathParser.Type.JSON);
+
+      final var idxDefOfGetSummary = IndexDefs.createCASIdxDef(false,
+                                                               Type.STR,
+                                                               Collections.singleton(pathToGetSummary),
+                                                               0,
+                                                               IndexDef.DbType.JSON,
+                                                               IndexDef.BackendType.ADAPTIVE_RADIX_TREE);
+
+      indexController.createIndexes(Set.of(idxDefOfGetSummary), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var casIndexForGetSummary = indexController.openCASIndex(trx.getPageTrx(),
+                                                                     idxDefOfGetSummary,
+                                                                     indexController.createCASFilter(Set.of(
+                                                                                                         "/paths/\\/business_service_providers\\/search/get/summary"),
+                                                                                                     new Str(
+                                                                                                         "Business Service Providers API"),
+                                                                                                     SearchMode.EQUAL,
+                                                                                                     new JsonPCRCollector(
+                                                                                                         trx)));
+
+      assertTrue(casIndexForGetSummary.hasNext());
+
+      final var nodeReferences = casIndexForGetSummary.next();
+
+      assertEquals("nodeKey should match", 29L, (long) nodeReferences.getNodeKeys().iterator().next());
+      assertFalse(casIndexForGetSummary.hasNext());
+    }
+  }
+
+  @Test
+  public void testCreateNameIndexWhileListening() {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+
+      final var allObjectKeyNames =
+          IndexDefs.createNameIdxDef(0, IndexDef.DbType.JSON, IndexDef.BackendType.ADAPTIVE_RADIX_TREE);
+
+      indexController.createIndexes(Set.of(allObjectKeyNames), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var allStreetAddresses = indexController.openNameIndex(trx.getPageTrx(),
+                                                                   allObjectKeyNames,
+                                                                   indexController.createNameFilter(Set.of(
+                                                                       "streetaddress")));
+
+      assertTrue(allStreetAddresses.hasNext());
+      assertEquals(53, allStreetAddresses.next().getNodeKeys().getLongCardinality());
+      assertFalse(allStreetAddresses.hasNext());
+
+      final var allStreetAddressesAndTwitterAccounts = indexController.openNameIndex(trx.getPageTrx(),
+                                                                                     allObjectKeyNames,
+                                                                                     indexController.createNameFilter(
+                                                                                         Set.of("streetaddress",
+                                                                                                "twitteraccount")));
+
+      assertTrue(allStreetAddressesAndTwitterAccounts.hasNext());
+      assertEquals(53, allStreetAddressesAndTwitterAccounts.next().getNodeKeys().getLongCardinality());
+      assertTrue(allStreetAddressesAndTwitterAccounts.hasNext());
+      assertEquals(53, allStreetAddressesAndTwitterAccounts.next().getNodeKeys().getLongCardinality());
+      assertFalse(allStreetAddressesAndTwitterAccounts.hasNext());
+    }
+  }
+}
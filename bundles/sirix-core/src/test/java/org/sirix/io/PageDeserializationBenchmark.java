@@ -0,0 +1,126 @@
+package org.sirix.io;
+
+import net.openhft.chronicle.bytes.Bytes;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.io.bytepipe.ByteHandlerPipeline;
+import org.sirix.io.bytepipe.LZ4Compressor;
+import org.sirix.page.IndirectPage;
+import org.sirix.page.PagePersister;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.SerializationType;
+import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark, which compares deserializing a page from an off-heap buffer (as for instance a slice of a
+ * memory-mapped file) by copying it onto the heap first with deserializing it straight from the buffer.
+ *
+ * <p>Run it with the {@code main} method from the test classpath.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--enable-preview", "--add-exports=java.base/jdk.internal.ref=ALL-UNNAMED",
+    "--add-exports=java.base/sun.nio.ch=ALL-UNNAMED", "--add-exports=jdk.unsupported/sun.misc=ALL-UNNAMED" })
+public class PageDeserializationBenchmark {
+
+  @Param({ "none", "lz4" })
+  public String byteHandler;
+
+  private AbstractReader reader;
+
+  /**
+   * The serialized page stored off-heap, simulating the memory-mapped data file.
+   */
+  private ByteBuffer offHeapPage;
+
+  @Setup
+  public void setup() throws IOException {
+    final ByteHandler pipeline =
+        "lz4".equals(byteHandler) ? new ByteHandlerPipeline(new LZ4Compressor()) : new ByteHandlerPipeline();
+    reader = new BenchmarkReader(pipeline);
+
+    final var indirectPage = new IndirectPage();
+    for (int offset = 0; offset < Constants.INP_REFERENCE_COUNT; offset++) {
+      final PageReference reference = indirectPage.getOrCreateReference(offset);
+      reference.setKey(offset * 4_096L);
+      reference.setHash(new byte[32]);
+    }
+
+    final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer(10_000);
+    new PagePersister().serializePage(null, bytes, indirectPage, SerializationType.DATA);
+    final byte[] uncompressedPage = bytes.toByteArray();
+
+    final var output = new ByteArrayOutputStream();
+    try (final OutputStream serializer = pipeline.serialize(output)) {
+      serializer.write(uncompressedPage);
+    }
+    final byte[] serializedPage = output.toByteArray();
+
+    offHeapPage = ByteBuffer.allocateDirect(serializedPage.length);
+    offHeapPage.put(serializedPage).flip();
+  }
+
+  @Benchmark
+  public Page copyingDeserialization() throws IOException {
+    final byte[] page = new byte[offHeapPage.remaining()];
+    offHeapPage.duplicate().get(page);
+    return reader.deserialize(null, page);
+  }
+
+  @Benchmark
+  public Page zeroCopyDeserialization() throws IOException {
+    return reader.deserialize(null, offHeapPage.duplicate());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(PageDeserializationBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  private static final class BenchmarkReader extends AbstractReader {
+    BenchmarkReader(final ByteHandler byteHandler) {
+      super(byteHandler, new PagePersister(), SerializationType.DATA);
+    }
+
+    @Override
+    public Page read(PageReference key, PageReadOnlyTrx pageReadTrx) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public RevisionRootPage readRevisionRootPage(int revision, PageReadOnlyTrx pageReadTrx) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant readRevisionRootPageCommitTimestamp(int revision) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public RevisionFileData getRevisionFileData(int revision) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
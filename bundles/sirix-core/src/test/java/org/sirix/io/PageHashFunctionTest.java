@@ -0,0 +1,40 @@
+package org.sirix.io;
+
+import com.google.common.hash.Hashing;
+import net.openhft.chronicle.bytes.Bytes;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public final class PageHashFunctionTest {
+
+  private static final byte[] PAGE = "some serialized page, which is hashed".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void testSha256IsCompatible() {
+    assertArrayEquals(Hashing.sha256().hashBytes(PAGE).asBytes(), PageHashFunction.SHA256.hash(PAGE));
+  }
+
+  @Test
+  public void testXxh3HashIsEightBytesLong() {
+    assertEquals(Long.BYTES, PageHashFunction.XXH3.hash(PAGE).length);
+  }
+
+  @Test
+  public void testHashingBytesDoesNotChangeTheHash() {
+    for (final PageHashFunction pageHashFunction : PageHashFunction.values()) {
+      final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer(16);
+      bytes.writeByte((byte) 1);
+      bytes.readSkip(1);
+      bytes.write(PAGE);
+
+      assertArrayEquals(pageHashFunction.hash(PAGE), pageHashFunction.hash(bytes));
+      assertEquals(PAGE.length, bytes.readRemaining());
+      bytes.releaseLast();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package org.sirix.io;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+
+public final class RevisionIndexTest {
+
+  @Test
+  public void testLoadedRevisionsAreAppended() {
+    final ByteBuffer buffer = ByteBuffer.allocate(2 * RevisionIndex.ENTRY_SIZE);
+    buffer.putLong(100).putLong(1_000).putLong(200).putLong(2_000).flip();
+
+    final var revisionIndex = new RevisionIndex();
+    revisionIndex.load(buffer, 2);
+    for (int revision = 2; revision < 100; revision++) {
+      revisionIndex.setRevision(revision, revision * 100L, revision * 1_000L);
+    }
+
+    assertEquals(100, revisionIndex.getSize());
+    assertEquals(200, revisionIndex.getOffset(2));
+    assertEquals(99_000, revisionIndex.getTimestamp(99));
+  }
+
+  @Test
+  public void testRevisionsAreFoundByTimestamp() {
+    final var revisionIndex = new RevisionIndex();
+    revisionIndex.setRevision(0, 0, 1_000);
+    revisionIndex.setRevision(1, 100, 2_000);
+    revisionIndex.setRevision(2, 200, 3_000);
+
+    assertEquals(1, revisionIndex.findRevision(2_000));
+    assertEquals(-3, revisionIndex.findRevision(2_500));
+    assertEquals(-4, revisionIndex.findRevision(4_000));
+  }
+
+  @Test
+  public void testRevisionCommittedAgainRemovesLaterRevisions() {
+    final var revisionIndex = new RevisionIndex();
+    revisionIndex.setRevision(0, 0, 1_000);
+    revisionIndex.setRevision(1, 100, 2_000);
+    revisionIndex.setRevision(2, 200, 3_000);
+
+    revisionIndex.setRevision(1, 150, 2_500);
+
+    assertEquals(2, revisionIndex.getSize());
+    assertEquals(150, revisionIndex.getOffset(1));
+    assertEquals(-3, revisionIndex.findRevision(3_000));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRevisionMustBeAdjacent() {
+    new RevisionIndex().setRevision(1, 0, 1_000);
+  }
+}
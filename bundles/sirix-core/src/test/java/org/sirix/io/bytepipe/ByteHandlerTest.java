@@ -7,11 +7,13 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 
 import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertSame;
 import static org.testng.AssertJUnit.assertTrue;
 
 /**
@@ -70,6 +72,44 @@ public final class ByteHandlerTest {
     }
   }
 
+  /**
+   * Test method for {@link org.sirix.io.bytepipe.ByteHandler#deserialize(java.nio.ByteBuffer)}, that is deserializing
+   * straight from an off-heap buffer.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  @Test(dataProvider = "instantiateByteHandler")
+  public void testDeserializeFromBuffer(Class<ByteHandler> clazz, ByteHandler[] handlers) throws IOException {
+    for (final ByteHandler handler : handlers) {
+      final byte[] bytes = XmlTestHelper.generateRandomBytes(10000);
+
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      try (final OutputStream handledOutput = handler.serialize(output)) {
+        handledOutput.write(bytes);
+      }
+
+      final byte[] encoded = output.toByteArray();
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length);
+      buffer.put(encoded).flip();
+
+      final ByteBuffer decodedBuffer = handler.deserialize(buffer);
+      final byte[] decoded = new byte[decodedBuffer.remaining()];
+      decodedBuffer.get(decoded);
+
+      assertTrue("Check for " + handler.getClass() + " failed.", Arrays.equals(bytes, decoded));
+      assertTrue("Source buffer must not be modified.", buffer.position() == 0);
+    }
+  }
+
+  /**
+   * Test that an empty pipeline doesn't copy the buffer.
+   */
+  @Test
+  public void testEmptyPipelineDeserializesWithoutCopy() {
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+    assertSame(buffer, new ByteHandlerPipeline().deserialize(buffer));
+  }
+
   /**
    * Providing different implementations of the {@link ByteHandler} as Dataprovider to the test
    * class.
@@ -83,7 +123,7 @@ public final class ByteHandlerTest {
 
     Object[][] returnVal = {{ByteHandler.class,
         new ByteHandler[] {new Encryptor(encryptionKeyPath), new DeflateCompressor(),
-            new SnappyCompressor(),
+            new SnappyCompressor(), new LZ4Compressor(),
             new ByteHandlerPipeline(new Encryptor(encryptionKeyPath), new DeflateCompressor()),
             new ByteHandlerPipeline(new DeflateCompressor(), new Encryptor(encryptionKeyPath)),
             new ByteHandlerPipeline(new Encryptor(encryptionKeyPath), new SnappyCompressor()),
@@ -0,0 +1,56 @@
+package org.sirix.page;
+
+import net.openhft.chronicle.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.sirix.page.interfaces.PageFragmentKey;
+import org.sirix.settings.Constants;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test the serialization of page references.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SerializationTypeTest {
+
+  @Test
+  public void testPageLengthsAreSerialized() {
+    final var pageReference = new PageReference().setKey(4_096).setLength(512);
+    pageReference.setPageFragments(List.of(new PageFragmentKeyImpl(1, 200, 64), new PageFragmentKeyImpl(2, 763)));
+
+    final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer();
+    SerializationType.DATA.serializeReferencesPage4(bytes, List.of(pageReference), List.of((short) 0));
+
+    final var deserializedPageReference = SerializationType.DATA.deserializeReferencesPage4(bytes).references().get(0);
+
+    assertEquals(4_096, deserializedPageReference.getKey());
+    assertEquals(512, deserializedPageReference.getLength());
+
+    final List<PageFragmentKey> pageFragmentKeys = deserializedPageReference.getPageFragments();
+    assertEquals(new PageFragmentKeyImpl(1, 200, 64), pageFragmentKeys.get(0));
+    assertEquals(new PageFragmentKeyImpl(2, 763, Constants.NULL_ID_INT), pageFragmentKeys.get(1));
+  }
+
+  @Test
+  public void testPageReferencesWithoutLengthsAreDeserialized() {
+    // Format of references written by older versions: the number of fragments, the fragments and the key.
+    final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer();
+    bytes.writeByte((byte) 1);
+    bytes.writeByte((byte) 1);
+    bytes.writeInt(1);
+    bytes.writeLong(200);
+    bytes.writeLong(4_096);
+    bytes.writeInt(-1);
+    bytes.writeShort((short) 0);
+
+    final var pageReference = SerializationType.DATA.deserializeReferencesPage4(bytes).references().get(0);
+
+    assertEquals(4_096, pageReference.getKey());
+    assertEquals(Constants.NULL_ID_INT, pageReference.getLength());
+    assertEquals(new PageFragmentKeyImpl(1, 200), pageReference.getPageFragments().get(0));
+  }
+}
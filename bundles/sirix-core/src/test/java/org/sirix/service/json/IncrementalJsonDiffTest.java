@@ -0,0 +1,79 @@
+package org.sirix.service.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class IncrementalJsonDiffTest {
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void test_whenMultipleRevisionsExist_thenDiffEqualsBasicDiff() throws IOException {
+    JsonTestHelper.createTestDocumentWithDeweyIdsEnabled();
+
+    final var database = JsonTestHelper.getDatabaseWithDeweyIdsEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    assert database != null;
+    final var databaseName = database.getName();
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(15);
+      final var nodeKey = wtx.insertObjectRecordAsRightSibling("hereIAm", new StringValue("yeah")).getParentKey();
+      wtx.commit();
+      wtx.moveTo(nodeKey);
+      wtx.insertObjectRecordAsRightSibling("111hereIAm", new StringValue("111yeah"));
+      wtx.commit();
+
+      assertTrue(IncrementalJsonDiff.isApplicable(manager, 1, 3));
+      assertFalse(IncrementalJsonDiff.isApplicable(manager, 0, 3));
+
+      final String diffRev1Rev2 = new IncrementalJsonDiff(databaseName).generateDiff(manager, 1, 2);
+      assertEquals(Files.readString(JSON.resolve("basicJsonDiffTest").resolve("diffRev1Rev2.json")), diffRev1Rev2);
+
+      final String diffRev1Rev3 = new IncrementalJsonDiff(databaseName).generateDiff(manager, 1, 3);
+      assertEquals(Files.readString(JSON.resolve("basicJsonDiffTest").resolve("diffRev1Rev3.json")), diffRev1Rev3);
+    }
+  }
+
+  @Test
+  public void test_whenNodeIsRemoved_thenDiffContainsDeletion() {
+    JsonTestHelper.createTestDocumentWithDeweyIdsEnabled();
+
+    final var database = JsonTestHelper.getDatabaseWithDeweyIdsEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    assert database != null;
+    final var databaseName = database.getName();
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(15);
+      wtx.insertObjectRecordAsRightSibling("hereIAm", new StringValue("yeah"));
+      wtx.commit();
+      wtx.moveTo(15);
+      wtx.remove();
+      wtx.commit();
+
+      final String diff = new IncrementalJsonDiff(databaseName).generateDiff(manager, 2, 3);
+      assertTrue(diff.contains("{\"delete\":{\"nodeKey\":15,"));
+      assertFalse(diff.contains("\"insert\""));
+    }
+  }
+}
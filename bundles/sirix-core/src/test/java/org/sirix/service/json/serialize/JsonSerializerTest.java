@@ -88,6 +88,33 @@ public final class JsonSerializerTest {
     }
   }
 
+  @Test
+  public void testJsonDocumentInParallel() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final Writer writer = new StringWriter()) {
+      final var serializer = new JsonSerializer.Builder(manager, writer).parallelism(4).build();
+      serializer.call();
+      assertEquals(JsonDocumentCreator.JSON, writer.toString());
+    }
+  }
+
+  @Test
+  public void testJsonDocumentPrettyPrintedInParallel() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final Writer sequentialWriter = new StringWriter();
+         final Writer parallelWriter = new StringWriter()) {
+      new JsonSerializer.Builder(manager, sequentialWriter).prettyPrint().build().call();
+      new JsonSerializer.Builder(manager, parallelWriter).prettyPrint().parallelism(2).build().call();
+      assertEquals(sequentialWriter.toString(), parallelWriter.toString());
+    }
+  }
+
   @Test
   public void testMultipleRevisionsJsonDocument() throws IOException {
     JsonTestHelper.createTestDocument();
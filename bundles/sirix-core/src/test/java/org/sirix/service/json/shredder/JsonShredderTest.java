@@ -1,5 +1,6 @@
 package org.sirix.service.json.shredder;
 
+import com.google.gson.stream.JsonToken;
 import org.checkerframework.org.apache.commons.lang3.time.StopWatch;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -406,6 +407,46 @@ public final class JsonShredderTest {
     test("complex2.json");
   }
 
+  @Test
+  public void testComplex1Pipelined() throws IOException {
+    final var jsonPath = JSON.resolve("complex1.json");
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx();
+         final Writer writer = new StringWriter()) {
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).pipelined()
+                                                                                  .commitAfterwards()
+                                                                                  .build();
+      shredder.call();
+      final var serializer = new JsonSerializer.Builder(manager, writer).build();
+      serializer.call();
+      final var expected = Files.readString(jsonPath, StandardCharsets.UTF_8);
+      final var actual = writer.toString();
+      JSONAssert.assertEquals(expected, actual, true);
+    }
+  }
+
+  @Test
+  public void testPipelinedJsonReader() throws IOException {
+    try (final var reader = new PipelinedJsonReader(JsonShredder.createStringReader(
+        "{\"foo\": [1.5, true, null, \"bar\"], \"baz\": {}}"), 2, 1)) {
+      reader.beginObject();
+      assertEquals("foo", reader.nextName());
+      reader.beginArray();
+      assertEquals(1.5, reader.nextDouble());
+      assertEquals(true, reader.nextBoolean());
+      reader.nextNull();
+      assertEquals("bar", reader.nextString());
+      reader.endArray();
+      assertEquals("baz", reader.nextName());
+      reader.skipValue();
+      reader.endObject();
+      assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+  }
+
   @Test
   public void testBlockChain() throws IOException {
     test("blockchain.json");
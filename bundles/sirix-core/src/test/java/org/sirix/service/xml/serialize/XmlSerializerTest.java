@@ -98,6 +98,22 @@ public class XmlSerializerTest {
     }
   }
 
+  @Test
+  public void testXMLSerializerInParallel() throws Exception {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final XmlResourceSession manager = database.beginResourceSession(XmlTestHelper.RESOURCE);
+         final XmlNodeTrx wtx = manager.beginNodeTrx();
+         final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+      XmlDocumentCreator.create(wtx);
+      wtx.commit();
+
+      final XmlSerializer serializer =
+          new XmlSerializerBuilder(manager, out).emitXMLDeclaration().parallelism(4).build();
+      serializer.call();
+      assertEquals(XmlDocumentCreator.XML, out.toString(Constants.DEFAULT_ENCODING.toString()));
+    }
+  }
+
   @Test
   public void testRestSerializer() throws Exception {
     final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
@@ -0,0 +1,284 @@
+package org.sirix.rest
+
+import org.sirix.access.DatabaseConfiguration
+import org.sirix.access.DatabaseType
+import org.sirix.access.Databases
+import org.sirix.access.ResourceConfiguration
+import org.sirix.api.Database
+import org.sirix.api.ResourceSession
+import org.sirix.api.json.JsonResourceSession
+import org.sirix.io.IOStorage
+import org.sirix.utils.LogWrapper
+import org.slf4j.LoggerFactory
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * [LogWrapper] reference.
+ */
+private val logger = LogWrapper(LoggerFactory.getLogger(SessionPool::class.java))
+
+/**
+ * Keeps databases and resource sessions open across requests, such that hot resources keep their caches (for
+ * instance the cached revision root pages) and the resource configuration doesn't have to be read for every request.
+ *
+ * Sessions are keyed by database and resource and reference counted. A session is closed once it hasn't been used
+ * for the idle timeout, or once it's stale, that is once revisions have been committed through another session
+ * (which is detected by the size of the revisions file of the resource).
+ */
+class SessionPool(private val idleTimeout: Duration = DEFAULT_IDLE_TIMEOUT) : AutoCloseable {
+    companion object {
+        val DEFAULT_IDLE_TIMEOUT: Duration = Duration.ofMinutes(5)
+    }
+
+    /**
+     * The metrics of the pool.
+     *
+     * @property hits the number of acquired sessions, which have already been open
+     * @property misses the number of acquired sessions, which had to be opened
+     * @property openSessions the number of currently pooled sessions
+     * @property averageOpenLatencyNanos the average time it took to open a session
+     * @property maxOpenLatencyNanos the maximum time it took to open a session
+     */
+    data class Metrics(
+        val hits: Long,
+        val misses: Long,
+        val openSessions: Int,
+        val averageOpenLatencyNanos: Long,
+        val maxOpenLatencyNanos: Long
+    )
+
+    /**
+     * A resource session acquired from the pool, which has to be closed instead of the session itself.
+     */
+    inner class Lease<S : ResourceSession<*, *>> internal constructor(
+        private val entry: Entry,
+        val session: S
+    ) : AutoCloseable {
+        private var released = false
+
+        override fun close() {
+            if (!released) {
+                released = true
+                release(entry)
+            }
+        }
+    }
+
+    internal data class Key(val databasePath: Path, val resourceName: String)
+
+    /**
+     * A pooled session. Guarded by the lock of the pool.
+     */
+    internal class Entry(
+        val key: Key,
+        val database: Database<*>,
+        val session: ResourceSession<*, *>,
+        val revisionsFileSize: Long
+    ) {
+        var references = 0
+
+        var lastReleased = System.nanoTime()
+
+        var isStale = false
+    }
+
+    private val entries = HashMap<Key, Entry>()
+
+    private val hits = LongAdder()
+
+    private val misses = LongAdder()
+
+    private val openLatencyNanos = LongAdder()
+
+    private val maxOpenLatencyNanos = AtomicLong()
+
+    /**
+     * Acquire the session of a JSON resource.
+     *
+     * @param databasePath the path of the database
+     * @param resourceName the name of the resource
+     * @return the lease of the session
+     */
+    fun acquireJsonResourceSession(databasePath: Path, resourceName: String): Lease<JsonResourceSession> {
+        val entry = acquire(Key(databasePath.toAbsolutePath(), resourceName), DatabaseType.JSON)
+        return Lease(entry, entry.session as JsonResourceSession)
+    }
+
+    /**
+     * Acquire the session of a resource, regardless of the type of the database.
+     *
+     * @param databasePath the path of the database
+     * @param resourceName the name of the resource
+     * @return the lease of the session
+     */
+    fun acquireResourceSession(databasePath: Path, resourceName: String): Lease<ResourceSession<*, *>> {
+        val absoluteDatabasePath = databasePath.toAbsolutePath()
+        val entry = acquire(Key(absoluteDatabasePath, resourceName), Databases.getDatabaseType(absoluteDatabasePath))
+        return Lease(entry, entry.session)
+    }
+
+    /**
+     * Close the sessions of a database, for instance before the database or one of its resources is removed.
+     * Sessions, which are still in use, are closed once they are released.
+     *
+     * @param databasePath the path of the database
+     */
+    fun evict(databasePath: Path) {
+        val absoluteDatabasePath = databasePath.toAbsolutePath()
+        evictIf { it.key.databasePath == absoluteDatabasePath }
+    }
+
+    /**
+     * Close the sessions, which haven't been used for the idle timeout.
+     */
+    fun evictIdle() {
+        val idleSince = System.nanoTime() - idleTimeout.toNanos()
+        evictIf { it.references == 0 && it.lastReleased - idleSince < 0 }
+    }
+
+    /**
+     * Close all sessions. Sessions, which are still in use, are closed once they are released.
+     */
+    fun evictAll() {
+        evictIf { true }
+    }
+
+    override fun close() {
+        evictAll()
+    }
+
+    /**
+     * Get the metrics of the pool.
+     *
+     * @return the metrics
+     */
+    fun metrics(): Metrics {
+        val numberOfMisses = misses.sum()
+        val openSessions = synchronized(this) { entries.size }
+        return Metrics(
+            hits.sum(),
+            numberOfMisses,
+            openSessions,
+            if (numberOfMisses == 0L) 0 else openLatencyNanos.sum() / numberOfMisses,
+            maxOpenLatencyNanos.get()
+        )
+    }
+
+    private fun acquire(key: Key, databaseType: DatabaseType): Entry {
+        val revisionsFileSize = revisionsFileSize(key)
+
+        synchronized(this) {
+            val entry = entries[key]
+            if (entry != null) {
+                if (entry.revisionsFileSize == revisionsFileSize) {
+                    entry.references++
+                    hits.increment()
+                    return entry
+                }
+                markStale(entry)
+            }
+        }
+
+        val newEntry = open(key, databaseType, revisionsFileSize)
+
+        synchronized(this) {
+            val entry = entries[key]
+            // Another request might have opened the session in the meantime.
+            if (entry != null && entry.revisionsFileSize == revisionsFileSize) {
+                entry.references++
+                closeQuietly(newEntry)
+                return entry
+            }
+            if (entry != null) {
+                markStale(entry)
+            }
+            newEntry.references++
+            entries[key] = newEntry
+            return newEntry
+        }
+    }
+
+    private fun open(key: Key, databaseType: DatabaseType, revisionsFileSize: Long): Entry {
+        val start = System.nanoTime()
+
+        @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA")
+        val database: Database<*> = when (databaseType) {
+            DatabaseType.JSON -> Databases.openJsonDatabase(key.databasePath)
+            DatabaseType.XML -> Databases.openXmlDatabase(key.databasePath)
+        }
+
+        val session = try {
+            database.beginResourceSession(key.resourceName)
+        } catch (e: Exception) {
+            database.close()
+            throw e
+        }
+
+        val latency = System.nanoTime() - start
+        misses.increment()
+        openLatencyNanos.add(latency)
+        maxOpenLatencyNanos.accumulateAndGet(latency, ::maxOf)
+
+        return Entry(key, database, session, revisionsFileSize)
+    }
+
+    private fun release(entry: Entry) {
+        val close = synchronized(this) {
+            entry.references--
+            entry.lastReleased = System.nanoTime()
+            entry.isStale && entry.references == 0
+        }
+        if (close) {
+            closeQuietly(entry)
+        }
+    }
+
+    private fun evictIf(predicate: (Entry) -> Boolean) {
+        val entriesToClose = ArrayList<Entry>()
+        synchronized(this) {
+            val iterator = entries.values.iterator()
+            while (iterator.hasNext()) {
+                val entry = iterator.next()
+                if (predicate(entry)) {
+                    iterator.remove()
+                    entry.isStale = true
+                    if (entry.references == 0) {
+                        entriesToClose.add(entry)
+                    }
+                }
+            }
+        }
+        entriesToClose.forEach(::closeQuietly)
+    }
+
+    /**
+     * Remove a stale entry from the pool. Must be called while holding the lock of the pool.
+     */
+    private fun markStale(entry: Entry) {
+        entries.remove(entry.key)
+        entry.isStale = true
+        if (entry.references == 0) {
+            closeQuietly(entry)
+        }
+    }
+
+    private fun closeQuietly(entry: Entry) {
+        try {
+            entry.database.close()
+        } catch (e: Exception) {
+            logger.error("Closing the pooled database ${entry.key.databasePath} failed: ${e.message}")
+        }
+    }
+
+    private fun revisionsFileSize(key: Key): Long {
+        val revisionsFile = key.databasePath.resolve(DatabaseConfiguration.DatabasePaths.DATA.file)
+            .resolve(key.resourceName)
+            .resolve(ResourceConfiguration.ResourcePaths.DATA.path)
+            .resolve(IOStorage.REVISIONS_FILENAME)
+        return if (Files.exists(revisionsFile)) Files.size(revisionsFile) else -1
+    }
+}
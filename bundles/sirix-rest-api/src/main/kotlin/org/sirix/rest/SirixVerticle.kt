@@ -33,12 +33,25 @@ import org.sirix.rest.crud.json.JsonUpdate
 import org.sirix.rest.crud.xml.XmlCreate
 import org.sirix.rest.crud.xml.XmlHead
 import org.sirix.rest.crud.xml.XmlUpdate
+import org.sirix.utils.LogWrapper
+import org.slf4j.LoggerFactory
 import java.io.ByteArrayOutputStream
 import java.io.PrintWriter
 import java.nio.charset.StandardCharsets
 import java.nio.file.Paths
+import java.time.Duration
 import java.util.*
 
+/**
+ * [LogWrapper] reference.
+ */
+private val logger = LogWrapper(LoggerFactory.getLogger(SirixVerticle::class.java))
+
+/**
+ * Interval in which sessions, which haven't been used for the idle timeout, are closed.
+ */
+private const val SESSION_EVICTION_INTERVAL_MILLIS = 60_000L
+
 class SirixVerticle : CoroutineVerticle() {
     /** User home directory. */
     private val userHome = System.getProperty("user.home")
@@ -46,7 +59,17 @@ class SirixVerticle : CoroutineVerticle() {
     /** Storage for databases: Sirix data in home directory. */
     private val location = Paths.get(userHome, "sirix-data")
 
+    /** Keeps the sessions of hot resources open across requests. */
+    private lateinit var sessionPool: SessionPool
+
     override suspend fun start() {
+        sessionPool = SessionPool(
+            Duration.ofSeconds(
+                config.getLong("session.idle.timeout.seconds", SessionPool.DEFAULT_IDLE_TIMEOUT.seconds)
+            )
+        )
+        evictIdleSessionsPeriodically()
+
         val router = createRouter()
 
         // Start an HTTP/2 server
@@ -72,6 +95,23 @@ class SirixVerticle : CoroutineVerticle() {
         listen(server, router)
     }
 
+    override suspend fun stop() {
+        vertx.executeBlocking<Unit> { promise ->
+            sessionPool.close()
+            promise.complete()
+        }.await()
+    }
+
+    private fun evictIdleSessionsPeriodically() {
+        vertx.setPeriodic(SESSION_EVICTION_INTERVAL_MILLIS) {
+            vertx.executeBlocking<Unit>({ promise ->
+                sessionPool.evictIdle()
+                logger.debug("Session pool: ${sessionPool.metrics()}")
+                promise.complete()
+            }, false)
+        }
+    }
+
     private suspend fun listen(server: HttpServer, router: Router) {
         server.requestHandler { router.handle(it) }
             .listen(config.getInteger("port", 9443)).await()
@@ -176,26 +216,44 @@ class SirixVerticle : CoroutineVerticle() {
             rc.response().end()
         }
 
+        // "/sessions/metrics", registered before "/:database/:resource" to take precedence.
+        get("/sessions/metrics").coroutineHandler {
+            Auth(keycloak, authz, AuthRole.VIEW).handle(it)
+            it.next()
+        }.coroutineHandler { rc ->
+            val metrics = sessionPool.metrics()
+            val json = JsonObject()
+                .put("hits", metrics.hits)
+                .put("misses", metrics.misses)
+                .put("openSessions", metrics.openSessions)
+                .put("averageOpenLatencyNanos", metrics.averageOpenLatencyNanos)
+                .put("maxOpenLatencyNanos", metrics.maxOpenLatencyNanos)
+
+            rc.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .end(json.encode())
+        }
+
         // "/"
         post("/").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.handler(BodyHandler.create()).coroutineHandler {
-            GetHandler(location, keycloak, authz).handle(it)
+            GetHandler(location, keycloak, authz, sessionPool).handle(it)
         }
 
         get("/").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location, keycloak, authz).handle(it)
+            GetHandler(location, keycloak, authz, sessionPool).handle(it)
         }
 
         delete("/").coroutineHandler {
             Auth(keycloak, authz, AuthRole.DELETE).handle(it)
             it.next()
         }.coroutineHandler {
-            DeleteHandler(location, authz).handle(it)
+            DeleteHandler(location, authz, sessionPool).handle(it)
         }
 
         // "/:database"
@@ -210,7 +268,7 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location, keycloak, authz).handle(it)
+            GetHandler(location, keycloak, authz, sessionPool).handle(it)
         }
 
         put("/:database").consumes("application/xml").coroutineHandler {
@@ -230,7 +288,7 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.DELETE).handle(it)
             it.next()
         }.coroutineHandler {
-            DeleteHandler(location, authz).handle(it)
+            DeleteHandler(location, authz, sessionPool).handle(it)
         }
 
         // "/:database/:resource"
@@ -245,7 +303,7 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            JsonHead(location).handle(it)
+            JsonHead(location, sessionPool).handle(it)
         }
 
         post("/:database/:resource")
@@ -272,14 +330,14 @@ class SirixVerticle : CoroutineVerticle() {
                 Auth(keycloak, authz, AuthRole.VIEW).handle(it)
                 it.next()
             }.handler(BodyHandler.create()).coroutineHandler {
-                GetHandler(location, keycloak, authz).handle(it)
+                GetHandler(location, keycloak, authz, sessionPool).handle(it)
             }
 
         get("/:database/:resource").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location, keycloak, authz).handle(it)
+            GetHandler(location, keycloak, authz, sessionPool).handle(it)
         }
 
         put("/:database/:resource").consumes("application/xml").coroutineHandler {
@@ -299,7 +357,7 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.DELETE).handle(it)
             it.next()
         }.coroutineHandler {
-            DeleteHandler(location, authz).handle(it)
+            DeleteHandler(location, authz, sessionPool).handle(it)
         }
 
         // "/:database/:resource/subroutes"
@@ -307,19 +365,19 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            HistoryHandler(location).handle(it)
+            HistoryHandler(location, sessionPool).handle(it)
         }
         get("/:database/:resource/diff").produces("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            DiffHandler(location).handle(it)
+            DiffHandler(location, sessionPool).handle(it)
         }
         get("/:database/:resource/pathSummary").produces("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            PathSummaryHandler(location).handle(it)
+            PathSummaryHandler(location, sessionPool).handle(it)
         }
 
         // Exception with status code
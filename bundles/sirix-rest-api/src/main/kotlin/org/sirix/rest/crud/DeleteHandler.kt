@@ -8,14 +8,23 @@ import kotlinx.coroutines.withContext
 import org.sirix.access.DatabaseType
 import org.sirix.access.Databases
 import org.sirix.access.DatabasesInternals
+import org.sirix.rest.SessionPool
 import org.sirix.rest.crud.json.JsonDelete
 import org.sirix.rest.crud.xml.XmlDelete
 import java.nio.file.Files
 import java.nio.file.Path
 
-class DeleteHandler(private val location: Path, private val authz: AuthorizationProvider) {
+class DeleteHandler(
+    private val location: Path,
+    private val authz: AuthorizationProvider,
+    private val sessionPool: SessionPool
+) {
     suspend fun handle(ctx: RoutingContext): Route {
         if (ctx.pathParam("database") == null && ctx.pathParam("resource") == null) {
+            withContext(Dispatchers.IO) {
+                sessionPool.evictAll()
+            }
+
             val openDatabases = DatabasesInternals.getOpenDatabases()
 
             if (openDatabases.isNotEmpty()) {
@@ -41,6 +50,10 @@ class DeleteHandler(private val location: Path, private val authz: Authorization
             if (databaseName == null) {
                 throw IllegalStateException("No database name given.")
             } else {
+                withContext(Dispatchers.IO) {
+                    sessionPool.evict(location.resolve(databaseName))
+                }
+
                 removeDatabase(databaseName, ctx)
             }
         }
@@ -6,18 +6,15 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
-import org.sirix.access.DatabaseType
-import org.sirix.access.Databases.*
 import org.sirix.access.DatabasesInternals
 import org.sirix.access.ResourceConfiguration
-import org.sirix.api.Database
 import org.sirix.api.json.JsonNodeReadOnlyTrx
 import org.sirix.api.json.JsonResourceSession
+import org.sirix.rest.SessionPool
 import org.sirix.service.json.BasicJsonDiff
+import org.sirix.service.json.IncrementalJsonDiff
 import org.sirix.utils.LogWrapper
 import org.slf4j.LoggerFactory
-import java.nio.charset.StandardCharsets
-import java.nio.file.Files
 import java.nio.file.Path
 
 /**
@@ -25,7 +22,7 @@ import java.nio.file.Path
  */
 private val logger = LogWrapper(LoggerFactory.getLogger(DiffHandler::class.java))
 
-class DiffHandler(private val location: Path) {
+class DiffHandler(private val location: Path, private val sessionPool: SessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
@@ -37,77 +34,95 @@ class DiffHandler(private val location: Path) {
 
         logger.debug("Open databases before: ${DatabasesInternals.getOpenDatabases()}")
         
-        val database = openDatabase(databaseName)
+        val response = ctx.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
 
-        val diff = context.executeBlocking<String> { resultPromise ->
-            var diffString: String? = null
-            database.use {
-                val resourceManager = database.beginResourceSession(resourceName)
+        val storedDiff = context.executeBlocking<Path?> { resultPromise ->
+            var diffPath: Path? = null
+            val lease = sessionPool.acquireResourceSession(location.resolve(databaseName), resourceName)
 
-                resourceManager.use {
-                    if (resourceManager is JsonResourceSession) {
-                        val firstRevision: String? = ctx.queryParam("first-revision").getOrNull(0)
-                        val secondRevision: String? = ctx.queryParam("second-revision").getOrNull(0)
+            lease.use {
+                val resourceManager = lease.session
 
-                        if (firstRevision == null || secondRevision == null) {
-                            throw IllegalArgumentException("First and second revision must be specified.")
-                        }
+                if (resourceManager !is JsonResourceSession) {
+                    throw IllegalArgumentException("Diffs are only supported for JSON resources.")
+                }
+
+                val firstRevision: String? = ctx.queryParam("first-revision").getOrNull(0)
+                val secondRevision: String? = ctx.queryParam("second-revision").getOrNull(0)
+
+                if (firstRevision == null || secondRevision == null) {
+                    throw IllegalArgumentException("First and second revision must be specified.")
+                }
+
+                val startNodeKey: String? = ctx.queryParam("startNodeKey").getOrNull(0)
+                val maxDepth: String? = ctx.queryParam("maxDepth").getOrNull(0)
+
+                val startNodeKeyAsLong = startNodeKey?.let { startNodeKey.toLong() } ?: 0
+                val maxDepthAsLong = maxDepth?.let { maxDepth.toLong() } ?: Long.MAX_VALUE
+
+                if (resourceManager.resourceConfig.areDeweyIDsStored && secondRevision.toInt() - 1 == firstRevision.toInt()) {
+                    if (startNodeKeyAsLong == 0L && maxDepthAsLong == 0L) {
+                        diffPath = resourceManager.getResourceConfig()
+                            .resource
+                            .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.path)
+                            .resolve("diffFromRev${firstRevision.toInt()}toRev${secondRevision.toInt()}.json")
+                    } else {
+                        val rtx = resourceManager.beginNodeReadOnlyTrx(secondRevision.toInt())
 
-                        val startNodeKey: String? = ctx.queryParam("startNodeKey").getOrNull(0)
-                        val maxDepth: String? = ctx.queryParam("maxDepth").getOrNull(0)
-
-                        val startNodeKeyAsLong = startNodeKey?.let { startNodeKey.toLong() } ?: 0
-                        val maxDepthAsLong = maxDepth?.let { maxDepth.toLong() } ?: Long.MAX_VALUE
-
-                        if (resourceManager.resourceConfig.areDeweyIDsStored && secondRevision.toInt() - 1 == firstRevision.toInt()) {
-                            if (startNodeKeyAsLong == 0L && maxDepthAsLong == 0L) {
-                                val diffPath = resourceManager.getResourceConfig()
-                                    .resource
-                                    .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.path)
-                                    .resolve("diffFromRev${firstRevision.toInt()}toRev${secondRevision.toInt()}.json")
-
-                                diffString = Files.readString(diffPath)
-                            } else {
-                                val rtx = resourceManager.beginNodeReadOnlyTrx(secondRevision.toInt())
-
-                                rtx.use {
-                                    diffString = useUpdateOperations(
-                                        rtx,
-                                        startNodeKeyAsLong,
-                                        databaseName,
-                                        resourceName,
-                                        firstRevision,
-                                        secondRevision,
-                                        maxDepthAsLong
-                                    )
-                                }
-                            }
-                        } else {
-                            diffString = BasicJsonDiff(databaseName).generateDiff(
-                                resourceManager,
-                                firstRevision.toInt(),
-                                secondRevision.toInt(),
+                        rtx.use {
+                            val diff = useUpdateOperations(
+                                rtx,
                                 startNodeKeyAsLong,
+                                databaseName,
+                                resourceName,
+                                firstRevision,
+                                secondRevision,
                                 maxDepthAsLong
                             )
+
+                            response.end(diff)
                         }
                     }
+                } else if (IncrementalJsonDiff.isApplicable(
+                        resourceManager,
+                        firstRevision.toInt(),
+                        secondRevision.toInt()
+                    )
+                ) {
+                    HttpResponseWriter(response).stream { out ->
+                        IncrementalJsonDiff(databaseName).generateDiff(
+                            resourceManager,
+                            firstRevision.toInt(),
+                            secondRevision.toInt(),
+                            startNodeKeyAsLong,
+                            maxDepthAsLong,
+                            out
+                        )
+                    }
+                } else {
+                    HttpResponseWriter(response).stream { out ->
+                        BasicJsonDiff(databaseName).generateDiff(
+                            resourceManager,
+                            firstRevision.toInt(),
+                            secondRevision.toInt(),
+                            startNodeKeyAsLong,
+                            maxDepthAsLong,
+                            out
+                        )
+                    }
                 }
             }
 
-            resultPromise.complete(diffString)
+            resultPromise.complete(diffPath)
         }.await()
 
         logger.debug("Open databases after: ${DatabasesInternals.getOpenDatabases()}")
 
-        val res = ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-            .putHeader(
-                HttpHeaders.CONTENT_LENGTH,
-                diff!!.toByteArray(StandardCharsets.UTF_8).size.toString()
-            )
-        res.write(diff)
-        res.end()
+        // Diffs of consecutive revisions are already stored, so the file is sent as is.
+        if (storedDiff != null) {
+            response.sendFile(storedDiff.toString()).await()
+        }
 
         return ctx.currentRoute()
     }
@@ -136,14 +151,6 @@ class DiffHandler(private val location: Path) {
         return metaInfo.toString()
     }
 
-    private fun openDatabase(databaseName: String): Database<*> {
-        @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA")
-        return when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
-            DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
-            DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
-        }
-    }
-
     private fun createMetaInfo(
         databaseName: String, resourceName: String, oldRevision: Int,
         newRevision: Int
@@ -12,6 +12,7 @@ import io.vertx.kotlin.coroutines.await
 import org.sirix.access.Databases
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceSession
+import org.sirix.rest.SessionPool
 import org.sirix.rest.crud.json.JsonGet
 import org.sirix.rest.crud.xml.XmlGet
 import org.sirix.service.json.serialize.StringValue
@@ -24,7 +25,8 @@ import java.util.stream.Collectors
 class GetHandler(
     private val location: Path,
     private val keycloak: OAuth2Auth,
-    private val authz: AuthorizationProvider
+    private val authz: AuthorizationProvider,
+    private val sessionPool: SessionPool
 ) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
@@ -64,7 +66,7 @@ class GetHandler(
                 with(acceptHeader) {
                     when {
                         contains("application/json") -> {
-                            body = JsonGet(location, keycloak, authz).xquery(
+                            body = JsonGet(location, keycloak, authz, sessionPool).xquery(
                                 null,
                                 null,
                                 null,
@@ -96,7 +98,7 @@ class GetHandler(
                         }
 
                         else -> {
-                            body = JsonGet(location, keycloak, authz).xquery(
+                            body = JsonGet(location, keycloak, authz, sessionPool).xquery(
                                 null,
                                 null,
                                 null,
@@ -139,9 +141,9 @@ class GetHandler(
             with(acceptHeader) {
                 @Suppress("IMPLICIT_CAST_TO_ANY")
                 when {
-                    contains("application/json") -> JsonGet(location, keycloak, authz).handle(ctx)
+                    contains("application/json") -> JsonGet(location, keycloak, authz, sessionPool).handle(ctx)
                     contains("application/xml") -> XmlGet(location, keycloak, authz).handle(ctx)
-                    else -> JsonGet(location, keycloak, authz).handle(ctx)
+                    else -> JsonGet(location, keycloak, authz, sessionPool).handle(ctx)
                 }
             }
         }
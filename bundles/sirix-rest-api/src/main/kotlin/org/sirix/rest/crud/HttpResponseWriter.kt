@@ -0,0 +1,105 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerResponse
+import java.io.IOException
+import java.io.Writer
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+/**
+ * Streams characters to an HTTP response using chunked transfer encoding. The characters are collected in chunks,
+ * which are written once the write queue of the response accepts more data, such that a slow client blocks the
+ * (worker) thread which serializes instead of filling up the heap.
+ *
+ * Must not be used on an event loop thread.
+ */
+class HttpResponseWriter(
+    private val response: HttpServerResponse,
+    private val chunkSize: Int = DEFAULT_CHUNK_SIZE
+) : Writer() {
+    companion object {
+        const val DEFAULT_CHUNK_SIZE = 1 shl 16
+
+        private const val DRAIN_POLL_MILLIS = 100L
+    }
+
+    private val chunk = StringBuilder(chunkSize)
+
+    override fun write(cbuf: CharArray, off: Int, len: Int) {
+        chunk.append(cbuf, off, len)
+        if (chunk.length >= chunkSize) {
+            writeChunk()
+        }
+    }
+
+    override fun write(str: String, off: Int, len: Int) {
+        chunk.append(str, off, off + len)
+        if (chunk.length >= chunkSize) {
+            writeChunk()
+        }
+    }
+
+    override fun flush() {
+        writeChunk()
+    }
+
+    override fun close() {
+        writeChunk()
+        if (!response.ended()) {
+            response.end()
+        }
+    }
+
+    /**
+     * Serializes by means of [serialize] and ends the response afterwards. If serializing fails once the head of the
+     * response has been written, the status can't be changed anymore, thus the connection is reset, such that the
+     * client doesn't take the truncated body for the whole one.
+     */
+    fun stream(serialize: (Writer) -> Unit) {
+        try {
+            serialize(this)
+        } catch (e: Exception) {
+            if (response.headWritten()) {
+                response.reset()
+            }
+            throw e
+        }
+        close()
+    }
+
+    private fun writeChunk() {
+        if (chunk.isEmpty()) {
+            return
+        }
+        if (!response.headWritten()) {
+            response.isChunked = true
+        }
+        awaitDrain()
+        response.write(Buffer.buffer(chunk.toString()))
+        chunk.setLength(0)
+    }
+
+    private fun awaitDrain() {
+        if (!response.writeQueueFull()) {
+            return
+        }
+        val drained = CompletableFuture<Void>()
+        response.drainHandler { drained.complete(null) }
+        try {
+            while (response.writeQueueFull()) {
+                if (response.closed()) {
+                    throw IOException("Connection closed by the client.")
+                }
+                try {
+                    drained.get(DRAIN_POLL_MILLIS, TimeUnit.MILLISECONDS)
+                } catch (e: TimeoutException) {
+                    // Check again, as the connection might have been closed in the meantime.
+                }
+            }
+        } finally {
+            response.drainHandler(null)
+        }
+    }
+}
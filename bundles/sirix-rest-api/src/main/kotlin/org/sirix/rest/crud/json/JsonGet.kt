@@ -10,9 +10,13 @@ import io.vertx.ext.auth.oauth2.OAuth2Auth
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
 import org.sirix.access.Databases
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceSession
+import org.sirix.rest.SessionPool
+import org.sirix.rest.crud.HttpResponseWriter
 import org.sirix.rest.crud.PermissionCheckingXQuery
 import org.sirix.rest.crud.QuerySerializer
 import org.sirix.rest.crud.Revisions
@@ -24,10 +28,14 @@ import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 import org.sirix.xquery.json.*
 import org.sirix.xquery.node.BasicXmlDBStore
-import java.io.StringWriter
 import java.nio.file.Path
 
-class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, private val authz: AuthorizationProvider) {
+class JsonGet(
+    private val location: Path,
+    private val keycloak: OAuth2Auth,
+    private val authz: AuthorizationProvider,
+    private val sessionPool: SessionPool
+) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
@@ -55,35 +63,45 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        var body: String?
+        if (query != null && query.isNotEmpty()) {
+            var body: String?
 
-        val database = Databases.openJsonDatabase(location.resolve(databaseName))
+            val database = Databases.openJsonDatabase(location.resolve(databaseName))
 
-        database.use {
-            val manager = database.beginResourceSession(resource)
+            database.use {
+                val manager = database.beginResourceSession(resource)
 
-            manager.use {
-                body = if (query != null && query.isNotEmpty()) {
-                    queryResource(
+                manager.use {
+                    body = queryResource(
                         databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
                         vertxContext, user, jsonBody
                     )
-                } else {
-                    val revisions: IntArray =
-                        Revisions.getRevisionsToSerialize(
-                            startRevision, endRevision, startRevisionTimestamp,
-                            endRevisionTimestamp, manager, revision, revisionTimestamp
-                        )
-
-                    serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx, vertxContext)
                 }
             }
-        }
 
-        if (body != null) {
-            ctx.response().end(body)
+            if (body != null) {
+                ctx.response().end(body)
+            } else {
+                ctx.response().end()
+            }
         } else {
-            ctx.response().end()
+            val resourceName = requireNotNull(resource) { "Resource name must be given." }
+            val lease = withContext(Dispatchers.IO) {
+                sessionPool.acquireJsonResourceSession(location.resolve(databaseName), resourceName)
+            }
+
+            lease.use {
+                val manager = lease.session
+
+                val revisions: IntArray =
+                    Revisions.getRevisionsToSerialize(
+                        startRevision, endRevision, startRevisionTimestamp,
+                        endRevisionTimestamp, manager, revision, revisionTimestamp
+                    )
+
+                // Streams the serialized resource and ends the response.
+                serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx, vertxContext)
+            }
         }
     }
 
@@ -306,19 +324,20 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
         manager: JsonResourceSession, revisions: IntArray, nodeId: Long?,
         ctx: RoutingContext,
         vertxContext: Context
-    ): String {
-        val serializedString = vertxContext.executeBlocking { promise: Promise<String> ->
+    ) {
+        vertxContext.executeBlocking { promise: Promise<Unit> ->
             val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
             val lastTopLevelNodeKey = ctx.queryParam("lastTopLevelNodeKey").getOrNull(0)?.toLong()
 
             val numberOfNodes = ctx.queryParam("numberOfNodes").getOrNull(0)?.toLong()
             val maxChildren = ctx.queryParam("maxChildren").getOrNull(0)?.toLong()
 
-            val out = StringWriter()
+            val out = HttpResponseWriter(ctx.response())
 
             val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
             val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
             val prettyPrint: String? = ctx.queryParam("prettyPrint").getOrNull(0)
+            val parallelism = ctx.queryParam("parallelism").getOrNull(0)?.toIntOrNull()
 
             if (nextTopLevelNodes == null) {
                 val serializerBuilder = JsonSerializer.newBuilder(manager, out).revisions(revisions)
@@ -349,9 +368,19 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
                     serializerBuilder.numberOfNodes(numberOfNodes)
                 }
 
+                // The children of the start node are serialized in parallel, each range on its own read-only
+                // transaction, whereas the output is still streamed in document order from this worker thread.
+                if (parallelism != null) {
+                    serializerBuilder.parallelism(
+                        parallelism.coerceIn(1, Runtime.getRuntime().availableProcessors())
+                    )
+                }
+
                 val serializer = serializerBuilder.build()
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+                JsonSerializeHelper().stream(serializer, out, ctx, manager, revisions, nodeId)
+
+                promise.complete()
             } else {
                 val serializerBuilder =
                     JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
@@ -388,13 +417,10 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
 
                 val serializer = serializerBuilder.build()
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+                JsonSerializeHelper().stream(serializer, out, ctx, manager, revisions, nodeId)
+
+                promise.complete()
             }
         }.await()
-
-        ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-
-        return serializedString!!
     }
 }
@@ -4,14 +4,14 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
-import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.json.JsonResourceSession
+import org.sirix.rest.SessionPool
 import java.nio.file.Path
 import java.time.LocalDateTime
 import java.time.ZoneId
 
-class JsonHead(private val location: Path) {
+class JsonHead(private val location: Path, private val sessionPool: SessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
         val resource = ctx.pathParam("resource")
@@ -20,8 +20,9 @@ class JsonHead(private val location: Path) {
             throw IllegalArgumentException("Database name and resource name must be given.")
         }
 
-        ctx.vertx().executeBlocking<Unit> {
+        ctx.vertx().executeBlocking<Unit> { promise ->
             head(databaseName, ctx, resource)
+            promise.complete()
         }.await()
 
         return ctx.currentRoute()
@@ -33,30 +34,28 @@ class JsonHead(private val location: Path) {
 
         val nodeId = ctx.queryParam("nodeId").getOrNull(0)
 
-        val database = Databases.openJsonDatabase(location.resolve(databaseName))
+        val lease = sessionPool.acquireJsonResourceSession(location.resolve(databaseName), resource)
 
-        database.use {
-            val manager = database.beginResourceSession(resource)
+        lease.use {
+            val manager = lease.session
 
-            manager.use {
-                if (manager.resourceConfig.hashType == HashType.NONE) {
-                    ctx.response().putHeader(HttpHeaders.ETAG, "")
-                } else {
-                    val revisionNumber = getRevisionNumber(revision, revisionTimestamp, manager)
+            if (manager.resourceConfig.hashType == HashType.NONE) {
+                ctx.response().putHeader(HttpHeaders.ETAG, "")
+            } else {
+                val revisionNumber = getRevisionNumber(revision, revisionTimestamp, manager)
 
-                    val rtx = manager.beginNodeReadOnlyTrx(revisionNumber)
+                val rtx = manager.beginNodeReadOnlyTrx(revisionNumber)
 
-                    rtx.use {
-                        if (nodeId != null) {
-                            if (!rtx.moveTo(nodeId.toLong())) {
-                                throw IllegalStateException("Node with ID ${nodeId} doesn't exist.")
-                            }
-                        } else if (rtx.isDocumentRoot) {
-                            rtx.moveToFirstChild()
+                rtx.use {
+                    if (nodeId != null) {
+                        if (!rtx.moveTo(nodeId.toLong())) {
+                            throw IllegalStateException("Node with ID ${nodeId} doesn't exist.")
                         }
-
-                        ctx.response().putHeader(HttpHeaders.ETAG, rtx.hash.toString())
+                    } else if (rtx.isDocumentRoot) {
+                        rtx.moveToFirstChild()
                     }
+
+                    ctx.response().putHeader(HttpHeaders.ETAG, rtx.hash.toString())
                 }
             }
         }
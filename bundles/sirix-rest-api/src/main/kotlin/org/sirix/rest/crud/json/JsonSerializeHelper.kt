@@ -4,6 +4,7 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.RoutingContext
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.json.JsonResourceSession
+import org.sirix.rest.crud.HttpResponseWriter
 import java.io.StringWriter
 import java.util.concurrent.Callable
 
@@ -29,6 +30,24 @@ class JsonSerializeHelper {
         return body
     }
 
+    fun stream(
+        serializer: Callable<*>,
+        out: HttpResponseWriter,
+        ctx: RoutingContext,
+        manager: JsonResourceSession,
+        revisions: IntArray,
+        nodeId: Long?,
+    ) {
+        // The head is written along with the first chunk, so the headers have to be set beforehand.
+        if (manager.resourceConfig.hashType == HashType.NONE) {
+            writeResponseWithoutHashValue(ctx)
+        } else {
+            writeResponseWithHashValue(manager, revisions[0], ctx, nodeId)
+        }
+
+        out.stream { serializer.call() }
+    }
+
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
         ctx.response().setStatusCode(200)
             .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
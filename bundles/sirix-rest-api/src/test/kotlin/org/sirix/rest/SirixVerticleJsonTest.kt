@@ -584,6 +584,71 @@ class SirixVerticleJsonTest {
         }
     }
 
+    @Test
+    @Timeout(value = 1000000, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing the parallel serialization of a resource")
+    fun testParallelSerialization(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                val json = """
+                 {
+                   "foo": ["bar", null, 2.33],
+                   "bar": { "hello": "world", "helloo": true },
+                   "baz": "hello",
+                   "tada": [{"foo":"bar"},{"baz":false},"boo",{},[]]
+                 }
+                """.trimIndent()
+
+                val credentials = json {
+                    obj(
+                        "username" to "admin",
+                        "password" to "admin"
+                    )
+                }
+
+                val response = client.postAbs("$server/token").sendJson(credentials).await()
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                }
+
+                val user = response.bodyAsJsonObject()
+                accessToken = user.getString("access_token")
+
+                val httpPutResponseJson =
+                    client.putAbs("$server/database/resource").putHeader(
+                        HttpHeaders.AUTHORIZATION
+                            .toString(), "Bearer $accessToken"
+                    ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+                        .sendBuffer(Buffer.buffer(json)).await()
+
+                testContext.verify {
+                    assertEquals(200, httpPutResponseJson.statusCode())
+                }
+
+                val sequentialResponseJson = client.getAbs("$server/database/resource").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+                    .send().await()
+
+                val parallelResponseJson = client.getAbs("$server/database/resource?parallelism=4").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+                    .send().await()
+
+                testContext.verify {
+                    assertEquals(200, sequentialResponseJson.statusCode())
+                    assertEquals(200, parallelResponseJson.statusCode())
+                    // The children are emitted in document order, thus the output is the same.
+                    assertEquals(sequentialResponseJson.bodyAsString(), parallelResponseJson.bodyAsString())
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
     @Timeout(value = 1000000, timeUnit = TimeUnit.SECONDS)
     @DisplayName("Testing the deletion of a resource")
     @RepeatedTest(3)
@@ -15,6 +15,7 @@ import org.brackit.xquery.jdm.type.ItemType;
 import org.brackit.xquery.update.UpdateList;
 import org.brackit.xquery.update.op.UpdateOp;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.xquery.json.BasicJsonDBStore;
@@ -25,6 +26,7 @@ import org.sirix.xquery.node.XmlDBNode;
 import org.sirix.xquery.node.XmlDBStore;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -83,6 +85,11 @@ public final class SirixQueryContext implements QueryContext, AutoCloseable {
    */
   private final Instant commitTimestamp;
 
+  /**
+   * Read-only transactions, which have been begun during the evaluation of the query and are closed with the context.
+   */
+  private final List<NodeReadOnlyTrx> trxs;
+
   public static SirixQueryContext createWithNodeStore(final XmlDBStore nodeStore) {
     return new SirixQueryContext(nodeStore, null, CommitStrategy.AUTO, null, null);
   }
@@ -132,6 +139,7 @@ public final class SirixQueryContext implements QueryContext, AutoCloseable {
     this.commitStrategy = Preconditions.checkNotNull(commitStrategy);
     this.commitMessage = commitMessage;
     this.commitTimestamp = commitTimestamp;
+    trxs = new ArrayList<>();
   }
 
   @Override
@@ -308,8 +316,20 @@ public final class SirixQueryContext implements QueryContext, AutoCloseable {
     return commitMessage;
   }
 
+  /**
+   * Close a read-only transaction along with this context, that is once the items, which are backed by the
+   * transaction, can't be used anymore.
+   *
+   * @param trx the read-only transaction
+   */
+  public void closeWithContext(final NodeReadOnlyTrx trx) {
+    trxs.add(Preconditions.checkNotNull(trx));
+  }
+
   @Override
   public void close() {
+    trxs.forEach(NodeReadOnlyTrx::close);
+    trxs.clear();
     xmlStore.close();
     jsonStore.close();
   }
@@ -43,6 +43,7 @@ import org.jetbrains.annotations.NotNull;
 import org.sirix.api.JsonDiff;
 import org.sirix.api.json.JsonResourceSession;
 import org.sirix.service.json.BasicJsonDiff;
+import org.sirix.service.json.IncrementalJsonDiff;
 import org.sirix.xquery.function.FunUtil;
 import org.sirix.xquery.json.JsonDBCollection;
 
@@ -108,7 +109,9 @@ public final class Diff extends AbstractFunction {
                                                      resourceMgr);
     }
 
-    final JsonDiff jsonDiff = new BasicJsonDiff(col.getDatabase().getName());
+    final JsonDiff jsonDiff = IncrementalJsonDiff.isApplicable(resourceMgr, oldRevision, newRevision)
+        ? new IncrementalJsonDiff(col.getDatabase().getName())
+        : new BasicJsonDiff(col.getDatabase().getName());
 
     return new Str(jsonDiff.generateDiff(doc.getResourceSession(), oldRevision, newRevision, startNodeKey, maxLevel));
   }
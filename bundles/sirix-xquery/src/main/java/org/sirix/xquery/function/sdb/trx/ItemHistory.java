@@ -1,33 +1,37 @@
 package org.sirix.xquery.function.sdb.trx;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.brackit.xquery.QueryContext;
+import org.brackit.xquery.atomic.Int32;
+import org.brackit.xquery.atomic.IntNumeric;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.function.AbstractFunction;
 import org.brackit.xquery.jdm.Item;
+import org.brackit.xquery.jdm.Iter;
 import org.brackit.xquery.jdm.Sequence;
 import org.brackit.xquery.jdm.Signature;
 import org.brackit.xquery.module.StaticContext;
-import org.brackit.xquery.sequence.ItemSequence;
+import org.brackit.xquery.sequence.BaseIter;
+import org.brackit.xquery.sequence.LazySequence;
 import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.ResourceSession;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
-import org.sirix.index.IndexType;
-import org.sirix.node.RevisionReferencesNode;
+import org.sirix.axis.temporal.ChangedRevisionsAxis;
+import org.sirix.xquery.SirixQueryContext;
 import org.sirix.xquery.StructuredDBItem;
 import org.sirix.xquery.function.sdb.SDBFun;
 import org.sirix.xquery.json.JsonDBItem;
 import org.sirix.xquery.json.JsonItemFactory;
 import org.sirix.xquery.node.XmlDBNode;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
-
 /**
  * <p>
- * Function for getting the item in all revisions in which it has been changed (order ascending). Supported
- * signature is:
+ * Function for getting the item in all revisions in which it has been changed (order ascending). The sequence is
+ * lazy, that is a revision is only opened once its item is consumed. The size of the sequence and positional access
+ * don't open any revision but the one of the requested item. One read-only transaction is begun per revision and reused
+ * by the items of the revision. The transactions are closed along with the query context. Supported signature is:
  * </p>
  * <ul>
  * <li><code>sdb:item-history($item as xs:structured-item) as xs:structured-item+</code></li>
@@ -55,61 +59,89 @@ public final class ItemHistory extends AbstractFunction {
   @Override
   public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
     final StructuredDBItem<?> item = ((StructuredDBItem<?>) args[0]);
-    final NodeReadOnlyTrx rtx = item.getTrx();
-
-    final var resMgr = rtx.getResourceSession();
-    final NodeReadOnlyTrx rtxInMostRecentRevision = resMgr.beginNodeReadOnlyTrx();
-
-    final RevisionReferencesNode node =
-        rtxInMostRecentRevision.getPageTrx().getRecord(item.getNodeKey(), IndexType.RECORD_TO_REVISIONS, 0);
-
-    if (node == null) {
-      final Deque<Item> sequences = new ArrayDeque<>();
-      final var resourceSession = item.getTrx().getResourceSession();
-      int revision = resourceSession.getMostRecentRevisionNumber();
-      while (revision > 0) {
-        final NodeReadOnlyTrx rtxInRevision = resMgr.beginNodeReadOnlyTrx(revision);
-        if (rtxInRevision.moveTo(item.getNodeKey())) {
-          if (rtxInRevision instanceof XmlNodeReadOnlyTrx) {
-            assert item instanceof XmlDBNode;
-            final var xmlDBNode = new XmlDBNode((XmlNodeReadOnlyTrx) rtxInRevision, ((XmlDBNode) item).getCollection());
-            sequences.addFirst(xmlDBNode);
-          } else if (rtxInRevision instanceof JsonNodeReadOnlyTrx trx) {
-            assert item instanceof JsonDBItem;
-            final var jsonItem = new JsonItemFactory().getSequence(trx, ((JsonDBItem) item).getCollection());
-            sequences.addFirst(jsonItem);
-          }
-          revision = rtxInRevision.getPreviousRevisionNumber();
-        } else {
-          rtxInRevision.close();
-          revision--;
+    final long nodeKey = item.getNodeKey();
+    final ResourceSession<?, ?> resourceSession = item.getTrx().getResourceSession();
+
+    return new LazySequence() {
+      /**
+       * The revisions, in which the item has been changed, determined once they are needed.
+       */
+      private int[] revisions;
+
+      /**
+       * The read-only transactions, which back the items, per revision.
+       */
+      private final Int2ObjectMap<NodeReadOnlyTrx> trxs = new Int2ObjectOpenHashMap<>();
+
+      private int[] getRevisions() {
+        if (revisions == null) {
+          revisions = ChangedRevisionsAxis.getRevisions(resourceSession, nodeKey);
         }
+        return revisions;
       }
 
-      return new ItemSequence(sequences.toArray(new Item[0]));
-    } else {
-      final int[] revisions = node.getRevisions();
-      final List<Item> sequences = new ArrayList<>(revisions.length);
-
-      for (final int revision : revisions) {
-        final NodeReadOnlyTrx rtxInRevision = resMgr.beginNodeReadOnlyTrx(revision);
-
-        if (rtxInRevision.moveTo(item.getNodeKey())) {
-          if (rtxInRevision instanceof XmlNodeReadOnlyTrx) {
-            assert item instanceof XmlDBNode;
-            sequences.add(new XmlDBNode((XmlNodeReadOnlyTrx) rtxInRevision, ((XmlDBNode) item).getCollection()));
-          } else if (rtxInRevision instanceof JsonNodeReadOnlyTrx) {
-            assert item instanceof JsonDBItem;
-            final JsonDBItem jsonItem = (JsonDBItem) item;
-            sequences.add(new JsonItemFactory().getSequence((JsonNodeReadOnlyTrx) rtxInRevision,
-                                                            jsonItem.getCollection()));
+      private Item getItemInRevision(final int revision) {
+        NodeReadOnlyTrx rtxInRevision = trxs.get(revision);
+
+        if (rtxInRevision == null) {
+          rtxInRevision = resourceSession.beginNodeReadOnlyTrx(revision);
+          trxs.put(revision, rtxInRevision);
+
+          // The items are backed by the transaction, thus it's closed once the items can't be used anymore.
+          if (ctx instanceof SirixQueryContext sirixQueryContext) {
+            sirixQueryContext.closeWithContext(rtxInRevision);
           }
-        } else {
-          sequences.add(null);
         }
+
+        rtxInRevision.moveTo(nodeKey);
+        return getItem(item, rtxInRevision);
+      }
+
+      @Override
+      public IntNumeric size() {
+        return new Int32(getRevisions().length);
       }
 
-      return new ItemSequence(sequences.toArray(new Item[0]));
+      @Override
+      public Item get(final IntNumeric pos) {
+        final int position = pos.intValue();
+        final int[] changedRevisions = getRevisions();
+
+        if (position <= 0 || position > changedRevisions.length) {
+          return null;
+        }
+
+        // Only the revision of the requested item is opened.
+        return getItemInRevision(changedRevisions[position - 1]);
+      }
+
+      @Override
+      public Iter iterate() {
+        return new BaseIter() {
+          int index;
+
+          @Override
+          public Item next() {
+            final int[] changedRevisions = getRevisions();
+
+            // The revision of the item is only opened once it's consumed.
+            return index < changedRevisions.length ? getItemInRevision(changedRevisions[index++]) : null;
+          }
+
+          @Override
+          public void close() {
+          }
+        };
+      }
+    };
+  }
+
+  private static Item getItem(final StructuredDBItem<?> item, final NodeReadOnlyTrx rtxInRevision) {
+    if (rtxInRevision instanceof XmlNodeReadOnlyTrx xmlRtx) {
+      assert item instanceof XmlDBNode;
+      return new XmlDBNode(xmlRtx, ((XmlDBNode) item).getCollection());
     }
+    assert item instanceof JsonDBItem;
+    return new JsonItemFactory().getSequence((JsonNodeReadOnlyTrx) rtxInRevision, ((JsonDBItem) item).getCollection());
   }
 }
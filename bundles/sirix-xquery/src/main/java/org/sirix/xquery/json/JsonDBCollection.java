@@ -53,6 +53,11 @@ public final class JsonDBCollection extends AbstractJsonItemCollection<JsonDBIte
 
   private JsonDBStore jsonDbStore;
 
+  /**
+   * The field index of wide objects in committed revisions.
+   */
+  private final JsonObjectFieldIndex objectFieldIndex = new JsonObjectFieldIndex();
+
   /**
    * Constructor.
    *
@@ -111,6 +116,15 @@ public final class JsonDBCollection extends AbstractJsonItemCollection<JsonDBIte
     return id;
   }
 
+  /**
+   * Get the field index of wide objects in committed revisions.
+   *
+   * @return the field index
+   */
+  JsonObjectFieldIndex getObjectFieldIndex() {
+    return objectFieldIndex;
+  }
+
   /**
    * Get the underlying Sirix {@link Database}.
    *
@@ -246,6 +260,7 @@ public final class JsonDBCollection extends AbstractJsonItemCollection<JsonDBIte
 
   @Override
   public void close() {
+    objectFieldIndex.clear();
     jsonDbStore.removeDatabase(database);
     database.close();
   }
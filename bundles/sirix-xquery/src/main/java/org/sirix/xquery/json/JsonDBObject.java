@@ -26,6 +26,7 @@ import org.sirix.axis.filter.FilterAxis;
 import org.sirix.axis.filter.json.JsonNameFilter;
 import org.sirix.axis.temporal.*;
 import org.sirix.index.path.summary.PathSummaryReader;
+import org.sirix.settings.Fixed;
 import org.sirix.xquery.StructuredDBItem;
 import org.sirix.xquery.stream.json.SirixJsonStream;
 import org.sirix.xquery.stream.json.TemporalSirixJsonObjectStream;
@@ -463,6 +464,19 @@ public final class JsonDBObject extends AbstractItem
     moveRtx();
 
     return fields.computeIfAbsent(field, (unused) -> {
+      if (JsonObjectFieldIndex.isIndexed(rtx)) {
+        final long fieldNodeKey = collection.getObjectFieldIndex().getFieldNodeKey(rtx, field);
+
+        if (fieldNodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+          return null;
+        }
+
+        rtx.moveTo(fieldNodeKey);
+        rtx.moveToFirstChild();
+
+        return jsonItemFactory.getSequence(rtx, collection);
+      }
+
       if (rtx.getResourceSession().getResourceConfig().withPathSummary && rtx.getChildCount() > CHILD_THRESHOLD
           && hasNoMatchingPathNode(field)) {
         return null;
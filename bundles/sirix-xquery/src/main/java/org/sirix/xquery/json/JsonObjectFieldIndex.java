@@ -0,0 +1,135 @@
+package org.sirix.xquery.json;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import org.brackit.xquery.atomic.QNm;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.settings.Fixed;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Maps the field names of wide objects to the node keys of their object key nodes, such that a field is looked up in
+ * constant time instead of scanning the children of the object. The index of an object is built lazily on the first
+ * lookup and cached per revision, which is immutable once it has been committed. Thus, only objects read by read-only
+ * transactions are indexed.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class JsonObjectFieldIndex {
+
+  /**
+   * The minimum number of fields of an object, such that it's indexed.
+   */
+  static final long MIN_CHILD_COUNT = 32;
+
+  /**
+   * The default maximum number of indexed objects.
+   */
+  static final int DEFAULT_MAX_OBJECTS = 256;
+
+  /**
+   * Identifies an object in a revision of a resource. The revision timestamp distinguishes revisions of a truncated or
+   * recreated resource.
+   */
+  private record Key(long resourceId, int revision, Instant revisionTimestamp, long nodeKey) {
+  }
+
+  /**
+   * The indexed objects, the least recently used first. Guarded by this.
+   */
+  private final Map<Key, Object2LongMap<QNm>> objects;
+
+  /**
+   * Constructor.
+   */
+  JsonObjectFieldIndex() {
+    this(DEFAULT_MAX_OBJECTS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxObjects the maximum number of indexed objects
+   */
+  JsonObjectFieldIndex(final int maxObjects) {
+    checkArgument(maxObjects >= 0, "The maximum number of indexed objects must not be negative.");
+    objects = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Key, Object2LongMap<QNm>> eldest) {
+        return size() > maxObjects;
+      }
+    };
+  }
+
+  /**
+   * Determines if the object the transaction is located at is indexed.
+   *
+   * @param rtx the transaction located at an object
+   * @return {@code true}, if the object is indexed, {@code false} if its fields have to be scanned
+   */
+  static boolean isIndexed(final JsonNodeReadOnlyTrx rtx) {
+    return !(rtx instanceof NodeTrx) && rtx.isObject() && rtx.getChildCount() >= MIN_CHILD_COUNT;
+  }
+
+  /**
+   * Get the node key of the object key node of a field. If an object has duplicate fields, the first one is found.
+   *
+   * @param rtx   the transaction located at an indexed object, which is located at the object once again afterwards
+   * @param field the name of the field
+   * @return the node key of the object key node or {@code Fixed.NULL_NODE_KEY}, if the object has no such field
+   */
+  long getFieldNodeKey(final JsonNodeReadOnlyTrx rtx, final QNm field) {
+    checkNotNull(field);
+    checkArgument(isIndexed(rtx), "The object must be indexed.");
+
+    final var key = new Key(rtx.getResourceSession().getResourceConfig().getID(),
+                            rtx.getRevisionNumber(),
+                            rtx.getRevisionTimestamp(),
+                            rtx.getNodeKey());
+
+    Object2LongMap<QNm> fields;
+    synchronized (this) {
+      fields = objects.get(key);
+    }
+
+    if (fields == null) {
+      // Build the index without blocking lookups of other objects.
+      fields = buildIndex(rtx);
+
+      synchronized (this) {
+        objects.put(key, fields);
+      }
+    }
+
+    return fields.getLong(field);
+  }
+
+  private static Object2LongMap<QNm> buildIndex(final JsonNodeReadOnlyTrx rtx) {
+    final long objectNodeKey = rtx.getNodeKey();
+    final var fields = new Object2LongOpenHashMap<QNm>((int) rtx.getChildCount());
+    fields.defaultReturnValue(Fixed.NULL_NODE_KEY.getStandardProperty());
+
+    if (rtx.moveToFirstChild()) {
+      do {
+        fields.putIfAbsent(rtx.getName(), rtx.getNodeKey());
+      } while (rtx.moveToRightSibling());
+    }
+
+    rtx.moveTo(objectNodeKey);
+    return fields;
+  }
+
+  /**
+   * Remove all indexed objects.
+   */
+  synchronized void clear() {
+    objects.clear();
+  }
+}
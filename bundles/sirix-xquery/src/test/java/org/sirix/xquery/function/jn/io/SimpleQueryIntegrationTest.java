@@ -130,6 +130,35 @@ public final class SimpleQueryIntegrationTest {
     }
   }
 
+  @Test
+  public void testDerefWideObject() {
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath.getParent()).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithJsonStore(store)) {
+      final var wideJson = new StringBuilder("{");
+      for (int i = 0; i < 100; i++) {
+        wideJson.append(i == 0 ? "" : ",").append("\"field").append(i).append("\":").append(i);
+      }
+      wideJson.append("}");
+
+      final var storeQuery = "jn:store('json-path1','mydoc.jn','" + wideJson + "')";
+      new XQuery(chain, storeQuery).evaluate(ctx);
+
+      final var openQuery =
+          "let $object := jn:doc('json-path1','mydoc.jn') return ($object.field42, $object.missing, $object.field99)";
+      final var seq = new XQuery(chain, openQuery).evaluate(ctx);
+
+      assertNotNull(seq);
+
+      final var buf = IOUtils.createBuffer();
+      try (final var serializer = new StringSerializer(buf)) {
+        serializer.serialize(seq);
+      }
+
+      assertEquals("42 99", buf.toString());
+    }
+  }
+
   @Test
   public void testComplexSecond() {
     try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath.getParent()).build();
@@ -1,16 +1,25 @@
 package org.sirix.xquery.function.sdb.trx;
 
 import org.brackit.xquery.XQuery;
+import org.brackit.xquery.atomic.Int32;
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.jdm.Sequence;
+import org.brackit.xquery.jdm.Signature;
+import org.brackit.xquery.jdm.type.SequenceType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.sirix.JsonTestHelper;
 import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.json.JsonResourceSession;
 import org.sirix.service.json.shredder.JsonShredder;
 import org.sirix.xquery.SirixCompileChain;
 import org.sirix.xquery.SirixQueryContext;
+import org.sirix.xquery.json.AtomicStrJsonDBItem;
 import org.sirix.xquery.json.BasicJsonDBStore;
+import org.sirix.xquery.json.JsonDBCollection;
+import org.sirix.xquery.json.JsonDBItem;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -59,6 +68,136 @@ public final class ItemHistoryTest {
     }
   }
 
+  @Test
+  public void testWithNodeHistory() throws IOException {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder("mydoc3.jn").storeNodeHistory(true).build());
+
+      try (final var manager = database.beginResourceSession("mydoc3.jn"); final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[\"bla\", \"blubb\"]"));
+        wtx.moveTo(2);
+        wtx.setStringValue("blabla").commit();
+        wtx.moveTo(2);
+        wtx.setStringValue("blablabla").commit();
+        wtx.moveTo(2);
+        wtx.remove().commit();
+      }
+    }
+
+    // Initialize query context and store.
+    try (final BasicJsonDBStore store = BasicJsonDBStore.newBuilder()
+                                                        .location(JsonTestHelper.PATHS.PATH1.getFile().getParent())
+                                                        .build();
+         final SirixQueryContext ctx = SirixQueryContext.createWithJsonStore(store);
+         final SirixCompileChain chain = SirixCompileChain.createWithJsonStore(store)) {
+      final String historyQuery = "sdb:item-history(sdb:select-item(jn:doc('json-path1','mydoc3.jn', 1), 2))";
+
+      try (final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
+        new XQuery(chain, historyQuery).serialize(ctx, printWriter);
+        Assertions.assertEquals("\"bla\" \"blabla\" \"blablabla\"", out.toString());
+      }
+
+      final String firstVersionQuery = historyQuery + "[1]";
+
+      try (final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
+        new XQuery(chain, firstVersionQuery).serialize(ctx, printWriter);
+        Assertions.assertEquals("\"bla\"", out.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testOnlyTheRevisionsOfConsumedItemsAreOpened() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder("mydoc4.jn").storeNodeHistory(true).build());
+
+      try (final var manager = database.beginResourceSession("mydoc4.jn")) {
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[\"bla\", \"blubb\"]"));
+          wtx.moveTo(2);
+          wtx.setStringValue("blabla").commit();
+          wtx.moveTo(2);
+          wtx.setStringValue("blablabla").commit();
+          wtx.moveTo(2);
+          wtx.remove().commit();
+        }
+
+        final var rtx = manager.beginNodeReadOnlyTrx(1);
+        rtx.moveTo(2);
+        final var item = new AtomicStrJsonDBItem(rtx, new JsonDBCollection("json-path1", database), rtx.getValue());
+        final Sequence history =
+            new ItemHistory(ItemHistory.NODE_HISTORY, new Signature(SequenceType.ITEM_SEQUENCE, SequenceType.ITEM))
+                .execute(null, null, new Sequence[] { item });
+
+        // The revision, in which the item has been removed, isn't part of the history.
+        long trxId = getLastTrxId(manager);
+        Assertions.assertEquals(3, history.size().intValue());
+        Assertions.assertEquals(trxId + 1, getLastTrxId(manager));
+
+        // The last version.
+        trxId = getLastTrxId(manager);
+        final var lastVersion = (JsonDBItem) history.get(new Int32(3));
+        Assertions.assertEquals(3, lastVersion.getTrx().getRevisionNumber());
+        Assertions.assertEquals("blablabla", ((Str) lastVersion).stringValue());
+        Assertions.assertEquals(trxId + 2, getLastTrxId(manager));
+
+        // The first version.
+        trxId = getLastTrxId(manager);
+        final var firstVersion = (JsonDBItem) history.iterate().next();
+        Assertions.assertEquals(1, firstVersion.getTrx().getRevisionNumber());
+        Assertions.assertEquals(trxId + 2, getLastTrxId(manager));
+      }
+    }
+  }
+
+  @Test
+  public void testTransactionsAreReusedPerRevisionAndClosedWithTheQueryContext() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder("mydoc5.jn").storeNodeHistory(true).build());
+
+      try (final var manager = database.beginResourceSession("mydoc5.jn")) {
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[\"bla\", \"blubb\"]"));
+          wtx.moveTo(2);
+          wtx.setStringValue("blabla").commit();
+        }
+
+        final var rtx = manager.beginNodeReadOnlyTrx(1);
+        rtx.moveTo(2);
+        final var item = new AtomicStrJsonDBItem(rtx, new JsonDBCollection("json-path1", database), rtx.getValue());
+        final var ctx = SirixQueryContext.create();
+        final Sequence history =
+            new ItemHistory(ItemHistory.NODE_HISTORY, new Signature(SequenceType.ITEM_SEQUENCE, SequenceType.ITEM))
+                .execute(null, ctx, new Sequence[] { item });
+
+        final var lastVersion = (JsonDBItem) history.get(new Int32(2));
+        final var firstVersion = (JsonDBItem) history.get(new Int32(1));
+
+        // Accessing the items of the revisions again doesn't begin another transaction.
+        final long trxId = getLastTrxId(manager);
+        Assertions.assertSame(lastVersion.getTrx(), ((JsonDBItem) history.get(new Int32(2))).getTrx());
+        Assertions.assertSame(firstVersion.getTrx(), ((JsonDBItem) history.iterate().next()).getTrx());
+        Assertions.assertEquals(trxId + 1, getLastTrxId(manager));
+
+        ctx.close();
+
+        Assertions.assertTrue(firstVersion.getTrx().isClosed());
+        Assertions.assertTrue(lastVersion.getTrx().isClosed());
+        Assertions.assertFalse(rtx.isClosed());
+      }
+    }
+  }
+
+  /**
+   * Get the ID of a new read-only transaction. The IDs are consecutive, thus the difference of two IDs is the number
+   * of read-only transactions begun in between plus one.
+   */
+  private static long getLastTrxId(final JsonResourceSession manager) {
+    try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+      return rtx.getId();
+    }
+  }
+
   @Test
   public void test2() throws IOException {
     try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())) {